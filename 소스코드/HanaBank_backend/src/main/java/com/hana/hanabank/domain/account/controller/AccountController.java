@@ -1,5 +1,9 @@
 package com.hana.hanabank.domain.account.controller;
 
+import com.hana.hanabank.domain.account.dto.BalanceBatchRequest;
+import com.hana.hanabank.domain.account.dto.BalanceBatchResponse;
+import com.hana.hanabank.domain.account.dto.CustomerAccount;
+import com.hana.hanabank.domain.account.dto.CustomerAccountProfile;
 import com.hana.hanabank.domain.account.entity.Account;
 import com.hana.hanabank.domain.account.service.AccountService;
 import com.hana.hanabank.global.dto.ApiResponse;
@@ -7,6 +11,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -52,6 +58,29 @@ public class AccountController {
         }
     }
     
+    @Operation(summary = "계좌 잔액 일괄 조회",
+            description = "여러 계좌의 잔액을 한 번에 조회합니다. If-None-Match 에 이전 응답의 ETag 를 보내면 변경이 없을 때 304 를 반환합니다.")
+    @PostMapping("/balances")
+    public ResponseEntity<ApiResponse<BalanceBatchResponse>> getAccountBalances(
+            @RequestBody BalanceBatchRequest request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            BalanceBatchResponse response = accountService.getAccountBalances(request.getAccountNums(), request.getKnownVersions());
+            String etag = "\"" + response.getVersion() + "\"";
+            if (etag.equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("계좌 잔액 일괄 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("계좌 잔액 일괄 조회에 실패했습니다."));
+        }
+    }
+    
     @Operation(summary = "계좌 상세 정보 조회", description = "계좌번호로 상세 정보를 조회합니다.")
     @GetMapping("/{accountNum}")
     public ResponseEntity<ApiResponse<Account>> getAccountDetail(@PathVariable String accountNum) {
@@ -130,7 +159,7 @@ public class AccountController {
 
             log.info("CI 기반 계좌 조회 요청: 이름={}, CI={}", userName, userCi != null ? userCi.substring(0, 8) + "..." : "null");
 
-            List<Account> accounts = accountService.getUserAccountsByCi(userCi);
+            List<CustomerAccount> accounts = accountService.getUserAccountsByCi(userCi);
             
             if (accounts.isEmpty()) {
                 log.info("계좌가 없음: 사용자={}", userName);
@@ -159,21 +188,22 @@ public class AccountController {
         }
     }
     
-    private Map<String, Object> convertAccountToMap(Account account) {
+    private Map<String, Object> convertAccountToMap(CustomerAccount account) {
+        CustomerAccountProfile profile = account.profile();
         Map<String, Object> accountMap = new java.util.HashMap<>();
-        accountMap.put("accountNum", account.getAccountNum());
-        accountMap.put("accountAlias", account.getProductName() + " (" + account.getProductSubName() + ")");
-        accountMap.put("balanceAmt", String.valueOf(account.getBalanceAmt().longValue()));
-        accountMap.put("productName", account.getProductName());
-        accountMap.put("productSubName", account.getProductSubName());
-        accountMap.put("bankCodeStd", account.getBankCodeStd());
+        accountMap.put("accountNum", profile.accountNum());
+        accountMap.put("accountAlias", profile.productName() + " (" + profile.productSubName() + ")");
+        accountMap.put("balanceAmt", String.valueOf(account.balanceAmt().longValue()));
+        accountMap.put("productName", profile.productName());
+        accountMap.put("productSubName", profile.productSubName());
+        accountMap.put("bankCodeStd", profile.bankCodeStd());
         accountMap.put("bankName", "하나은행");
-        accountMap.put("fintechUseNum", "FT" + account.getBankCodeStd() + account.getAccountSeq());
-        accountMap.put("accountType", account.getAccountType());
-        accountMap.put("accountIssueDate", account.getAccountIssueDate());
-        accountMap.put("maturityDate", account.getMaturityDate());
-        accountMap.put("lastTranDate", account.getLastTranDate());
-        accountMap.put("dormancyYn", account.getDormancyYn());
+        accountMap.put("fintechUseNum", "FT" + profile.bankCodeStd() + profile.accountSeq());
+        accountMap.put("accountType", profile.accountType());
+        accountMap.put("accountIssueDate", profile.accountIssueDate());
+        accountMap.put("maturityDate", profile.maturityDate());
+        accountMap.put("lastTranDate", account.lastTranDate());
+        accountMap.put("dormancyYn", profile.dormancyYn());
         return accountMap;
     }
 }
@@ -0,0 +1,15 @@
+package com.hana.hanabank.domain.account.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 일괄 조회용 프로젝션 (계좌 엔티티 전체를 읽지 않음)
+ * - 원장이 JDBC 로 갱신하는 값(잔액, 최종거래일, 변경시각)만 담음
+ */
+public interface AccountBalanceView {
+    String getAccountNum();
+    BigDecimal getBalanceAmt();
+    String getLastTranDate();
+    LocalDateTime getUpdatedAt();
+}
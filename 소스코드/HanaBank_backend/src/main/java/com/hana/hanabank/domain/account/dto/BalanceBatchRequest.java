@@ -0,0 +1,24 @@
+package com.hana.hanabank.domain.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 잔액 일괄 조회 요청
+ * - knownVersions: 이전 응답에서 받은 계좌별 version, 같으면 잔액을 다시 보내지 않음
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceBatchRequest {
+    private List<String> accountNums;
+    private Map<String, String> knownVersions;
+}
@@ -0,0 +1,29 @@
+package com.hana.hanabank.domain.account.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 잔액 일괄 조회 응답
+ * - version: 요청한 계좌 전체의 버전 (ETag 로도 내려감, If-None-Match 로 보내면 변경 없을 때 304)
+ * - balances[].changed 가 false 면 knownVersions 와 같아 balanceAmt 생략
+ */
+@Getter
+@Builder
+public class BalanceBatchResponse {
+    private String version;
+    private List<AccountBalance> balances;
+    private List<String> notFound;
+
+    @Getter
+    @Builder
+    public static class AccountBalance {
+        private String accountNum;
+        private BigDecimal balanceAmt;
+        private String version;
+        private boolean changed;
+    }
+}
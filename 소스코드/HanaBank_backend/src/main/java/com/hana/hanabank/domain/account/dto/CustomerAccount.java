@@ -0,0 +1,9 @@
+package com.hana.hanabank.domain.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * CI 기반 계좌 조회 결과 - 캐시된 계좌 정보 + 조회 시점의 잔액/최종거래일
+ */
+public record CustomerAccount(CustomerAccountProfile profile, BigDecimal balanceAmt, String lastTranDate) {
+}
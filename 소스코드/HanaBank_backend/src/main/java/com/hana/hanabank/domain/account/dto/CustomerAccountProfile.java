@@ -0,0 +1,18 @@
+package com.hana.hanabank.domain.account.dto;
+
+/**
+ * CI 계좌 조회 캐시 항목 (불변)
+ * - 원장이 JDBC 로 바꾸는 잔액/최종거래일은 담지 않음 → 캐시가 오래된 잔액을 내주지 않음
+ * - 엔티티가 아니므로 호출자가 바꿔도 캐시나 영속성 컨텍스트에 영향 없음
+ */
+public record CustomerAccountProfile(
+        String accountNum,
+        String productName,
+        String productSubName,
+        String bankCodeStd,
+        String accountSeq,
+        String accountType,
+        String accountIssueDate,
+        String maturityDate,
+        String dormancyYn) {
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import com.hana.hanabank.domain.account.service.AccountLookupInvalidationListener;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,12 +14,14 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "hanabank_account")
+@Table(name = "hanabank_account", indexes = {
+        @Index(name = "idx_account_user_activity", columnList = "user_id, activity_type")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, AccountLookupInvalidationListener.class})
 public class Account {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,32 @@
+package com.hana.hanabank.domain.account.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌번호 일련번호 구간 발급 상태
+ * - next_value 는 아직 어느 인스턴스에도 발급되지 않은 첫 일련번호
+ */
+@Entity
+@Table(name = "hanabank_account_sequence")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountNumberSequence {
+
+    @Id
+    @Column(name = "seq_name", length = 30)
+    private String seqName;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,46 @@
+package com.hana.hanabank.domain.account.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌번호 일련번호 구간 예약
+ * - 호출자 트랜잭션 안에서 next_value 를 구간 크기만큼 올리고, 행 잠금을 잡은 상태에서 새 값을 읽음
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountNumberSequenceJdbcRepository {
+
+    private static final String ADVANCE =
+            "UPDATE hanabank_account_sequence SET next_value = next_value + ?, updated_at = ? WHERE seq_name = ?";
+
+    private static final String CURRENT =
+            "SELECT next_value FROM hanabank_account_sequence WHERE seq_name = ?";
+
+    private static final String INSERT =
+            "INSERT INTO hanabank_account_sequence (seq_name, next_value, updated_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * [시작, 끝) 구간 예약 - 시퀀스 행이 없으면 initialValue 로 생성 후 예약
+     * @return 예약한 구간의 끝 (다음 인스턴스가 받을 첫 값)
+     */
+    public long reserve(String seqName, long size, long initialValue) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(ADVANCE, size, now, seqName) == 0) {
+            try {
+                jdbcTemplate.update(INSERT, seqName, initialValue, now);
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 먼저 생성함
+            }
+            jdbcTemplate.update(ADVANCE, size, now, seqName);
+        }
+        return jdbcTemplate.queryForObject(CURRENT, Long.class, seqName);
+    }
+}
@@ -1,5 +1,7 @@
 package com.hana.hanabank.domain.account.repository;
 
+import com.hana.hanabank.domain.account.dto.AccountBalanceView;
+import com.hana.hanabank.domain.account.dto.CustomerAccountProfile;
 import com.hana.hanabank.domain.account.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -8,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +23,17 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByAccountNum(String accountNum);
 
+    /**
+     * 잔액 일괄 조회 (IN 목록 한 번)
+     */
+    @Query("SELECT a.accountNum AS accountNum, a.balanceAmt AS balanceAmt, a.lastTranDate AS lastTranDate, a.updatedAt AS updatedAt FROM Account a WHERE a.accountNum IN :accountNums")
+    List<AccountBalanceView> findBalancesByAccountNums(@Param("accountNums") Collection<String> accountNums);
+
     /**
      * 계좌 잔액 업데이트
+     * @deprecated 호출자가 계산한 절대값을 덮어써 동시 거래 시 갱신이 유실됨 - LedgerService 사용
      */
+    @Deprecated
     @Modifying
     @Query("UPDATE Account a SET a.balanceAmt = :newBalance WHERE a.accountId = :accountId")
     int updateAccountBalance(@Param("accountId") Long accountId, @Param("newBalance") BigDecimal newBalance);
@@ -32,6 +43,16 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
      */
     @Query("SELECT a FROM Account a WHERE a.userId = :userId AND a.activityType = '1'")
     List<Account> findActiveAccountsByUserId(@Param("userId") String userId);
+
+    /**
+     * CI 로 활성 계좌 조회 (사용자 조회 없이 한 번에, idx_user_ci → idx_account_user_activity)
+     * - 캐시용 불변 프로젝션으로 바로 읽음 (엔티티를 만들지 않음)
+     */
+    @Query("SELECT new com.hana.hanabank.domain.account.dto.CustomerAccountProfile(" +
+            "a.accountNum, a.productName, a.productSubName, a.bankCodeStd, a.accountSeq, a.accountType, " +
+            "a.accountIssueDate, a.maturityDate, a.dormancyYn) " +
+            "FROM Account a JOIN User u ON u.userId = a.userId WHERE u.userCi = :userCi AND a.activityType = '1'")
+    List<CustomerAccountProfile> findActiveAccountsByUserCi(@Param("userCi") String userCi);
     
     /**
      * 특정 상품의 계좌 조회
@@ -0,0 +1,49 @@
+package com.hana.hanabank.domain.account.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자/계좌 변경 시 CI 계좌 조회 캐시 무효화
+ * - 계좌의 사용자 CI 를 알 수 없으므로 전체를 비움 (가입/개설은 드묾, 잔액 변경은 JDBC 경로라 호출되지 않음)
+ * - JPA 콜백은 커밋 전에 호출되므로 트랜잭션 안이면 커밋 후에 비움
+ *   (커밋 전에 비우면 동시 조회가 변경 전 상태를 다시 캐시할 수 있음)
+ * - Hibernate 가 Spring 빈으로 생성하므로 조회 캐시는 지연 조회 (EntityManagerFactory 순환 참조 방지)
+ */
+@Component
+public class AccountLookupInvalidationListener {
+
+    private final ObjectProvider<CustomerAccountLookup> lookup;
+
+    public AccountLookupInvalidationListener(ObjectProvider<CustomerAccountLookup> lookup) {
+        this.lookup = lookup;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    private void invalidate() {
+        CustomerAccountLookup customerAccountLookup = lookup.getIfAvailable();
+        if (customerAccountLookup != null) {
+            customerAccountLookup.invalidateAll();
+        }
+    }
+}
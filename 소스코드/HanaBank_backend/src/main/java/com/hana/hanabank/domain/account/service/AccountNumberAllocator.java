@@ -0,0 +1,141 @@
+package com.hana.hanabank.domain.account.service;
+
+import com.hana.hanabank.domain.account.repository.AccountNumberSequenceJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계좌번호 발급기 (DB 구간 할당)
+ * - 인스턴스마다 DB 시퀀스 행에서 일련번호 구간을 예약해 두고 메모리에서 하나씩 꺼내 씀 → 구간 안에서는 잠금 없이 발급
+ * - 구간을 다 쓴 경우에만 인스턴스 내 잠금을 잡고 새 구간 예약 (별도 트랜잭션으로 바로 커밋)
+ * - 계좌번호 = 지점 접두어(81700) + 8자리 일련번호 + 검증번호 1자리 (Luhn)
+ * - 인스턴스 재시작이나 계좌 생성 롤백 시 남은 번호는 재사용하지 않으므로 번호에 빈 구간이 생길 수 있음
+ */
+@Component
+@Slf4j
+public class AccountNumberAllocator {
+
+    public static final String PREFIX = "81700";
+    public static final int SERIAL_DIGITS = 8;
+    public static final int ACCOUNT_NUMBER_LENGTH = PREFIX.length() + SERIAL_DIGITS + 1;
+
+    private static final String SEQUENCE_NAME = "ACCOUNT_NUM";
+    private static final long FIRST_SERIAL = 1;
+    private static final long MAX_SERIAL = 99_999_999L;
+
+    private final AccountNumberSequenceJdbcRepository sequenceRepository;
+    private final TransactionTemplate reserveTemplate;
+    private final int blockSize;
+
+    private volatile Block block = Block.EMPTY;
+
+    public AccountNumberAllocator(AccountNumberSequenceJdbcRepository sequenceRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${hanabank.account-number.block-size:1000}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("계좌번호 구간 크기는 1 이상이어야 합니다.");
+        }
+        this.sequenceRepository = sequenceRepository;
+        this.reserveTemplate = new TransactionTemplate(transactionManager);
+        this.reserveTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 새 계좌번호 발급
+     */
+    public String next() {
+        while (true) {
+            Block current = block;
+            long serial = current.cursor.getAndIncrement();
+            if (serial < current.end) {
+                return format(serial);
+            }
+            refill(current);
+        }
+    }
+
+    /**
+     * 검증번호까지 맞는 발급 형식의 계좌번호인지 확인
+     */
+    public static boolean isValid(String accountNum) {
+        if (accountNum == null || accountNum.length() != ACCOUNT_NUMBER_LENGTH || !accountNum.startsWith(PREFIX)) {
+            return false;
+        }
+        for (int i = 0; i < accountNum.length(); i++) {
+            if (!Character.isDigit(accountNum.charAt(i))) {
+                return false;
+            }
+        }
+        String body = accountNum.substring(0, accountNum.length() - 1);
+        return accountNum.charAt(accountNum.length() - 1) == checkDigit(body);
+    }
+
+    private synchronized void refill(Block exhausted) {
+        if (block != exhausted) {
+            return; // 다른 스레드가 이미 새 구간을 받음
+        }
+        long end = reserveTemplate.execute(status -> sequenceRepository.reserve(SEQUENCE_NAME, blockSize, FIRST_SERIAL));
+        long start = end - blockSize;
+        if (start > MAX_SERIAL) {
+            throw new IllegalStateException("발급 가능한 계좌번호가 없습니다.");
+        }
+        block = new Block(start, Math.min(end, MAX_SERIAL + 1));
+        log.info("계좌번호 구간 예약 - {} ~ {}", start, block.end - 1);
+    }
+
+    private static String format(long serial) {
+        StringBuilder body = new StringBuilder(ACCOUNT_NUMBER_LENGTH).append(PREFIX);
+        String digits = Long.toString(serial);
+        for (int i = digits.length(); i < SERIAL_DIGITS; i++) {
+            body.append('0');
+        }
+        body.append(digits);
+        return withCheckDigit(body);
+    }
+
+    /**
+     * 본문 뒤에 Luhn 검증번호를 붙인 계좌번호
+     */
+    public static String withCheckDigit(CharSequence body) {
+        return new StringBuilder(body.length() + 1).append(body).append(checkDigit(body)).toString();
+    }
+
+    /**
+     * Luhn 검증번호 - 오른쪽 끝 자리부터 한 자리 건너 두 배
+     */
+    private static char checkDigit(CharSequence body) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = body.length() - 1; i >= 0; i--) {
+            int digit = body.charAt(i) - '0';
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+
+    private static final class Block {
+        static final Block EMPTY = new Block(0, 0);
+
+        final AtomicLong cursor;
+        final long end;
+
+        Block(long start, long end) {
+            this.cursor = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
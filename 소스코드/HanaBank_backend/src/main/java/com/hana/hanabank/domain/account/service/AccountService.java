@@ -1,19 +1,31 @@
 package com.hana.hanabank.domain.account.service;
 
+import com.hana.hanabank.domain.account.dto.AccountBalanceView;
+import com.hana.hanabank.domain.account.dto.BalanceBatchResponse;
+import com.hana.hanabank.domain.account.dto.CustomerAccount;
+import com.hana.hanabank.domain.account.dto.CustomerAccountProfile;
 import com.hana.hanabank.domain.account.entity.Account;
 import com.hana.hanabank.domain.account.repository.AccountRepository;
-import com.hana.hanabank.domain.user.entity.User;
-import com.hana.hanabank.domain.user.repository.UserRepository;
 import com.hana.hanabank.global.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.zip.CRC32;
 
 @Service
 @RequiredArgsConstructor
@@ -22,7 +34,10 @@ import java.util.HashMap;
 public class AccountService {
     
     private final AccountRepository accountRepository;
-    private final UserRepository userRepository;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final CustomerAccountLookup customerAccountLookup;
+
+    private static final int MAX_BALANCE_BATCH_SIZE = 100;
     
     /**
      * 사용자 계좌 목록 조회
@@ -40,6 +55,80 @@ public class AccountService {
         return account.getBalanceAmt();
     }
     
+    /**
+     * 잔액 일괄 조회
+     * - 중복 제거 후 IN 목록 한 번으로 조회, 요청 순서대로 응답
+     * - 계좌별 version 은 잔액과 최종 변경시각으로 만든 값이며 knownVersions 와 같으면 잔액 생략
+     * - 응답 version(ETag)은 잔액 생략 여부까지 반영 - knownVersions 가 다르면 본문이 다르므로 같은 ETag 를 쓰지 않음
+     */
+    public BalanceBatchResponse getAccountBalances(List<String> accountNums, Map<String, String> knownVersions) {
+        if (accountNums == null || accountNums.isEmpty()) {
+            throw new IllegalArgumentException("계좌번호 목록은 필수입니다.");
+        }
+        Set<String> requested = new LinkedHashSet<>(accountNums);
+        requested.remove(null);
+        if (requested.size() > MAX_BALANCE_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 계좌는 최대 " + MAX_BALANCE_BATCH_SIZE + "개입니다.");
+        }
+        if (requested.isEmpty()) {
+            // 계좌번호가 모두 null 이면 빈 IN () 조회를 만들지 않음
+            return BalanceBatchResponse.builder()
+                    .version(HexFormat.of().formatHex(sha256().digest(), 0, 16))
+                    .balances(List.of())
+                    .notFound(List.of())
+                    .build();
+        }
+
+        Map<String, AccountBalanceView> found = new HashMap<>();
+        for (AccountBalanceView view : accountRepository.findBalancesByAccountNums(requested)) {
+            found.put(view.getAccountNum(), view);
+        }
+
+        List<BalanceBatchResponse.AccountBalance> balances = new ArrayList<>(found.size());
+        List<String> notFound = new ArrayList<>();
+        MessageDigest batchVersion = sha256();
+        for (String accountNum : requested) {
+            AccountBalanceView view = found.get(accountNum);
+            if (view == null) {
+                notFound.add(accountNum);
+                batchVersion.update((accountNum + "|-;").getBytes(StandardCharsets.UTF_8));
+                continue;
+            }
+            String version = balanceVersion(view);
+            boolean changed = knownVersions == null || !version.equals(knownVersions.get(accountNum));
+            balances.add(BalanceBatchResponse.AccountBalance.builder()
+                    .accountNum(accountNum)
+                    .balanceAmt(changed ? view.getBalanceAmt() : null)
+                    .version(version)
+                    .changed(changed)
+                    .build());
+            batchVersion.update((accountNum + "|" + version + (changed ? "|c;" : "|u;")).getBytes(StandardCharsets.UTF_8));
+        }
+
+        return BalanceBatchResponse.builder()
+                .version(HexFormat.of().formatHex(batchVersion.digest(), 0, 16))
+                .balances(balances)
+                .notFound(notFound)
+                .build();
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
+        }
+    }
+
+    private String balanceVersion(AccountBalanceView view) {
+        CRC32 crc = new CRC32();
+        crc.update(view.getBalanceAmt().stripTrailingZeros().toPlainString().getBytes(StandardCharsets.UTF_8));
+        long updatedAt = view.getUpdatedAt() != null
+                ? view.getUpdatedAt().toEpochSecond(ZoneOffset.UTC) * 1_000_000 + view.getUpdatedAt().getNano() / 1_000
+                : 0;
+        return Long.toHexString(updatedAt) + Long.toHexString(crc.getValue());
+    }
+
     /**
      * 계좌 상세 정보 조회
      */
@@ -50,17 +139,33 @@ public class AccountService {
     
     /**
      * CI 기반 사용자 계좌 목록 조회
+     * - CI → 계좌 조인 조회 결과를 캐시 (당행 고객이 아니면 빈 목록도 캐시, 이 경우 DB 조회 없음)
+     * - 잔액/최종거래일은 캐시하지 않고 계좌번호 IN 조회 한 번으로 현재 값을 읽음
      */
-    public List<Account> getUserAccountsByCi(String userCi) {
-        // 먼저 CI로 사용자 찾기
-        User user = userRepository.findByUserCi(userCi).orElse(null);
-        if (user == null) {
-            log.warn("사용자를 찾을 수 없음: CI={}", userCi != null ? userCi.substring(0, 8) + "..." : "null");
-            return List.of(); // 빈 리스트 반환
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<CustomerAccount> getUserAccountsByCi(String userCi) {
+        List<CustomerAccountProfile> profiles = customerAccountLookup.findActiveAccounts(userCi);
+        if (profiles.isEmpty()) {
+            return List.of();
         }
-        
-        // 사용자의 활성 계좌 목록 조회
-        return accountRepository.findActiveAccountsByUserId(user.getUserId());
+
+        List<String> accountNums = new ArrayList<>(profiles.size());
+        for (CustomerAccountProfile profile : profiles) {
+            accountNums.add(profile.accountNum());
+        }
+        Map<String, AccountBalanceView> current = new HashMap<>();
+        for (AccountBalanceView view : accountRepository.findBalancesByAccountNums(accountNums)) {
+            current.put(view.getAccountNum(), view);
+        }
+
+        List<CustomerAccount> accounts = new ArrayList<>(profiles.size());
+        for (CustomerAccountProfile profile : profiles) {
+            AccountBalanceView view = current.get(profile.accountNum());
+            if (view != null) { // 캐시 이후 삭제된 계좌는 제외
+                accounts.add(new CustomerAccount(profile, view.getBalanceAmt(), view.getLastTranDate()));
+            }
+        }
+        return accounts;
     }
     
     /**
@@ -105,8 +210,8 @@ public class AccountService {
         
         String productName = productNames.getOrDefault(productType, "하나 육아적금");
         
-        // 계좌번호 생성 (간단한 형태)
-        String accountNum = generateAccountNumber();
+        // 계좌번호 발급 (인스턴스 간 중복 없음)
+        String accountNum = accountNumberAllocator.next();
         
         Account account = Account.builder()
                 .accountNum(accountNum)
@@ -165,10 +270,6 @@ public class AccountService {
         return product;
     }
     
-    private String generateAccountNumber() {
-        return "81700" + System.currentTimeMillis() % 10000000;
-    }
-    
     private String maskAccountNumber(String accountNum) {
         if (accountNum.length() < 8) return accountNum;
         return accountNum.substring(0, 4) + "****" + accountNum.substring(accountNum.length() - 4);
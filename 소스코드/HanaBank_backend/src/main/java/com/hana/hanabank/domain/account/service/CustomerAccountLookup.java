@@ -0,0 +1,68 @@
+package com.hana.hanabank.domain.account.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hana.hanabank.domain.account.dto.CustomerAccountProfile;
+import com.hana.hanabank.domain.account.repository.AccountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * CI 기반 활성 계좌 조회 캐시
+ * - 오픈뱅킹 계좌통합조회는 기관마다 같은 CI 로 호출하므로 결과를 짧게 캐시
+ * - 당행 고객이 아닌 CI(결과 없음)는 더 길게 캐시하여 DB 조회 없이 응답 (부정 캐시)
+ * - 캐시 항목은 불변 프로젝션이며 잔액/최종거래일은 담지 않음 (원장이 JDBC 로 갱신하므로 조회 시점에 따로 읽음)
+ * - 사용자/계좌 변경 시 AccountLookupInvalidationListener 가 비움
+ */
+@Component
+public class CustomerAccountLookup {
+
+    private final AccountRepository accountRepository;
+    private final Cache<String, List<CustomerAccountProfile>> accountsByCi;
+
+    public CustomerAccountLookup(AccountRepository accountRepository,
+                                 @Value("${hanabank.ci-cache.ttl-seconds:5}") long ttlSeconds,
+                                 @Value("${hanabank.ci-cache.negative-ttl-seconds:60}") long negativeTtlSeconds,
+                                 @Value("${hanabank.ci-cache.max-size:100000}") long maxSize) {
+        this.accountRepository = accountRepository;
+        long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+        this.accountsByCi = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, List<CustomerAccountProfile>>() {
+                    @Override
+                    public long expireAfterCreate(String userCi, List<CustomerAccountProfile> accounts, long currentTime) {
+                        return accounts.isEmpty() ? negativeTtlNanos : ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String userCi, List<CustomerAccountProfile> accounts, long currentTime, long currentDuration) {
+                        return expireAfterCreate(userCi, accounts, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String userCi, List<CustomerAccountProfile> accounts, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * CI 의 활성 계좌 정보 목록 (당행 고객이 아니면 빈 목록)
+     */
+    public List<CustomerAccountProfile> findActiveAccounts(String userCi) {
+        if (userCi == null || userCi.isBlank()) {
+            return List.of();
+        }
+        return accountsByCi.get(userCi, ci -> List.copyOf(accountRepository.findActiveAccountsByUserCi(ci)));
+    }
+
+    public void invalidateAll() {
+        accountsByCi.invalidateAll();
+    }
+}
@@ -0,0 +1,71 @@
+package com.hana.hanabank.domain.feed.controller;
+
+import com.hana.hanabank.domain.feed.dto.ChangeFeedResponse;
+import com.hana.hanabank.domain.feed.service.ChangeFeedService;
+import com.hana.hanabank.global.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletionException;
+
+@Tag(name = "Change Feed", description = "거래 변경 피드 API")
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeFeedController {
+
+    private static final long ASYNC_TIMEOUT_MILLIS = ChangeFeedService.MAX_WAIT_MILLIS + 10_000L;
+
+    private final ChangeFeedService changeFeedService;
+
+    @Operation(summary = "거래 변경 피드 (롱 폴링)",
+            description = "after 이후 거래 이벤트를 조회합니다. 새 이벤트가 없으면 발행되거나 waitMs 가 지날 때까지 기다립니다. " +
+                    "응답의 nextOffset 을 다음 요청의 after 로 넘기고, after 가 없으면 보관 중인 가장 오래된 이벤트부터, " +
+                    "after=-1 이면 현재 위치부터 수신합니다.")
+    @GetMapping("/postings")
+    public DeferredResult<ResponseEntity<ApiResponse<ChangeFeedResponse>>> poll(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long waitMs) {
+        DeferredResult<ResponseEntity<ApiResponse<ChangeFeedResponse>>> result = new DeferredResult<>(ASYNC_TIMEOUT_MILLIS);
+        try {
+            changeFeedService.poll(after, limit, waitMs).whenComplete((response, e) ->
+                    result.setResult(e == null ? ResponseEntity.ok(ApiResponse.success(response)) : error(e)));
+        } catch (Exception e) {
+            result.setResult(error(e));
+        }
+        return result;
+    }
+
+    @Operation(summary = "거래 변경 피드 (SSE)",
+            description = "after(또는 Last-Event-ID) 이후 거래 이벤트를 posting 이벤트로 전송합니다. 이벤트 id 는 피드 오프셋입니다. " +
+                    "보관 기간이 지난 오프셋이면 expired 이벤트를 보내고 연결을 종료합니다.")
+    @GetMapping(value = "/postings/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) Long after,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeFeedService.subscribe(lastEventId != null ? lastEventId : after);
+    }
+
+    private ResponseEntity<ApiResponse<ChangeFeedResponse>> error(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof IllegalArgumentException) {
+            return ResponseEntity.status(400)
+                    .body(ApiResponse.error(cause.getMessage()));
+        }
+        if (cause instanceof IllegalStateException) {
+            return ResponseEntity.status(409)
+                    .body(ApiResponse.error(cause.getMessage()));
+        }
+        log.error("변경 피드 조회 실패: {}", cause.getMessage());
+        return ResponseEntity.status(500)
+                .body(ApiResponse.error("변경 피드 조회에 실패했습니다."));
+    }
+}
@@ -0,0 +1,26 @@
+package com.hana.hanabank.domain.feed.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드 이벤트 (거래 1건)
+ * - offset 은 피드 안에서 1 씩 증가하는 번호, 마지막으로 처리한 offset 을 after 로 넘기면 이어서 수신
+ */
+@Getter
+@Builder
+public class ChangeFeedEvent {
+    private long offset;
+    private String tranId;
+    private String accountNum;
+    private String inoutType;
+    private BigDecimal tranAmt;
+    private BigDecimal afterBalanceAmt;
+    private LocalDate tranDate;
+    private String tranTime;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.hana.hanabank.domain.feed.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 변경 피드 조회 결과
+ * - nextOffset 을 다음 요청의 after 로 넘기면 이어서 조회 (이벤트가 없으면 요청한 after 그대로)
+ * - hasMore 가 true 면 기다리지 않고 바로 다음 요청
+ */
+@Getter
+@Builder
+public class ChangeFeedResponse {
+    private List<ChangeFeedEvent> events;
+    private long nextOffset;
+    private boolean hasMore;
+}
@@ -0,0 +1,32 @@
+package com.hana.hanabank.domain.feed.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드 발행 위치
+ * - last_offset 은 마지막으로 부여한 피드 오프셋, 릴레이는 이 행을 잠그고 오프셋을 부여하므로 인스턴스가 여럿이어도 번호가 겹치지 않음
+ */
+@Entity
+@Table(name = "hanabank_change_feed_cursor")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeFeedCursor {
+
+    @Id
+    @Column(name = "feed_name", length = 30)
+    private String feedName;
+
+    @Column(name = "last_offset", nullable = false)
+    private Long lastOffset;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,66 @@
+package com.hana.hanabank.domain.feed.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 변경 피드 아웃박스
+ * - 원장 거래 처리(LedgerService) 시 거래내역과 같은 트랜잭션에서 추가되므로 커밋된 거래만 피드에 나감
+ * - feed_offset 은 커밋 이후 릴레이(ChangeFeedRelay)가 커밋 순서대로 부여하는 1 부터의 연속 번호, 부여 전에는 NULL
+ * - (feed_offset, outbox_id) 인덱스로 미발행 행 조회와 오프셋 이후 조회를 함께 처리 (outbox_id 가 NULL 이 아니라 모든 행이 인덱싱됨)
+ */
+@Entity
+@Table(name = "hanabank_posting_outbox", indexes = {
+        @Index(name = "idx_posting_outbox_offset", columnList = "feed_offset, outbox_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostingOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "feed_offset")
+    private Long feedOffset;
+
+    @Column(name = "tran_id", nullable = false, length = 50)
+    private String tranId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "account_num", nullable = false, length = 20)
+    private String accountNum;
+
+    @Column(name = "inout_type", nullable = false, length = 8)
+    private String inoutType;
+
+    @Column(name = "tran_amt", nullable = false, precision = 12, scale = 0)
+    private BigDecimal tranAmt;
+
+    @Column(name = "after_balance_amt", nullable = false, precision = 13, scale = 0)
+    private BigDecimal afterBalanceAmt;
+
+    @Column(name = "tran_date", nullable = false)
+    private LocalDate tranDate;
+
+    @Column(name = "tran_time", nullable = false, length = 6)
+    private String tranTime;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,158 @@
+package com.hana.hanabank.domain.feed.repository;
+
+import com.hana.hanabank.domain.feed.dto.ChangeFeedEvent;
+import com.hana.hanabank.domain.transaction.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 변경 피드 JDBC 저장소
+ * - insertOutbox 는 거래 처리 트랜잭션 안에서 호출되는 고정 INSERT
+ * - 오프셋 부여는 커서 행 잠금(lockCursor) 아래에서만 실행
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeFeedJdbcRepository {
+
+    private static final String INSERT_OUTBOX =
+            "INSERT INTO hanabank_posting_outbox (tran_id, account_id, account_num, inout_type, tran_amt, " +
+            "after_balance_amt, tran_date, tran_time, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String LOCK_CURSOR =
+            "SELECT last_offset FROM hanabank_change_feed_cursor WHERE feed_name = ? FOR UPDATE";
+
+    private static final String INSERT_CURSOR =
+            "INSERT INTO hanabank_change_feed_cursor (feed_name, last_offset, updated_at) VALUES (?, 0, ?)";
+
+    private static final String UPDATE_CURSOR =
+            "UPDATE hanabank_change_feed_cursor SET last_offset = ?, updated_at = ? WHERE feed_name = ?";
+
+    private static final String CURRENT_OFFSET =
+            "SELECT last_offset FROM hanabank_change_feed_cursor WHERE feed_name = ?";
+
+    private static final String OLDEST_OFFSET =
+            "SELECT MIN(feed_offset) FROM hanabank_posting_outbox WHERE feed_offset IS NOT NULL";
+
+    private static final String PENDING =
+            "SELECT outbox_id FROM hanabank_posting_outbox WHERE feed_offset IS NULL ORDER BY outbox_id";
+
+    private static final String ASSIGN_OFFSET =
+            "UPDATE hanabank_posting_outbox SET feed_offset = ?, published_at = ? WHERE outbox_id = ?";
+
+    private static final String EVENT_COLUMNS =
+            "SELECT feed_offset, tran_id, account_num, inout_type, tran_amt, after_balance_amt, tran_date, tran_time, created_at " +
+            "FROM hanabank_posting_outbox ";
+
+    private static final String AFTER_OFFSET =
+            EVENT_COLUMNS + "WHERE feed_offset > ? AND feed_offset <= ? ORDER BY feed_offset";
+
+    private static final String PURGE =
+            "DELETE FROM hanabank_posting_outbox WHERE feed_offset IS NOT NULL AND published_at < ?";
+
+    private static final RowMapper<ChangeFeedEvent> EVENT_MAPPER = (rs, rowNum) -> ChangeFeedEvent.builder()
+            .offset(rs.getLong("feed_offset"))
+            .tranId(rs.getString("tran_id"))
+            .accountNum(rs.getString("account_num"))
+            .inoutType(rs.getString("inout_type"))
+            .tranAmt(rs.getBigDecimal("tran_amt"))
+            .afterBalanceAmt(rs.getBigDecimal("after_balance_amt"))
+            .tranDate(rs.getDate("tran_date").toLocalDate())
+            .tranTime(rs.getString("tran_time"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 거래 1건을 아웃박스에 추가 (오프셋 미부여 상태)
+     */
+    public void insertOutbox(Transaction transaction, String accountNum) {
+        jdbcTemplate.update(INSERT_OUTBOX,
+                transaction.getTranId(),
+                transaction.getAccountId(),
+                accountNum,
+                transaction.getInoutType(),
+                transaction.getTranAmt(),
+                transaction.getAfterBalanceAmt(),
+                Date.valueOf(transaction.getTranDate()),
+                transaction.getTranTime(),
+                Timestamp.valueOf(transaction.getCreatedAt()));
+    }
+
+    /**
+     * 커서 행을 잠그고 마지막 오프셋 조회 - 행이 없으면 0 으로 생성 후 잠금
+     */
+    public long lockCursor(String feedName) {
+        List<Long> offsets = jdbcTemplate.queryForList(LOCK_CURSOR, Long.class, feedName);
+        if (!offsets.isEmpty()) {
+            return offsets.get(0);
+        }
+        try {
+            jdbcTemplate.update(INSERT_CURSOR, feedName, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 생성함
+        }
+        return jdbcTemplate.queryForObject(LOCK_CURSOR, Long.class, feedName);
+    }
+
+    public void updateCursor(String feedName, long lastOffset, LocalDateTime now) {
+        jdbcTemplate.update(UPDATE_CURSOR, lastOffset, Timestamp.valueOf(now), feedName);
+    }
+
+    /**
+     * 마지막으로 부여된 오프셋 (커서 행이 없으면 0)
+     */
+    public long findCurrentOffset(String feedName) {
+        List<Long> offsets = jdbcTemplate.queryForList(CURRENT_OFFSET, Long.class, feedName);
+        return offsets.isEmpty() ? 0L : offsets.get(0);
+    }
+
+    /**
+     * 보관 중인 가장 오래된 오프셋 (발행된 행이 없으면 null)
+     */
+    public Long findOldestOffset() {
+        return jdbcTemplate.queryForObject(OLDEST_OFFSET, Long.class);
+    }
+
+    /**
+     * 오프셋이 아직 없는 아웃박스 행 ID (추가 순)
+     */
+    public List<Long> findPendingIds(int limit) {
+        return jdbcTemplate.query(PENDING, ps -> ps.setMaxRows(limit), (rs, rowNum) -> rs.getLong(1));
+    }
+
+    /**
+     * outboxIds 순서대로 firstOffset 부터 연속 오프셋 부여
+     */
+    public void assignOffsets(List<Long> outboxIds, long firstOffset, LocalDateTime now) {
+        Timestamp publishedAt = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(outboxIds.size());
+        for (int i = 0; i < outboxIds.size(); i++) {
+            args.add(new Object[]{firstOffset + i, publishedAt, outboxIds.get(i)});
+        }
+        jdbcTemplate.batchUpdate(ASSIGN_OFFSET, args);
+    }
+
+    /**
+     * (after, upTo] 구간 이벤트 (오프셋 순)
+     */
+    public List<ChangeFeedEvent> findEvents(long after, long upTo) {
+        return jdbcTemplate.query(AFTER_OFFSET, EVENT_MAPPER, after, upTo);
+    }
+
+    /**
+     * 발행 시각이 before 이전인 아웃박스 행 삭제
+     */
+    public int purgePublishedBefore(LocalDateTime before) {
+        return jdbcTemplate.update(PURGE, Timestamp.valueOf(before));
+    }
+}
@@ -0,0 +1,102 @@
+package com.hana.hanabank.domain.feed.service;
+
+import com.hana.hanabank.domain.feed.repository.ChangeFeedJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 릴레이 - 커밋된 아웃박스 행에 커밋 순서대로 피드 오프셋 부여
+ * - 거래 ID(outbox_id)는 커밋 순서와 다를 수 있어 그대로 오프셋으로 쓰면 소비자가 늦게 커밋된 거래를 건너뛸 수 있음
+ * - 거래 처리 후 signal() 이 호출되면 다음 주기에 바로 발행, 그 외에는 idle-check 주기마다 확인
+ *   (다른 인스턴스에서 발행한 오프셋과 장애로 남은 미발행 행도 이때 반영)
+ * - 지연 초기화(lean 프로필)에서도 기동 시 스케줄이 등록되도록 즉시 생성
+ */
+@Component
+@Lazy(false)
+@Slf4j
+public class ChangeFeedRelay {
+
+    public static final String FEED_NAME = "posting";
+
+    private final ChangeFeedJdbcRepository changeFeedJdbcRepository;
+    private final ChangeFeedService changeFeedService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long idleCheckMillis;
+    private final AtomicBoolean signaled = new AtomicBoolean(true);
+    private volatile long lastCheckMillis;
+
+    public ChangeFeedRelay(ChangeFeedJdbcRepository changeFeedJdbcRepository,
+                           ChangeFeedService changeFeedService,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${hanabank.feed.relay-batch-size:500}") int batchSize,
+                           @Value("${hanabank.feed.idle-check-ms:1000}") long idleCheckMillis) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("릴레이 배치 크기는 1 이상이어야 합니다.");
+        }
+        this.changeFeedJdbcRepository = changeFeedJdbcRepository;
+        this.changeFeedService = changeFeedService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.idleCheckMillis = idleCheckMillis;
+    }
+
+    /**
+     * 새 아웃박스 행이 커밋되었음을 알림 (거래 처리 트랜잭션 커밋 후 호출)
+     */
+    public void signal() {
+        signaled.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${hanabank.feed.relay-interval-ms:50}")
+    public void relayIfSignaled() {
+        long nowMillis = System.currentTimeMillis();
+        if (!signaled.getAndSet(false) && nowMillis - lastCheckMillis < idleCheckMillis) {
+            return;
+        }
+        lastCheckMillis = nowMillis;
+        try {
+            relay();
+        } catch (Exception e) {
+            // 다음 idle-check 주기에 다시 시도
+            log.error("변경 피드 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 미발행 행이 없을 때까지 배치 단위로 오프셋 부여 후 구독자에게 알림
+     * @return 마지막 오프셋
+     */
+    public long relay() {
+        long lastOffset;
+        int published;
+        do {
+            long[] result = transactionTemplate.execute(status -> publishBatch());
+            lastOffset = result[0];
+            published = (int) result[1];
+            changeFeedService.onPublished(lastOffset);
+        } while (published == batchSize);
+        return lastOffset;
+    }
+
+    private long[] publishBatch() {
+        long lastOffset = changeFeedJdbcRepository.lockCursor(FEED_NAME);
+        List<Long> pending = changeFeedJdbcRepository.findPendingIds(batchSize);
+        if (pending.isEmpty()) {
+            return new long[]{lastOffset, 0};
+        }
+        LocalDateTime now = LocalDateTime.now();
+        changeFeedJdbcRepository.assignOffsets(pending, lastOffset + 1, now);
+        lastOffset += pending.size();
+        changeFeedJdbcRepository.updateCursor(FEED_NAME, lastOffset, now);
+        return new long[]{lastOffset, pending.size()};
+    }
+}
@@ -0,0 +1,325 @@
+package com.hana.hanabank.domain.feed.service;
+
+import com.hana.hanabank.domain.feed.dto.ChangeFeedEvent;
+import com.hana.hanabank.domain.feed.dto.ChangeFeedResponse;
+import com.hana.hanabank.domain.feed.repository.ChangeFeedJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 거래 변경 피드 조회/구독
+ * - 소비자는 마지막으로 처리한 오프셋(after) 이후 이벤트를 받으며, 오프셋이 연속이라 재연결 시 빠짐/중복 없이 이어받음
+ * - 새 소비자(after 없음/0)는 보관 중인 가장 오래된 이벤트부터 받고, 이전 위치 이후가 이미 삭제된 소비자만 만료 오류를 받음
+ * - 롱 폴링: 새 이벤트가 없으면 발행될 때까지(최대 waitMs) 응답을 보류, 대기 중에는 요청 스레드를 점유하지 않음
+ * - SSE: 이벤트 id 가 오프셋이라 재연결 시 Last-Event-ID 로 이어받음
+ * - 릴레이가 새 오프셋을 발행하면 새 구간을 한 번만 읽어 대기 중인 소비자에게 나눠 전달
+ */
+@Service
+@Slf4j
+public class ChangeFeedService {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
+    public static final long MAX_WAIT_MILLIS = 30_000L;
+
+    private static final String POSTING_EVENT = "posting";
+    private static final String EXPIRED_EVENT = "expired";
+
+    private final ChangeFeedJdbcRepository changeFeedJdbcRepository;
+    private final ExecutorService dispatcher;
+    private final int maxSubscribers;
+    private final long sseTimeoutMillis;
+    private final int retentionDays;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong publishedOffset = new AtomicLong(-1);
+
+    public ChangeFeedService(ChangeFeedJdbcRepository changeFeedJdbcRepository,
+                             @Value("${hanabank.feed.dispatch-threads:2}") int dispatchThreads,
+                             @Value("${hanabank.feed.max-subscribers:1000}") int maxSubscribers,
+                             @Value("${hanabank.feed.sse-timeout-ms:300000}") long sseTimeoutMillis,
+                             @Value("${hanabank.feed.retention-days:7}") int retentionDays) {
+        if (dispatchThreads < 1 || maxSubscribers < 1 || retentionDays < 1) {
+            throw new IllegalArgumentException("변경 피드 전달 스레드 수, 최대 구독 수, 보관 일수는 1 이상이어야 합니다.");
+        }
+        this.changeFeedJdbcRepository = changeFeedJdbcRepository;
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads);
+        this.maxSubscribers = maxSubscribers;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * after 이후 이벤트 즉시 조회
+     * @param after 마지막으로 처리한 오프셋 (null/0 이면 보관 중인 가장 오래된 이벤트부터, 음수면 현재 위치부터)
+     */
+    public ChangeFeedResponse read(Long after, Integer limit) {
+        return read(resolveAfter(after), resolveLimit(limit), null);
+    }
+
+    /**
+     * 롱 폴링 - 이벤트가 있으면 바로, 없으면 발행되거나 waitMillis 가 지날 때까지 기다린 뒤 완료
+     */
+    public CompletableFuture<ChangeFeedResponse> poll(Long after, Integer limit, Long waitMillis) {
+        long from = resolveAfter(after);
+        int size = resolveLimit(limit);
+        long wait = waitMillis != null ? waitMillis : MAX_WAIT_MILLIS;
+        if (wait < 0 || wait > MAX_WAIT_MILLIS) {
+            throw new IllegalArgumentException("대기 시간은 0 ~ " + MAX_WAIT_MILLIS + "ms 여야 합니다.");
+        }
+
+        ChangeFeedResponse response = read(from, size, null);
+        if (!response.getEvents().isEmpty() || wait == 0) {
+            return CompletableFuture.completedFuture(response);
+        }
+        if (waiters.size() + subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("변경 피드 대기 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Waiter waiter = new Waiter(from, size, new CompletableFuture<>());
+        waiters.add(waiter);
+        waiter.future().whenComplete((r, e) -> waiters.remove(waiter));
+        waiter.future().completeOnTimeout(response, wait, TimeUnit.MILLISECONDS);
+        // 등록 전에 발행된 이벤트는 알림을 놓쳤을 수 있으므로 한 번 더 확인
+        if (currentOffset() > from) {
+            dispatcher.execute(() -> complete(waiter, null, 0));
+        }
+        return waiter.future();
+    }
+
+    /**
+     * SSE 구독 - after 이후 이벤트를 밀린 것부터 이어서 전송
+     */
+    public SseEmitter subscribe(Long after) {
+        long from = resolveAfter(after);
+        if (waiters.size() + subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("변경 피드 구독이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, from);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        dispatcher.execute(() -> deliver(subscriber, null, 0));
+        return emitter;
+    }
+
+    /**
+     * 릴레이가 lastOffset 까지 발행했음을 알림
+     */
+    void onPublished(long lastOffset) {
+        long previous = publishedOffset.getAndAccumulate(lastOffset, Math::max);
+        if (lastOffset <= previous || (waiters.isEmpty() && subscribers.isEmpty())) {
+            return;
+        }
+        dispatcher.execute(() -> dispatch(previous, lastOffset));
+    }
+
+    /**
+     * 연결 유지용 주석 전송 (끊긴 연결 정리)
+     */
+    @Scheduled(fixedDelayString = "${hanabank.feed.heartbeat-ms:15000}")
+    public void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter().send(SseEmitter.event().comment("keepalive"));
+            } catch (IOException | IllegalStateException e) {
+                close(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 이벤트 삭제
+     */
+    @Scheduled(cron = "${hanabank.feed.purge-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        int deleted = changeFeedJdbcRepository.purgePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("변경 피드 이벤트 정리 완료 - {}건 삭제 (보관 {}일)", deleted, retentionDays);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+    }
+
+    private void dispatch(long previous, long lastOffset) {
+        // 이전 위치를 모르면(기동 직후) 새 구간을 특정할 수 없으므로 소비자별로 조회
+        List<ChangeFeedEvent> fresh = previous >= 0
+                ? changeFeedJdbcRepository.findEvents(previous, Math.min(lastOffset, previous + MAX_LIMIT))
+                : null;
+        long freshFrom = previous;
+        for (Waiter waiter : waiters) {
+            complete(waiter, fresh, freshFrom);
+        }
+        for (Subscriber subscriber : subscribers) {
+            deliver(subscriber, fresh, freshFrom);
+        }
+    }
+
+    private void complete(Waiter waiter, List<ChangeFeedEvent> fresh, long freshFrom) {
+        if (waiter.future().isDone()) {
+            return;
+        }
+        try {
+            ChangeFeedResponse response = read(waiter.after(), waiter.limit(), usable(fresh, freshFrom, waiter.after()));
+            if (!response.getEvents().isEmpty()) {
+                waiter.future().complete(response);
+            }
+        } catch (Exception e) {
+            waiter.future().completeExceptionally(e);
+        }
+    }
+
+    private void deliver(Subscriber subscriber, List<ChangeFeedEvent> fresh, long freshFrom) {
+        synchronized (subscriber) {
+            try {
+                while (subscriber.cursor < currentOffset()) {
+                    ChangeFeedResponse response = read(subscriber.cursor, MAX_LIMIT, usable(fresh, freshFrom, subscriber.cursor));
+                    for (ChangeFeedEvent event : response.getEvents()) {
+                        subscriber.emitter().send(SseEmitter.event()
+                                .id(String.valueOf(event.getOffset()))
+                                .name(POSTING_EVENT)
+                                .data(event));
+                    }
+                    subscriber.cursor = response.getNextOffset();
+                    if (!response.isHasMore()) {
+                        break;
+                    }
+                }
+            } catch (IllegalStateException e) {
+                sendExpired(subscriber, e.getMessage());
+            } catch (IOException e) {
+                close(subscriber);
+            } catch (Exception e) {
+                log.error("변경 피드 전송 실패: {}", e.getMessage());
+                close(subscriber);
+            }
+        }
+    }
+
+    /**
+     * (after, after + limit] 구간 조회 - fresh 에 해당 구간이 모두 있으면 DB 를 다시 읽지 않음
+     * - 오프셋은 연속이므로 첫 이벤트가 after + 1 이 아니면 보관 기간이 지나 삭제된 것
+     */
+    private ChangeFeedResponse read(long after, int limit, List<ChangeFeedEvent> fresh) {
+        long current = currentOffset();
+        if (after > current) {
+            current = refreshCurrentOffset();
+            if (after > current) {
+                throw new IllegalArgumentException("아직 발행되지 않은 오프셋입니다: " + after);
+            }
+        }
+        long upTo = Math.min(after + limit, current);
+        List<ChangeFeedEvent> events;
+        if (upTo <= after) {
+            events = List.of();
+        } else if (fresh != null && !fresh.isEmpty() && fresh.get(fresh.size() - 1).getOffset() >= upTo) {
+            events = new ArrayList<>((int) (upTo - after));
+            for (ChangeFeedEvent event : fresh) {
+                if (event.getOffset() > after && event.getOffset() <= upTo) {
+                    events.add(event);
+                }
+            }
+        } else {
+            events = changeFeedJdbcRepository.findEvents(after, upTo);
+        }
+        if (upTo > after && (events.isEmpty() || events.get(0).getOffset() != after + 1)) {
+            throw new IllegalStateException("보관 기간이 지난 오프셋입니다. 잔액을 다시 조회한 뒤 현재 위치(after=-1)부터 수신하세요.");
+        }
+        return ChangeFeedResponse.builder()
+                .events(events)
+                .nextOffset(events.isEmpty() ? after : events.get(events.size() - 1).getOffset())
+                .hasMore(upTo < current)
+                .build();
+    }
+
+    private List<ChangeFeedEvent> usable(List<ChangeFeedEvent> fresh, long freshFrom, long after) {
+        return fresh != null && after >= freshFrom ? fresh : null;
+    }
+
+    private void sendExpired(Subscriber subscriber, String message) {
+        try {
+            subscriber.emitter().send(SseEmitter.event().name(EXPIRED_EVENT).data(message));
+        } catch (IOException | IllegalStateException e) {
+            // 이미 끊긴 연결
+        }
+        close(subscriber);
+    }
+
+    private void close(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.emitter().complete();
+    }
+
+    private long currentOffset() {
+        long offset = publishedOffset.get();
+        return offset >= 0 ? offset : refreshCurrentOffset();
+    }
+
+    private long refreshCurrentOffset() {
+        long offset = changeFeedJdbcRepository.findCurrentOffset(ChangeFeedRelay.FEED_NAME);
+        return publishedOffset.accumulateAndGet(offset, Math::max);
+    }
+
+    private long resolveAfter(Long after) {
+        if (after == null || after == 0) {
+            return oldestRetainedAfter();
+        }
+        return after < 0 ? currentOffset() : after;
+    }
+
+    /**
+     * 처음부터 받는 소비자의 시작 위치 - 보관 기간이 지나 삭제된 구간은 건너뜀
+     * - 이전 위치가 없으므로 빠진 이벤트가 아니라 보관 범위의 시작으로 봄 (발행된 행이 없으면 현재 위치)
+     */
+    private long oldestRetainedAfter() {
+        Long oldest = changeFeedJdbcRepository.findOldestOffset();
+        return oldest != null ? oldest - 1 : currentOffset();
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 건수는 1 ~ " + MAX_LIMIT + " 사이여야 합니다.");
+        }
+        return limit;
+    }
+
+    private record Waiter(long after, int limit, CompletableFuture<ChangeFeedResponse> future) {
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private long cursor;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        private SseEmitter emitter() {
+            return emitter;
+        }
+    }
+}
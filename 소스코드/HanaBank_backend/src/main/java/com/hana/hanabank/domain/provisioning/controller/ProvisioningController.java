@@ -0,0 +1,53 @@
+package com.hana.hanabank.domain.provisioning.controller;
+
+import com.hana.hanabank.domain.provisioning.dto.ProvisioningRequest;
+import com.hana.hanabank.domain.provisioning.dto.ProvisioningStatusResponse;
+import com.hana.hanabank.domain.provisioning.service.ProvisioningService;
+import com.hana.hanabank.global.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Provisioning", description = "부하 테스트 데이터 생성 API")
+@RestController
+@RequestMapping("/api/provisioning")
+@RequiredArgsConstructor
+@Slf4j
+public class ProvisioningController {
+
+    private final ProvisioningService provisioningService;
+
+    @Operation(summary = "부하 테스트 데이터 생성", description = "seed 기반으로 사용자/계좌/거래내역을 대량 생성합니다. 작업은 백그라운드에서 실행됩니다.")
+    @PostMapping("/jobs")
+    public ResponseEntity<ApiResponse<ProvisioningStatusResponse>> start(@RequestBody ProvisioningRequest request) {
+        try {
+            ProvisioningStatusResponse response = provisioningService.start(request);
+            return ResponseEntity.status(202)
+                    .body(ApiResponse.success("데이터 생성 작업이 시작되었습니다.", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("데이터 생성 작업 시작 실패: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("데이터 생성 작업 시작에 실패했습니다."));
+        }
+    }
+
+    @Operation(summary = "데이터 생성 진행 상황", description = "작업 ID 로 진행 상황을 조회합니다.")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<ProvisioningStatusResponse>> getStatus(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(provisioningService.getStatus(jobId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+}
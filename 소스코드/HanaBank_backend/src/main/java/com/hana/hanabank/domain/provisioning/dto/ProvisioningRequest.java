@@ -0,0 +1,27 @@
+package com.hana.hanabank.domain.provisioning.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 부하 테스트 데이터 대량 생성 요청
+ * - 같은 seed 와 건수로 실행하면 같은 사용자/계좌/거래내역이 생성됨 (스레드 수, 배치 크기와 무관)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProvisioningRequest {
+    private Long seed;
+    private Integer userCount;
+    private Integer accountsPerUser;
+    private Integer transactionsPerAccount;
+    private Integer historyDays;
+    private Integer threads;
+    private Integer batchSize;
+    private Boolean rebuildRollups;
+}
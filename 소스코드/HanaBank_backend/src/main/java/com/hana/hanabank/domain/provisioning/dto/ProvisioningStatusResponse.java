@@ -0,0 +1,19 @@
+package com.hana.hanabank.domain.provisioning.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProvisioningStatusResponse {
+    private String jobId;
+    private String state; // RUNNING, COMPLETED, FAILED
+    private long seed;
+    private int totalPartitions;
+    private int completedPartitions;
+    private long users;
+    private long accounts;
+    private long transactions;
+    private long elapsedMillis;
+    private String errorMessage;
+}
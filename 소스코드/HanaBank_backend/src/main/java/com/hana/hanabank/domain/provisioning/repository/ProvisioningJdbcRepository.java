@@ -0,0 +1,76 @@
+package com.hana.hanabank.domain.provisioning.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 데이터 배치 삽입
+ * - JPA 를 거치지 않고 JDBC 배치로 삽입 (MySQL 은 rewriteBatchedStatements=true 권장)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProvisioningJdbcRepository {
+
+    private static final String INSERT_USER =
+            "INSERT INTO hanabank_user (user_id, user_ci, user_num, username, phone_number, email, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ACCOUNT =
+            "INSERT INTO hanabank_account (account_num, user_id, bank_code_std, activity_type, account_type, " +
+            "account_num_masked, account_seq, account_local_code, account_issue_date, maturity_date, last_tran_date, " +
+            "product_name, product_sub_name, dormancy_yn, balance_amt, deposit_amt, balance_calc_basis_1, " +
+            "balance_calc_basis_2, investment_linked_yn, bank_linked_yn, balance_after_cancel_yn, savings_bank_code, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_TRANSACTION =
+            "INSERT INTO hanabank_transaction (tran_id, account_id, tran_date, tran_time, inout_type, tran_type, " +
+            "print_content, tran_amt, after_balance_amt, branch_name, wd_bank_code_std, wd_account_num, " +
+            "req_client_name, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String FIND_ACCOUNT_IDS =
+            "SELECT account_id, account_num FROM hanabank_account WHERE account_num BETWEEN ? AND ?";
+
+    private static final String COUNT_ACCOUNTS_IN_RANGE =
+            "SELECT COUNT(*) FROM hanabank_account WHERE account_num BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertUsers(List<Object[]> rows, int batchSize) {
+        batchInsert(INSERT_USER, rows, batchSize);
+    }
+
+    public void insertAccounts(List<Object[]> rows, int batchSize) {
+        batchInsert(INSERT_ACCOUNT, rows, batchSize);
+    }
+
+    public void insertTransactions(List<Object[]> rows, int batchSize) {
+        batchInsert(INSERT_TRANSACTION, rows, batchSize);
+    }
+
+    /**
+     * 계좌번호 범위 내 계좌 ID (계좌번호 → 계좌 ID)
+     */
+    public Map<String, Long> findAccountIds(String fromAccountNum, String toAccountNum) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(FIND_ACCOUNT_IDS, rs -> {
+            ids.put(rs.getString("account_num"), rs.getLong("account_id"));
+        }, fromAccountNum, toAccountNum);
+        return ids;
+    }
+
+    public long countAccounts(String fromAccountNum, String toAccountNum) {
+        Long count = jdbcTemplate.queryForObject(COUNT_ACCOUNTS_IN_RANGE, Long.class, fromAccountNum, toAccountNum);
+        return count != null ? count : 0;
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows, int batchSize) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.hana.hanabank.domain.provisioning.service;
+
+import com.hana.hanabank.domain.provisioning.dto.ProvisioningRequest;
+import com.hana.hanabank.domain.provisioning.dto.ProvisioningStatusResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부하 테스트 데이터 생성 CLI
+ * - java -jar hanabank.jar --spring.main.web-application-type=none --hanabank.provisioning.run=true
+ *   --hanabank.provisioning.seed=42 --hanabank.provisioning.users=100000 --hanabank.provisioning.accounts-per-user=3
+ *   --hanabank.provisioning.transactions-per-account=20
+ * - 생성이 끝나면 종료 (실패 시 종료 코드 1)
+ */
+@Component
+@ConditionalOnProperty(name = "hanabank.provisioning.run", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ProvisioningCommandLineRunner implements ApplicationRunner {
+
+    private final ProvisioningService provisioningService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${hanabank.provisioning.seed:42}")
+    private long seed;
+
+    @Value("${hanabank.provisioning.users:1000}")
+    private int users;
+
+    @Value("${hanabank.provisioning.accounts-per-user:3}")
+    private int accountsPerUser;
+
+    @Value("${hanabank.provisioning.transactions-per-account:10}")
+    private int transactionsPerAccount;
+
+    @Value("${hanabank.provisioning.history-days:365}")
+    private int historyDays;
+
+    @Value("${hanabank.provisioning.threads:4}")
+    private int threads;
+
+    @Value("${hanabank.provisioning.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${hanabank.provisioning.rebuild-rollups:true}")
+    private boolean rebuildRollups;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ProvisioningStatusResponse result = provisioningService.run(ProvisioningRequest.builder()
+                .seed(seed)
+                .userCount(users)
+                .accountsPerUser(accountsPerUser)
+                .transactionsPerAccount(transactionsPerAccount)
+                .historyDays(historyDays)
+                .threads(threads)
+                .batchSize(batchSize)
+                .rebuildRollups(rebuildRollups)
+                .build());
+        int exitCode = "COMPLETED".equals(result.getState()) ? 0 : 1;
+        log.info("부하 테스트 데이터 생성 CLI 종료 - 상태: {}, 사용자 {}, 계좌 {}, 거래 {}, {}ms",
+                result.getState(), result.getUsers(), result.getAccounts(), result.getTransactions(), result.getElapsedMillis());
+        System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+    }
+}
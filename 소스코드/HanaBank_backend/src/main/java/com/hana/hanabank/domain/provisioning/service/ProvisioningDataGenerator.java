@@ -0,0 +1,179 @@
+package com.hana.hanabank.domain.provisioning.service;
+
+import com.hana.hanabank.domain.account.service.AccountNumberAllocator;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트 데이터 생성기 (결정적)
+ * - 파티션마다 (seed, 파티션 번호) 로 난수를 초기화하므로 스레드 배치와 무관하게 같은 결과
+ * - 계좌번호 = 81790 + 8자리 전역 계좌 순번 + 검증번호 (실계좌 발급 접두어 81700 과 겹치지 않음)
+ * - 거래일자는 실행일 기준 과거 historyDays 일 안에서 생성
+ */
+class ProvisioningDataGenerator {
+
+    static final String ACCOUNT_PREFIX = "81790";
+    static final long MAX_ACCOUNTS = 100_000_000L;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "하은", "주원", "지호",
+            "수아", "예준", "지유", "유준", "채원", "건우", "지민", "현우", "다은", "은우"};
+    private static final String[] PRODUCT_NAMES = {"하나 주거래 통장", "하나 급여 통장", "하나 생활비 통장", "하나 모임 통장"};
+    private static final String[] DEPOSIT_CONTENTS = {"급여", "이체입금", "용돈", "환급금", "이자"};
+    private static final String[] WITHDRAW_CONTENTS = {"카드대금", "공과금", "편의점", "이체출금", "관리비", "통신비"};
+    private static final String[] BRANCHES = {"을지로", "강남", "여의도", "판교", "부산", "대전"};
+
+    private final long seed;
+    private final int accountsPerUser;
+    private final int transactionsPerAccount;
+    private final int historyDays;
+    private final LocalDateTime now;
+
+    ProvisioningDataGenerator(long seed, int accountsPerUser, int transactionsPerAccount, int historyDays, LocalDateTime now) {
+        this.seed = seed;
+        this.accountsPerUser = accountsPerUser;
+        this.transactionsPerAccount = transactionsPerAccount;
+        this.historyDays = historyDays;
+        this.now = now;
+    }
+
+    static String accountBody(long serial) {
+        return ACCOUNT_PREFIX + String.format("%08d", serial);
+    }
+
+    static String accountNum(long serial) {
+        return AccountNumberAllocator.withCheckDigit(accountBody(serial));
+    }
+
+    /**
+     * [firstUser, lastUser) 사용자와 그 계좌/거래내역 생성
+     * - 거래내역 행의 계좌 ID(1번 열)는 계좌 삽입 후 채움, accountNumOf 로 대응
+     */
+    Partition generate(int partitionIndex, long firstUser, long lastUser) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + partitionIndex);
+        Timestamp createdAt = Timestamp.valueOf(now);
+        Partition partition = new Partition();
+
+        for (long userIndex = firstUser; userIndex < lastUser; userIndex++) {
+            String userId = "LT" + seed + "U" + String.format("%07d", userIndex);
+            String username = SURNAMES[random.nextInt(SURNAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+            partition.users.add(new Object[]{
+                    userId,
+                    userCi(random),
+                    userNum(random),
+                    username,
+                    String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000)),
+                    "lt" + seed + "u" + userIndex + "@example.com",
+                    createdAt,
+                    createdAt});
+
+            for (int k = 0; k < accountsPerUser; k++) {
+                long serial = userIndex * accountsPerUser + k;
+                generateAccount(random, partition, userId, username, serial);
+            }
+        }
+        return partition;
+    }
+
+    private void generateAccount(SplittableRandom random, Partition partition, String userId, String username, long serial) {
+        String accountNum = accountNum(serial);
+        long historySeconds = historyDays * 86_400L;
+        LocalDateTime issuedAt = now.minusSeconds(historySeconds + random.nextLong(365L * 86_400L));
+
+        long[] offsets = new long[transactionsPerAccount];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = random.nextLong(historySeconds);
+        }
+        Arrays.sort(offsets);
+
+        long balance = random.nextLong(5_000) * 1_000;
+        LocalDate lastTranDate = issuedAt.toLocalDate();
+        for (int i = 0; i < offsets.length; i++) {
+            LocalDateTime tranAt = now.minusSeconds(historySeconds - offsets[i]);
+            long amount = (10 + random.nextLong(5_000)) * 100;
+            boolean deposit = balance < amount || random.nextBoolean();
+            balance += deposit ? amount : -amount;
+            lastTranDate = tranAt.toLocalDate();
+
+            Timestamp tranTimestamp = Timestamp.valueOf(tranAt);
+            partition.transactions.add(new Object[]{
+                    "LT" + seed + "-" + serial + "-" + i,
+                    null,
+                    Date.valueOf(tranAt.toLocalDate()),
+                    tranAt.format(TIME_FORMAT),
+                    deposit ? "입금" : "출금",
+                    "이체",
+                    deposit ? DEPOSIT_CONTENTS[random.nextInt(DEPOSIT_CONTENTS.length)]
+                            : WITHDRAW_CONTENTS[random.nextInt(WITHDRAW_CONTENTS.length)],
+                    BigDecimal.valueOf(amount),
+                    BigDecimal.valueOf(balance),
+                    BRANCHES[random.nextInt(BRANCHES.length)],
+                    "081",
+                    accountNum,
+                    username,
+                    tranTimestamp,
+                    tranTimestamp});
+            partition.transactionAccountNums.add(accountNum);
+        }
+
+        Timestamp createdAt = Timestamp.valueOf(issuedAt);
+        partition.accounts.add(new Object[]{
+                accountNum,
+                userId,
+                "081",
+                "1",
+                "1",
+                accountNum.substring(0, 4) + "****" + accountNum.substring(accountNum.length() - 4),
+                "01",
+                "0810001",
+                issuedAt.format(DATE_FORMAT),
+                null,
+                lastTranDate.format(DATE_FORMAT),
+                PRODUCT_NAMES[random.nextInt(PRODUCT_NAMES.length)],
+                "입출금",
+                "N",
+                BigDecimal.valueOf(balance),
+                BigDecimal.ZERO,
+                "1",
+                "1",
+                "N",
+                "Y",
+                "N",
+                "081",
+                createdAt,
+                createdAt});
+    }
+
+    private static String userCi(SplittableRandom random) {
+        byte[] bytes = new byte[66];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) random.nextInt(256);
+        }
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private static String userNum(SplittableRandom random) {
+        LocalDate birth = LocalDate.of(1960, 1, 1).plusDays(random.nextInt(365 * 45));
+        int gender = (birth.getYear() >= 2000 ? 3 : 1) + random.nextInt(2);
+        return birth.format(DateTimeFormatter.ofPattern("yyMMdd")) + "-" + gender + "******";
+    }
+
+    static class Partition {
+        final List<Object[]> users = new ArrayList<>();
+        final List<Object[]> accounts = new ArrayList<>();
+        final List<Object[]> transactions = new ArrayList<>();
+        final List<String> transactionAccountNums = new ArrayList<>();
+    }
+}
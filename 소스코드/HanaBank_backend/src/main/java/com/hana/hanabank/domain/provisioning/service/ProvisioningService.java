@@ -0,0 +1,269 @@
+package com.hana.hanabank.domain.provisioning.service;
+
+import com.hana.hanabank.domain.account.service.CustomerAccountLookup;
+import com.hana.hanabank.domain.provisioning.dto.ProvisioningRequest;
+import com.hana.hanabank.domain.provisioning.dto.ProvisioningStatusResponse;
+import com.hana.hanabank.domain.provisioning.repository.ProvisioningJdbcRepository;
+import com.hana.hanabank.domain.statement.service.DailyBalanceBackfillService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트 데이터 대량 생성
+ * - 사용자를 파티션으로 나눠 여러 스레드에서 생성, 파티션마다 한 트랜잭션으로 사용자 → 계좌 → 거래내역 순 JDBC 배치 삽입
+ * - 진행 상황은 작업 ID 로 조회하고, 5% 단위로 로그 출력
+ * - 생성 후 일 집계(hanabank_daily_balance)를 거래내역으로부터 재구성
+ * - 동시에 한 작업만 실행
+ */
+@Service
+@Slf4j
+public class ProvisioningService {
+
+    private static final int ROWS_PER_PARTITION = 20_000;
+    private static final int MAX_USERS_PER_PARTITION = 1_000;
+    private static final int MAX_JOBS_KEPT = 20;
+
+    private final ProvisioningJdbcRepository provisioningJdbcRepository;
+    private final DailyBalanceBackfillService dailyBalanceBackfillService;
+    private final CustomerAccountLookup customerAccountLookup;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ProvisioningService(ProvisioningJdbcRepository provisioningJdbcRepository,
+                               DailyBalanceBackfillService dailyBalanceBackfillService,
+                               CustomerAccountLookup customerAccountLookup,
+                               PlatformTransactionManager transactionManager) {
+        this.provisioningJdbcRepository = provisioningJdbcRepository;
+        this.dailyBalanceBackfillService = dailyBalanceBackfillService;
+        this.customerAccountLookup = customerAccountLookup;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 백그라운드 실행 - 진행 상황은 getStatus 로 조회
+     */
+    public ProvisioningStatusResponse start(ProvisioningRequest request) {
+        Job job = prepare(request);
+        Thread worker = new Thread(() -> execute(job), "provisioning-" + job.id);
+        worker.setDaemon(true);
+        worker.start();
+        return job.toResponse();
+    }
+
+    /**
+     * 현재 스레드에서 끝까지 실행 (CLI)
+     */
+    public ProvisioningStatusResponse run(ProvisioningRequest request) {
+        Job job = prepare(request);
+        execute(job);
+        return job.toResponse();
+    }
+
+    public ProvisioningStatusResponse getStatus(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    private Job prepare(ProvisioningRequest request) {
+        Job job = new Job(Settings.of(request));
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 실행 중인 데이터 생성 작업이 있습니다.");
+        }
+        try {
+            long existing = provisioningJdbcRepository.countAccounts(
+                    ProvisioningDataGenerator.accountBody(0) + "0",
+                    ProvisioningDataGenerator.accountBody(ProvisioningDataGenerator.MAX_ACCOUNTS - 1) + "9");
+            if (existing > 0) {
+                throw new IllegalStateException("이미 생성된 부하 테스트 계좌가 " + existing + "건 있습니다. 정리 후 다시 실행하세요.");
+            }
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        if (jobs.size() >= MAX_JOBS_KEPT) {
+            jobs.values().removeIf(old -> !"RUNNING".equals(old.state));
+        }
+        jobs.put(job.id, job);
+        return job;
+    }
+
+    private void execute(Job job) {
+        Settings settings = job.settings;
+        ProvisioningDataGenerator generator = new ProvisioningDataGenerator(settings.seed, settings.accountsPerUser,
+                settings.transactionsPerAccount, settings.historyDays, LocalDateTime.now());
+        log.info("부하 테스트 데이터 생성 시작 - jobId: {}, seed: {}, 사용자 {}명 x 계좌 {}개 x 거래 {}건, 파티션 {}개, 스레드 {}",
+                job.id, settings.seed, settings.userCount, settings.accountsPerUser, settings.transactionsPerAccount,
+                job.totalPartitions, settings.threads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < job.totalPartitions; p++) {
+                int partitionIndex = p;
+                futures.add(executor.submit(() -> provisionPartition(job, generator, partitionIndex)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            if (settings.rebuildRollups) {
+                dailyBalanceBackfillService.rebuildAll();
+            }
+            job.finish("COMPLETED", null);
+            log.info("부하 테스트 데이터 생성 완료 - jobId: {}, 사용자 {}, 계좌 {}, 거래 {}, {}ms",
+                    job.id, job.users.get(), job.accounts.get(), job.transactions.get(), job.elapsedMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish("FAILED", "작업이 중단되었습니다.");
+        } catch (ExecutionException | RuntimeException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            log.error("부하 테스트 데이터 생성 실패 - jobId: {}, 오류: {}", job.id, cause.getMessage(), cause);
+            job.finish("FAILED", cause.getMessage());
+        } finally {
+            executor.shutdownNow();
+            // JDBC 로 넣은 사용자는 엔티티 리스너를 거치지 않으므로 CI 조회 캐시(부정 캐시 포함)를 직접 비움
+            customerAccountLookup.invalidateAll();
+            running.set(false);
+        }
+    }
+
+    private void provisionPartition(Job job, ProvisioningDataGenerator generator, int partitionIndex) {
+        Settings settings = job.settings;
+        long firstUser = (long) partitionIndex * job.usersPerPartition;
+        long lastUser = Math.min(firstUser + job.usersPerPartition, settings.userCount);
+        ProvisioningDataGenerator.Partition partition = generator.generate(partitionIndex, firstUser, lastUser);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            provisioningJdbcRepository.insertUsers(partition.users, settings.batchSize);
+            provisioningJdbcRepository.insertAccounts(partition.accounts, settings.batchSize);
+            if (!partition.transactions.isEmpty()) {
+                Map<String, Long> accountIds = provisioningJdbcRepository.findAccountIds(
+                        ProvisioningDataGenerator.accountBody(firstUser * settings.accountsPerUser) + "0",
+                        ProvisioningDataGenerator.accountBody(lastUser * settings.accountsPerUser - 1) + "9");
+                for (int i = 0; i < partition.transactions.size(); i++) {
+                    partition.transactions.get(i)[1] = accountIds.get(partition.transactionAccountNums.get(i));
+                }
+                provisioningJdbcRepository.insertTransactions(partition.transactions, settings.batchSize);
+            }
+        });
+
+        job.users.addAndGet(partition.users.size());
+        job.accounts.addAndGet(partition.accounts.size());
+        job.transactions.addAndGet(partition.transactions.size());
+        int completed = job.completedPartitions.incrementAndGet();
+        int percent = completed * 100 / job.totalPartitions;
+        int previousPercent = (completed - 1) * 100 / job.totalPartitions;
+        if (percent / 5 != previousPercent / 5) {
+            log.info("부하 테스트 데이터 생성 진행 - jobId: {}, {}% ({}/{} 파티션), 거래 {}건, {}ms",
+                    job.id, percent, completed, job.totalPartitions, job.transactions.get(), job.elapsedMillis());
+        }
+    }
+
+    private record Settings(long seed, int userCount, int accountsPerUser, int transactionsPerAccount,
+                            int historyDays, int threads, int batchSize, boolean rebuildRollups) {
+
+        static Settings of(ProvisioningRequest request) {
+            Settings settings = new Settings(
+                    request.getSeed() != null ? request.getSeed() : 42L,
+                    request.getUserCount() != null ? request.getUserCount() : 1_000,
+                    request.getAccountsPerUser() != null ? request.getAccountsPerUser() : 3,
+                    request.getTransactionsPerAccount() != null ? request.getTransactionsPerAccount() : 10,
+                    request.getHistoryDays() != null ? request.getHistoryDays() : 365,
+                    request.getThreads() != null ? request.getThreads() : 4,
+                    request.getBatchSize() != null ? request.getBatchSize() : 1_000,
+                    request.getRebuildRollups() == null || request.getRebuildRollups());
+            settings.validate();
+            return settings;
+        }
+
+        private void validate() {
+            if (seed < 0) {
+                throw new IllegalArgumentException("seed 는 0 이상이어야 합니다.");
+            }
+            if (userCount < 1 || userCount > 1_000_000) {
+                throw new IllegalArgumentException("사용자 수는 1~1,000,000 사이여야 합니다.");
+            }
+            if (accountsPerUser < 1 || accountsPerUser > 10) {
+                throw new IllegalArgumentException("사용자당 계좌 수는 1~10 사이여야 합니다.");
+            }
+            if (transactionsPerAccount < 0 || transactionsPerAccount > 1_000) {
+                throw new IllegalArgumentException("계좌당 거래 수는 0~1,000 사이여야 합니다.");
+            }
+            if (historyDays < 1 || historyDays > 3_650) {
+                throw new IllegalArgumentException("거래 기간은 1~3,650일 사이여야 합니다.");
+            }
+            if (threads < 1 || threads > 32) {
+                throw new IllegalArgumentException("스레드 수는 1~32 사이여야 합니다.");
+            }
+            if (batchSize < 1 || batchSize > 10_000) {
+                throw new IllegalArgumentException("배치 크기는 1~10,000 사이여야 합니다.");
+            }
+        }
+    }
+
+    private static final class Job {
+        final String id = UUID.randomUUID().toString();
+        final Settings settings;
+        final int usersPerPartition;
+        final int totalPartitions;
+        final long startMillis = System.currentTimeMillis();
+        final AtomicInteger completedPartitions = new AtomicInteger();
+        final AtomicLong users = new AtomicLong();
+        final AtomicLong accounts = new AtomicLong();
+        final AtomicLong transactions = new AtomicLong();
+        volatile String state = "RUNNING";
+        volatile String errorMessage;
+        volatile long finishedMillis;
+
+        Job(Settings settings) {
+            this.settings = settings;
+            long rowsPerUser = (long) settings.accountsPerUser() * (1 + settings.transactionsPerAccount());
+            this.usersPerPartition = (int) Math.max(1, Math.min(MAX_USERS_PER_PARTITION, ROWS_PER_PARTITION / rowsPerUser));
+            this.totalPartitions = (settings.userCount() + usersPerPartition - 1) / usersPerPartition;
+        }
+
+        void finish(String finalState, String error) {
+            this.errorMessage = error;
+            this.finishedMillis = System.currentTimeMillis();
+            this.state = finalState;
+        }
+
+        long elapsedMillis() {
+            return (finishedMillis > 0 ? finishedMillis : System.currentTimeMillis()) - startMillis;
+        }
+
+        ProvisioningStatusResponse toResponse() {
+            return ProvisioningStatusResponse.builder()
+                    .jobId(id)
+                    .state(state)
+                    .seed(settings.seed())
+                    .totalPartitions(totalPartitions)
+                    .completedPartitions(completedPartitions.get())
+                    .users(users.get())
+                    .accounts(accounts.get())
+                    .transactions(transactions.get())
+                    .elapsedMillis(elapsedMillis())
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -18,4 +19,8 @@ public interface SavingsProductRepository extends JpaRepository<SavingsProduct,
     
     @Query("SELECT sp FROM SavingsProduct sp WHERE sp.isActive = true AND sp.minMonthlyAmount <= :monthlyAmount AND sp.maxMonthlyAmount >= :monthlyAmount ORDER BY sp.maxInterestRate DESC")
     List<SavingsProduct> findByMonthlyAmountRange(@Param("monthlyAmount") Long monthlyAmount);
+
+    // 상품 목록 변경 감지용 (추천 인덱스)
+    @Query("SELECT MAX(sp.updatedAt) FROM SavingsProduct sp")
+    LocalDateTime findLastUpdatedAt();
 }
@@ -7,10 +7,10 @@ import com.hana.hanabank.domain.savings.repository.SavingsProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,48 +19,41 @@ import java.util.stream.Collectors;
 public class SavingsProductService {
 
     private final SavingsProductRepository savingsProductRepository;
+    private final SavingsRecommendationIndex recommendationIndex;
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<SavingsProductResponse> getAllActiveProducts() {
-        List<SavingsProduct> products = savingsProductRepository.findByIsActiveTrueOrderByMaxInterestRateDesc();
-        return products.stream()
-                .map(SavingsProductResponse::from)
-                .collect(Collectors.toList());
+        return recommendationIndex.allActive();
     }
 
+    /**
+     * 적금 상품 추천 (최대 3개, 메모리 인덱스 조회)
+     * - 대상 고객군 일치 상품 → 월 납입금액 가입 범위 상품 → 금리 높은 순 순서로 결과가 있는 첫 기준 사용
+     * - 인덱스만 읽으므로 트랜잭션(커넥션)을 새로 열지 않음
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<SavingsProductResponse> getRecommendedProducts(SavingsRecommendationRequest request) {
         log.info("적금 상품 추천 요청: userId={}, monthlyAmount={}, targetCustomer={}", 
                 request.getUserId(), request.getMonthlyAmount(), request.getTargetCustomer());
 
-        List<SavingsProduct> products;
-
         // 타겟 고객군이 있으면 해당 상품 우선 추천
         if (request.getTargetCustomer() != null && !request.getTargetCustomer().isEmpty()) {
-            products = savingsProductRepository.findByTargetCustomerContaining(request.getTargetCustomer());
+            List<SavingsProductResponse> products = recommendationIndex.byTargetCustomer(request.getTargetCustomer());
             if (!products.isEmpty()) {
-                return products.stream()
-                        .limit(3) // 최대 3개까지 추천
-                        .map(SavingsProductResponse::from)
-                        .collect(Collectors.toList());
+                return products;
             }
         }
 
         // 월 납입금액 기준으로 추천
         if (request.getMonthlyAmount() != null) {
-            products = savingsProductRepository.findByMonthlyAmountRange(request.getMonthlyAmount());
+            List<SavingsProductResponse> products = recommendationIndex.byMonthlyAmount(request.getMonthlyAmount());
             if (!products.isEmpty()) {
-                return products.stream()
-                        .limit(3)
-                        .map(SavingsProductResponse::from)
-                        .collect(Collectors.toList());
+                return products;
             }
         }
 
         // 기본 추천 (금리 높은 순)
-        products = savingsProductRepository.findByIsActiveTrueOrderByMaxInterestRateDesc();
-        return products.stream()
-                .limit(3)
-                .map(SavingsProductResponse::from)
-                .collect(Collectors.toList());
+        return recommendationIndex.top();
     }
 
     public SavingsProductResponse getProductById(Long productId) {
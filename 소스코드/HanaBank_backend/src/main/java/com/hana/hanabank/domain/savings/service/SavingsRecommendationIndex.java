@@ -0,0 +1,193 @@
+package com.hana.hanabank.domain.savings.service;
+
+import com.hana.hanabank.domain.savings.dto.SavingsProductResponse;
+import com.hana.hanabank.domain.savings.entity.SavingsProduct;
+import com.hana.hanabank.domain.savings.repository.SavingsProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 적금 상품 추천 인덱스 (메모리)
+ * - 활성 상품 목록을 금리 높은 순으로 한 번 읽어 대상 고객 토큰별/월 납입금액 구간별 상위 N개를 미리 계산
+ * - 추천 조회는 DB 접근 없이 스냅샷만 읽음, 상품 목록이 바뀌면(건수/최종 수정시각) 새 스냅샷으로 교체
+ * - 대상 고객 검색은 기존 LIKE '%값%' 과 같은 부분 문자열 일치, 토큰이 아닌 검색어는 처음 조회 시 계산해 보관
+ */
+@Component
+@Slf4j
+public class SavingsRecommendationIndex {
+
+    public static final int TOP_N = 3;
+
+    private static final int MAX_CACHED_TARGETS = 256;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[\\s,/·|]+");
+    private static final Comparator<SavingsProduct> BY_RATE_DESC = Comparator
+            .comparing(SavingsProduct::getMaxInterestRate, Comparator.reverseOrder())
+            .thenComparing(SavingsProduct::getId);
+
+    private final SavingsProductRepository savingsProductRepository;
+    private final TransactionTemplate readOnlyTemplate;
+
+    private volatile Snapshot snapshot;
+
+    public SavingsRecommendationIndex(SavingsProductRepository savingsProductRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.savingsProductRepository = savingsProductRepository;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 전체 활성 상품 (금리 높은 순)
+     */
+    public List<SavingsProductResponse> allActive() {
+        return snapshot().all;
+    }
+
+    /**
+     * 대상 고객 문자열을 포함하는 상품 상위 N개
+     */
+    public List<SavingsProductResponse> byTargetCustomer(String targetCustomer) {
+        Snapshot current = snapshot();
+        List<SavingsProductResponse> cached = current.byTarget.get(targetCustomer);
+        if (cached != null) {
+            return cached;
+        }
+        List<SavingsProductResponse> computed = current.topN(p ->
+                p.getTargetCustomer() != null && p.getTargetCustomer().contains(targetCustomer));
+        if (current.byTarget.size() < MAX_CACHED_TARGETS) {
+            current.byTarget.putIfAbsent(targetCustomer, computed);
+        }
+        return computed;
+    }
+
+    /**
+     * 월 납입금액이 가입 범위에 드는 상품 상위 N개
+     */
+    public List<SavingsProductResponse> byMonthlyAmount(long monthlyAmount) {
+        Snapshot current = snapshot();
+        int position = Arrays.binarySearch(current.amountBoundaries, monthlyAmount);
+        int bucket = position >= 0 ? position : -position - 2;
+        if (bucket < 0 || bucket >= current.amountBuckets.size()) {
+            return List.of();
+        }
+        return current.amountBuckets.get(bucket);
+    }
+
+    /**
+     * 금리 높은 순 상위 N개
+     */
+    public List<SavingsProductResponse> top() {
+        return snapshot().top;
+    }
+
+    /**
+     * 상품 목록 변경 확인 - 바뀌었으면 스냅샷 재생성
+     */
+    @Scheduled(fixedDelayString = "${hanabank.savings.index-refresh-ms:60000}",
+            initialDelayString = "${hanabank.savings.index-refresh-ms:60000}")
+    public void refreshIfChanged() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return; // 아직 한 번도 조회되지 않음 - 첫 조회 시 생성
+        }
+        String fingerprint = readOnlyTemplate.execute(status -> fingerprint());
+        if (!Objects.equals(fingerprint, current.fingerprint)) {
+            rebuild();
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    private synchronized Snapshot rebuild() {
+        Snapshot built = readOnlyTemplate.execute(status -> {
+            String fingerprint = fingerprint();
+            List<SavingsProduct> products = new ArrayList<>(savingsProductRepository.findByIsActiveTrueOrderByMaxInterestRateDesc());
+            products.sort(BY_RATE_DESC);
+            return new Snapshot(fingerprint, products);
+        });
+        snapshot = built;
+        log.info("적금 상품 추천 인덱스 생성 - 상품 {}개, 금액 구간 {}개, 대상 고객 토큰 {}개",
+                built.all.size(), built.amountBuckets.size(), built.byTarget.size());
+        return built;
+    }
+
+    private String fingerprint() {
+        return savingsProductRepository.count() + "|" + savingsProductRepository.findLastUpdatedAt();
+    }
+
+    private static SavingsProductResponse toResponse(SavingsProduct product) {
+        // 스냅샷은 트랜잭션 밖에서 계속 쓰이므로 지연 로딩 컬렉션을 미리 읽어 둠
+        Hibernate.initialize(product.getBenefits());
+        Hibernate.initialize(product.getFeatures());
+        return SavingsProductResponse.from(product);
+    }
+
+    private static final class Snapshot {
+        final String fingerprint;
+        final List<SavingsProduct> products;
+        final List<SavingsProductResponse> all;
+        final List<SavingsProductResponse> top;
+        final Map<String, List<SavingsProductResponse>> byTarget = new ConcurrentHashMap<>();
+        final long[] amountBoundaries;
+        final List<List<SavingsProductResponse>> amountBuckets = new ArrayList<>();
+
+        Snapshot(String fingerprint, List<SavingsProduct> products) {
+            this.fingerprint = fingerprint;
+            this.products = List.copyOf(products);
+            this.all = products.stream().map(SavingsRecommendationIndex::toResponse).toList();
+            this.top = all.subList(0, Math.min(TOP_N, all.size()));
+
+            for (SavingsProduct product : products) {
+                if (product.getTargetCustomer() == null) {
+                    continue;
+                }
+                for (String token : TOKEN_SEPARATOR.split(product.getTargetCustomer())) {
+                    if (!token.isEmpty()) {
+                        byTarget.computeIfAbsent(token, t -> topN(p -> p.getTargetCustomer() != null && p.getTargetCustomer().contains(t)));
+                    }
+                }
+            }
+
+            // 구간 경계 = 각 상품의 최소금액, 최대금액 + 1 → 한 구간 안에서는 해당 상품 집합이 같음
+            TreeSet<Long> boundaries = new TreeSet<>();
+            for (SavingsProduct product : products) {
+                boundaries.add(product.getMinMonthlyAmount());
+                if (product.getMaxMonthlyAmount() < Long.MAX_VALUE) {
+                    boundaries.add(product.getMaxMonthlyAmount() + 1);
+                }
+            }
+            this.amountBoundaries = boundaries.stream().mapToLong(Long::longValue).toArray();
+            for (long lower : amountBoundaries) {
+                amountBuckets.add(topN(p -> p.getMinMonthlyAmount() <= lower && p.getMaxMonthlyAmount() >= lower));
+            }
+        }
+
+        List<SavingsProductResponse> topN(Predicate<SavingsProduct> filter) {
+            List<SavingsProductResponse> result = new ArrayList<>(TOP_N);
+            for (int i = 0; i < products.size() && result.size() < TOP_N; i++) {
+                if (filter.test(products.get(i))) {
+                    result.add(all.get(i));
+                }
+            }
+            return List.copyOf(result);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.hana.hanabank.domain.statement.controller;
+
+import com.hana.hanabank.domain.statement.dto.BalanceAtDateResponse;
+import com.hana.hanabank.domain.statement.dto.PeriodSummaryResponse;
+import com.hana.hanabank.domain.statement.dto.RollupBackfillResponse;
+import com.hana.hanabank.domain.statement.service.DailyBalanceBackfillService;
+import com.hana.hanabank.domain.statement.service.StatementService;
+import com.hana.hanabank.global.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@Tag(name = "Statement", description = "잔액 이력/기간 요약 API")
+@RestController
+@RequestMapping("/api/statements")
+@RequiredArgsConstructor
+@Slf4j
+public class StatementController {
+
+    private final StatementService statementService;
+    private final DailyBalanceBackfillService dailyBalanceBackfillService;
+
+    @Operation(summary = "기준일 잔액 조회", description = "기준일(yyyyMMdd) 마감 잔액을 조회합니다. 생략하면 오늘 기준입니다.")
+    @GetMapping("/{accountNum}/balance")
+    public ResponseEntity<ApiResponse<BalanceAtDateResponse>> getBalanceAt(
+            @PathVariable String accountNum,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(statementService.getBalanceAt(accountNum, date)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("기준일 잔액 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("기준일 잔액 조회에 실패했습니다."));
+        }
+    }
+
+    @Operation(summary = "기간 입출금 요약", description = "기간(yyyyMMdd) 시작/마감 잔액, 입출금 합계와 일별 집계를 조회합니다.")
+    @GetMapping("/{accountNum}/summary")
+    public ResponseEntity<ApiResponse<PeriodSummaryResponse>> getPeriodSummary(
+            @PathVariable String accountNum,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate endDate) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(statementService.getPeriodSummary(accountNum, startDate, endDate)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("기간 요약 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("기간 요약 조회에 실패했습니다."));
+        }
+    }
+
+    @Operation(summary = "일 집계 재구성", description = "전체 거래내역으로부터 계좌별 일 집계를 다시 만듭니다.")
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<ApiResponse<RollupBackfillResponse>> rebuildRollups() {
+        try {
+            RollupBackfillResponse response = dailyBalanceBackfillService.rebuildAll();
+            return ResponseEntity.ok(ApiResponse.success("일 집계 재구성이 완료되었습니다.", response));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("일 집계 재구성 실패: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("일 집계 재구성에 실패했습니다."));
+        }
+    }
+}
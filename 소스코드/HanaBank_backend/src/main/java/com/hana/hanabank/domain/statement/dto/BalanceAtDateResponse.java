@@ -0,0 +1,15 @@
+package com.hana.hanabank.domain.statement.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class BalanceAtDateResponse {
+    private String accountNum;
+    private LocalDate date;
+    private BigDecimal balance;
+}
@@ -0,0 +1,49 @@
+package com.hana.hanabank.domain.statement.dto;
+
+import com.hana.hanabank.domain.statement.entity.DailyBalance;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간 입출금 요약 - days 에는 거래가 있었던 날만 포함
+ */
+@Getter
+@Builder
+public class PeriodSummaryResponse {
+    private String accountNum;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal openingBalance;
+    private BigDecimal closingBalance;
+    private BigDecimal depositAmt;
+    private BigDecimal withdrawAmt;
+    private int depositCount;
+    private int withdrawCount;
+    private List<DailyItem> days;
+
+    @Getter
+    @Builder
+    public static class DailyItem {
+        private LocalDate date;
+        private BigDecimal closingBalance;
+        private BigDecimal depositAmt;
+        private BigDecimal withdrawAmt;
+        private int depositCount;
+        private int withdrawCount;
+
+        public static DailyItem from(DailyBalance dailyBalance) {
+            return DailyItem.builder()
+                    .date(dailyBalance.getBalanceDate())
+                    .closingBalance(dailyBalance.getClosingBalance())
+                    .depositAmt(dailyBalance.getDepositAmt())
+                    .withdrawAmt(dailyBalance.getWithdrawAmt())
+                    .depositCount(dailyBalance.getDepositCount())
+                    .withdrawCount(dailyBalance.getWithdrawCount())
+                    .build();
+        }
+    }
+}
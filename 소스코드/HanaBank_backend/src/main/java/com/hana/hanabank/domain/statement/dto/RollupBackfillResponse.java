@@ -0,0 +1,13 @@
+package com.hana.hanabank.domain.statement.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RollupBackfillResponse {
+    private int chunkCount;
+    private long deletedRows;
+    private long insertedRows;
+    private long elapsedMillis;
+}
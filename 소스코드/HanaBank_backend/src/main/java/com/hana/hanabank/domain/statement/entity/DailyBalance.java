@@ -0,0 +1,59 @@
+package com.hana.hanabank.domain.statement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 일 마감 잔액/입출금 집계
+ * - 거래가 있는 날만 행이 생김 (거래 없는 날의 잔액은 직전 행의 마감 잔액과 같음)
+ * - 거래 처리(LedgerService) 시 같은 트랜잭션에서 갱신, 거래내역으로부터 재구성 가능 (DailyBalanceBackfillService)
+ */
+@Entity
+@Table(name = "hanabank_daily_balance")
+@IdClass(DailyBalanceId.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyBalance {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(name = "balance_date")
+    private LocalDate balanceDate;
+
+    @Column(name = "closing_balance", nullable = false, precision = 13, scale = 0)
+    private BigDecimal closingBalance;
+
+    @Column(name = "deposit_amt", nullable = false, precision = 15, scale = 0)
+    private BigDecimal depositAmt;
+
+    @Column(name = "withdraw_amt", nullable = false, precision = 15, scale = 0)
+    private BigDecimal withdrawAmt;
+
+    @Column(name = "deposit_count", nullable = false)
+    private Integer depositCount;
+
+    @Column(name = "withdraw_count", nullable = false)
+    private Integer withdrawCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 해당 일 첫 거래 전 잔액
+     */
+    public BigDecimal getOpeningBalance() {
+        return closingBalance.subtract(depositAmt).add(withdrawAmt);
+    }
+}
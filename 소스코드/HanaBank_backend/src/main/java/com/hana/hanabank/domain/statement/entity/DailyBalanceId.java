@@ -0,0 +1,18 @@
+package com.hana.hanabank.domain.statement.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DailyBalanceId implements Serializable {
+    private Long accountId;
+    private LocalDate balanceDate;
+}
@@ -0,0 +1,111 @@
+package com.hana.hanabank.domain.statement.repository;
+
+import com.hana.hanabank.domain.statement.entity.DailyBalance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일 집계 쓰기 전용 JDBC 저장소
+ * - accumulate 는 거래 처리 트랜잭션 안에서 호출되며, 계좌 행 잠금(잔액 갱신) 뒤에 실행되므로 같은 계좌 집계 행은 동시에 갱신되지 않음
+ * - DB 마다 upsert 문법이 달라 UPDATE 후 0 건이면 INSERT
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyBalanceJdbcRepository {
+
+    private static final String ACCUMULATE =
+            "UPDATE hanabank_daily_balance SET closing_balance = ?, " +
+            "deposit_amt = deposit_amt + ?, withdraw_amt = withdraw_amt + ?, " +
+            "deposit_count = deposit_count + ?, withdraw_count = withdraw_count + ?, updated_at = ? " +
+            "WHERE account_id = ? AND balance_date = ?";
+
+    private static final String INSERT =
+            "INSERT INTO hanabank_daily_balance (account_id, balance_date, closing_balance, deposit_amt, withdraw_amt, " +
+            "deposit_count, withdraw_count, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_RANGE =
+            "DELETE FROM hanabank_daily_balance WHERE account_id BETWEEN ? AND ?";
+
+    private static final String LOCK_ACCOUNT_RANGE =
+            "SELECT account_id FROM hanabank_account WHERE account_id BETWEEN ? AND ? FOR UPDATE";
+
+    private static final String ACCOUNT_ID_BOUNDS =
+            "SELECT MIN(account_id), MAX(account_id) FROM hanabank_account";
+
+    private static final String JOURNAL_RANGE =
+            "SELECT account_id, tran_date, inout_type, tran_amt, after_balance_amt, created_at, tran_id FROM hanabank_transaction " +
+            "WHERE account_id BETWEEN ? AND ? ORDER BY account_id, tran_date";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 거래 1건을 해당 일 집계에 반영
+     * @param delta        입금이면 양수, 출금이면 음수
+     * @param afterBalance 거래 후 잔액 (같은 계좌 거래는 직렬화되므로 그날의 최신 마감 잔액)
+     */
+    public void accumulate(Long accountId, LocalDate date, BigDecimal delta, BigDecimal afterBalance, LocalDateTime now) {
+        boolean deposit = delta.signum() >= 0;
+        BigDecimal depositAmt = deposit ? delta : BigDecimal.ZERO;
+        BigDecimal withdrawAmt = deposit ? BigDecimal.ZERO : delta.negate();
+        int depositCount = deposit ? 1 : 0;
+        int withdrawCount = deposit ? 0 : 1;
+
+        int updated = jdbcTemplate.update(ACCUMULATE, afterBalance, depositAmt, withdrawAmt,
+                depositCount, withdrawCount, Timestamp.valueOf(now), accountId, Date.valueOf(date));
+        if (updated == 0) {
+            jdbcTemplate.update(INSERT, accountId, Date.valueOf(date), afterBalance, depositAmt, withdrawAmt,
+                    depositCount, withdrawCount, Timestamp.valueOf(now));
+        }
+    }
+
+    /**
+     * 계좌 ID 범위 [min, max], 계좌가 없으면 null
+     */
+    public long[] findAccountIdBounds() {
+        return jdbcTemplate.query(ACCOUNT_ID_BOUNDS, rs -> {
+            rs.next();
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        });
+    }
+
+    /**
+     * 범위 내 계좌 행 잠금 - 재구성 중 같은 계좌의 신규 거래 반영을 대기시킴
+     */
+    public void lockAccounts(long fromAccountId, long toAccountId) {
+        jdbcTemplate.queryForList(LOCK_ACCOUNT_RANGE, Long.class, fromAccountId, toAccountId);
+    }
+
+    public int deleteRange(long fromAccountId, long toAccountId) {
+        return jdbcTemplate.update(DELETE_RANGE, fromAccountId, toAccountId);
+    }
+
+    /**
+     * 범위 내 거래내역을 계좌·일자 순으로 스트리밍
+     */
+    public void streamJournal(long fromAccountId, long toAccountId, RowCallbackHandler handler) {
+        jdbcTemplate.query(JOURNAL_RANGE, handler, fromAccountId, toAccountId);
+    }
+
+    public void insertAll(List<DailyBalance> rows) {
+        jdbcTemplate.batchUpdate(INSERT, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getAccountId());
+            ps.setDate(2, Date.valueOf(row.getBalanceDate()));
+            ps.setBigDecimal(3, row.getClosingBalance());
+            ps.setBigDecimal(4, row.getDepositAmt());
+            ps.setBigDecimal(5, row.getWithdrawAmt());
+            ps.setInt(6, row.getDepositCount());
+            ps.setInt(7, row.getWithdrawCount());
+            ps.setTimestamp(8, Timestamp.valueOf(row.getUpdatedAt()));
+        });
+    }
+}
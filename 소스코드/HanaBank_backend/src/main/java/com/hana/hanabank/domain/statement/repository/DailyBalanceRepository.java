@@ -0,0 +1,23 @@
+package com.hana.hanabank.domain.statement.repository;
+
+import com.hana.hanabank.domain.statement.entity.DailyBalance;
+import com.hana.hanabank.domain.statement.entity.DailyBalanceId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyBalanceRepository extends JpaRepository<DailyBalance, DailyBalanceId> {
+
+    // 기준일 이전(포함) 마지막 집계
+    Optional<DailyBalance> findTopByAccountIdAndBalanceDateLessThanEqualOrderByBalanceDateDesc(Long accountId, LocalDate date);
+
+    // 기준일 이후 첫 집계
+    Optional<DailyBalance> findTopByAccountIdAndBalanceDateGreaterThanOrderByBalanceDateAsc(Long accountId, LocalDate date);
+
+    // 기간 집계 (일자 오름차순)
+    List<DailyBalance> findByAccountIdAndBalanceDateBetweenOrderByBalanceDateAsc(Long accountId, LocalDate startDate, LocalDate endDate);
+}
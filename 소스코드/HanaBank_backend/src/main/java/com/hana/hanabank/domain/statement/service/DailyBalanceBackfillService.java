@@ -0,0 +1,237 @@
+package com.hana.hanabank.domain.statement.service;
+
+import com.hana.hanabank.domain.statement.dto.RollupBackfillResponse;
+import com.hana.hanabank.domain.statement.entity.DailyBalance;
+import com.hana.hanabank.domain.statement.repository.DailyBalanceJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 일 집계 재구성
+ * - 계좌 ID 범위를 청크로 나눠 병렬 처리, 청크마다 한 트랜잭션에서 계좌 잠금 → 기존 집계 삭제 → 거래내역 스트리밍 집계 → 배치 삽입
+ * - 일 마감 잔액은 그날 가장 늦게 생성된 거래의 거래후잔액 (거래후잔액이 없는 과거 데이터는 직전 마감 잔액 + 입금 - 출금)
+ *   생성 시각이 같으면 거래 ID 가 큰 거래, 생성 시각이 없는 거래는 생성 시각이 있는 거래보다 앞선 것으로 봄
+ */
+@Service
+@Slf4j
+public class DailyBalanceBackfillService {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final DailyBalanceJdbcRepository dailyBalanceJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DailyBalanceBackfillService(DailyBalanceJdbcRepository dailyBalanceJdbcRepository,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${hanabank.rollup.backfill-chunk-size:500}") int chunkSize,
+                                       @Value("${hanabank.rollup.backfill-parallelism:4}") int parallelism) {
+        if (chunkSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("재구성 청크 크기와 병렬도는 1 이상이어야 합니다.");
+        }
+        this.dailyBalanceJdbcRepository = dailyBalanceJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 전체 계좌 일 집계 재구성 (동시에 한 번만 실행)
+     */
+    public RollupBackfillResponse rebuildAll() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 일 집계 재구성이 진행 중입니다.");
+        }
+        try {
+            return rebuild();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private RollupBackfillResponse rebuild() {
+        long startMillis = System.currentTimeMillis();
+        long[] bounds = dailyBalanceJdbcRepository.findAccountIdBounds();
+        if (bounds == null) {
+            return RollupBackfillResponse.builder().elapsedMillis(0).build();
+        }
+
+        List<long[]> chunks = new ArrayList<>();
+        for (long from = bounds[0]; from <= bounds[1]; from += chunkSize) {
+            chunks.add(new long[]{from, Math.min(from + chunkSize - 1, bounds[1])});
+        }
+        log.info("일 집계 재구성 시작 - 계좌 ID {}~{}, 청크 {}개, 병렬 {}", bounds[0], bounds[1], chunks.size(), parallelism);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, chunks.size()));
+        long deleted = 0;
+        long inserted = 0;
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (long[] chunk : chunks) {
+                futures.add(executor.submit(() -> transactionTemplate.execute(status -> rebuildChunk(chunk[0], chunk[1]))));
+            }
+            for (Future<long[]> future : futures) {
+                long[] counts = future.get();
+                deleted += counts[0];
+                inserted += counts[1];
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일 집계 재구성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("일 집계 재구성에 실패했습니다: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsed = System.currentTimeMillis() - startMillis;
+        log.info("일 집계 재구성 완료 - 삭제 {}건, 생성 {}건, {}ms", deleted, inserted, elapsed);
+        return RollupBackfillResponse.builder()
+                .chunkCount(chunks.size())
+                .deletedRows(deleted)
+                .insertedRows(inserted)
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    /**
+     * @return {삭제 건수, 생성 건수}
+     */
+    private long[] rebuildChunk(long fromAccountId, long toAccountId) {
+        dailyBalanceJdbcRepository.lockAccounts(fromAccountId, toAccountId);
+        int deleted = dailyBalanceJdbcRepository.deleteRange(fromAccountId, toAccountId);
+
+        LocalDateTime now = LocalDateTime.now();
+        DayFolder folder = new DayFolder(now);
+        dailyBalanceJdbcRepository.streamJournal(fromAccountId, toAccountId, rs -> {
+            folder.add(rs.getLong("account_id"), rs.getDate("tran_date").toLocalDate(),
+                    "입금".equals(rs.getString("inout_type")), rs.getBigDecimal("tran_amt"),
+                    rs.getBigDecimal("after_balance_amt"), rs.getTimestamp("created_at"), rs.getString("tran_id"));
+        });
+        folder.finish();
+        return new long[]{deleted, folder.inserted};
+    }
+
+    /**
+     * 계좌·일자 순으로 들어오는 거래를 하루 단위로 접어 배치 삽입
+     */
+    private class DayFolder {
+        private final LocalDateTime now;
+        private final List<DailyBalance> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        private long inserted;
+
+        private Long accountId;
+        private LocalDate date;
+        private BigDecimal previousClosing;
+        private BigDecimal depositAmt;
+        private BigDecimal withdrawAmt;
+        private int depositCount;
+        private int withdrawCount;
+        private BigDecimal lastAfterBalance;
+        private Timestamp lastCreatedAt;
+        private String lastTranId;
+
+        DayFolder(LocalDateTime now) {
+            this.now = now;
+        }
+
+        void add(long rowAccountId, LocalDate rowDate, boolean deposit, BigDecimal amount,
+                 BigDecimal afterBalance, Timestamp createdAt, String tranId) {
+            if (accountId == null || accountId != rowAccountId || !date.equals(rowDate)) {
+                if (accountId != null) {
+                    closeDay();
+                    if (accountId != rowAccountId) {
+                        previousClosing = null;
+                    }
+                }
+                accountId = rowAccountId;
+                date = rowDate;
+                depositAmt = BigDecimal.ZERO;
+                withdrawAmt = BigDecimal.ZERO;
+                depositCount = 0;
+                withdrawCount = 0;
+                lastAfterBalance = null;
+                lastCreatedAt = null;
+                lastTranId = null;
+            }
+            if (deposit) {
+                depositAmt = depositAmt.add(amount);
+                depositCount++;
+            } else {
+                withdrawAmt = withdrawAmt.add(amount);
+                withdrawCount++;
+            }
+            if (afterBalance != null && (lastAfterBalance == null || isLaterThanLast(createdAt, tranId))) {
+                lastAfterBalance = afterBalance;
+                lastCreatedAt = createdAt;
+                lastTranId = tranId;
+            }
+        }
+
+        /**
+         * (생성 시각, 거래 ID) 순으로 지금까지 고른 거래보다 늦은지 - 생성 시각이 없으면 가장 이른 것으로 봄
+         */
+        private boolean isLaterThanLast(Timestamp createdAt, String tranId) {
+            if (createdAt != null && lastCreatedAt != null) {
+                int order = createdAt.compareTo(lastCreatedAt);
+                if (order != 0) {
+                    return order > 0;
+                }
+            } else if (createdAt != null || lastCreatedAt != null) {
+                return createdAt != null;
+            }
+            return tranId.compareTo(lastTranId) > 0;
+        }
+
+        void finish() {
+            if (accountId != null) {
+                closeDay();
+            }
+            flush();
+        }
+
+        private void closeDay() {
+            BigDecimal closing = lastAfterBalance != null
+                    ? lastAfterBalance
+                    : (previousClosing != null ? previousClosing : BigDecimal.ZERO).add(depositAmt).subtract(withdrawAmt);
+            batch.add(DailyBalance.builder()
+                    .accountId(accountId)
+                    .balanceDate(date)
+                    .closingBalance(closing)
+                    .depositAmt(depositAmt)
+                    .withdrawAmt(withdrawAmt)
+                    .depositCount(depositCount)
+                    .withdrawCount(withdrawCount)
+                    .updatedAt(now)
+                    .build());
+            previousClosing = closing;
+            if (batch.size() >= INSERT_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!batch.isEmpty()) {
+                dailyBalanceJdbcRepository.insertAll(batch);
+                inserted += batch.size();
+                batch.clear();
+            }
+        }
+    }
+}
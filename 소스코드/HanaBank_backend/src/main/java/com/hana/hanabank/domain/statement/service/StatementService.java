@@ -0,0 +1,113 @@
+package com.hana.hanabank.domain.statement.service;
+
+import com.hana.hanabank.domain.account.entity.Account;
+import com.hana.hanabank.domain.account.repository.AccountRepository;
+import com.hana.hanabank.domain.statement.dto.BalanceAtDateResponse;
+import com.hana.hanabank.domain.statement.dto.PeriodSummaryResponse;
+import com.hana.hanabank.domain.statement.entity.DailyBalance;
+import com.hana.hanabank.domain.statement.repository.DailyBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일 집계(hanabank_daily_balance) 기반 잔액/기간 요약 조회
+ * - 거래내역을 훑지 않고 기간 내 일 집계 행만 읽음
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatementService {
+
+    private static final int MAX_PERIOD_DAYS = 366 * 5;
+
+    private final AccountRepository accountRepository;
+    private final DailyBalanceRepository dailyBalanceRepository;
+
+    /**
+     * 기준일 마감 잔액
+     */
+    public BalanceAtDateResponse getBalanceAt(String accountNum, LocalDate date) {
+        Account account = findAccount(accountNum);
+        LocalDate target = date != null ? date : LocalDate.now();
+        return BalanceAtDateResponse.builder()
+                .accountNum(account.getAccountNum())
+                .date(target)
+                .balance(balanceAt(account, target))
+                .build();
+    }
+
+    /**
+     * 기간 입출금 요약 + 일별 집계
+     */
+    public PeriodSummaryResponse getPeriodSummary(String accountNum, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("조회 시작일과 종료일은 필수입니다.");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        if (startDate.plusDays(MAX_PERIOD_DAYS).isBefore(endDate)) {
+            throw new IllegalArgumentException("조회 기간은 최대 5년입니다.");
+        }
+        Account account = findAccount(accountNum);
+
+        List<DailyBalance> days = dailyBalanceRepository
+                .findByAccountIdAndBalanceDateBetweenOrderByBalanceDateAsc(account.getAccountId(), startDate, endDate);
+
+        BigDecimal depositAmt = BigDecimal.ZERO;
+        BigDecimal withdrawAmt = BigDecimal.ZERO;
+        int depositCount = 0;
+        int withdrawCount = 0;
+        for (DailyBalance day : days) {
+            depositAmt = depositAmt.add(day.getDepositAmt());
+            withdrawAmt = withdrawAmt.add(day.getWithdrawAmt());
+            depositCount += day.getDepositCount();
+            withdrawCount += day.getWithdrawCount();
+        }
+
+        BigDecimal openingBalance = days.isEmpty()
+                ? balanceAt(account, endDate)
+                : days.get(0).getOpeningBalance();
+        BigDecimal closingBalance = days.isEmpty()
+                ? openingBalance
+                : days.get(days.size() - 1).getClosingBalance();
+
+        return PeriodSummaryResponse.builder()
+                .accountNum(account.getAccountNum())
+                .startDate(startDate)
+                .endDate(endDate)
+                .openingBalance(openingBalance)
+                .closingBalance(closingBalance)
+                .depositAmt(depositAmt)
+                .withdrawAmt(withdrawAmt)
+                .depositCount(depositCount)
+                .withdrawCount(withdrawCount)
+                .days(days.stream().map(PeriodSummaryResponse.DailyItem::from).toList())
+                .build();
+    }
+
+    /**
+     * 기준일 마감 잔액
+     * - 기준일 이전 마지막 집계의 마감 잔액
+     * - 없으면 기준일 이후 첫 집계의 시작 잔액 (첫 거래 전 잔액)
+     * - 거래가 한 번도 없으면 현재 잔액
+     */
+    private BigDecimal balanceAt(Account account, LocalDate date) {
+        Long accountId = account.getAccountId();
+        return dailyBalanceRepository.findTopByAccountIdAndBalanceDateLessThanEqualOrderByBalanceDateDesc(accountId, date)
+                .map(DailyBalance::getClosingBalance)
+                .or(() -> dailyBalanceRepository.findTopByAccountIdAndBalanceDateGreaterThanOrderByBalanceDateAsc(accountId, date)
+                        .map(DailyBalance::getOpeningBalance))
+                .orElse(account.getBalanceAmt());
+    }
+
+    private Account findAccount(String accountNum) {
+        return accountRepository.findByAccountNum(accountNum)
+                .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,109 @@
+package com.hana.hanabank.domain.transaction.controller;
+
+import com.hana.hanabank.domain.transaction.dto.LedgerPostingRequest;
+import com.hana.hanabank.domain.transaction.dto.LedgerPostingResponse;
+import com.hana.hanabank.domain.transaction.dto.LedgerTransferRequest;
+import com.hana.hanabank.domain.transaction.dto.TransactionHistoryResponse;
+import com.hana.hanabank.domain.transaction.service.LedgerService;
+import com.hana.hanabank.domain.transaction.service.TransactionHistoryService;
+import com.hana.hanabank.global.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "Transaction", description = "입출금/이체/거래내역 API")
+@RestController
+@RequestMapping("/api/transactions")
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionController {
+
+    private final LedgerService ledgerService;
+    private final TransactionHistoryService transactionHistoryService;
+
+    @Operation(summary = "입금", description = "계좌에 입금하고 거래내역을 기록합니다.")
+    @PostMapping("/deposit")
+    public ResponseEntity<ApiResponse<LedgerPostingResponse>> deposit(@RequestBody LedgerPostingRequest request) {
+        try {
+            LedgerPostingResponse response = ledgerService.deposit(request);
+            return ResponseEntity.ok(ApiResponse.success("입금이 완료되었습니다.", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("입금 실패: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("입금 처리에 실패했습니다."));
+        }
+    }
+
+    @Operation(summary = "출금", description = "잔액 범위 안에서 출금하고 거래내역을 기록합니다.")
+    @PostMapping("/withdraw")
+    public ResponseEntity<ApiResponse<LedgerPostingResponse>> withdraw(@RequestBody LedgerPostingRequest request) {
+        try {
+            LedgerPostingResponse response = ledgerService.withdraw(request);
+            return ResponseEntity.ok(ApiResponse.success("출금이 완료되었습니다.", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("출금 실패: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("출금 처리에 실패했습니다."));
+        }
+    }
+
+    @Operation(summary = "계좌 이체", description = "하나은행 계좌 간 이체를 하나의 트랜잭션으로 처리합니다.")
+    @PostMapping("/transfer")
+    public ResponseEntity<ApiResponse<List<LedgerPostingResponse>>> transfer(@RequestBody LedgerTransferRequest request) {
+        try {
+            List<LedgerPostingResponse> response = ledgerService.transfer(request);
+            return ResponseEntity.ok(ApiResponse.success("이체가 완료되었습니다.", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("이체 실패: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("이체 처리에 실패했습니다."));
+        }
+    }
+
+    @Operation(summary = "거래내역 조회", description = "계좌 거래내역을 최신순으로 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+    @GetMapping("/{accountNum}/history")
+    public ResponseEntity<ApiResponse<TransactionHistoryResponse>> getHistory(
+            @PathVariable String accountNum,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            TransactionHistoryResponse response =
+                    transactionHistoryService.getHistory(accountNum, startDate, endDate, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("거래내역 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("거래내역 조회에 실패했습니다."));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.hana.hanabank.domain.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerPostingRequest {
+    private String tranId; // 선택 - 지정 시 같은 거래번호 재요청은 기존 결과 반환
+    private String accountNum;
+    private BigDecimal tranAmt;
+    private String tranType; // 미입력 시 "이체"
+    private String printContent;
+    private String branchName;
+    private String reqClientName;
+    private String counterpartBankCodeStd; // 상대 은행 코드 (미입력 시 하나은행)
+    private String counterpartAccountNum; // 상대 계좌번호 (미입력 시 본인 계좌)
+}
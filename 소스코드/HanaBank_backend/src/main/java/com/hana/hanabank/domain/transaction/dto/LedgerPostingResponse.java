@@ -0,0 +1,32 @@
+package com.hana.hanabank.domain.transaction.dto;
+
+import com.hana.hanabank.domain.transaction.entity.Transaction;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class LedgerPostingResponse {
+    private String tranId;
+    private String accountNum;
+    private String inoutType;
+    private BigDecimal tranAmt;
+    private BigDecimal afterBalanceAmt;
+    private LocalDate tranDate;
+    private String tranTime;
+
+    public static LedgerPostingResponse from(Transaction transaction, String accountNum) {
+        return LedgerPostingResponse.builder()
+                .tranId(transaction.getTranId())
+                .accountNum(accountNum)
+                .inoutType(transaction.getInoutType())
+                .tranAmt(transaction.getTranAmt())
+                .afterBalanceAmt(transaction.getAfterBalanceAmt())
+                .tranDate(transaction.getTranDate())
+                .tranTime(transaction.getTranTime())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.hana.hanabank.domain.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerTransferRequest {
+    private String tranId; // 선택 - 출금/입금 거래번호는 tranId-W, tranId-D
+    private String fromAccountNum;
+    private String toAccountNum;
+    private BigDecimal tranAmt;
+    private String printContent;
+    private String reqClientName;
+}
@@ -0,0 +1,54 @@
+package com.hana.hanabank.domain.transaction.dto;
+
+import com.hana.hanabank.domain.transaction.entity.Transaction;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 거래내역 키셋 페이지
+ * - nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회, 마지막 페이지면 null
+ */
+@Getter
+@Builder
+public class TransactionHistoryResponse {
+    private String accountNum;
+    private List<TransactionItem> transactions;
+    private boolean hasNext;
+    private String nextCursor;
+
+    @Getter
+    @Builder
+    public static class TransactionItem {
+        private String tranId;
+        private LocalDate tranDate;
+        private String tranTime;
+        private String inoutType;
+        private String tranType;
+        private String printContent;
+        private BigDecimal tranAmt;
+        private BigDecimal afterBalanceAmt;
+        private String branchName;
+        private String wdBankCodeStd;
+        private String wdAccountNum;
+
+        public static TransactionItem from(Transaction transaction) {
+            return TransactionItem.builder()
+                    .tranId(transaction.getTranId())
+                    .tranDate(transaction.getTranDate())
+                    .tranTime(transaction.getTranTime())
+                    .inoutType(transaction.getInoutType())
+                    .tranType(transaction.getTranType())
+                    .printContent(transaction.getPrintContent())
+                    .tranAmt(transaction.getTranAmt())
+                    .afterBalanceAmt(transaction.getAfterBalanceAmt())
+                    .branchName(transaction.getBranchName())
+                    .wdBankCodeStd(transaction.getWdBankCodeStd())
+                    .wdAccountNum(transaction.getWdAccountNum())
+                    .build();
+        }
+    }
+}
@@ -13,8 +13,15 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * 거래내역
+ * - 계좌별 최신순 조회는 (account_id, tran_date, tran_time, tran_id) 인덱스를 따라 키셋(seek) 방식으로 읽음
+ */
 @Entity
-@Table(name = "hanabank_transaction")
+@Table(name = "hanabank_transaction", indexes = {
+        @Index(name = "idx_transaction_account_seek", columnList = "account_id, tran_date, tran_time, tran_id"),
+        @Index(name = "idx_transaction_wd_account_date", columnList = "wd_account_num, tran_date")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,92 @@
+package com.hana.hanabank.domain.transaction.repository;
+
+import com.hana.hanabank.domain.transaction.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 원장 쓰기 전용 JDBC 저장소
+ * - 잔액 증감/거래내역 추가는 거래마다 실행되는 경로라 JPQL 해석·엔티티 관리 비용 없이 고정 SQL 로 실행
+ * - JpaTransactionManager 가 같은 커넥션을 바인딩하므로 JPA 트랜잭션 안에서 함께 커밋/롤백됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class LedgerJdbcRepository {
+
+    private static final String FIND_ACCOUNT_ID =
+            "SELECT account_id FROM hanabank_account WHERE account_num = ?";
+
+    private static final String APPLY_DELTA =
+            "UPDATE hanabank_account SET balance_amt = balance_amt + ?, last_tran_date = ?, updated_at = ? " +
+            "WHERE account_id = ? AND activity_type = '1' AND balance_amt + ? >= 0";
+
+    private static final String FIND_BALANCE =
+            "SELECT balance_amt FROM hanabank_account WHERE account_id = ?";
+
+    private static final String FIND_ACTIVITY_TYPE =
+            "SELECT activity_type FROM hanabank_account WHERE account_id = ?";
+
+    private static final String INSERT_JOURNAL =
+            "INSERT INTO hanabank_transaction (tran_id, account_id, tran_date, tran_time, inout_type, tran_type, " +
+            "print_content, tran_amt, after_balance_amt, branch_name, wd_bank_code_std, wd_account_num, " +
+            "req_client_name, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Long> findAccountId(String accountNum) {
+        List<Long> ids = jdbcTemplate.queryForList(FIND_ACCOUNT_ID, Long.class, accountNum);
+        return ids.isEmpty() ? Optional.empty() : Optional.of(ids.get(0));
+    }
+
+    /**
+     * 잔액 증감 (원자적 갱신)
+     * - DB 에서 현재 잔액에 delta 를 더하므로 동시 거래에서도 갱신이 유실되지 않음
+     * - 결과 잔액이 음수가 되거나 활성 계좌가 아니면 0 건 갱신
+     */
+    public int applyBalanceDelta(Long accountId, BigDecimal delta, String tranDate, LocalDateTime now) {
+        return jdbcTemplate.update(APPLY_DELTA, delta, tranDate, Timestamp.valueOf(now), accountId, delta);
+    }
+
+    /**
+     * 현재 잔액 (갱신 직후 같은 트랜잭션에서 조회하면 본인이 잡은 행 잠금 아래의 값)
+     */
+    public Optional<BigDecimal> findBalance(Long accountId) {
+        List<BigDecimal> balances = jdbcTemplate.queryForList(FIND_BALANCE, BigDecimal.class, accountId);
+        return balances.isEmpty() ? Optional.empty() : Optional.of(balances.get(0));
+    }
+
+    public Optional<String> findActivityType(Long accountId) {
+        List<String> types = jdbcTemplate.queryForList(FIND_ACTIVITY_TYPE, String.class, accountId);
+        return types.isEmpty() ? Optional.empty() : Optional.of(types.get(0));
+    }
+
+    /**
+     * 거래내역 추가 (append-only)
+     */
+    public void insertJournal(Transaction transaction) {
+        jdbcTemplate.update(INSERT_JOURNAL,
+                transaction.getTranId(),
+                transaction.getAccountId(),
+                Date.valueOf(transaction.getTranDate()),
+                transaction.getTranTime(),
+                transaction.getInoutType(),
+                transaction.getTranType(),
+                transaction.getPrintContent(),
+                transaction.getTranAmt(),
+                transaction.getAfterBalanceAmt(),
+                transaction.getBranchName(),
+                transaction.getWdBankCodeStd(),
+                transaction.getWdAccountNum(),
+                transaction.getReqClientName(),
+                Timestamp.valueOf(transaction.getCreatedAt()),
+                Timestamp.valueOf(transaction.getUpdatedAt()));
+    }
+}
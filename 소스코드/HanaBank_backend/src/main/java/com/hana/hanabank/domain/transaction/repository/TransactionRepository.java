@@ -39,15 +39,51 @@ public interface TransactionRepository extends JpaRepository<Transaction, String
     List<Transaction> findByWdAccountNumAndInoutType(String wdAccountNum, String inoutType);
 
     // 최신 거래내역 조회 (내림차순)
+    /** @deprecated 계좌 전체 거래내역을 한 번에 읽음 - findPageByAccountId/findPageByAccountIdAfter 사용 */
+    @Deprecated
     List<Transaction> findByAccountIdOrderByTranDateDescTranTimeDesc(Long accountId);
 
     // 오래된 거래내역 조회 (오름차순)
     List<Transaction> findByAccountIdOrderByTranDateAscTranTimeAsc(Long accountId);
     
     // 페이징 처리된 거래내역 조회
+    /** @deprecated offset 페이징은 뒤 페이지일수록 건너뛸 행이 늘어남 - findPageByAccountIdAfter 사용 */
+    @Deprecated
     Page<Transaction> findByAccountIdOrderByTranDateDescTranTimeDesc(Long accountId, Pageable pageable);
     
     // 최근 N개 거래내역 조회
     @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId ORDER BY t.tranDate DESC, t.tranTime DESC LIMIT :limit")
     List<Transaction> findRecentTransactions(@Param("accountId") Long accountId, @Param("limit") int limit);
+
+    /**
+     * 키셋 페이징 - 첫 페이지 (최신순)
+     * - idx_transaction_account_seek 인덱스 순서 그대로 읽고 pageable 크기만큼만 가져옴
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId " +
+            "AND t.tranDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY t.tranDate DESC, t.tranTime DESC, t.tranId DESC")
+    List<Transaction> findPageByAccountId(@Param("accountId") Long accountId,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate,
+                                          Pageable pageable);
+
+    /**
+     * 키셋 페이징 - 커서 다음 페이지 (최신순)
+     * - 마지막으로 받은 (tranDate, tranTime, tranId) 보다 앞선 거래부터 읽으므로 깊은 페이지도 첫 페이지와 비용이 같음
+     * - OR 조건만으로는 인덱스 범위를 좁히지 못하므로 tranDate <= :tranDate 를 따로 두어 범위 탐색의 상한으로 사용
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId " +
+            "AND t.tranDate BETWEEN :startDate AND :endDate " +
+            "AND t.tranDate <= :tranDate " +
+            "AND (t.tranDate < :tranDate " +
+            "OR (t.tranDate = :tranDate AND t.tranTime < :tranTime) " +
+            "OR (t.tranDate = :tranDate AND t.tranTime = :tranTime AND t.tranId < :tranId)) " +
+            "ORDER BY t.tranDate DESC, t.tranTime DESC, t.tranId DESC")
+    List<Transaction> findPageByAccountIdAfter(@Param("accountId") Long accountId,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate,
+                                               @Param("tranDate") LocalDate tranDate,
+                                               @Param("tranTime") String tranTime,
+                                               @Param("tranId") String tranId,
+                                               Pageable pageable);
 }
@@ -0,0 +1,80 @@
+package com.hana.hanabank.domain.transaction.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 계좌별 분할 잠금 (인스턴스 내 직렬화)
+ * - 계좌 ID 를 고정 개수의 잠금 중 하나에 대응시켜 같은 계좌 거래만 순서대로 처리하고 다른 계좌는 서로 막지 않음
+ * - DB 행 잠금 대기를 인스턴스 안에서 먼저 줄이는 용도이며, 정합성은 원자적 잔액 증감 쿼리가 보장
+ * - 두 계좌를 잡을 때는 항상 잠금 번호 순서로 획득하여 교착을 방지
+ */
+@Component
+public class AccountLockStripes {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+    private final long timeoutMillis;
+
+    public AccountLockStripes(@Value("${hanabank.ledger.lock-stripes:1024}") int stripes,
+                              @Value("${hanabank.ledger.lock-timeout-ms:3000}") long timeoutMillis) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public <T> T withLock(Long accountId, Supplier<T> action) {
+        ReentrantLock lock = locks[indexOf(accountId)];
+        acquire(lock);
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public <T> T withLocks(Long firstAccountId, Long secondAccountId, Supplier<T> action) {
+        int first = indexOf(firstAccountId);
+        int second = indexOf(secondAccountId);
+        if (first == second) {
+            return withLock(firstAccountId, action);
+        }
+        ReentrantLock lower = locks[Math.min(first, second)];
+        ReentrantLock higher = locks[Math.max(first, second)];
+        acquire(lower);
+        try {
+            acquire(higher);
+            try {
+                return action.get();
+            } finally {
+                higher.unlock();
+            }
+        } finally {
+            lower.unlock();
+        }
+    }
+
+    private int indexOf(Long accountId) {
+        int h = Long.hashCode(accountId);
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void acquire(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("계좌 거래 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("계좌 거래 대기 중 중단되었습니다.", e);
+        }
+    }
+}
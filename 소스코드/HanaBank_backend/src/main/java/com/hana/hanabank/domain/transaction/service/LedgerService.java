@@ -0,0 +1,248 @@
+package com.hana.hanabank.domain.transaction.service;
+
+import com.hana.hanabank.domain.feed.repository.ChangeFeedJdbcRepository;
+import com.hana.hanabank.domain.feed.service.ChangeFeedRelay;
+import com.hana.hanabank.domain.statement.repository.DailyBalanceJdbcRepository;
+import com.hana.hanabank.domain.transaction.dto.LedgerPostingRequest;
+import com.hana.hanabank.domain.transaction.dto.LedgerPostingResponse;
+import com.hana.hanabank.domain.transaction.dto.LedgerTransferRequest;
+import com.hana.hanabank.domain.transaction.entity.Transaction;
+import com.hana.hanabank.domain.transaction.repository.LedgerJdbcRepository;
+import com.hana.hanabank.domain.transaction.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 잔액 원장 처리
+ * - 잔액은 DB 에서 원자적으로 증감하고(잔액 >= 0 조건), 같은 트랜잭션에서 거래내역(Transaction)과 일 집계를 갱신
+ * - 계좌별 분할 잠금으로 같은 계좌 거래만 인스턴스 안에서 직렬화, 잠금은 커밋 이후 해제
+ * - 거래번호(tranId)를 지정하면 재요청 시 새로 처리하지 않고 기존 거래 결과를 반환
+ *   (동시 요청이 조회를 함께 통과하면 거래내역 PK 위반으로 늦은 쪽이 롤백되고, 먼저 커밋된 결과를 반환)
+ * - 거래마다 실행되는 경로라 JPA 대신 LedgerJdbcRepository 의 고정 SQL 사용
+ * - 같은 트랜잭션에서 변경 피드 아웃박스에도 추가하고, 커밋 후 릴레이에 알려 바로 발행되게 함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerService {
+
+    public static final String DEPOSIT = "입금";
+    public static final String WITHDRAW = "출금";
+
+    private static final String HANA_BANK_CODE = "081";
+    private static final String DEFAULT_TRAN_TYPE = "이체";
+    private static final String DEFAULT_CLIENT_NAME = "하나은행";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final TransactionRepository transactionRepository;
+    private final DailyBalanceJdbcRepository dailyBalanceJdbcRepository;
+    private final ChangeFeedJdbcRepository changeFeedJdbcRepository;
+    private final ChangeFeedRelay changeFeedRelay;
+    private final AccountLockStripes lockStripes;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 입금
+     */
+    public LedgerPostingResponse deposit(LedgerPostingRequest request) {
+        return post(request, DEPOSIT);
+    }
+
+    /**
+     * 출금 (잔액 부족 시 IllegalStateException)
+     */
+    public LedgerPostingResponse withdraw(LedgerPostingRequest request) {
+        return post(request, WITHDRAW);
+    }
+
+    /**
+     * 계좌 간 이체 - 출금/입금을 하나의 트랜잭션으로 처리
+     */
+    public List<LedgerPostingResponse> transfer(LedgerTransferRequest request) {
+        BigDecimal amount = requireAmount(request.getTranAmt());
+        Long fromId = findAccountId(request.getFromAccountNum());
+        Long toId = findAccountId(request.getToAccountNum());
+        if (fromId.equals(toId)) {
+            throw new IllegalArgumentException("출금계좌와 입금계좌가 같습니다.");
+        }
+
+        boolean replayable = request.getTranId() != null;
+        String tranId = replayable ? request.getTranId() : newTranId();
+        Leg withdrawLeg = new Leg(tranId + "-W", replayable, fromId, request.getFromAccountNum(), amount.negate(),
+                WITHDRAW, DEFAULT_TRAN_TYPE, request.getPrintContent(), null, request.getReqClientName(),
+                HANA_BANK_CODE, request.getToAccountNum());
+        Leg depositLeg = new Leg(tranId + "-D", replayable, toId, request.getToAccountNum(), amount,
+                DEPOSIT, DEFAULT_TRAN_TYPE, request.getPrintContent(), null, request.getReqClientName(),
+                HANA_BANK_CODE, request.getFromAccountNum());
+
+        // DB 행 잠금도 계좌 ID 순서로 잡아 교착 방지
+        boolean withdrawFirst = fromId < toId;
+        List<LedgerPostingResponse> responses;
+        try {
+            responses = lockStripes.withLocks(fromId, toId, () -> transactionTemplate.execute(status -> {
+                LedgerPostingResponse first = apply(withdrawFirst ? withdrawLeg : depositLeg);
+                LedgerPostingResponse second = apply(withdrawFirst ? depositLeg : withdrawLeg);
+                return withdrawFirst ? List.of(first, second) : List.of(second, first);
+            }));
+        } catch (DataIntegrityViolationException e) {
+            return List.of(replayAfterConflict(withdrawLeg, e), replayAfterConflict(depositLeg, e));
+        }
+        changeFeedRelay.signal();
+        return responses;
+    }
+
+    private LedgerPostingResponse post(LedgerPostingRequest request, String inoutType) {
+        BigDecimal amount = requireAmount(request.getTranAmt());
+        Long accountId = findAccountId(request.getAccountNum());
+
+        Leg leg = new Leg(
+                request.getTranId() != null ? request.getTranId() : newTranId(),
+                request.getTranId() != null,
+                accountId,
+                request.getAccountNum(),
+                DEPOSIT.equals(inoutType) ? amount : amount.negate(),
+                inoutType,
+                request.getTranType() != null ? request.getTranType() : DEFAULT_TRAN_TYPE,
+                request.getPrintContent(),
+                request.getBranchName(),
+                request.getReqClientName(),
+                request.getCounterpartBankCodeStd() != null ? request.getCounterpartBankCodeStd() : HANA_BANK_CODE,
+                request.getCounterpartAccountNum() != null ? request.getCounterpartAccountNum() : request.getAccountNum());
+
+        LedgerPostingResponse response;
+        try {
+            response = lockStripes.withLock(accountId, () -> transactionTemplate.execute(status -> apply(leg)));
+        } catch (DataIntegrityViolationException e) {
+            return replayAfterConflict(leg, e);
+        }
+        changeFeedRelay.signal();
+        return response;
+    }
+
+    /**
+     * 트랜잭션 안에서 한 계좌의 잔액 증감 + 거래내역 추가 + 일 집계/변경 피드 아웃박스 반영
+     */
+    private LedgerPostingResponse apply(Leg leg) {
+        // 새로 발급한 거래번호는 중복될 수 없으므로 요청자가 지정한 경우에만 조회
+        if (leg.replayable()) {
+            Transaction existing = transactionRepository.findById(leg.tranId()).orElse(null);
+            if (existing != null) {
+                return replay(existing, leg);
+            }
+        }
+
+        if (leg.counterpartAccountNum().length() > 16) {
+            throw new IllegalArgumentException("상대 계좌번호는 16자리 이하여야 합니다.");
+        }
+
+        Long accountId = leg.accountId();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = ledgerJdbcRepository.applyBalanceDelta(accountId, leg.delta(), now.format(DATE_FORMAT), now);
+        if (updated == 0) {
+            throw rejection(accountId);
+        }
+        BigDecimal afterBalance = ledgerJdbcRepository.findBalance(accountId)
+                .orElseThrow(() -> new IllegalStateException("계좌를 찾을 수 없습니다."));
+
+        Transaction transaction = Transaction.builder()
+                .tranId(leg.tranId())
+                .accountId(accountId)
+                .tranDate(now.toLocalDate())
+                .tranTime(now.format(TIME_FORMAT))
+                .inoutType(leg.inoutType())
+                .tranType(truncate(leg.tranType(), 10))
+                .printContent(truncate(leg.printContent(), 20))
+                .tranAmt(leg.delta().abs())
+                .afterBalanceAmt(afterBalance)
+                .branchName(truncate(leg.branchName(), 20))
+                .wdBankCodeStd(leg.counterpartBankCodeStd())
+                .wdAccountNum(leg.counterpartAccountNum())
+                .reqClientName(truncate(leg.reqClientName() != null ? leg.reqClientName() : DEFAULT_CLIENT_NAME, 20))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        ledgerJdbcRepository.insertJournal(transaction);
+        dailyBalanceJdbcRepository.accumulate(accountId, transaction.getTranDate(), leg.delta(), afterBalance, now);
+        changeFeedJdbcRepository.insertOutbox(transaction, leg.accountNum());
+
+        return LedgerPostingResponse.from(transaction, leg.accountNum());
+    }
+
+    /**
+     * 거래내역 삽입이 무결성 제약에 걸린 경우 (트랜잭션은 이미 롤백됨)
+     * - 조회 시점에는 없던 같은 거래번호를 다른 인스턴스가 먼저 커밋했으면 저장된 결과를 반환
+     * - 그 밖의 제약 위반은 그대로 전달
+     */
+    private LedgerPostingResponse replayAfterConflict(Leg leg, DataIntegrityViolationException e) {
+        if (!leg.replayable()) {
+            throw e;
+        }
+        Transaction existing = transactionRepository.findById(leg.tranId()).orElseThrow(() -> e);
+        return replay(existing, leg);
+    }
+
+    private LedgerPostingResponse replay(Transaction existing, Leg leg) {
+        if (!existing.getAccountId().equals(leg.accountId())) {
+            throw new IllegalArgumentException("이미 다른 계좌에 사용된 거래번호입니다: " + leg.tranId());
+        }
+        log.info("중복 거래 요청 - tranId: {}", leg.tranId());
+        return LedgerPostingResponse.from(existing, leg.accountNum());
+    }
+
+    private RuntimeException rejection(Long accountId) {
+        String activityType = ledgerJdbcRepository.findActivityType(accountId).orElse(null);
+        if (activityType == null) {
+            return new IllegalArgumentException("계좌를 찾을 수 없습니다.");
+        }
+        if (!"1".equals(activityType)) {
+            return new IllegalStateException("거래할 수 없는 계좌입니다.");
+        }
+        return new IllegalStateException("잔액이 부족합니다.");
+    }
+
+    private Long findAccountId(String accountNum) {
+        if (accountNum == null || accountNum.isBlank()) {
+            throw new IllegalArgumentException("계좌번호는 필수입니다.");
+        }
+        return ledgerJdbcRepository.findAccountId(accountNum)
+                .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 거래금액 검증 - 0보다 큰 12자리 이하 정수 (hanabank_transaction.tran_amt)
+     */
+    private BigDecimal requireAmount(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException("거래금액은 0보다 커야 합니다.");
+        }
+        BigDecimal normalized = amount.stripTrailingZeros();
+        if (normalized.scale() > 0 || normalized.precision() - normalized.scale() > 12) {
+            throw new IllegalArgumentException("거래금액은 12자리 이하의 정수여야 합니다.");
+        }
+        return normalized.setScale(0);
+    }
+
+    private String newTranId() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private record Leg(String tranId, boolean replayable, Long accountId, String accountNum, BigDecimal delta, String inoutType, String tranType,
+                       String printContent, String branchName, String reqClientName,
+                       String counterpartBankCodeStd, String counterpartAccountNum) {
+    }
+}
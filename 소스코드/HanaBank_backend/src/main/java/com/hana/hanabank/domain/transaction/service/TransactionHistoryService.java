@@ -0,0 +1,107 @@
+package com.hana.hanabank.domain.transaction.service;
+
+import com.hana.hanabank.domain.account.entity.Account;
+import com.hana.hanabank.domain.account.repository.AccountRepository;
+import com.hana.hanabank.domain.transaction.dto.TransactionHistoryResponse;
+import com.hana.hanabank.domain.transaction.entity.Transaction;
+import com.hana.hanabank.domain.transaction.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 거래내역 조회 (키셋 페이징)
+ * - 커서는 마지막 거래의 (tranDate, tranTime, tranId) 를 인코딩한 값, offset 없이 인덱스 위치에서 바로 이어 읽음
+ * - 한 번에 size + 1 건만 읽어 다음 페이지 여부를 판단하므로 계좌 거래 수와 무관하게 메모리 사용이 일정
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TransactionHistoryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+    private static final DateTimeFormatter CURSOR_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int CURSOR_PREFIX_LENGTH = 14; // yyyyMMdd + HHmmss
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+
+    /**
+     * 계좌 거래내역 최신순 조회
+     * @param startDate 조회 시작일 (null 이면 제한 없음)
+     * @param endDate   조회 종료일 (null 이면 제한 없음)
+     * @param cursor    이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size      페이지 크기 (기본 20, 최대 100)
+     */
+    public TransactionHistoryResponse getHistory(String accountNum, LocalDate startDate, LocalDate endDate,
+                                                 String cursor, Integer size) {
+        Account account = accountRepository.findByAccountNum(accountNum)
+                .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
+
+        LocalDate from = startDate != null ? startDate : MIN_DATE;
+        LocalDate to = endDate != null ? endDate : MAX_DATE;
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Transaction> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionRepository.findPageByAccountId(account.getAccountId(), from, to, limit);
+        } else {
+            Cursor position = Cursor.decode(cursor);
+            rows = transactionRepository.findPageByAccountIdAfter(account.getAccountId(), from, to,
+                    position.tranDate(), position.tranTime(), position.tranId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Transaction> page = hasNext ? rows.subList(0, pageSize) : rows;
+        return TransactionHistoryResponse.builder()
+                .accountNum(account.getAccountNum())
+                .transactions(page.stream().map(TransactionHistoryResponse.TransactionItem::from).toList())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? Cursor.of(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
+    private record Cursor(LocalDate tranDate, String tranTime, String tranId) {
+
+        static Cursor of(Transaction transaction) {
+            return new Cursor(transaction.getTranDate(), transaction.getTranTime(), transaction.getTranId());
+        }
+
+        String encode() {
+            String raw = tranDate.format(CURSOR_DATE_FORMAT) + tranTime + tranId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                if (raw.length() <= CURSOR_PREFIX_LENGTH) {
+                    throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+                }
+                return new Cursor(LocalDate.parse(raw.substring(0, 8), CURSOR_DATE_FORMAT),
+                        raw.substring(8, CURSOR_PREFIX_LENGTH), raw.substring(CURSOR_PREFIX_LENGTH));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+            }
+        }
+    }
+}
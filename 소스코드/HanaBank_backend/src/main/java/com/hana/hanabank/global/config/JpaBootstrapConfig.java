@@ -0,0 +1,36 @@
+package com.hana.hanabank.global.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+
+import java.util.Set;
+
+/**
+ * JPA 백그라운드 초기화 보완 (lean 프로필의 bootstrap-mode=lazy)
+ * - 메타모델을 백그라운드에서 만드는 동안에도 원장/집계/피드는 JdbcTemplate 으로 바로 쿼리할 수 있음
+ * - Hibernate 가 스키마를 만드는 설정(ddl-auto create/update)이면 웹 서버가 요청을 받기 전에 스키마 생성 완료를 기다림
+ */
+@Configuration
+public class JpaBootstrapConfig {
+
+    private static final Set<String> SCHEMA_GENERATING_DDL_AUTO = Set.of("create", "create-drop", "update");
+
+    @Bean
+    @Lazy(false)
+    SmartInitializingSingleton awaitSchemaGeneration(Environment environment,
+                                                     ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        boolean generatesSchema = SCHEMA_GENERATING_DDL_AUTO.contains(environment.getProperty("spring.jpa.hibernate.ddl-auto", "none"))
+                || environment.getProperty("spring.jpa.generate-ddl", Boolean.class, false);
+        // 백그라운드 초기화 중인 EntityManagerFactory 는 첫 호출에서 초기화 완료까지 대기
+        return () -> {
+            if (generatesSchema) {
+                entityManagerFactory.ifAvailable(EntityManagerFactory::getMetamodel);
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.hana.hanabank.domain.account.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * CI 계좌 조회 캐시 무효화 시점 검증
+ * - 트랜잭션 안의 변경은 커밋 후에만, 롤백되면 비우지 않는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountLookupInvalidationListenerTest {
+
+    @Mock
+    private ObjectProvider<CustomerAccountLookup> lookupProvider;
+
+    @Mock
+    private CustomerAccountLookup customerAccountLookup;
+
+    private AccountLookupInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new AccountLookupInvalidationListener(lookupProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void invalidatesAfterCommit() {
+        given(lookupProvider.getIfAvailable()).willReturn(customerAccountLookup);
+        TransactionSynchronizationManager.initSynchronization();
+
+        listener.onChange(new Object());
+        verify(customerAccountLookup, never()).invalidateAll();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        verify(customerAccountLookup).invalidateAll();
+    }
+
+    @Test
+    void keepsCacheWhenRolledBack() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        listener.onChange(new Object());
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(customerAccountLookup, never()).invalidateAll();
+    }
+
+    @Test
+    void invalidatesImmediatelyOutsideTransaction() {
+        given(lookupProvider.getIfAvailable()).willReturn(customerAccountLookup);
+
+        listener.onChange(new Object());
+
+        verify(customerAccountLookup).invalidateAll();
+    }
+}
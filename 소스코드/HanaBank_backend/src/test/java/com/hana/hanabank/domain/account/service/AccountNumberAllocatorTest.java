@@ -0,0 +1,133 @@
+package com.hana.hanabank.domain.account.service;
+
+import com.hana.hanabank.domain.account.repository.AccountNumberSequenceJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 계좌번호 발급기 검증
+ * - Luhn 검증번호가 알려진 값과 일치하고 한 자리 오류를 잡아내는지 확인
+ * - 구간을 다 쓰면 새 구간을 예약해 빈 번호나 중복 없이 이어서 발급하는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountNumberAllocatorTest {
+
+    private static final String SEQUENCE_NAME = "ACCOUNT_NUM";
+
+    @Mock
+    private AccountNumberSequenceJdbcRepository sequenceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void withCheckDigit_matchesKnownLuhnValues() {
+        assertThat(AccountNumberAllocator.withCheckDigit("7992739871")).isEqualTo("79927398713");
+        assertThat(AccountNumberAllocator.withCheckDigit("411111111111111")).isEqualTo("4111111111111111");
+        assertThat(AccountNumberAllocator.withCheckDigit("8170000000001")).isEqualTo("81700000000015");
+    }
+
+    @Test
+    void isValid_rejectsSingleDigitErrors() {
+        String accountNum = "81700000000015";
+        assertThat(AccountNumberAllocator.isValid(accountNum)).isTrue();
+
+        for (int i = AccountNumberAllocator.PREFIX.length(); i < accountNum.length(); i++) {
+            for (char digit = '0'; digit <= '9'; digit++) {
+                if (digit == accountNum.charAt(i)) {
+                    continue;
+                }
+                String mistyped = accountNum.substring(0, i) + digit + accountNum.substring(i + 1);
+                assertThat(AccountNumberAllocator.isValid(mistyped)).as(mistyped).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void isValid_rejectsWrongShape() {
+        assertThat(AccountNumberAllocator.isValid(null)).isFalse();
+        assertThat(AccountNumberAllocator.isValid("8170000000001")).isFalse();
+        assertThat(AccountNumberAllocator.isValid("91700000000015")).isFalse();
+        assertThat(AccountNumberAllocator.isValid("8170000000001A")).isFalse();
+    }
+
+    @Test
+    void next_continuesAcrossBlockBoundary() {
+        given(sequenceRepository.reserve(SEQUENCE_NAME, 3, 1)).willReturn(4L, 7L);
+        AccountNumberAllocator allocator = new AccountNumberAllocator(sequenceRepository, transactionManager, 3);
+
+        List<String> issued = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            issued.add(allocator.next());
+        }
+
+        assertThat(issued).containsExactly("81700000000015", "81700000000023", "81700000000031", "81700000000049");
+        assertThat(issued).allMatch(AccountNumberAllocator::isValid);
+        verify(sequenceRepository, times(2)).reserve(SEQUENCE_NAME, 3, 1);
+    }
+
+    @Test
+    void next_failsWhenSerialsRunOut() {
+        given(sequenceRepository.reserve(SEQUENCE_NAME, 3, 1)).willReturn(100_000_001L, 100_000_004L);
+        AccountNumberAllocator allocator = new AccountNumberAllocator(sequenceRepository, transactionManager, 3);
+
+        // 마지막 구간은 최대 일련번호에서 잘림
+        assertThat(allocator.next()).isEqualTo("81700999999987");
+        assertThat(allocator.next()).isEqualTo("81700999999995");
+        assertThatThrownBy(allocator::next).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void next_concurrentCallersGetUniqueNumbers() throws Exception {
+        int blockSize = 7;
+        int threads = 8;
+        int perThread = 250;
+        AtomicLong nextValue = new AtomicLong(1);
+        given(sequenceRepository.reserve(eq(SEQUENCE_NAME), eq((long) blockSize), anyLong()))
+                .willAnswer(invocation -> nextValue.addAndGet(blockSize));
+        AccountNumberAllocator allocator = new AccountNumberAllocator(sequenceRepository, transactionManager, blockSize);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                List<String> mine = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    mine.add(allocator.next());
+                }
+                return mine;
+            }));
+        }
+        Set<String> issued = new HashSet<>();
+        for (Future<List<String>> future : futures) {
+            issued.addAll(future.get());
+        }
+        executor.shutdown();
+
+        // 구간 경계에서 동시에 새 구간을 요청해도 한 번만 예약하므로 번호가 빠지지 않음
+        int total = threads * perThread;
+        assertThat(issued).hasSize(total);
+        assertThat(issued).allMatch(AccountNumberAllocator::isValid);
+        assertThat(nextValue.get()).isEqualTo(1 + (long) Math.ceil((double) total / blockSize) * blockSize);
+    }
+}
@@ -0,0 +1,84 @@
+package com.hana.hanabank.domain.account.service;
+
+import com.hana.hanabank.domain.account.dto.CustomerAccount;
+import com.hana.hanabank.domain.transaction.dto.LedgerPostingRequest;
+import com.hana.hanabank.domain.transaction.service.LedgerService;
+import com.hana.hanabank.domain.user.entity.User;
+import com.hana.hanabank.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CI 계좌 조회 캐시 검증 (H2 메모리 DB)
+ * - 신규 고객의 부정 캐시가 가입/개설 커밋 후 비워지는지 확인
+ * - 원장이 JDBC 로 바꾼 잔액이 캐시 적중 중에도 바로 보이는지 확인
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:cilookup;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.open-in-view=false",
+                "hanabank.ci-cache.ttl-seconds=600"
+        })
+class CustomerAccountLookupTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void newCustomerIsVisibleAfterCommit() {
+        String userCi = "CI-LOOKUP-NEW";
+        assertThat(accountService.getUserAccountsByCi(userCi)).isEmpty();
+
+        createCustomer("lookup-new", userCi, "817030000001");
+
+        assertThat(accountService.getUserAccountsByCi(userCi))
+                .extracting(account -> account.profile().accountNum())
+                .containsExactly("817030000001");
+    }
+
+    @Test
+    void cachedLookupReturnsCurrentBalance() {
+        String userCi = "CI-LOOKUP-BALANCE";
+        createCustomer("lookup-balance", userCi, "817030000002");
+        assertThat(accountService.getUserAccountsByCi(userCi).get(0).balanceAmt()).isEqualByComparingTo("100000");
+
+        // 원장은 JDBC 로 잔액을 바꾸므로 캐시 무효화가 일어나지 않음
+        ledgerService.deposit(LedgerPostingRequest.builder()
+                .accountNum("817030000002")
+                .tranAmt(BigDecimal.valueOf(5_000))
+                .build());
+
+        List<CustomerAccount> accounts = accountService.getUserAccountsByCi(userCi);
+        assertThat(accounts).hasSize(1);
+        assertThat(accounts.get(0).balanceAmt()).isEqualByComparingTo("105000");
+        assertThat(accounts.get(0).lastTranDate()).isNotBlank();
+    }
+
+    private void createCustomer(String userId, String userCi, String accountNum) {
+        userRepository.save(User.builder()
+                .userId(userId)
+                .userCi(userCi)
+                .userNum("900101-1******")
+                .username("홍길동")
+                .phoneNumber("010-0000-0000")
+                .build());
+        accountService.createTestAccount(userId, accountNum, "하나 통장", BigDecimal.valueOf(100_000));
+    }
+}
@@ -0,0 +1,117 @@
+package com.hana.hanabank.domain.feed.service;
+
+import com.hana.hanabank.domain.account.service.AccountService;
+import com.hana.hanabank.domain.feed.dto.ChangeFeedEvent;
+import com.hana.hanabank.domain.feed.dto.ChangeFeedResponse;
+import com.hana.hanabank.domain.transaction.dto.LedgerPostingRequest;
+import com.hana.hanabank.domain.transaction.service.LedgerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 변경 피드 보관 기간 처리 검증 (H2 메모리 DB)
+ * - 오래된 이벤트가 정리된 뒤에도 새 소비자는 보관 중인 가장 오래된 이벤트부터 받는지 확인
+ * - 이전 위치 이후 구간이 삭제된 소비자만 만료 오류를 받는지 확인
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:feed;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.open-in-view=false"
+        })
+class ChangeFeedServiceTest {
+
+    private static final int POSTINGS = 5;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private ChangeFeedRelay changeFeedRelay;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void newConsumerStartsFromOldestRetainedAfterPurge() {
+        long last = postAndRelay("817020000001");
+        long oldestRetained = last - 1;
+        expire(oldestRetained - 1);
+
+        for (Long after : new Long[]{null, 0L}) {
+            ChangeFeedResponse response = changeFeedService.read(after, null);
+            assertThat(response.getEvents()).extracting(ChangeFeedEvent::getOffset)
+                    .containsExactly(oldestRetained, last);
+            assertThat(response.getNextOffset()).isEqualTo(last);
+            assertThat(response.isHasMore()).isFalse();
+        }
+
+        ChangeFeedResponse polled = changeFeedService.poll(null, null, 0L).join();
+        assertThat(polled.getEvents().get(0).getOffset()).isEqualTo(oldestRetained);
+    }
+
+    @Test
+    void consumerWithPurgedGapAfterPreviousPositionGetsExpired() {
+        long last = postAndRelay("817020000002");
+        long oldestRetained = last - 1;
+        expire(oldestRetained - 1);
+
+        // 이전 위치 이후 이벤트가 삭제됨 - 빠진 구간이 있으므로 오류
+        assertThatThrownBy(() -> changeFeedService.read(oldestRetained - 2, null))
+                .isInstanceOf(IllegalStateException.class);
+
+        // 삭제된 구간을 모두 처리한 소비자는 그대로 이어받음
+        ChangeFeedResponse response = changeFeedService.read(oldestRetained - 1, null);
+        assertThat(response.getEvents()).extracting(ChangeFeedEvent::getOffset)
+                .containsExactly(oldestRetained, last);
+    }
+
+    @Test
+    void newConsumerStartsAtCurrentOffsetWhenEverythingPurged() {
+        long last = postAndRelay("817020000003");
+        expire(last);
+
+        ChangeFeedResponse response = changeFeedService.read(null, null);
+        assertThat(response.getEvents()).isEmpty();
+        assertThat(response.getNextOffset()).isEqualTo(last);
+    }
+
+    private long postAndRelay(String accountNum) {
+        accountService.createTestAccount("feed-user", accountNum, "하나 통장", BigDecimal.valueOf(1_000_000));
+        for (int i = 0; i < POSTINGS; i++) {
+            ledgerService.deposit(LedgerPostingRequest.builder()
+                    .accountNum(accountNum)
+                    .tranAmt(BigDecimal.valueOf(1_000))
+                    .build());
+        }
+        return changeFeedRelay.relay();
+    }
+
+    /**
+     * upTo 까지의 이벤트를 보관 기간이 지난 것으로 만들고 정리 실행
+     */
+    private void expire(long upTo) {
+        jdbcTemplate.update("UPDATE hanabank_posting_outbox SET published_at = ? WHERE feed_offset <= ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(365)), upTo);
+        changeFeedService.purgeExpired();
+    }
+}
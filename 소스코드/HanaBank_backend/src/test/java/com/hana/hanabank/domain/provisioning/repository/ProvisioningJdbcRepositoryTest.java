@@ -0,0 +1,116 @@
+package com.hana.hanabank.domain.provisioning.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부하 테스트 데이터 배치 삽입 검증 (H2 메모리 DB)
+ * - 배치 크기로 나누어 떨어지지 않는 행 수도 빠짐없이 한 번씩 삽입되는지 확인
+ * - 계좌번호 범위 조회로 받은 계좌 ID 로 거래내역이 연결되는지 확인
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:provisioning;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.open-in-view=false"
+        })
+class ProvisioningJdbcRepositoryTest {
+
+    private static final int BATCH_SIZE = 4;
+
+    @Autowired
+    private ProvisioningJdbcRepository provisioningJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void batchInsertWritesEveryRowAcrossPartialBatches() {
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> accounts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            users.add(userRow("PJ-U" + i));
+            accounts.add(accountRow(accountNum(100 + i), "PJ-U" + i));
+        }
+
+        provisioningJdbcRepository.insertUsers(users, BATCH_SIZE);
+        provisioningJdbcRepository.insertAccounts(accounts, BATCH_SIZE);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM hanabank_user WHERE user_id LIKE 'PJ-U%'", Long.class)).isEqualTo(10L);
+        assertThat(provisioningJdbcRepository.countAccounts(accountNum(100), accountNum(109))).isEqualTo(10L);
+        assertThat(provisioningJdbcRepository.countAccounts(accountNum(103), accountNum(105))).isEqualTo(3L);
+
+        Map<String, Long> ids = provisioningJdbcRepository.findAccountIds(accountNum(100), accountNum(109));
+        assertThat(ids).hasSize(10).doesNotContainValue(null);
+
+        List<Object[]> transactions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String accountNum = accountNum(100 + i);
+            for (int t = 0; t < 3; t++) {
+                transactions.add(transactionRow("PJ-T" + i + "-" + t, ids.get(accountNum), accountNum));
+            }
+        }
+        provisioningJdbcRepository.insertTransactions(transactions, BATCH_SIZE);
+
+        List<Map<String, Object>> perAccount = jdbcTemplate.queryForList(
+                "SELECT account_id, COUNT(*) AS cnt FROM hanabank_transaction WHERE tran_id LIKE 'PJ-T%' GROUP BY account_id");
+        assertThat(perAccount).hasSize(10);
+        assertThat(perAccount).allSatisfy(row -> assertThat(((Number) row.get("cnt")).longValue()).isEqualTo(3L));
+        assertThat(perAccount).extracting(row -> ((Number) row.get("account_id")).longValue())
+                .containsExactlyInAnyOrderElementsOf(ids.values());
+    }
+
+    @Test
+    void emptyRowsAndBatchLargerThanRowsAreHandled() {
+        provisioningJdbcRepository.insertUsers(List.of(), BATCH_SIZE);
+
+        provisioningJdbcRepository.insertUsers(List.<Object[]>of(userRow("PJ-S0"), userRow("PJ-S1")), 1_000);
+        provisioningJdbcRepository.insertAccounts(List.<Object[]>of(accountRow(accountNum(200), "PJ-S0")), 1_000);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM hanabank_user WHERE user_id LIKE 'PJ-S%'", Long.class)).isEqualTo(2L);
+        assertThat(provisioningJdbcRepository.findAccountIds(accountNum(200), accountNum(299))).containsOnlyKeys(accountNum(200));
+        assertThat(provisioningJdbcRepository.countAccounts(accountNum(300), accountNum(399))).isZero();
+    }
+
+    private static String accountNum(int serial) {
+        return String.format("8179%010d", serial);
+    }
+
+    private static Object[] userRow(String userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new Object[]{userId, "CI-" + userId, "900101-1******", "홍길동", "010-0000-0000",
+                userId.toLowerCase() + "@example.com", now, now};
+    }
+
+    private static Object[] accountRow(String accountNum, String userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new Object[]{accountNum, userId, "081", "1", "1", "8179****" + accountNum.substring(accountNum.length() - 4),
+                "01", "0810001", "20250101", null, "20250630", "하나 주거래 통장", "입출금", "N",
+                BigDecimal.valueOf(100_000), BigDecimal.ZERO, "1", "1", "N", "Y", "N", "081", now, now};
+    }
+
+    private static Object[] transactionRow(String tranId, Long accountId, String accountNum) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new Object[]{tranId, accountId, Date.valueOf(LocalDate.of(2025, 6, 30)), "120000", "입금", "이체", "급여",
+                BigDecimal.valueOf(10_000), BigDecimal.valueOf(110_000), "을지로", "081", accountNum, "홍길동", now, now};
+    }
+}
@@ -0,0 +1,92 @@
+package com.hana.hanabank.domain.provisioning.service;
+
+import com.hana.hanabank.domain.account.service.AccountNumberAllocator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부하 테스트 데이터 생성기 검증
+ * - 같은 seed 와 파티션이면 생성 순서와 관계없이 같은 행이 나오는지 확인
+ * - 계좌번호 검증번호와 거래 후 잔액이 계좌 잔액과 맞는지 확인
+ */
+class ProvisioningDataGeneratorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 30, 12, 0);
+
+    @Test
+    void sameSeedProducesSameRows() {
+        ProvisioningDataGenerator.Partition first = generator(42).generate(3, 30, 40);
+        ProvisioningDataGenerator.Partition second = generator(42).generate(3, 30, 40);
+
+        assertSameRows(first.users, second.users);
+        assertSameRows(first.accounts, second.accounts);
+        assertSameRows(first.transactions, second.transactions);
+        assertThat(first.transactionAccountNums).isEqualTo(second.transactionAccountNums);
+    }
+
+    @Test
+    void partitionsDoNotDependOnGenerationOrder() {
+        ProvisioningDataGenerator generator = generator(42);
+        ProvisioningDataGenerator.Partition p0 = generator.generate(0, 0, 10);
+        ProvisioningDataGenerator.Partition p1 = generator.generate(1, 10, 20);
+
+        // 다른 스레드 배치처럼 역순으로 생성
+        ProvisioningDataGenerator reversed = generator(42);
+        assertSameRows(reversed.generate(1, 10, 20).transactions, p1.transactions);
+        assertSameRows(reversed.generate(0, 0, 10).transactions, p0.transactions);
+    }
+
+    @Test
+    void differentSeedProducesDifferentRows() {
+        ProvisioningDataGenerator.Partition seed42 = generator(42).generate(0, 0, 10);
+        ProvisioningDataGenerator.Partition seed7 = generator(7).generate(0, 0, 10);
+
+        assertThat(seed42.users.get(0)[1]).isNotEqualTo(seed7.users.get(0)[1]);
+        assertThat(seed42.transactions).extracting(row -> row[7])
+                .isNotEqualTo(seed7.transactions.stream().map(row -> row[7]).toList());
+        // 계좌번호는 전역 순번에서 나오므로 seed 와 무관
+        assertThat(seed42.accounts.get(0)[0]).isEqualTo(seed7.accounts.get(0)[0]);
+    }
+
+    @Test
+    void accountNumbersCarryCheckDigitAndBalancesMatchHistory() {
+        ProvisioningDataGenerator.Partition partition = generator(42).generate(0, 0, 10);
+
+        assertThat(partition.users).hasSize(10);
+        assertThat(partition.accounts).hasSize(30);
+        assertThat(partition.transactions).hasSize(30 * 5);
+
+        for (int a = 0; a < partition.accounts.size(); a++) {
+            Object[] account = partition.accounts.get(a);
+            String accountNum = (String) account[0];
+            assertThat(accountNum).isEqualTo(ProvisioningDataGenerator.accountNum(a));
+            assertThat(accountNum).startsWith(ProvisioningDataGenerator.ACCOUNT_PREFIX);
+            assertThat(AccountNumberAllocator.withCheckDigit(accountNum.substring(0, accountNum.length() - 1)))
+                    .isEqualTo(accountNum);
+
+            List<Object[]> history = partition.transactions.subList(a * 5, (a + 1) * 5);
+            for (Object[] transaction : history) {
+                assertThat(transaction[11]).isEqualTo(accountNum);
+                assertThat((BigDecimal) transaction[8]).isNotNegative();
+            }
+            assertThat(account[14]).isEqualTo(history.get(history.size() - 1)[8]);
+        }
+        assertThat(partition.transactionAccountNums).hasSize(partition.transactions.size());
+    }
+
+    private ProvisioningDataGenerator generator(long seed) {
+        return new ProvisioningDataGenerator(seed, 3, 5, 90, NOW);
+    }
+
+    private void assertSameRows(List<Object[]> actual, List<Object[]> expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(actual.get(i)).as("row %d", i).containsExactly(expected.get(i));
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.hana.hanabank.domain.transaction.service;
+
+import com.hana.hanabank.domain.account.repository.AccountRepository;
+import com.hana.hanabank.domain.account.service.AccountService;
+import com.hana.hanabank.domain.statement.entity.DailyBalance;
+import com.hana.hanabank.domain.statement.repository.DailyBalanceRepository;
+import com.hana.hanabank.domain.statement.service.DailyBalanceBackfillService;
+import com.hana.hanabank.domain.transaction.dto.LedgerPostingRequest;
+import com.hana.hanabank.domain.transaction.dto.LedgerTransferRequest;
+import com.hana.hanabank.domain.transaction.entity.Transaction;
+import com.hana.hanabank.domain.transaction.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원장 동시성 검증 (H2 메모리 DB)
+ * - 여러 스레드가 소수의 계좌에 동시에 입출금/이체해도 갱신 유실, 음수 잔액, 거래내역 누락이 없는지 확인
+ * - 일 집계가 잔액/거래내역과 일치하고, 재구성 결과도 같은지 확인
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:ledger;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.datasource.hikari.maximum-pool-size=32",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.open-in-view=false"
+        })
+class LedgerServiceConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerServiceConcurrencyTest.class);
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private DailyBalanceRepository dailyBalanceRepository;
+
+    @Autowired
+    private DailyBalanceBackfillService dailyBalanceBackfillService;
+
+    @Test
+    void concurrentDepositsAndWithdrawalsLoseNoUpdates() throws Exception {
+        int accountCount = 4;
+        int opsPerThread = 500;
+        BigDecimal initial = BigDecimal.valueOf(1_000_000);
+        List<String> accountNums = createAccounts("81701", accountCount, initial);
+        AtomicLong[] expectedDelta = new AtomicLong[accountCount];
+        AtomicInteger[] postings = new AtomicInteger[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            expectedDelta[i] = new AtomicLong();
+            postings[i] = new AtomicInteger();
+        }
+        AtomicInteger rejected = new AtomicInteger();
+
+        long elapsedNanos = runConcurrently(thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < opsPerThread; i++) {
+                int target = random.nextInt(accountCount);
+                long amount = 1 + random.nextInt(5_000);
+                LedgerPostingRequest request = LedgerPostingRequest.builder()
+                        .accountNum(accountNums.get(target))
+                        .tranAmt(BigDecimal.valueOf(amount))
+                        .build();
+                try {
+                    if (random.nextBoolean()) {
+                        ledgerService.deposit(request);
+                        expectedDelta[target].addAndGet(amount);
+                    } else {
+                        ledgerService.withdraw(request);
+                        expectedDelta[target].addAndGet(-amount);
+                    }
+                    postings[target].incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        int totalOps = THREADS * opsPerThread;
+        log.info("입출금 {}건 ({} 스레드, 계좌 {}개) - {}ms, {} TPS, 거절 {}건",
+                totalOps, THREADS, accountCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                totalOps * 1_000_000_000L / elapsedNanos, rejected.get());
+
+        for (int i = 0; i < accountCount; i++) {
+            Long accountId = accountRepository.findByAccountNum(accountNums.get(i)).orElseThrow().getAccountId();
+            BigDecimal balance = accountRepository.findById(accountId).orElseThrow().getBalanceAmt();
+            List<Transaction> journal = transactionRepository.findByAccountId(accountId);
+
+            assertThat(balance).isEqualByComparingTo(initial.add(BigDecimal.valueOf(expectedDelta[i].get())));
+            assertThat(journal).hasSize(postings[i].get());
+            assertThat(journalDelta(journal)).isEqualByComparingTo(BigDecimal.valueOf(expectedDelta[i].get()));
+            assertThat(journal).allSatisfy(t -> assertThat(t.getAfterBalanceAmt().signum()).isGreaterThanOrEqualTo(0));
+            assertRollupMatches(accountId, balance, journal);
+        }
+
+        dailyBalanceBackfillService.rebuildAll();
+        for (String accountNum : accountNums) {
+            Long accountId = accountRepository.findByAccountNum(accountNum).orElseThrow().getAccountId();
+            assertRollupMatches(accountId, accountRepository.findById(accountId).orElseThrow().getBalanceAmt(),
+                    transactionRepository.findByAccountId(accountId));
+        }
+    }
+
+    @Test
+    void concurrentWithdrawalsNeverOverdraw() throws Exception {
+        String accountNum = createAccounts("81702", 1, BigDecimal.valueOf(100_000)).get(0);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < 50; i++) {
+                try {
+                    ledgerService.withdraw(LedgerPostingRequest.builder()
+                            .accountNum(accountNum)
+                            .tranAmt(BigDecimal.valueOf(1_000))
+                            .build());
+                    succeeded.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    assertThat(e.getMessage()).isEqualTo("잔액이 부족합니다.");
+                    insufficient.incrementAndGet();
+                }
+            }
+        });
+
+        Long accountId = accountRepository.findByAccountNum(accountNum).orElseThrow().getAccountId();
+        assertThat(succeeded.get()).isEqualTo(100);
+        assertThat(insufficient.get()).isEqualTo(THREADS * 50 - 100);
+        assertThat(accountRepository.findById(accountId).orElseThrow().getBalanceAmt()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(transactionRepository.findByAccountId(accountId)).hasSize(100);
+    }
+
+    @Test
+    void concurrentTransfersPreserveTotalBalance() throws Exception {
+        int accountCount = 6;
+        BigDecimal initial = BigDecimal.valueOf(50_000);
+        List<String> accountNums = createAccounts("81703", accountCount, initial);
+        AtomicInteger transfers = new AtomicInteger();
+
+        long elapsedNanos = runConcurrently(thread -> {
+            Random random = new Random(100 + thread);
+            for (int i = 0; i < 200; i++) {
+                int from = random.nextInt(accountCount);
+                int to = (from + 1 + random.nextInt(accountCount - 1)) % accountCount;
+                try {
+                    ledgerService.transfer(LedgerTransferRequest.builder()
+                            .fromAccountNum(accountNums.get(from))
+                            .toAccountNum(accountNums.get(to))
+                            .tranAmt(BigDecimal.valueOf(1 + random.nextInt(3_000)))
+                            .build());
+                    transfers.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    // 잔액 부족 이체는 전체가 롤백됨
+                }
+            }
+        });
+
+        log.info("이체 {}건 성공 ({} 스레드, 계좌 {}개) - {}ms",
+                transfers.get(), THREADS, accountCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        BigDecimal total = BigDecimal.ZERO;
+        int journalRows = 0;
+        for (String accountNum : accountNums) {
+            Long accountId = accountRepository.findByAccountNum(accountNum).orElseThrow().getAccountId();
+            BigDecimal balance = accountRepository.findById(accountId).orElseThrow().getBalanceAmt();
+            List<Transaction> journal = transactionRepository.findByAccountId(accountId);
+            assertThat(balance.signum()).isGreaterThanOrEqualTo(0);
+            assertThat(balance).isEqualByComparingTo(initial.add(journalDelta(journal)));
+            total = total.add(balance);
+            journalRows += journal.size();
+        }
+        assertThat(total).isEqualByComparingTo(initial.multiply(BigDecimal.valueOf(accountCount)));
+        assertThat(journalRows).isEqualTo(transfers.get() * 2);
+    }
+
+    private List<String> createAccounts(String prefix, int count, BigDecimal balance) {
+        List<String> accountNums = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String accountNum = prefix + String.format("%07d", i);
+            accountService.createTestAccount("ledger-user-" + prefix, accountNum, "하나 통장", balance);
+            accountNums.add(accountNum);
+        }
+        return accountNums;
+    }
+
+    private void assertRollupMatches(Long accountId, BigDecimal balance, List<Transaction> journal) {
+        LocalDate today = LocalDate.now();
+        List<DailyBalance> days = dailyBalanceRepository
+                .findByAccountIdAndBalanceDateBetweenOrderByBalanceDateAsc(accountId, today.minusDays(1), today.plusDays(1));
+        BigDecimal rollupDelta = days.stream()
+                .map(d -> d.getDepositAmt().subtract(d.getWithdrawAmt()))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(days).isNotEmpty();
+        assertThat(days.get(days.size() - 1).getClosingBalance()).isEqualByComparingTo(balance);
+        assertThat(rollupDelta).isEqualByComparingTo(journalDelta(journal));
+        assertThat(days.stream().mapToInt(d -> d.getDepositCount() + d.getWithdrawCount()).sum()).isEqualTo(journal.size());
+    }
+
+    private BigDecimal journalDelta(List<Transaction> journal) {
+        return journal.stream()
+                .map(t -> t.isDeposit() ? t.getTranAmt() : t.getTranAmt().negate())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private long runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(thread);
+                return null;
+            }));
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return System.nanoTime() - startNanos;
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
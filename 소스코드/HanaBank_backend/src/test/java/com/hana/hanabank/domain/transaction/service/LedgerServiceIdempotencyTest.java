@@ -0,0 +1,88 @@
+package com.hana.hanabank.domain.transaction.service;
+
+import com.hana.hanabank.domain.account.service.AccountService;
+import com.hana.hanabank.domain.transaction.dto.LedgerPostingRequest;
+import com.hana.hanabank.domain.transaction.dto.LedgerPostingResponse;
+import com.hana.hanabank.domain.transaction.dto.LedgerTransferRequest;
+import com.hana.hanabank.domain.transaction.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * 거래번호 멱등 처리 검증 (H2 메모리 DB)
+ * - 다른 인스턴스의 동시 요청처럼 중복 조회를 통과한 재요청이 PK 위반 대신 저장된 결과를 받는지 확인
+ * - 늦은 요청의 잔액 변경은 롤백되어 한 번만 반영되는지 확인
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:ledger-idempotency;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.open-in-view=false"
+        })
+class LedgerServiceIdempotencyTest {
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @SpyBean
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void concurrentDuplicateDepositReturnsStoredResult() {
+        accountService.createTestAccount("idem-user", "817040000001", "하나 통장", BigDecimal.valueOf(10_000));
+        LedgerPostingRequest request = LedgerPostingRequest.builder()
+                .tranId("IDEM-DEP-1")
+                .accountNum("817040000001")
+                .tranAmt(BigDecimal.valueOf(1_000))
+                .build();
+        LedgerPostingResponse first = ledgerService.deposit(request);
+
+        // 중복 조회 시점에는 아직 커밋 전이었던 것처럼 한 번만 없다고 응답
+        doReturn(Optional.empty()).doCallRealMethod().when(transactionRepository).findById("IDEM-DEP-1");
+
+        LedgerPostingResponse second = ledgerService.deposit(request);
+
+        assertThat(second.getTranId()).isEqualTo(first.getTranId());
+        assertThat(second.getAfterBalanceAmt()).isEqualByComparingTo(first.getAfterBalanceAmt());
+        assertThat(accountService.getAccountBalance("817040000001")).isEqualByComparingTo("11000");
+    }
+
+    @Test
+    void concurrentDuplicateTransferReturnsStoredLegs() {
+        accountService.createTestAccount("idem-user", "817040000002", "하나 통장", BigDecimal.valueOf(10_000));
+        accountService.createTestAccount("idem-user", "817040000003", "하나 통장", BigDecimal.valueOf(10_000));
+        LedgerTransferRequest request = LedgerTransferRequest.builder()
+                .tranId("IDEM-TRF-1")
+                .fromAccountNum("817040000002")
+                .toAccountNum("817040000003")
+                .tranAmt(BigDecimal.valueOf(2_000))
+                .build();
+        List<LedgerPostingResponse> first = ledgerService.transfer(request);
+
+        doReturn(Optional.empty()).doCallRealMethod().when(transactionRepository).findById(anyString());
+
+        List<LedgerPostingResponse> second = ledgerService.transfer(request);
+
+        assertThat(second).extracting(LedgerPostingResponse::getTranId)
+                .containsExactlyElementsOf(first.stream().map(LedgerPostingResponse::getTranId).toList());
+        assertThat(accountService.getAccountBalance("817040000002")).isEqualByComparingTo("8000");
+        assertThat(accountService.getAccountBalance("817040000003")).isEqualByComparingTo("12000");
+    }
+}
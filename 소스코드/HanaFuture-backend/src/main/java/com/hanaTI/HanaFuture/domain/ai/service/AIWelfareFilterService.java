@@ -9,8 +9,10 @@ import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareBenefit;
 import com.hanaTI.HanaFuture.domain.welfare.entity.HanaFutureWelfareBenefit;
 import com.hanaTI.HanaFuture.domain.welfare.repository.HanaFutureWelfareBenefitRepository;
 import com.hanaTI.HanaFuture.domain.welfare.repository.WelfareBenefitRepository;
+import com.hanaTI.HanaFuture.domain.welfare.event.HanaFutureWelfareChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -32,6 +34,7 @@ public class AIWelfareFilterService {
     private final GeminiConfig geminiConfig;
     private final WelfareBenefitRepository welfareRepository;
     private final HanaFutureWelfareBenefitRepository hanaFutureRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 복지 혜택 목록을 AI로 필터링하여 하나퓨처에 적합한 혜택만 반환
@@ -312,6 +315,7 @@ public class AIWelfareFilterService {
                 .collect(Collectors.toList());
             
             hanaFutureRepository.saveAll(hanaFutureBenefits);
+            eventPublisher.publishEvent(new HanaFutureWelfareChangedEvent(hanaFutureBenefits.size()));
             
             // Step 7: 결과 통계
             long centralCount = hanaFutureBenefits.stream()
@@ -11,6 +11,7 @@ import com.hanaTI.HanaFuture.domain.savings.repository.SavingDepositRepository;
 import com.hanaTI.HanaFuture.domain.account.repository.AccountRepository;
 import com.hanaTI.HanaFuture.domain.welfare.dto.WelfareBenefitResponse;
 import com.hanaTI.HanaFuture.domain.welfare.service.WelfareBenefitService;
+import com.hanaTI.HanaFuture.domain.welfare.service.WelfareSearchIndexService;
 import com.hanaTI.HanaFuture.domain.welfare.dto.WelfareSearchRequest;
 import com.hanaTI.HanaFuture.domain.welfare.entity.HanaFutureWelfareBenefit;
 import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareType;
@@ -43,6 +44,7 @@ public class GeminiWelfareRecommendationService {
     private final AccountRepository accountRepository;
     private final WelfareBenefitService welfareBenefitService;
     private final HanaFutureWelfareBenefitRepository hanaFutureRepository;
+    private final WelfareSearchIndexService welfareSearchIndexService;
     
     /**
      * 사용자 맞춤 복지 혜택 추천
@@ -288,8 +290,8 @@ public class GeminiWelfareRecommendationService {
             for (String keyword : recommendation.getRecommendedKeywords()) {
                 log.debug("키워드 '{}' 로 중앙정부 혜택 검색", keyword);
                 
-                Page<HanaFutureWelfareBenefit> results = hanaFutureRepository
-                    .findByKeywordAndIsActiveTrue(keyword.trim(), 
+                Page<HanaFutureWelfareBenefit> results = welfareSearchIndexService
+                    .searchHanaFutureBenefits(null, keyword.trim(), 
                         org.springframework.data.domain.PageRequest.of(0, 100)); // 더 많이 가져오기
                 
                 results.getContent().stream()
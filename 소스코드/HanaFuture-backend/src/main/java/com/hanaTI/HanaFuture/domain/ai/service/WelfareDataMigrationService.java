@@ -5,8 +5,10 @@ import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareBenefit;
 import com.hanaTI.HanaFuture.domain.welfare.repository.HanaFutureWelfareBenefitRepository;
 import com.hanaTI.HanaFuture.domain.welfare.repository.WelfareBenefitRepository;
 import com.hanaTI.HanaFuture.domain.welfare.dto.WelfareBenefitResponse;
+import com.hanaTI.HanaFuture.domain.welfare.event.HanaFutureWelfareChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,7 @@ public class WelfareDataMigrationService {
     private final WelfareBenefitRepository originalRepository;
     private final HanaFutureWelfareBenefitRepository hanaFutureRepository;
     private final AIWelfareFilterService aiWelfareFilterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * AI 필터링된 데이터를 하나퓨처 테이블로 이관
@@ -64,6 +67,7 @@ public class WelfareDataMigrationService {
 
             // 4. 필터링된 데이터를 하나퓨처 테이블에 저장 (트랜잭션 분리)
             int savedCount = saveBenefitsInTransaction(allOriginalBenefits, filteredResponses);
+            eventPublisher.publishEvent(new HanaFutureWelfareChangedEvent(savedCount));
 
             // 5. 이관 결과 요약
             long finalCount = hanaFutureRepository.countByIsActiveTrue();
@@ -0,0 +1,280 @@
+package com.hanaTI.HanaFuture.domain.welfare.cache;
+
+import com.hanaTI.HanaFuture.domain.welfare.dto.WelfareBenefitResponse;
+import com.hanaTI.HanaFuture.domain.welfare.entity.HanaFutureWelfareBenefit;
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 하나퓨처 맞춤 복지 혜택 스냅샷 (불변 - 다시 적재할 때는 새로 만들어 통째로 교체)
+ * - 활성 혜택 전체를 응답 DTO 로 한 번만 변환해 목록 순서(서비스 타입 → AI 관련도 → 등록일)대로 보관
+ * - 보조 색인(서비스 타입/시도/시군구/생애주기)은 목록 위치의 오름차순 배열이라 교집합 결과도 목록 순서 그대로
+ * - AI 관련도 순 목록은 위치 배열로 따로 보관
+ */
+public final class HanaFutureWelfareSnapshot {
+
+    // 기존 DB 정렬과 동일 (AI 관련도 DESC, 등록일 DESC - NULL 은 뒤로)
+    private static final Comparator<HanaFutureWelfareBenefit> RELEVANCE = Comparator
+            .comparing(HanaFutureWelfareBenefit::getAiRelevanceScore, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(HanaFutureWelfareBenefit::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(HanaFutureWelfareBenefit::getId);
+
+    private static final Comparator<HanaFutureWelfareBenefit> CATALOG = Comparator
+            .comparing(HanaFutureWelfareBenefit::getServiceType, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(RELEVANCE);
+
+    private static final int[] NONE = new int[0];
+
+    private final long version;
+    private final String fingerprint;
+    private final Instant loadedAt;
+    private final List<WelfareBenefitResponse> catalog;
+    private final int[] relevanceOrder;
+    private final Map<Long, Integer> positionById;
+    private final Map<WelfareType, int[]> byServiceType;
+    private final Map<String, int[]> bySido;
+    private final Map<String, int[]> bySigungu;
+    private final Map<String, int[]> byLifeCycle;
+
+    private HanaFutureWelfareSnapshot(long version, String fingerprint, List<HanaFutureWelfareBenefit> sorted) {
+        this.version = version;
+        this.fingerprint = fingerprint;
+        this.loadedAt = Instant.now();
+
+        List<WelfareBenefitResponse> responses = new ArrayList<>(sorted.size());
+        Map<Long, Integer> positions = new HashMap<>();
+        Map<WelfareType, List<Integer>> types = new HashMap<>();
+        Map<String, List<Integer>> sidos = new HashMap<>();
+        Map<String, List<Integer>> sigungus = new HashMap<>();
+        Map<String, List<Integer>> lifeCycles = new HashMap<>();
+
+        for (int position = 0; position < sorted.size(); position++) {
+            WelfareBenefitResponse response = toResponse(sorted.get(position));
+            responses.add(response);
+            positions.put(response.getId(), position);
+            if (response.getServiceType() != null) {
+                types.computeIfAbsent(response.getServiceType(), key -> new ArrayList<>()).add(position);
+            }
+            if (response.getSidoName() != null) {
+                sidos.computeIfAbsent(response.getSidoName(), key -> new ArrayList<>()).add(position);
+            }
+            if (response.getSigunguName() != null) {
+                sigungus.computeIfAbsent(response.getSigunguName(), key -> new ArrayList<>()).add(position);
+            }
+            if (response.getLifeCycle() != null) {
+                for (String lifeCycle : response.getLifeCycle().split(",")) {
+                    List<Integer> list = lifeCycles.computeIfAbsent(lifeCycle.trim(), key -> new ArrayList<>());
+                    if (list.isEmpty() || list.get(list.size() - 1) != position) {
+                        list.add(position);
+                    }
+                }
+            }
+        }
+
+        this.catalog = List.copyOf(responses);
+        this.positionById = Map.copyOf(positions);
+        this.byServiceType = freeze(types);
+        this.bySido = freeze(sidos);
+        this.bySigungu = freeze(sigungus);
+        this.byLifeCycle = freeze(lifeCycles);
+
+        Integer[] relevance = new Integer[sorted.size()];
+        Arrays.setAll(relevance, position -> position);
+        Arrays.sort(relevance, Comparator.comparing(sorted::get, RELEVANCE));
+        this.relevanceOrder = Arrays.stream(relevance).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 활성 혜택 목록으로 스냅샷 생성
+     *
+     * @param fingerprint 적재 시점의 테이블 요약 (변경 여부 확인용)
+     */
+    public static HanaFutureWelfareSnapshot of(long version, String fingerprint, List<HanaFutureWelfareBenefit> benefits) {
+        List<HanaFutureWelfareBenefit> sorted = new ArrayList<>(benefits);
+        sorted.sort(CATALOG);
+        return new HanaFutureWelfareSnapshot(version, fingerprint, sorted);
+    }
+
+    /**
+     * HanaFutureWelfareBenefit을 WelfareBenefitResponse로 변환
+     */
+    public static WelfareBenefitResponse toResponse(HanaFutureWelfareBenefit benefit) {
+        WelfareType type = WelfareType.fromText(benefit.getServiceType());
+        return WelfareBenefitResponse.builder()
+                .id(benefit.getId())
+                .serviceId(benefit.getServiceId())
+                .serviceName(benefit.getServiceName())
+                .serviceType(type)
+                .serviceTypeDisplayName(type != null ? type.getDisplayName() : null)
+                .serviceContent(benefit.getServiceContent())
+                .applicationMethod(benefit.getApplicationMethod())
+                .targetDescription(benefit.getTargetDescription())
+                .supportAmount(benefit.getSupportAmount())
+                .category(benefit.getCategory())
+                .lifeCycle(benefit.getLifeCycle())
+                .areaCode(benefit.getRegionCode()) // regionCode를 areaCode로 매핑
+                .sidoName(benefit.getSidoName())
+                .sigunguName(benefit.getSigunguName())
+                .inquiryUrl(firstAvailableUrl(benefit)) // 사용 가능한 첫 번째 URL 사용
+                .jurisdictionName(benefit.getReceptionAgency()) // receptionAgency를 jurisdictionName으로 매핑
+                .build();
+    }
+
+    public Optional<WelfareBenefitResponse> find(Long id) {
+        Integer position = positionById.get(id);
+        return position != null ? Optional.of(catalog.get(position)) : Optional.empty();
+    }
+
+    /**
+     * ID 목록 순서대로 응답 조회 (하나라도 스냅샷에 없으면 null)
+     */
+    public List<WelfareBenefitResponse> findAll(List<Long> ids) {
+        List<WelfareBenefitResponse> responses = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Integer position = positionById.get(id);
+            if (position == null) {
+                return null;
+            }
+            responses.add(catalog.get(position));
+        }
+        return responses;
+    }
+
+    /**
+     * AI 관련도 순 페이지
+     */
+    public Page<WelfareBenefitResponse> byRelevance(Pageable pageable) {
+        return page(relevanceOrder, pageable);
+    }
+
+    /**
+     * 조건별 목록 페이지 (목록 순서, 조건은 모두 선택)
+     * - 시도/시군구는 일치, 생애주기는 포함 여부
+     */
+    public Page<WelfareBenefitResponse> filter(WelfareType serviceType, String sidoName, String sigunguName,
+                                               String lifeCycle, Pageable pageable) {
+        List<int[]> candidates = new ArrayList<>(4);
+        if (serviceType != null) {
+            candidates.add(byServiceType.getOrDefault(serviceType, NONE));
+        }
+        if (sidoName != null) {
+            candidates.add(bySido.getOrDefault(sidoName, NONE));
+        }
+        if (sigunguName != null) {
+            candidates.add(bySigungu.getOrDefault(sigunguName, NONE));
+        }
+        if (lifeCycle != null) {
+            candidates.add(lifeCyclePositions(lifeCycle));
+        }
+
+        if (candidates.isEmpty()) {
+            int from = (int) Math.min(pageable.getOffset(), catalog.size());
+            int to = Math.min(from + pageable.getPageSize(), catalog.size());
+            return new PageImpl<>(catalog.subList(from, to), pageable, catalog.size());
+        }
+
+        candidates.sort(Comparator.comparingInt(positions -> positions.length));
+        int[] matched = candidates.get(0);
+        for (int i = 1; i < candidates.size() && matched.length > 0; i++) {
+            matched = intersect(matched, candidates.get(i));
+        }
+        return page(matched, pageable);
+    }
+
+    public int size() {
+        return catalog.size();
+    }
+
+    public int count(WelfareType serviceType) {
+        int[] positions = byServiceType.get(serviceType);
+        return positions != null ? positions.length : 0;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * 생애주기 값에 검색어가 포함된 혜택 위치 (생애주기 종류가 적어서 키를 훑어 합침)
+     */
+    private int[] lifeCyclePositions(String lifeCycle) {
+        return byLifeCycle.entrySet().stream()
+                .filter(entry -> entry.getKey().contains(lifeCycle))
+                .flatMapToInt(entry -> Arrays.stream(entry.getValue()))
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private Page<WelfareBenefitResponse> page(int[] positions, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), positions.length);
+        int to = Math.min(from + pageable.getPageSize(), positions.length);
+        List<WelfareBenefitResponse> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(catalog.get(positions[i]));
+        }
+        return new PageImpl<>(content, pageable, positions.length);
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static <K> Map<K, int[]> freeze(Map<K, List<Integer>> lists) {
+        Map<K, int[]> frozen = new HashMap<>();
+        lists.forEach((key, list) -> frozen.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+        return Map.copyOf(frozen);
+    }
+
+    /**
+     * 사용 가능한 첫 번째 URL 반환 (relatedUrl -> applicationSiteUrl -> referenceUrl1 -> referenceUrl2)
+     */
+    private static String firstAvailableUrl(HanaFutureWelfareBenefit benefit) {
+        for (Function<HanaFutureWelfareBenefit, String> url : List.<Function<HanaFutureWelfareBenefit, String>>of(
+                HanaFutureWelfareBenefit::getRelatedUrl,
+                HanaFutureWelfareBenefit::getApplicationSiteUrl,
+                HanaFutureWelfareBenefit::getReferenceUrl1,
+                HanaFutureWelfareBenefit::getReferenceUrl2)) {
+            String value = url.apply(benefit);
+            if (value != null && !value.trim().isEmpty()) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
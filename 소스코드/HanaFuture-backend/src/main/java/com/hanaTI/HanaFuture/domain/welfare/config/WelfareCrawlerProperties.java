@@ -0,0 +1,53 @@
+package com.hanaTI.HanaFuture.domain.welfare.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "welfare.crawler")
+public class WelfareCrawlerProperties {
+
+    /**
+     * 초당 API 호출 수 (공공데이터포털 트래픽 한도에 맞춤)
+     */
+    private Double requestsPerSecond = 5.0;
+
+    /**
+     * 한 번에 몰아서 보낼 수 있는 최대 호출 수 (토큰 버킷 크기)
+     */
+    private Integer burst = 5;
+
+    /**
+     * 동시에 진행할 페이지 조회 수
+     */
+    private Integer fetchConcurrency = 4;
+
+    /**
+     * 동시에 수집할 대상 수 (중앙부처, 시도별 지자체 등)
+     */
+    private Integer targetConcurrency = 3;
+
+    /**
+     * 페이지당 조회 건수
+     */
+    private Integer numOfRows = 100;
+
+    /**
+     * 페이지 조회 최대 재시도 횟수
+     */
+    private Integer maxRetryCount = 3;
+
+    /**
+     * 재시도 최소 대기 시간 (밀리초, 지수 증가 + 지터)
+     */
+    private Long retryBackoffMillis = 1000L;
+
+    /**
+     * 중단된 수집을 이어서 진행할 수 있는 기간 (시간) - 지나면 처음부터 다시 수집
+     */
+    private Integer resumeWindowHours = 20;
+}
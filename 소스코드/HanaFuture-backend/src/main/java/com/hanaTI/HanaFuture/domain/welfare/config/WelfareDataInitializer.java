@@ -8,6 +8,7 @@ import org.springframework.boot.ApplicationRunner;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -39,23 +40,8 @@ public class WelfareDataInitializer implements ApplicationRunner {
             try {
                 log.info("백그라운드에서 복지 데이터 동기화 시작");
                 
-                // 1. 중앙정부 복지서비스 동기화
-                log.info("중앙정부 복지서비스 동기화 시작...");
-                welfareBenefitService.syncCentralWelfareServices();
-                log.info("중앙정부 복지서비스 동기화 완료");
-                
-                // 2. 지자체 복지서비스 동기화 (주요 지역)
-                String[] majorCities = {"서울특별시", "부산광역시", "경기도"};
-                for (String city : majorCities) {
-                    try {
-                        log.info("{} 지자체 복지서비스 동기화 시작...", city);
-                        welfareBenefitService.syncLocalWelfareServices(city, null);
-                        log.info("{} 지자체 복지서비스 동기화 완료", city);
-                        Thread.sleep(2000); // API 호출 간격
-                    } catch (Exception e) {
-                        log.error("{} 지자체 동기화 실패: {}", city, e.getMessage());
-                    }
-                }
+                // 중앙정부 + 주요 지역 지자체 복지서비스를 한 번에 동시 수집
+                welfareBenefitService.syncAllWelfareServices(List.of("서울특별시", "부산광역시", "경기도"));
                 
                 log.info("=== 전체 복지 데이터 동기화 완료 ===");
                 
@@ -14,6 +14,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Welfare Admin", description = "복지 혜택 관리자 API")
@@ -69,8 +70,8 @@ public class WelfareAdminController {
     )
     @PostMapping("/sync/local")
     public ResponseEntity<ApiResponse<String>> syncLocalWelfareServices(
-            @Parameter(description = "시도코드", example = "11") @RequestParam String ctpvCd,
-            @Parameter(description = "시군구코드", example = "11680") @RequestParam(required = false) String sggCd,
+            @Parameter(description = "시도명", example = "서울특별시") @RequestParam String ctpvNm,
+            @Parameter(description = "시군구명", example = "강남구") @RequestParam(required = false) String sggNm,
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
         
         if (userDetails == null) {
@@ -81,18 +82,18 @@ public class WelfareAdminController {
         // 비동기로 동기화 실행
         CompletableFuture.runAsync(() -> {
             try {
-                log.info("지자체 복지서비스 동기화 시작 - 시도코드: {}, 시군구코드: {}, 요청자: {}", 
-                        ctpvCd, sggCd, userDetails.getUsername());
-                welfareBenefitService.syncLocalWelfareServices(ctpvCd, sggCd);
-                log.info("지자체 복지서비스 동기화 완료 - 시도코드: {}, 시군구코드: {}, 요청자: {}", 
-                        ctpvCd, sggCd, userDetails.getUsername());
+                log.info("지자체 복지서비스 동기화 시작 - 시도명: {}, 시군구명: {}, 요청자: {}", 
+                        ctpvNm, sggNm, userDetails.getUsername());
+                welfareBenefitService.syncLocalWelfareServices(ctpvNm, sggNm);
+                log.info("지자체 복지서비스 동기화 완료 - 시도명: {}, 시군구명: {}, 요청자: {}", 
+                        ctpvNm, sggNm, userDetails.getUsername());
             } catch (Exception e) {
-                log.error("지자체 복지서비스 동기화 실패 - 시도코드: {}, 시군구코드: {}, 요청자: {}", 
-                        ctpvCd, sggCd, userDetails.getUsername(), e);
+                log.error("지자체 복지서비스 동기화 실패 - 시도명: {}, 시군구명: {}, 요청자: {}", 
+                        ctpvNm, sggNm, userDetails.getUsername(), e);
             }
         });
         
-        String region = sggCd != null ? ctpvCd + "/" + sggCd : ctpvCd;
+        String region = sggNm != null ? ctpvNm + "/" + sggNm : ctpvNm;
         return ResponseEntity.ok(ApiResponse.success(
                 region + " 지역의 지자체 복지서비스 동기화가 시작되었습니다.", "SYNC_STARTED"));
     }
@@ -115,19 +116,9 @@ public class WelfareAdminController {
             try {
                 log.info("전체 복지서비스 동기화 시작 - 요청자: {}", userDetails.getUsername());
                 
-                // 1. 중앙부처 동기화
-                welfareBenefitService.syncCentralWelfareServices();
-                
-                // 2. 주요 지자체 동기화 (서울, 부산, 대구, 인천, 광주, 대전, 울산 등)
-                String[] majorCities = {"11", "26", "27", "28", "29", "30", "31"};
-                for (String cityCode : majorCities) {
-                    try {
-                        welfareBenefitService.syncLocalWelfareServices(cityCode, null);
-                        Thread.sleep(1000); // API 호출 간격 조절
-                    } catch (Exception e) {
-                        log.error("지자체 동기화 실패 - 시도코드: {}", cityCode, e);
-                    }
-                }
+                // 중앙부처 + 주요 지자체(서울, 부산, 대구, 인천, 광주, 대전, 울산) 동시 수집
+                welfareBenefitService.syncAllWelfareServices(List.of(
+                        "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시", "대전광역시", "울산광역시"));
                 
                 log.info("전체 복지서비스 동기화 완료 - 요청자: {}", userDetails.getUsername());
             } catch (Exception e) {
@@ -0,0 +1,43 @@
+package com.hanaTI.HanaFuture.domain.welfare.crawler;
+
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareType;
+
+/**
+ * 복지 API 수집 대상 (목록 조회 조건 하나 - 전체 페이지를 수집)
+ *
+ * @param serviceType 중앙부처 / 지자체 API
+ * @param lifeArray   생애주기 코드 (선택)
+ * @param sidoName    시도명 (지자체만)
+ * @param sigunguName 시군구명 (지자체만, 선택)
+ */
+public record WelfareCrawlTarget(WelfareType serviceType, String lifeArray, String sidoName, String sigunguName) {
+
+    public static WelfareCrawlTarget central() {
+        return new WelfareCrawlTarget(WelfareType.CENTRAL, null, null, null);
+    }
+
+    public static WelfareCrawlTarget central(String lifeArray) {
+        return new WelfareCrawlTarget(WelfareType.CENTRAL, lifeArray, null, null);
+    }
+
+    public static WelfareCrawlTarget local(String sidoName, String sigunguName) {
+        return new WelfareCrawlTarget(WelfareType.LOCAL, null, sidoName, sigunguName);
+    }
+
+    /**
+     * 체크포인트 키 (예: CENTRAL, CENTRAL:001, LOCAL:서울특별시, LOCAL:서울특별시:강남구)
+     */
+    public String key() {
+        StringBuilder key = new StringBuilder(serviceType.name());
+        if (lifeArray != null) {
+            key.append(':').append(lifeArray);
+        }
+        if (sidoName != null) {
+            key.append(':').append(sidoName);
+        }
+        if (sigunguName != null) {
+            key.append(':').append(sigunguName);
+        }
+        return key.toString();
+    }
+}
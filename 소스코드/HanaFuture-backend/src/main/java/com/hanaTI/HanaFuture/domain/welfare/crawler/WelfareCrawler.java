@@ -0,0 +1,311 @@
+package com.hanaTI.HanaFuture.domain.welfare.crawler;
+
+import com.hanaTI.HanaFuture.domain.welfare.config.WelfareApiProperties;
+import com.hanaTI.HanaFuture.domain.welfare.config.WelfareCrawlerProperties;
+import com.hanaTI.HanaFuture.domain.welfare.dto.external.LocalWelfareApiResponse;
+import com.hanaTI.HanaFuture.domain.welfare.dto.external.WelfareApiResponse;
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareBenefit;
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareSyncCheckpoint;
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareType;
+import com.hanaTI.HanaFuture.domain.welfare.repository.WelfareSyncCheckpointRepository;
+import com.hanaTI.HanaFuture.domain.welfare.service.WelfareApiService;
+import com.hanaTI.HanaFuture.domain.welfare.service.WelfareBulkSyncService;
+import com.hanaTI.HanaFuture.domain.welfare.service.WelfareDataEnrichmentService;
+import com.hanaTI.HanaFuture.domain.welfare.service.WelfareXmlParsingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 복지 API 수집기
+ * - 대상별로 첫 페이지의 totalCount 로 전체 페이지 수를 구한 뒤 나머지 페이지를 동시에 조회
+ * - 모든 호출은 하나의 토큰 버킷(WelfareRateLimiter)을 거쳐 공공데이터포털 트래픽 한도 안에서 진행 (고정 sleep 없음)
+ * - 조회 → 파싱 → 보강/일괄 저장(WelfareBulkSyncService)을 파이프라인으로 연결 - 저장하는 동안 다음 페이지 조회가 계속됨
+ * - 일시적 오류(연결 실패, 5xx, 429)는 지터를 준 지수 백오프로 재시도, 재시도 때도 토큰을 다시 받음
+ * - 대상별 체크포인트(WelfareSyncCheckpoint)에 연속 완료 페이지를 기록해 중단된 수집은 다음 실행에서 이어서 진행
+ */
+@Slf4j
+@Service
+public class WelfareCrawler {
+
+    private final WelfareApiService welfareApiService;
+    private final WelfareXmlParsingService xmlParsingService;
+    private final WelfareDataEnrichmentService dataEnrichmentService;
+    private final WelfareBulkSyncService welfareBulkSyncService;
+    private final WelfareSyncCheckpointRepository checkpointRepository;
+    private final WelfareApiProperties apiProperties;
+    private final WelfareCrawlerProperties crawlerProperties;
+    private final WelfareRateLimiter rateLimiter;
+
+    public WelfareCrawler(WelfareApiService welfareApiService,
+                          WelfareXmlParsingService xmlParsingService,
+                          WelfareDataEnrichmentService dataEnrichmentService,
+                          WelfareBulkSyncService welfareBulkSyncService,
+                          WelfareSyncCheckpointRepository checkpointRepository,
+                          WelfareApiProperties apiProperties,
+                          WelfareCrawlerProperties crawlerProperties) {
+        this.welfareApiService = welfareApiService;
+        this.xmlParsingService = xmlParsingService;
+        this.dataEnrichmentService = dataEnrichmentService;
+        this.welfareBulkSyncService = welfareBulkSyncService;
+        this.checkpointRepository = checkpointRepository;
+        this.apiProperties = apiProperties;
+        this.crawlerProperties = crawlerProperties;
+        this.rateLimiter = new WelfareRateLimiter(crawlerProperties.getRequestsPerSecond(), crawlerProperties.getBurst());
+    }
+
+    /**
+     * 수집 실행 (모든 대상이 끝날 때까지 기다림)
+     */
+    public List<TargetResult> crawl(List<WelfareCrawlTarget> targets) {
+        if (!apiProperties.getEnabled()) {
+            log.warn("복지 API가 비활성화되어 있어 수집을 건너뜁니다. (정부 전산망 오류로 인한 임시 조치)");
+            return List.of();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        List<TargetResult> results = Flux.fromIterable(targets)
+                .flatMap(this::crawlTarget, crawlerProperties.getTargetConcurrency())
+                .collectList()
+                .block();
+
+        int pages = results.stream().mapToInt(TargetResult::pages).sum();
+        int inserted = results.stream().mapToInt(TargetResult::inserted).sum();
+        int updated = results.stream().mapToInt(TargetResult::updated).sum();
+        long incomplete = results.stream().filter(result -> !result.finished()).count();
+        log.info("복지 API 수집 완료 - 대상 {}개, 페이지 {}개, 신규 {}건, 변경 {}건, 미완료 대상 {}개 ({}ms)",
+                results.size(), pages, inserted, updated, incomplete, System.currentTimeMillis() - startedAt);
+        return results;
+    }
+
+    private Mono<TargetResult> crawlTarget(WelfareCrawlTarget target) {
+        return Mono.fromCallable(() -> begin(target))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(progress -> totalPages(progress)
+                        .flatMapMany(totalPages -> Flux.range(2, Math.max(0, totalPages - 1))
+                                .filter(progress::isPending)
+                                .flatMap(pageNo -> fetch(progress, pageNo), crawlerProperties.getFetchConcurrency())
+                                .concatMap(page -> write(progress, page)))
+                        .then(Mono.fromCallable(() -> finish(progress)).subscribeOn(Schedulers.boundedElastic())))
+                .onErrorResume(e -> {
+                    log.error("{} 수집 실패: {}", target.key(), e.getMessage(), e);
+                    return Mono.just(TargetResult.failed(target.key()));
+                });
+    }
+
+    /**
+     * 전체 페이지 수 - 재개한 수집이면 체크포인트 값, 아니면 첫 페이지를 조회/저장하고 계산
+     */
+    private Mono<Integer> totalPages(CrawlProgress progress) {
+        Integer known = progress.totalPages();
+        if (known != null && !progress.isPending(1)) {
+            return Mono.just(known);
+        }
+        return fetch(progress, 1)
+                .flatMap(page -> write(progress, page))
+                .map(result -> progress.totalPages());
+    }
+
+    /**
+     * 페이지 조회 + 파싱 (실패하면 실패 페이지로 기록하고 건너뜀)
+     */
+    private Mono<FetchedPage> fetch(CrawlProgress progress, int pageNo) {
+        WelfareCrawlTarget target = progress.target;
+        int numOfRows = crawlerProperties.getNumOfRows();
+        return rateLimiter.acquire()
+                .then(Mono.defer(() -> request(target, pageNo, numOfRows)))
+                .retryWhen(Retry.backoff(crawlerProperties.getMaxRetryCount(),
+                                Duration.ofMillis(crawlerProperties.getRetryBackoffMillis()))
+                        .jitter(0.5)
+                        .filter(this::isRetryable))
+                .publishOn(Schedulers.boundedElastic())
+                .map(xml -> parse(target, pageNo, xml))
+                .onErrorResume(e -> {
+                    log.error("{} 페이지 {} 조회 실패: {}", target.key(), pageNo, e.getMessage());
+                    progress.fail(pageNo);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 보강 후 일괄 저장, 체크포인트 갱신 (실패하면 실패 페이지로 기록하고 건너뜀)
+     */
+    private Mono<WelfareBulkSyncService.SyncResult> write(CrawlProgress progress, FetchedPage page) {
+        return Mono.fromCallable(() -> {
+                    if (page.pageNo() == 1) {
+                        progress.recordTotalPages(Math.max(1, (page.totalCount() + page.numOfRows() - 1) / page.numOfRows()));
+                    }
+                    page.benefits().forEach(dataEnrichmentService::enrichWelfareBenefit);
+                    WelfareBulkSyncService.SyncResult result = welfareBulkSyncService.syncPage(page.benefits());
+                    synchronized (progress) {
+                        progress.complete(page.pageNo(), result);
+                        checkpointRepository.save(progress.checkpoint);
+                    }
+                    return result;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.error("{} 페이지 {} 저장 실패: {}", progress.target.key(), page.pageNo(), e.getMessage());
+                    progress.fail(page.pageNo());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<String> request(WelfareCrawlTarget target, int pageNo, int numOfRows) {
+        if (target.serviceType() == WelfareType.CENTRAL) {
+            return welfareApiService.fetchCentralWelfareServices(pageNo, numOfRows, target.lifeArray(), null, null);
+        }
+        return welfareApiService.fetchLocalWelfareServices(
+                target.sidoName(), target.sigunguName(), pageNo, numOfRows, target.lifeArray(), null);
+    }
+
+    private FetchedPage parse(WelfareCrawlTarget target, int pageNo, String xml) {
+        int numOfRows = crawlerProperties.getNumOfRows();
+        if (target.serviceType() == WelfareType.CENTRAL) {
+            WelfareApiResponse response = xmlParsingService.parseXmlResponse(xml);
+            if (!xmlParsingService.isSuccessResponse(response)) {
+                throw new IllegalStateException("API 오류 응답: " + (response != null ? response.getResultMessage() : "파싱 실패"));
+            }
+            return new FetchedPage(pageNo, numOfRows, response.getTotalCount() != null ? response.getTotalCount() : 0,
+                    xmlParsingService.convertToEntities(response, WelfareType.CENTRAL));
+        }
+
+        LocalWelfareApiResponse response = xmlParsingService.parseLocalXmlResponse(xml);
+        if (!xmlParsingService.isLocalSuccessResponse(response)) {
+            throw new IllegalStateException("API 오류 응답: " + (response != null ? response.getResultMessage() : "파싱 실패"));
+        }
+        return new FetchedPage(pageNo, numOfRows, parseCount(response.getTotalCount()),
+                xmlParsingService.convertLocalToEntities(response));
+    }
+
+    /**
+     * 일시적 오류만 재시도 (연결 실패, 타임아웃, 5xx, 429)
+     */
+    private boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    /**
+     * 체크포인트 조회 - 재개 가능 기간 안의 미완료 수집이면 이어서, 아니면 처음부터
+     */
+    private CrawlProgress begin(WelfareCrawlTarget target) {
+        LocalDateTime notBefore = LocalDateTime.now().minusHours(crawlerProperties.getResumeWindowHours());
+        WelfareSyncCheckpoint checkpoint = checkpointRepository.findByTargetKey(target.key()).orElse(null);
+        if (checkpoint == null) {
+            checkpoint = WelfareSyncCheckpoint.start(target.key());
+        } else if (checkpoint.isResumable(notBefore)) {
+            log.info("{} 수집 재개 - {}/{} 페이지 완료", target.key(), checkpoint.getCompletedPage(), checkpoint.getTotalPages());
+        } else {
+            checkpoint.restart();
+        }
+        return new CrawlProgress(target, checkpointRepository.save(checkpoint));
+    }
+
+    private TargetResult finish(CrawlProgress progress) {
+        synchronized (progress) {
+            boolean finished = progress.failedPages.isEmpty() && progress.totalPages() != null
+                    && progress.checkpoint.getCompletedPage() >= progress.totalPages();
+            if (finished) {
+                progress.checkpoint.finish();
+                checkpointRepository.save(progress.checkpoint);
+            } else {
+                log.warn("{} 수집 미완료 - 실패 페이지 {}, 다음 수집에서 {}페이지부터 재개",
+                        progress.target.key(), progress.failedPages, progress.checkpoint.getCompletedPage() + 1);
+            }
+            return new TargetResult(progress.target.key(), finished, progress.pages,
+                    progress.inserted, progress.updated, progress.unchanged, List.copyOf(progress.failedPages));
+        }
+    }
+
+    private int parseCount(String value) {
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private record FetchedPage(int pageNo, int numOfRows, int totalCount, List<WelfareBenefit> benefits) {
+    }
+
+    /**
+     * 대상별 수집 결과
+     */
+    public record TargetResult(String targetKey, boolean finished, int pages, int inserted, int updated,
+                               int unchanged, List<Integer> failedPages) {
+
+        static TargetResult failed(String targetKey) {
+            return new TargetResult(targetKey, false, 0, 0, 0, 0, List.of());
+        }
+    }
+
+    /**
+     * 대상별 진행 상태 - 페이지가 순서 없이 끝나므로 연속 완료 구간만 체크포인트에 반영
+     */
+    static final class CrawlProgress {
+
+        private final WelfareCrawlTarget target;
+        private final WelfareSyncCheckpoint checkpoint;
+        // 체크포인트 이후 완료됐지만 앞 페이지가 아직 안 끝난 페이지
+        private final TreeSet<Integer> completedAhead = new TreeSet<>();
+        private final List<Integer> failedPages = new ArrayList<>();
+        private int pages;
+        private int inserted;
+        private int updated;
+        private int unchanged;
+
+        CrawlProgress(WelfareCrawlTarget target, WelfareSyncCheckpoint checkpoint) {
+            this.target = target;
+            this.checkpoint = checkpoint;
+        }
+
+        synchronized boolean isPending(int pageNo) {
+            return pageNo > checkpoint.getCompletedPage() && !completedAhead.contains(pageNo);
+        }
+
+        synchronized Integer totalPages() {
+            return checkpoint.getTotalPages();
+        }
+
+        synchronized int completedPage() {
+            return checkpoint.getCompletedPage();
+        }
+
+        synchronized void recordTotalPages(int totalPages) {
+            checkpoint.recordTotalPages(totalPages);
+        }
+
+        synchronized void complete(int pageNo, WelfareBulkSyncService.SyncResult result) {
+            pages++;
+            inserted += result.inserted();
+            updated += result.updated();
+            unchanged += result.unchanged();
+
+            completedAhead.add(pageNo);
+            int completed = checkpoint.getCompletedPage();
+            while (completedAhead.remove(completed + 1)) {
+                completed++;
+            }
+            checkpoint.advanceTo(completed);
+        }
+
+        synchronized void fail(int pageNo) {
+            failedPages.add(pageNo);
+        }
+    }
+}
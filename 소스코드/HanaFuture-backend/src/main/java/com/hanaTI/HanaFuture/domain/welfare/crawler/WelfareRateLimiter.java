@@ -0,0 +1,55 @@
+package com.hanaTI.HanaFuture.domain.welfare.crawler;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 호출 제한 (GCRA 방식 - 다음 호출 가능 시각 하나만 보관)
+ * - 초당 permitsPerSecond 개 토큰이 차고, 최대 burst 개까지 몰아서 사용 가능
+ * - acquire() 는 스레드를 막지 않고 토큰이 생길 때까지 지연되는 Mono 를 돌려줌
+ */
+public class WelfareRateLimiter {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier clock;
+    private long theoreticalArrivalNanos;
+
+    public WelfareRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    WelfareRateLimiter(double permitsPerSecond, int burst, LongSupplier clock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("호출 제한 설정이 올바르지 않습니다.");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+        this.clock = clock;
+        this.theoreticalArrivalNanos = clock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나 예약 후 사용 가능할 때 완료
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    /**
+     * 토큰 하나 예약
+     *
+     * @return 토큰을 사용할 수 있을 때까지 기다려야 하는 시간 (나노초)
+     */
+    synchronized long reserve() {
+        long now = clock.getAsLong();
+        long arrival = Math.max(theoreticalArrivalNanos, now);
+        theoreticalArrivalNanos = arrival + intervalNanos;
+        return Math.max(0, arrival - burstToleranceNanos - now);
+    }
+}
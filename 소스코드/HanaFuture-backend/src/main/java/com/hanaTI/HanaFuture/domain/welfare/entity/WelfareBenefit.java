@@ -159,6 +159,12 @@ public class WelfareBenefit {
     @Column(name = "last_synced_at")
     private LocalDateTime lastSyncedAt;
     
+    /**
+     * API 제공 필드의 내용 해시 (SHA-256, 일괄 동기화 시 변경 없는 행 건너뛰기용)
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
     public void updateFromApi(String serviceName, String lifeCycle, String category,
                              String jurisdictionName, String targetDescription, 
                              String serviceContent, String applicationMethod, 
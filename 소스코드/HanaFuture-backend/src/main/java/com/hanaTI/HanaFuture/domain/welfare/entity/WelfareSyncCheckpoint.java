@@ -0,0 +1,92 @@
+package com.hanaTI.HanaFuture.domain.welfare.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 복지 API 수집 체크포인트 (수집 대상별 1행)
+ * - 연속으로 완료된 마지막 페이지를 기록해 중단된 수집을 그 다음 페이지부터 재개
+ */
+@Entity
+@Table(name = "welfare_sync_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class WelfareSyncCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 수집 대상 키 (예: CENTRAL, LOCAL:서울특별시)
+     */
+    @Column(name = "target_key", unique = true, nullable = false, length = 200)
+    private String targetKey;
+
+    /**
+     * 현재 수집 시작 시각
+     */
+    @Column(name = "run_started_at", nullable = false)
+    private LocalDateTime runStartedAt;
+
+    /**
+     * 전체 페이지 수 (첫 페이지 응답의 totalCount 로 계산)
+     */
+    @Column(name = "total_pages")
+    private Integer totalPages;
+
+    /**
+     * 1페이지부터 연속으로 완료된 마지막 페이지
+     */
+    @Column(name = "completed_page", nullable = false)
+    @Builder.Default
+    private Integer completedPage = 0;
+
+    /**
+     * 수집 완료 시각 (진행 중이면 null)
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static WelfareSyncCheckpoint start(String targetKey) {
+        return WelfareSyncCheckpoint.builder()
+                .targetKey(targetKey)
+                .runStartedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 완료되지 않은 수집이 재개 가능한 기간 안에 시작됐는지
+     */
+    public boolean isResumable(LocalDateTime notBefore) {
+        return finishedAt == null && runStartedAt.isAfter(notBefore);
+    }
+
+    public void restart() {
+        this.runStartedAt = LocalDateTime.now();
+        this.totalPages = null;
+        this.completedPage = 0;
+        this.finishedAt = null;
+    }
+
+    public void recordTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    public void advanceTo(int completedPage) {
+        this.completedPage = completedPage;
+    }
+
+    public void finish() {
+        this.finishedAt = LocalDateTime.now();
+    }
+}
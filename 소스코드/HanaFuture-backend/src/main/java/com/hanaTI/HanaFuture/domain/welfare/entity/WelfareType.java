@@ -12,4 +12,21 @@ public enum WelfareType {
     
     private final String displayName;
     private final String description;
+
+    /**
+     * 문자열로 저장된 서비스 타입 변환 (enum 이름 또는 "중앙정부"/"지자체" 같은 한글 표기, 알 수 없으면 null)
+     */
+    public static WelfareType fromText(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String trimmed = text.trim();
+        if (trimmed.equalsIgnoreCase(CENTRAL.name()) || trimmed.contains("중앙")) {
+            return CENTRAL;
+        }
+        if (trimmed.equalsIgnoreCase(LOCAL.name()) || trimmed.contains("지자체") || trimmed.contains("지방")) {
+            return LOCAL;
+        }
+        return null;
+    }
 }
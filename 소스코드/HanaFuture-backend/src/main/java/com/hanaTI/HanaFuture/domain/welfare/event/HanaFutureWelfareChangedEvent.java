@@ -0,0 +1,10 @@
+package com.hanaTI.HanaFuture.domain.welfare.event;
+
+/**
+ * 하나퓨처 맞춤 복지 혜택 테이블 변경 이벤트 (이관/AI 필터링 저장 후 발행)
+ * - 검색 색인과 메모리 스냅샷이 받아서 다시 적재
+ *
+ * @param savedCount 저장된 혜택 수
+ */
+public record HanaFutureWelfareChangedEvent(int savedCount) {
+}
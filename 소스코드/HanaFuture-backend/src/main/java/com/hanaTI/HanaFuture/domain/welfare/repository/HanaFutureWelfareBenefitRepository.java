@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -27,6 +28,18 @@ public interface HanaFutureWelfareBenefitRepository extends JpaRepository<HanaFu
      */
     Page<HanaFutureWelfareBenefit> findByIsActiveTrueOrderByServiceTypeAscAiRelevanceScoreDescCreatedAtDesc(Pageable pageable);
 
+    /**
+     * 활성 혜택 ID 순 조회 (검색 색인 적재용, lastId 이후부터)
+     */
+    List<HanaFutureWelfareBenefit> findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+
+    /**
+     * 활성 혜택 요약 (메모리 스냅샷 변경 확인용 - 건수, 최대 ID, 최근 수정 시각)
+     */
+    @Query("SELECT COUNT(h) AS count, MAX(h.id) AS maxId, MAX(h.updatedAt) AS lastUpdatedAt " +
+           "FROM HanaFutureWelfareBenefit h WHERE h.isActive = true")
+    CatalogVersion findActiveCatalogVersion();
+
     /**
      * 서비스 타입별 활성 혜택 조회
      */
@@ -136,5 +149,10 @@ public interface HanaFutureWelfareBenefitRepository extends JpaRepository<HanaFu
     @Query("SELECT h FROM HanaFutureWelfareBenefit h WHERE h.isActive = true " +
            "ORDER BY h.aiFilteredAt DESC, h.createdAt DESC")
     Page<HanaFutureWelfareBenefit> findRecentlyAdded(Pageable pageable);
-}
 
+    interface CatalogVersion {
+        Long getCount();
+        Long getMaxId();
+        LocalDateTime getLastUpdatedAt();
+    }
+}
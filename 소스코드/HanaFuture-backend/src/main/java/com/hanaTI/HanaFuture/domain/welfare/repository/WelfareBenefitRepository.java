@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,12 +20,29 @@ public interface WelfareBenefitRepository extends JpaRepository<WelfareBenefit,
      * 서비스 ID로 복지 혜택 조회
      */
     Optional<WelfareBenefit> findByServiceId(String serviceId);
+
+    /**
+     * 서비스 ID 목록으로 기존 행의 동기화 상태 조회 (일괄 동기화용 - LOB 컬럼 제외)
+     */
+    @Query("SELECT w.id AS id, w.serviceId AS serviceId, w.contentHash AS contentHash " +
+           "FROM WelfareBenefit w WHERE w.serviceId IN :serviceIds")
+    List<SyncState> findSyncStatesByServiceIdIn(@Param("serviceIds") Collection<String> serviceIds);
+
+    /**
+     * 서비스 ID 목록으로 조회
+     */
+    List<WelfareBenefit> findByServiceIdIn(Collection<String> serviceIds);
     
     /**
      * 활성 상태인 복지 혜택만 조회
      */
     Page<WelfareBenefit> findByIsActiveTrue(Pageable pageable);
     
+    /**
+     * 활성 복지 혜택 ID 순 조회 (검색 색인 적재용, lastId 이후부터)
+     */
+    List<WelfareBenefit> findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+    
     /**
      * 서비스 유형별 조회
      */
@@ -128,4 +146,10 @@ public interface WelfareBenefitRepository extends JpaRepository<WelfareBenefit,
     Long countByCategoryIsNull();
     Long countByAreaCodeIsNull();
     Long countBySupportCycleIsNull();
+
+    interface SyncState {
+        Long getId();
+        String getServiceId();
+        String getContentHash();
+    }
 }
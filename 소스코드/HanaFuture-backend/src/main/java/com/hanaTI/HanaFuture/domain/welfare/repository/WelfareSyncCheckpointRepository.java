@@ -0,0 +1,16 @@
+package com.hanaTI.HanaFuture.domain.welfare.repository;
+
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareSyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface WelfareSyncCheckpointRepository extends JpaRepository<WelfareSyncCheckpoint, Long> {
+
+    /**
+     * 수집 대상 키로 체크포인트 조회
+     */
+    Optional<WelfareSyncCheckpoint> findByTargetKey(String targetKey);
+}
@@ -7,6 +7,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 복지 데이터 주기적 동기화 스케줄러
  */
@@ -16,6 +18,11 @@ import org.springframework.stereotype.Component;
 @ConditionalOnProperty(name = "welfare.scheduler.enabled", havingValue = "true", matchIfMissing = false)
 public class WelfareDataScheduler {
     
+    // 지자체 API 의 ctpvNm 은 시도명으로 조회
+    private static final List<String> MAJOR_SIDO_NAMES = List.of(
+            "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시",
+            "대전광역시", "울산광역시", "경기도", "강원특별자치도");
+    
     private final WelfareBenefitService welfareBenefitService;
     
     /**
@@ -40,25 +47,13 @@ public class WelfareDataScheduler {
     public void syncLocalWelfareData() {
         log.info("=== 지자체 복지서비스 정기 동기화 시작 ===");
         
-        // 주요 광역시/도 동기화
-        String[] majorCities = {"11", "26", "27", "28", "29", "30", "31", "41", "42"};
-        String[] cityNames = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "경기", "강원"};
-        
-        for (int i = 0; i < majorCities.length; i++) {
-            try {
-                log.info("{} 지자체 복지서비스 동기화 시작", cityNames[i]);
-                welfareBenefitService.syncLocalWelfareServices(majorCities[i], null);
-                log.info("{} 지자체 복지서비스 동기화 완료", cityNames[i]);
-                
-                // API 호출 간격 조절
-                Thread.sleep(3000);
-                
-            } catch (Exception e) {
-                log.error("{} 지자체 복지서비스 동기화 실패: {}", cityNames[i], e.getMessage());
-            }
+        // 주요 광역시/도 동기화 (시도별로 동시에 수집, 호출 간격은 수집기의 호출 제한으로 조절)
+        try {
+            welfareBenefitService.syncLocalWelfareServices(MAJOR_SIDO_NAMES);
+            log.info("=== 지자체 복지서비스 정기 동기화 완료 ===");
+        } catch (Exception e) {
+            log.error("지자체 복지서비스 정기 동기화 실패", e);
         }
-        
-        log.info("=== 지자체 복지서비스 정기 동기화 완료 ===");
     }
     
     /**
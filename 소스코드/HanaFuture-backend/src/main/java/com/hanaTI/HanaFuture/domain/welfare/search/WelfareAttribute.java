@@ -0,0 +1,111 @@
+package com.hanaTI.HanaFuture.domain.welfare.search;
+
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareBenefit;
+
+import java.util.function.Predicate;
+
+/**
+ * 맞춤 추천용 복지 혜택 속성
+ * - 색인할 때 혜택마다 한 번 판정해 비트셋(WelfareSearchDocument.attributes)으로 보관
+ * - 키워드 속성은 서비스명/대상/내용에 포함 여부 (기존 추천의 키워드 검색 대상과 동일), 생애주기 속성은 생애주기에 포함 여부
+ */
+public enum WelfareAttribute {
+
+    // 임신·자녀
+    PREGNANCY(text("임신")),
+    CHILDBIRTH(text("출산")),
+    MATERNITY(text("산모")),
+    CHILD_CARE_SERVICE(text("아이돌봄")),
+    CHILDCARE(text("보육")),
+    MULTI_CHILD(text("다자녀")),
+    INFANT_LIFE_CYCLE(lifeCycle("영유아")),
+    CHILD_LIFE_CYCLE(lifeCycle("아동")),
+
+    // 소득 수준
+    BASIC_LIVELIHOOD(text("기초생활")),
+    LIVELIHOOD_BENEFIT(text("생계급여")),
+    MEDICAL_BENEFIT(text("의료급여")),
+    NEAR_POVERTY(text("차상위")),
+    LOW_INCOME(text("저소득")),
+    CHILD_ALLOWANCE(text("아동수당")),
+    PARENT_BENEFIT(text("부모급여")),
+    PARENTAL_LEAVE(text("육아휴직")),
+    BIRTH_SUPPORT(text("출산지원")),
+
+    // 특수 상황
+    SINGLE_PARENT(text("한부모")),
+    CHILD_REARING(text("양육")),
+    MULTICULTURAL(text("다문화")),
+    DISABILITY(text("장애인")),
+
+    // 저소득층 전용 혜택 (서비스명 또는 대상에 저소득층 조건)
+    LOW_INCOME_ONLY(benefit -> containsAny(benefit.getServiceName(), "저소득", "기초생활", "차상위", "생계급여", "의료급여")
+            || containsAny(benefit.getTargetDescription(), "저소득", "기초생활", "차상위")),
+
+    // 서비스명에 다른 광역시 이름이 들어간 혜택 (해당 지역 거주자 전용)
+    NAMED_BUSAN(name("부산")),
+    NAMED_DAEGU(name("대구")),
+    NAMED_INCHEON(name("인천")),
+    NAMED_GWANGJU(name("광주")),
+    NAMED_DAEJEON(name("대전")),
+    NAMED_ULSAN(name("울산")),
+    NAMED_SEJONG(name("세종"));
+
+    private final Predicate<WelfareBenefit> condition;
+
+    WelfareAttribute(Predicate<WelfareBenefit> condition) {
+        this.condition = condition;
+    }
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    public static long mask(WelfareAttribute... attributes) {
+        long mask = 0;
+        for (WelfareAttribute attribute : attributes) {
+            mask |= attribute.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * 혜택의 속성 비트셋
+     */
+    public static long of(WelfareBenefit benefit) {
+        long attributes = 0;
+        for (WelfareAttribute attribute : values()) {
+            if (attribute.condition.test(benefit)) {
+                attributes |= attribute.bit();
+            }
+        }
+        return attributes;
+    }
+
+    private static Predicate<WelfareBenefit> text(String keyword) {
+        return benefit -> contains(benefit.getServiceName(), keyword)
+                || contains(benefit.getServiceContent(), keyword)
+                || contains(benefit.getTargetDescription(), keyword);
+    }
+
+    private static Predicate<WelfareBenefit> lifeCycle(String keyword) {
+        return benefit -> contains(benefit.getLifeCycle(), keyword);
+    }
+
+    private static Predicate<WelfareBenefit> name(String keyword) {
+        return benefit -> contains(benefit.getServiceName(), keyword);
+    }
+
+    private static boolean containsAny(String value, String... keywords) {
+        for (String keyword : keywords) {
+            if (contains(value, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean contains(String value, String keyword) {
+        return value != null && value.contains(keyword);
+    }
+}
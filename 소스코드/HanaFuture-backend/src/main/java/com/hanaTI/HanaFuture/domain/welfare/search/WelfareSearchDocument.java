@@ -0,0 +1,90 @@
+package com.hanaTI.HanaFuture.domain.welfare.search;
+
+import com.hanaTI.HanaFuture.domain.welfare.entity.HanaFutureWelfareBenefit;
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareBenefit;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 색인 문서 - 용어별 가중 빈도, 가중 문서 길이, 필터 값, 추천 순위용 속성 비트셋/정렬 값
+ * - 서비스명은 본문보다 가중치를 높게 줘서 이름에 검색어가 있는 혜택이 앞에 오도록 함
+ * - 색인 대상 필드는 기존 LIKE 검색 대상과 동일 (welfare_benefits: 서비스명/대상/내용, 하나퓨처: + 분류/생애주기)
+ * - 속성 비트셋(WelfareAttribute)은 welfare_benefits 문서만 계산
+ */
+public record WelfareSearchDocument(
+        Long id,
+        Map<String, Float> termFrequencies,
+        float length,
+        String serviceType,
+        String sidoName,
+        String sigunguName,
+        String lifeCycle,
+        String category,
+        long attributes,
+        Long supportAmount,
+        long syncedAt) {
+
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float ATTRIBUTE_WEIGHT = 1.5f;
+    private static final float BODY_WEIGHT = 1.0f;
+
+    public static WelfareSearchDocument from(WelfareBenefit benefit) {
+        Map<String, Float> termFrequencies = new HashMap<>();
+        float length = addField(termFrequencies, benefit.getServiceName(), NAME_WEIGHT)
+                + addField(termFrequencies, benefit.getTargetDescription(), BODY_WEIGHT)
+                + addField(termFrequencies, benefit.getServiceContent(), BODY_WEIGHT);
+        return new WelfareSearchDocument(
+                benefit.getId(),
+                termFrequencies,
+                length,
+                benefit.getServiceType() != null ? benefit.getServiceType().name() : null,
+                benefit.getSidoName(),
+                benefit.getSigunguName(),
+                benefit.getLifeCycle(),
+                benefit.getCategory(),
+                WelfareAttribute.of(benefit),
+                benefit.getSupportAmount(),
+                epochSecond(benefit.getLastSyncedAt() != null ? benefit.getLastSyncedAt() : benefit.getUpdatedAt()));
+    }
+
+    public static WelfareSearchDocument from(HanaFutureWelfareBenefit benefit) {
+        Map<String, Float> termFrequencies = new HashMap<>();
+        float length = addField(termFrequencies, benefit.getServiceName(), NAME_WEIGHT)
+                + addField(termFrequencies, benefit.getCategory(), ATTRIBUTE_WEIGHT)
+                + addField(termFrequencies, benefit.getLifeCycle(), ATTRIBUTE_WEIGHT)
+                + addField(termFrequencies, benefit.getTargetDescription(), BODY_WEIGHT)
+                + addField(termFrequencies, benefit.getServiceContent(), BODY_WEIGHT);
+        return new WelfareSearchDocument(
+                benefit.getId(),
+                termFrequencies,
+                length,
+                benefit.getServiceType(),
+                benefit.getSidoName(),
+                benefit.getSigunguName(),
+                benefit.getLifeCycle(),
+                benefit.getCategory(),
+                0L,
+                benefit.getSupportAmount(),
+                epochSecond(benefit.getCreatedAt()));
+    }
+
+    public boolean has(WelfareAttribute attribute) {
+        return (attributes & attribute.bit()) != 0;
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : 0L;
+    }
+
+    private static float addField(Map<String, Float> termFrequencies, String text, float weight) {
+        float length = 0;
+        for (String term : WelfareTokenizer.documentTerms(text)) {
+            termFrequencies.merge(term, weight, Float::sum);
+            length += weight;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,35 @@
+package com.hanaTI.HanaFuture.domain.welfare.search;
+
+/**
+ * 검색 필터 (비어 있는 조건은 적용하지 않음)
+ * - 서비스 유형/시도/시군구는 일치, 생애주기/분류는 포함 여부 (기존 복합 조건 검색과 동일)
+ */
+public record WelfareSearchFilter(
+        String serviceType,
+        String sidoName,
+        String sigunguName,
+        String lifeCycle,
+        String category) {
+
+    public static final WelfareSearchFilter NONE = new WelfareSearchFilter(null, null, null, null, null);
+
+    public static WelfareSearchFilter serviceType(String serviceType) {
+        return new WelfareSearchFilter(serviceType, null, null, null, null);
+    }
+
+    public boolean matches(WelfareSearchDocument document) {
+        return equalsIfSet(serviceType, document.serviceType())
+                && equalsIfSet(sidoName, document.sidoName())
+                && equalsIfSet(sigunguName, document.sigunguName())
+                && containsIfSet(lifeCycle, document.lifeCycle())
+                && containsIfSet(category, document.category());
+    }
+
+    private static boolean equalsIfSet(String condition, String value) {
+        return condition == null || condition.isBlank() || condition.equals(value);
+    }
+
+    private static boolean containsIfSet(String condition, String value) {
+        return condition == null || condition.isBlank() || (value != null && value.contains(condition));
+    }
+}
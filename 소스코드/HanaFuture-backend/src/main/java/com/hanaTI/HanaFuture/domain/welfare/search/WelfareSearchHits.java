@@ -0,0 +1,11 @@
+package com.hanaTI.HanaFuture.domain.welfare.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 - 요청한 페이지의 문서 ID (점수 순) 와 전체 일치 건수
+ */
+public record WelfareSearchHits(List<Long> ids, long total) {
+
+    public static final WelfareSearchHits EMPTY = new WelfareSearchHits(List.of(), 0);
+}
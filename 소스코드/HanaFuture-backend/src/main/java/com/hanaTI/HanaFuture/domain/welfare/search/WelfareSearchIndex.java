@@ -0,0 +1,266 @@
+package com.hanaTI.HanaFuture.domain.welfare.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 복지 혜택 역색인 (프로세스 내)
+ * - 용어 → (문서 ID → 가중 빈도) 포스팅과 문서별 필터 값을 메모리에 보관
+ * - 검색은 검색어 토큰을 모두 포함한 문서만 일치로 보고(가장 짧은 포스팅부터 교집합), BM25 점수 순으로 정렬
+ *   비용은 전체 문서 수가 아니라 포스팅/일치 건수에 비례
+ * - 필터는 교집합 후보의 필터 값으로 판정
+ * - 읽기/쓰기 잠금으로 검색과 증분 갱신을 분리, 전체 재색인 중 들어온 증분 갱신은 새 색인에도 다시 적용
+ */
+public class WelfareSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<ScoredDocument> RANKING = Comparator
+            .comparingDouble(ScoredDocument::score)
+            .thenComparingLong(ScoredDocument::id);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment current = new Segment();
+    // 재색인 중에만 존재 - 재색인 시작 이후의 증분 갱신 기록
+    private List<Consumer<Segment>> journal;
+
+    /**
+     * 문서 추가/교체
+     */
+    public void upsert(WelfareSearchDocument document) {
+        apply(segment -> segment.put(document));
+    }
+
+    /**
+     * 문서 제거
+     */
+    public void remove(Long id) {
+        apply(segment -> segment.remove(id));
+    }
+
+    /**
+     * 전체 재색인 - loader 가 넘겨주는 문서로 새 색인을 만든 뒤 교체 (만드는 동안 기존 색인으로 검색)
+     *
+     * @return 색인된 문서 수
+     */
+    public synchronized int rebuild(Consumer<Consumer<WelfareSearchDocument>> loader) {
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        try {
+            loader.accept(fresh::put);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            journal.forEach(operation -> operation.accept(fresh));
+            journal = null;
+            current = fresh;
+            return fresh.documents.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색
+     *
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 결과 수
+     */
+    public WelfareSearchHits search(String keyword, WelfareSearchFilter filter, int offset, int limit) {
+        Set<String> terms = WelfareTokenizer.queryTerms(keyword);
+        if (terms.isEmpty() || limit <= 0) {
+            return WelfareSearchHits.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            Segment segment = current;
+            List<Map<Long, Float>> postings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Float> posting = segment.postings.get(term);
+                if (posting == null) {
+                    return WelfareSearchHits.EMPTY;
+                }
+                postings.add(posting);
+            }
+            postings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = segment.documents.size();
+            double averageLength = segment.totalLength / documentCount;
+            double[] idf = new double[postings.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = postings.get(i).size();
+                idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            // 상위 offset + limit 건만 유지 (최소 힙)
+            int capacity = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+            PriorityQueue<ScoredDocument> top = new PriorityQueue<>(Math.min(capacity, 1024), RANKING);
+            long total = 0;
+            candidates:
+            for (Map.Entry<Long, Float> entry : postings.get(0).entrySet()) {
+                Long id = entry.getKey();
+                WelfareSearchDocument document = segment.documents.get(id);
+                double norm = K1 * (1 - B + B * document.length() / averageLength);
+                double score = 0;
+                for (int i = 0; i < idf.length; i++) {
+                    Float tf = i == 0 ? entry.getValue() : postings.get(i).get(id);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * tf * (K1 + 1) / (tf + norm);
+                }
+                if (!filter.matches(document)) {
+                    continue;
+                }
+                total++;
+                ScoredDocument scored = new ScoredDocument(id, score);
+                if (top.size() < capacity) {
+                    top.add(scored);
+                } else if (RANKING.compare(scored, top.peek()) > 0) {
+                    top.poll();
+                    top.add(scored);
+                }
+            }
+
+            List<ScoredDocument> ranked = new ArrayList<>(top);
+            ranked.sort(RANKING.reversed());
+            List<Long> ids = new ArrayList<>();
+            for (int i = offset; i < ranked.size(); i++) {
+                ids.add(ranked.get(i).id());
+            }
+            return new WelfareSearchHits(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 문서 1회 순회 순위 선택 (맞춤 추천용)
+     * - ranker 가 순위 키를 돌려준 문서만 후보 (null 이면 제외), 키가 큰 순 (같으면 ID 큰 순)
+     * - 상위 offset + limit 건만 힙에 유지
+     */
+    public <K extends Comparable<K>> WelfareSearchHits rank(Function<WelfareSearchDocument, K> ranker, int offset, int limit) {
+        if (limit <= 0) {
+            return WelfareSearchHits.EMPTY;
+        }
+        Comparator<Ranked<K>> order = Comparator.<Ranked<K>, K>comparing(Ranked::key).thenComparingLong(Ranked::id);
+
+        lock.readLock().lock();
+        try {
+            int capacity = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+            PriorityQueue<Ranked<K>> top = new PriorityQueue<>(Math.min(capacity, 1024), order);
+            long total = 0;
+            for (WelfareSearchDocument document : current.documents.values()) {
+                K key = ranker.apply(document);
+                if (key == null) {
+                    continue;
+                }
+                total++;
+                Ranked<K> ranked = new Ranked<>(document.id(), key);
+                if (top.size() < capacity) {
+                    top.add(ranked);
+                } else if (order.compare(ranked, top.peek()) > 0) {
+                    top.poll();
+                    top.add(ranked);
+                }
+            }
+
+            List<Ranked<K>> sorted = new ArrayList<>(top);
+            sorted.sort(order.reversed());
+            List<Long> ids = new ArrayList<>();
+            for (int i = offset; i < sorted.size(); i++) {
+                ids.add(sorted.get(i).id());
+            }
+            return new WelfareSearchHits(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Segment> operation) {
+        lock.writeLock().lock();
+        try {
+            operation.accept(current);
+            if (journal != null) {
+                journal.add(operation);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record ScoredDocument(long id, double score) {
+    }
+
+    private record Ranked<K>(long id, K key) {
+    }
+
+    /**
+     * 포스팅 + 문서 저장소 (재색인 시 통째로 교체)
+     */
+    private static class Segment {
+
+        private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+        private final Map<Long, WelfareSearchDocument> documents = new HashMap<>();
+        private double totalLength;
+
+        void put(WelfareSearchDocument document) {
+            remove(document.id());
+            document.termFrequencies().forEach((term, tf) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.id(), tf));
+            documents.put(document.id(), document);
+            totalLength += document.length();
+        }
+
+        void remove(Long id) {
+            WelfareSearchDocument removed = documents.remove(id);
+            if (removed == null) {
+                return;
+            }
+            for (String term : removed.termFrequencies().keySet()) {
+                Map<Long, Float> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            totalLength -= removed.length();
+        }
+    }
+}
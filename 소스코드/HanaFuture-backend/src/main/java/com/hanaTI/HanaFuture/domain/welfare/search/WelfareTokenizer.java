@@ -0,0 +1,88 @@
+package com.hanaTI.HanaFuture.domain.welfare.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 복지 혜택 검색용 토크나이저
+ * - 형태소 분석 없이 글자(한글/영문/숫자) 구간을 문자 1-gram + 2-gram 으로 분해 ("아동수당" → 아, 동, 수, 당, 아동, 동수, 수당)
+ *   조사가 붙거나("아동수당을") 띄어 쓰지 않아도 검색어의 2-gram 이 그대로 남아 부분 일치로 찾을 수 있음
+ * - 영문/숫자도 같은 방식이라 기존 LIKE 검색처럼 단어 일부("irp" → "청년irp계좌", "202" → "2025")로도 찾을 수 있음
+ * - 영문은 소문자, 전각 문자는 NFKC 로 정규화
+ * - 검색어는 2-gram 만 사용 (한 글자 검색어는 1-gram)
+ */
+public final class WelfareTokenizer {
+
+    private WelfareTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 (중복 포함, 빈도 계산용)
+     */
+    public static List<String> documentTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        scan(text, false, terms::add);
+        return terms;
+    }
+
+    /**
+     * 검색어 토큰 (중복 제거)
+     */
+    public static Set<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        scan(keyword, true, terms::add);
+        return terms;
+    }
+
+    private static void scan(String text, boolean query, Consumer<String> sink) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            if (!isWordChar(normalized.codePointAt(i))) {
+                i += Character.charCount(normalized.codePointAt(i));
+                continue;
+            }
+            int start = i;
+            while (i < length && isWordChar(normalized.codePointAt(i))) {
+                i += Character.charCount(normalized.codePointAt(i));
+            }
+            emitGrams(normalized.substring(start, i), query, sink);
+        }
+    }
+
+    /**
+     * 글자 구간 분해 (보충 문자도 한 글자로 취급)
+     */
+    private static void emitGrams(String run, boolean query, Consumer<String> sink) {
+        int[] bounds = run.codePoints().map(Character::charCount).toArray();
+        if (bounds.length == 1) {
+            sink.accept(run);
+            return;
+        }
+        int offset = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            int next = offset + bounds[i];
+            if (!query) {
+                sink.accept(run.substring(offset, next));
+            }
+            if (i + 1 < bounds.length) {
+                sink.accept(run.substring(offset, next + bounds[i + 1]));
+            }
+            offset = next;
+        }
+    }
+
+    private static boolean isWordChar(int codePoint) {
+        return Character.isLetterOrDigit(codePoint)
+                || Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -27,6 +27,7 @@ import java.util.List;
 public class ChildcareWelfareService {
     
     private final WelfareBenefitRepository welfareBenefitRepository;
+    private final WelfareSearchIndexService welfareSearchIndexService;
     
     // 육아 관련 키워드들
     private static final List<String> CHILDCARE_KEYWORDS = Arrays.asList(
@@ -57,7 +58,7 @@ public class ChildcareWelfareService {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "supportAmount"));
         
         // 키워드 검색
-        Page<WelfareBenefit> benefits = welfareBenefitRepository.searchByKeyword(keyword, pageable);
+        Page<WelfareBenefit> benefits = welfareSearchIndexService.searchBenefits(keyword, pageable);
         
         return benefits.map(WelfareBenefitResponse::from);
     }
@@ -92,7 +93,7 @@ public class ChildcareWelfareService {
      */
     public Page<WelfareBenefitResponse> getChildcareBenefits(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<WelfareBenefit> benefits = welfareBenefitRepository.searchByKeyword("보육", pageable);
+        Page<WelfareBenefit> benefits = welfareSearchIndexService.searchBenefits("보육", pageable);
         
         return benefits.map(WelfareBenefitResponse::from);
     }
@@ -102,7 +103,7 @@ public class ChildcareWelfareService {
      */
     public Page<WelfareBenefitResponse> getEducationBenefits(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<WelfareBenefit> benefits = welfareBenefitRepository.searchByKeyword("교육", pageable);
+        Page<WelfareBenefit> benefits = welfareSearchIndexService.searchBenefits("교육", pageable);
         
         return benefits.map(WelfareBenefitResponse::from);
     }
@@ -35,6 +35,23 @@ public class WelfareApiService {
     public Mono<String> getCentralWelfareServices(int pageNo, int numOfRows, 
                                                  String lifeArray, String intrsThemaArray, 
                                                  String searchWrd) {
+        return fetchCentralWelfareServices(pageNo, numOfRows, lifeArray, intrsThemaArray, searchWrd)
+                .retryWhen(Retry.backoff(apiProperties.getMaxRetryCount(), Duration.ofSeconds(1)))
+                .doOnError(WebClientResponseException.class, ex -> {
+                    log.error("중앙부처 복지서비스 조회 실패 - 상태코드: {}, 응답: {}", 
+                            ex.getStatusCode(), ex.getResponseBodyAsString());
+                })
+                .doOnError(Exception.class, ex -> {
+                    log.error("중앙부처 복지서비스 조회 중 예외 발생", ex);
+                });
+    }
+    
+    /**
+     * 중앙부처 복지서비스 조회 (재시도 없이 한 번 - 호출 제한/재시도는 호출하는 쪽에서 관리)
+     */
+    public Mono<String> fetchCentralWelfareServices(int pageNo, int numOfRows,
+                                                    String lifeArray, String intrsThemaArray,
+                                                    String searchWrd) {
         // API가 비활성화된 경우 빈 결과 반환
         if (!apiProperties.getEnabled()) {
             log.warn("복지 API가 비활성화되어 있습니다. (정부 전산망 오류로 인한 임시 조치)");
@@ -67,31 +84,40 @@ public class WelfareApiService {
                     return builder.build();
                 })
                 .retrieve()
-                .bodyToMono(String.class)
+                .bodyToMono(String.class);
+    }
+    
+    /**
+     * 지자체 복지서비스 조회 (목록)
+     */
+    public Mono<String> getLocalWelfareServices(String ctpvCd, String sggCd,
+                                              int pageNo, int numOfRows,
+                                              String lifeArray, String searchWrd) {
+        return fetchLocalWelfareServices(ctpvCd, sggCd, pageNo, numOfRows, lifeArray, searchWrd)
                 .retryWhen(Retry.backoff(apiProperties.getMaxRetryCount(), Duration.ofSeconds(1)))
                 .doOnError(WebClientResponseException.class, ex -> {
-                    log.error("중앙부처 복지서비스 조회 실패 - 상태코드: {}, 응답: {}", 
+                    log.error("지자체 복지서비스 조회 실패 - 상태코드: {}, 응답: {}", 
                             ex.getStatusCode(), ex.getResponseBodyAsString());
                 })
                 .doOnError(Exception.class, ex -> {
-                    log.error("중앙부처 복지서비스 조회 중 예외 발생", ex);
+                    log.error("지자체 복지서비스 조회 중 예외 발생", ex);
                 });
     }
     
     /**
-     * 지자체 복지서비스 조회 (목록)
+     * 지자체 복지서비스 조회 (재시도 없이 한 번 - 호출 제한/재시도는 호출하는 쪽에서 관리)
      */
-    public Mono<String> getLocalWelfareServices(String ctpvCd, String sggCd,
-                                              int pageNo, int numOfRows,
-                                              String lifeArray, String searchWrd) {
+    public Mono<String> fetchLocalWelfareServices(String ctpvNm, String sggNm,
+                                                  int pageNo, int numOfRows,
+                                                  String lifeArray, String searchWrd) {
         // API가 비활성화된 경우 빈 결과 반환
         if (!apiProperties.getEnabled()) {
             log.warn("복지 API가 비활성화되어 있습니다. (정부 전산망 오류로 인한 임시 조치)");
             return Mono.just("<?xml version=\"1.0\" encoding=\"UTF-8\"?><response><header><resultCode>00</resultCode><resultMsg>정상처리</resultMsg></header><body><items></items><numOfRows>0</numOfRows><pageNo>1</pageNo><totalCount>0</totalCount></body></response>");
         }
         
-        log.info("지자체 복지서비스 조회 - 시도코드: {}, 시군구코드: {}, 페이지: {}, 크기: {}, 생애주기: {}, 키워드: {}", 
-                ctpvCd, sggCd, pageNo, numOfRows, lifeArray, searchWrd);
+        log.info("지자체 복지서비스 조회 - 시도명: {}, 시군구명: {}, 페이지: {}, 크기: {}, 생애주기: {}, 키워드: {}", 
+                ctpvNm, sggNm, pageNo, numOfRows, lifeArray, searchWrd);
         
         return webClient.get()
                 .uri(uriBuilder -> {
@@ -102,11 +128,11 @@ public class WelfareApiService {
                             .queryParam("numOfRows", numOfRows)
                             .queryParam("srchKeyCode", "001"); // 기본값: 제목 검색
                     
-                    if (ctpvCd != null && !ctpvCd.trim().isEmpty()) {
-                        builder.queryParam("ctpvNm", ctpvCd); // 시도명으로 변경
+                    if (ctpvNm != null && !ctpvNm.trim().isEmpty()) {
+                        builder.queryParam("ctpvNm", ctpvNm);
                     }
-                    if (sggCd != null && !sggCd.trim().isEmpty()) {
-                        builder.queryParam("sggNm", sggCd); // 시군구명으로 변경
+                    if (sggNm != null && !sggNm.trim().isEmpty()) {
+                        builder.queryParam("sggNm", sggNm);
                     }
                     if (lifeArray != null && !lifeArray.trim().isEmpty()) {
                         builder.queryParam("lifeArray", lifeArray);
@@ -118,15 +144,7 @@ public class WelfareApiService {
                     return builder.build();
                 })
                 .retrieve()
-                .bodyToMono(String.class)
-                .retryWhen(Retry.backoff(apiProperties.getMaxRetryCount(), Duration.ofSeconds(1)))
-                .doOnError(WebClientResponseException.class, ex -> {
-                    log.error("지자체 복지서비스 조회 실패 - 상태코드: {}, 응답: {}", 
-                            ex.getStatusCode(), ex.getResponseBodyAsString());
-                })
-                .doOnError(Exception.class, ex -> {
-                    log.error("지자체 복지서비스 조회 중 예외 발생", ex);
-                });
+                .bodyToMono(String.class);
     }
     
     /**
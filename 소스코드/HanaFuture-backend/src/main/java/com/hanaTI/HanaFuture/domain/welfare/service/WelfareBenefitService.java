@@ -1,13 +1,11 @@
 package com.hanaTI.HanaFuture.domain.welfare.service;
 
-import com.hanaTI.HanaFuture.domain.welfare.config.WelfareApiProperties;
+import com.hanaTI.HanaFuture.domain.welfare.crawler.WelfareCrawlTarget;
+import com.hanaTI.HanaFuture.domain.welfare.crawler.WelfareCrawler;
 import com.hanaTI.HanaFuture.domain.welfare.dto.WelfareBenefitResponse;
 import com.hanaTI.HanaFuture.domain.welfare.dto.WelfareBenefitDetailResponse;
 import com.hanaTI.HanaFuture.domain.welfare.dto.WelfareSearchRequest;
-import com.hanaTI.HanaFuture.domain.welfare.dto.external.WelfareApiResponse;
-import com.hanaTI.HanaFuture.domain.welfare.dto.external.LocalWelfareApiResponse;
 import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareBenefit;
-import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareType;
 import com.hanaTI.HanaFuture.domain.welfare.repository.WelfareBenefitRepository;
 import com.hanaTI.HanaFuture.global.exception.CustomException;
 import com.hanaTI.HanaFuture.global.exception.ErrorCode;
@@ -18,10 +16,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Service
@@ -30,17 +29,16 @@ import java.util.Optional;
 public class WelfareBenefitService {
     
     private final WelfareBenefitRepository welfareBenefitRepository;
-    private final WelfareApiService welfareApiService;
-    private final WelfareXmlParsingService xmlParsingService;
     private final WelfareDataEnrichmentService dataEnrichmentService;
-    private final WelfareApiProperties welfareApiProperties;
+    private final WelfareSearchIndexService welfareSearchIndexService;
+    private final WelfareCrawler welfareCrawler;
     
     /**
-     * 복지 혜택 검색
+     * 복지 혜택 검색 (키워드가 있으면 검색 색인에서 관련도 순으로 조회)
      */
     public Page<WelfareBenefitResponse> searchBenefits(WelfareSearchRequest request) {
         Pageable pageable = createPageable(request);
-        Page<WelfareBenefit> benefits = welfareBenefitRepository.findByComplexConditions(
+        Page<WelfareBenefit> benefits = welfareSearchIndexService.searchBenefits(
                 request.getServiceType(),
                 request.getSidoName(),
                 request.getSigunguName(),
@@ -108,157 +106,44 @@ public class WelfareBenefitService {
     }
     
     /**
-     * 중앙정부 복지서비스 동기화
+     * 중앙정부 복지서비스 동기화 (전체 페이지)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 페이지마다 WelfareBulkSyncService 트랜잭션으로 저장
     public void syncCentralWelfareServices() {
-        // API가 비활성화된 경우 동기화 건너뛰기
-        if (!welfareApiProperties.getEnabled()) {
-            log.warn("복지 API가 비활성화되어 있어 중앙정부 복지서비스 동기화를 건너뜁니다. (정부 전산망 오류로 인한 임시 조치)");
-            return;
-        }
-        
         log.info("중앙정부 복지서비스 동기화 시작");
-        
-        try {
-            // 전체 데이터 동기화 (첫 3페이지)
-            for (int page = 1; page <= 3; page++) {
-                syncCentralPage(page, 100, null, null, null);
-                Thread.sleep(1000); // API 호출 간격
-            }
-            
-            // 육아 관련 특별 동기화
-            syncCentralPage(1, 50, "001", null, null); // 영유아
-            syncCentralPage(1, 50, "002", null, null); // 아동
-            syncCentralPage(1, 50, "007", null, null); // 임신·출산
-            
-        } catch (Exception e) {
-            log.error("중앙정부 복지서비스 동기화 실패", e);
-        }
+        welfareCrawler.crawl(List.of(WelfareCrawlTarget.central()));
     }
     
     /**
-     * 지자체 복지서비스 동기화
+     * 지자체 복지서비스 동기화 (전체 페이지)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 페이지마다 WelfareBulkSyncService 트랜잭션으로 저장
     public void syncLocalWelfareServices(String sidoName, String sigunguName) {
-        // API가 비활성화된 경우 동기화 건너뛰기
-        if (!welfareApiProperties.getEnabled()) {
-            log.warn("복지 API가 비활성화되어 있어 지자체 복지서비스 동기화를 건너뜁니다. (정부 전산망 오류로 인한 임시 조치)");
-            return;
-        }
-        
         log.info("지자체 복지서비스 동기화 시작 - 지역: {}", sidoName);
-        
-        try {
-            // 지자체 데이터 동기화 (첫 2페이지)
-            for (int page = 1; page <= 2; page++) {
-                syncLocalPage(page, 50, sidoName, sigunguName);
-                Thread.sleep(1000); // API 호출 간격
-            }
-            
-        } catch (Exception e) {
-            log.error("지자체 복지서비스 동기화 실패", e);
-        }
-    }
-    
-    /**
-     * 중앙정부 페이지별 동기화
-     */
-    private void syncCentralPage(int pageNo, int numOfRows, String lifeArray, String intrsThemaArray, String searchWrd) {
-        try {
-            String xmlResponse = welfareApiService.getCentralWelfareServices(
-                    pageNo, numOfRows, lifeArray, intrsThemaArray, searchWrd
-            ).block();
-            
-            if (xmlResponse != null && !xmlResponse.trim().isEmpty()) {
-                WelfareApiResponse apiResponse = xmlParsingService.parseXmlResponse(xmlResponse);
-                
-                if (xmlParsingService.isSuccessResponse(apiResponse)) {
-                    List<WelfareBenefit> benefits = xmlParsingService.convertToEntities(apiResponse, WelfareType.CENTRAL);
-                    
-                    for (WelfareBenefit benefit : benefits) {
-                        // 데이터 보강 후 저장
-                        dataEnrichmentService.enrichWelfareBenefit(benefit);
-                        saveOrUpdateBenefit(benefit);
-                    }
-                    
-                    log.info("중앙정부 페이지 {} 동기화 완료: {}건", pageNo, benefits.size());
-                }
-            }
-        } catch (Exception e) {
-            log.error("중앙정부 페이지 {} 동기화 실패: {}", pageNo, e.getMessage());
-        }
+        welfareCrawler.crawl(List.of(WelfareCrawlTarget.local(sidoName, sigunguName)));
     }
     
     /**
-     * 지자체 페이지별 동기화
+     * 여러 시도의 지자체 복지서비스 동기화 (시도별로 동시에 수집, 호출 제한은 수집기에서 공유)
      */
-    private void syncLocalPage(int pageNo, int numOfRows, String sidoName, String sigunguName) {
-        try {
-            String xmlResponse = welfareApiService.getLocalWelfareServices(
-                    sidoName, sigunguName, pageNo, numOfRows, null, null
-            ).block();
-            
-            if (xmlResponse != null && !xmlResponse.trim().isEmpty()) {
-                LocalWelfareApiResponse apiResponse = xmlParsingService.parseLocalXmlResponse(xmlResponse);
-                
-                if (xmlParsingService.isLocalSuccessResponse(apiResponse)) {
-                    List<WelfareBenefit> benefits = xmlParsingService.convertLocalToEntities(apiResponse);
-                    
-                    for (WelfareBenefit benefit : benefits) {
-                        // 데이터 보강 후 저장
-                        dataEnrichmentService.enrichWelfareBenefit(benefit);
-                        saveOrUpdateBenefit(benefit);
-                    }
-                    
-                    log.info("지자체 {} 페이지 {} 동기화 완료: {}건", sidoName, pageNo, benefits.size());
-                }
-            }
-        } catch (Exception e) {
-            log.error("지자체 {} 페이지 {} 동기화 실패: {}", sidoName, pageNo, e.getMessage());
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 페이지마다 WelfareBulkSyncService 트랜잭션으로 저장
+    public void syncLocalWelfareServices(List<String> sidoNames) {
+        log.info("지자체 복지서비스 동기화 시작 - 지역: {}", sidoNames);
+        welfareCrawler.crawl(sidoNames.stream()
+                .map(sidoName -> WelfareCrawlTarget.local(sidoName, null))
+                .toList());
     }
     
     /**
-     * 복지 혜택 저장 또는 업데이트
+     * 중앙정부 + 여러 시도 지자체 복지서비스 전체 동기화 (한 번의 수집으로 동시에 진행)
      */
-    @Transactional
-    public void saveOrUpdateBenefit(WelfareBenefit benefit) {
-        try {
-            Optional<WelfareBenefit> existingBenefit = welfareBenefitRepository.findByServiceId(benefit.getServiceId());
-            
-            if (existingBenefit.isPresent()) {
-                // 기존 데이터 업데이트
-                WelfareBenefit existing = existingBenefit.get();
-                existing.updateFromApi(
-                        benefit.getServiceName(),
-                        benefit.getLifeCycle(),
-                        benefit.getCategory(),
-                        benefit.getJurisdictionName(),
-                        benefit.getTargetDescription(),
-                        benefit.getServiceContent(),
-                        benefit.getApplicationMethod(),
-                        benefit.getInquiryUrl(),
-                        benefit.getSupportCycle(),
-                        benefit.getServiceProvisionType(),
-                        benefit.getOnlineApplicationPossible(),
-                        benefit.getServiceFirstRegistrationDate()
-                );
-                
-                if (benefit.getSupportAmount() != null) {
-                    existing.updateSupportAmount(benefit.getSupportAmount(), benefit.getSupportAmountDescription());
-                }
-                
-                log.debug("복지 혜택 업데이트: {}", existing.getServiceName());
-            } else {
-                // 새로운 데이터 저장
-                welfareBenefitRepository.save(benefit);
-                log.debug("복지 혜택 신규 저장: {}", benefit.getServiceName());
-            }
-        } catch (Exception e) {
-            log.error("복지 혜택 저장 실패: {}", e.getMessage());
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 페이지마다 WelfareBulkSyncService 트랜잭션으로 저장
+    public void syncAllWelfareServices(List<String> sidoNames) {
+        log.info("복지서비스 전체 동기화 시작 - 중앙정부 + 지역: {}", sidoNames);
+        List<WelfareCrawlTarget> targets = new ArrayList<>();
+        targets.add(WelfareCrawlTarget.central());
+        sidoNames.forEach(sidoName -> targets.add(WelfareCrawlTarget.local(sidoName, null)));
+        welfareCrawler.crawl(targets);
     }
     
     /**
@@ -291,7 +176,7 @@ public class WelfareBenefitService {
                                 benefit.getServiceName(), qualityScore);
                         
                         dataEnrichmentService.enrichWelfareBenefit(benefit);
-                        welfareBenefitRepository.save(benefit);
+                        welfareSearchIndexService.indexBenefit(welfareBenefitRepository.save(benefit));
                     }
                 }
                 
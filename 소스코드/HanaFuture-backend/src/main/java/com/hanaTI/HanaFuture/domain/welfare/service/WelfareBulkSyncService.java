@@ -0,0 +1,314 @@
+package com.hanaTI.HanaFuture.domain.welfare.service;
+
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareBenefit;
+import com.hanaTI.HanaFuture.domain.welfare.repository.WelfareBenefitRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 복지 혜택 일괄 동기화 (API 응답 한 페이지 단위)
+ * - 페이지의 serviceId 를 IN 조회 한 번으로 기존 행과 비교 (LOB 컬럼은 읽지 않음)
+ * - API 제공 필드의 내용 해시가 저장된 해시와 같으면 동기화 시각만 갱신, 다르면 UPDATE, 없으면 INSERT (JDBC 배치)
+ * - 페이지마다 별도 트랜잭션 - 한 페이지 실패가 다른 페이지 저장을 되돌리지 않음
+ * - 배치가 실패하면 건별로 다시 실행해 문제 있는 행만 건너뜀
+ * - 추가/변경된 행만 다시 읽어 검색 색인에 반영 (커밋 후)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WelfareBulkSyncService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO welfare_benefits (
+                service_id, service_name, service_type, life_cycle, category,
+                support_cycle, service_provision_type, online_application_possible, service_first_registration_date,
+                jurisdiction_name, area_code, sido_name, sigungu_name,
+                target_description, service_content, application_method, inquiry_url,
+                support_amount, support_amount_description, is_active,
+                created_at, updated_at, last_synced_at, content_hash
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 기존 단건 동기화와 동일하게 지원금액은 API 값이 있을 때만 덮어씀
+    private static final String UPDATE_SQL = """
+            UPDATE welfare_benefits SET
+                service_name = ?, life_cycle = ?, category = ?, jurisdiction_name = ?,
+                target_description = ?, service_content = ?, application_method = ?, inquiry_url = ?,
+                support_cycle = ?, service_provision_type = ?, online_application_possible = ?,
+                service_first_registration_date = ?,
+                support_amount = CASE WHEN ? IS NULL THEN support_amount ELSE ? END,
+                support_amount_description = CASE WHEN ? IS NULL THEN support_amount_description ELSE ? END,
+                content_hash = ?, last_synced_at = ?, updated_at = ?
+            WHERE id = ?
+            """;
+
+    private final WelfareBenefitRepository welfareBenefitRepository;
+    private final WelfareSearchIndexService welfareSearchIndexService;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * API 응답 한 페이지 저장
+     *
+     * @param benefits API 응답을 변환(보강)한 엔티티 목록 - 같은 serviceId 가 여러 번 있으면 마지막 것 사용
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public SyncResult syncPage(List<WelfareBenefit> benefits) {
+        Map<String, WelfareBenefit> incoming = new LinkedHashMap<>();
+        for (WelfareBenefit benefit : benefits) {
+            if (benefit.getServiceId() != null) {
+                incoming.put(benefit.getServiceId(), benefit);
+            }
+        }
+        if (incoming.isEmpty()) {
+            return SyncResult.EMPTY;
+        }
+
+        Map<String, WelfareBenefitRepository.SyncState> existing = welfareBenefitRepository
+                .findSyncStatesByServiceIdIn(incoming.keySet()).stream()
+                .collect(Collectors.toMap(WelfareBenefitRepository.SyncState::getServiceId, state -> state));
+
+        List<WelfareBenefit> inserts = new ArrayList<>();
+        List<Update> updates = new ArrayList<>();
+        List<Long> unchangedIds = new ArrayList<>();
+        Map<String, String> hashes = new LinkedHashMap<>();
+        for (WelfareBenefit benefit : incoming.values()) {
+            String hash = contentHash(benefit);
+            hashes.put(benefit.getServiceId(), hash);
+            WelfareBenefitRepository.SyncState state = existing.get(benefit.getServiceId());
+            if (state == null) {
+                inserts.add(benefit);
+            } else if (hash.equals(state.getContentHash())) {
+                unchangedIds.add(state.getId());
+            } else {
+                updates.add(new Update(state.getId(), benefit));
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<WelfareBenefit> inserted = insertAll(inserts, hashes, now);
+        List<WelfareBenefit> updated = updateAll(updates, hashes, now);
+        touchAll(unchangedIds, now);
+
+        // 추가/변경된 행 재색인
+        List<String> changedServiceIds = new ArrayList<>(inserted.size() + updated.size());
+        inserted.forEach(benefit -> changedServiceIds.add(benefit.getServiceId()));
+        updated.forEach(benefit -> changedServiceIds.add(benefit.getServiceId()));
+        if (!changedServiceIds.isEmpty()) {
+            welfareBenefitRepository.findByServiceIdIn(changedServiceIds)
+                    .forEach(welfareSearchIndexService::indexBenefit);
+        }
+
+        int skipped = inserts.size() + updates.size() - changedServiceIds.size();
+        SyncResult result = new SyncResult(inserted.size(), updated.size(), unchangedIds.size(), skipped);
+        if (skipped > 0) {
+            log.warn("복지 혜택 일괄 동기화 일부 실패: {}", result);
+        } else {
+            log.debug("복지 혜택 일괄 동기화: {}", result);
+        }
+        return result;
+    }
+
+    /**
+     * @return 저장된 행
+     */
+    private List<WelfareBenefit> insertAll(List<WelfareBenefit> inserts, Map<String, String> hashes, Timestamp now) {
+        if (inserts.isEmpty()) {
+            return inserts;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(),
+                    (ps, benefit) -> bindInsert(ps, benefit, hashes, now));
+            return inserts;
+        } catch (DataAccessException e) {
+            log.warn("복지 혜택 INSERT 배치 실패, 건별 재시도 - {}건: {}", inserts.size(), e.getMessage());
+            return writeOneByOne(inserts, hashes,
+                    benefit -> jdbcTemplate.update(INSERT_SQL, ps -> bindInsert(ps, benefit, hashes, now)));
+        }
+    }
+
+    /**
+     * @return 저장된 행
+     */
+    private List<WelfareBenefit> updateAll(List<Update> updates, Map<String, String> hashes, Timestamp now) {
+        List<WelfareBenefit> benefits = updates.stream().map(Update::benefit).toList();
+        if (updates.isEmpty()) {
+            return benefits;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(),
+                    (ps, update) -> bindUpdate(ps, update, hashes, now));
+            return benefits;
+        } catch (DataAccessException e) {
+            log.warn("복지 혜택 UPDATE 배치 실패, 건별 재시도 - {}건: {}", updates.size(), e.getMessage());
+            Map<String, Update> byServiceId = new HashMap<>();
+            updates.forEach(update -> byServiceId.put(update.benefit().getServiceId(), update));
+            return writeOneByOne(benefits, hashes, benefit -> jdbcTemplate.update(UPDATE_SQL,
+                    ps -> bindUpdate(ps, byServiceId.get(benefit.getServiceId()), hashes, now)));
+        }
+    }
+
+    /**
+     * 배치 실패 후 건별 재실행 - 실패한 행만 건너뛰고 나머지는 저장
+     * - 드라이버에 따라 배치 중 일부 행이 이미 반영됐을 수 있으므로, 저장된 해시가 이미 같은 행은 다시 쓰지 않음
+     * @return 저장된 행
+     */
+    private List<WelfareBenefit> writeOneByOne(List<WelfareBenefit> benefits, Map<String, String> hashes,
+                                               Consumer<WelfareBenefit> write) {
+        Map<String, String> storedHashes = new HashMap<>();
+        welfareBenefitRepository.findSyncStatesByServiceIdIn(hashes.keySet())
+                .forEach(state -> storedHashes.put(state.getServiceId(), state.getContentHash()));
+
+        List<WelfareBenefit> written = new ArrayList<>(benefits.size());
+        for (WelfareBenefit benefit : benefits) {
+            String hash = hashes.get(benefit.getServiceId());
+            if (hash.equals(storedHashes.get(benefit.getServiceId()))) {
+                written.add(benefit);
+                continue;
+            }
+            try {
+                write.accept(benefit);
+                written.add(benefit);
+            } catch (DataAccessException e) {
+                log.warn("복지 혜택 저장 실패, 건너뜀 - serviceId: {}, 사유: {}", benefit.getServiceId(), e.getMessage());
+            }
+        }
+        return written;
+    }
+
+    private static void bindInsert(PreparedStatement ps, WelfareBenefit benefit, Map<String, String> hashes,
+                                   Timestamp now) throws SQLException {
+        ps.setString(1, benefit.getServiceId());
+        ps.setString(2, benefit.getServiceName());
+        ps.setString(3, benefit.getServiceType() != null ? benefit.getServiceType().name() : null);
+        ps.setString(4, benefit.getLifeCycle());
+        ps.setString(5, benefit.getCategory());
+        ps.setString(6, benefit.getSupportCycle());
+        ps.setString(7, benefit.getServiceProvisionType());
+        ps.setString(8, benefit.getOnlineApplicationPossible());
+        ps.setString(9, benefit.getServiceFirstRegistrationDate());
+        ps.setString(10, benefit.getJurisdictionName());
+        ps.setString(11, benefit.getAreaCode());
+        ps.setString(12, benefit.getSidoName());
+        ps.setString(13, benefit.getSigunguName());
+        ps.setString(14, benefit.getTargetDescription());
+        ps.setString(15, benefit.getServiceContent());
+        ps.setString(16, benefit.getApplicationMethod());
+        ps.setString(17, benefit.getInquiryUrl());
+        setLong(ps, 18, benefit.getSupportAmount());
+        ps.setString(19, benefit.getSupportAmountDescription());
+        ps.setBoolean(20, benefit.getIsActive() == null || benefit.getIsActive());
+        ps.setTimestamp(21, now);
+        ps.setTimestamp(22, now);
+        ps.setTimestamp(23, benefit.getLastSyncedAt() != null ? Timestamp.valueOf(benefit.getLastSyncedAt()) : now);
+        ps.setString(24, hashes.get(benefit.getServiceId()));
+    }
+
+    private static void bindUpdate(PreparedStatement ps, Update update, Map<String, String> hashes,
+                                   Timestamp now) throws SQLException {
+        WelfareBenefit benefit = update.benefit();
+        ps.setString(1, benefit.getServiceName());
+        ps.setString(2, benefit.getLifeCycle());
+        ps.setString(3, benefit.getCategory());
+        ps.setString(4, benefit.getJurisdictionName());
+        ps.setString(5, benefit.getTargetDescription());
+        ps.setString(6, benefit.getServiceContent());
+        ps.setString(7, benefit.getApplicationMethod());
+        ps.setString(8, benefit.getInquiryUrl());
+        ps.setString(9, benefit.getSupportCycle());
+        ps.setString(10, benefit.getServiceProvisionType());
+        ps.setString(11, benefit.getOnlineApplicationPossible());
+        ps.setString(12, benefit.getServiceFirstRegistrationDate());
+        setLong(ps, 13, benefit.getSupportAmount());
+        setLong(ps, 14, benefit.getSupportAmount());
+        setLong(ps, 15, benefit.getSupportAmount());
+        ps.setString(16, benefit.getSupportAmountDescription());
+        ps.setString(17, hashes.get(benefit.getServiceId()));
+        ps.setTimestamp(18, now);
+        ps.setTimestamp(19, now);
+        ps.setLong(20, update.id());
+    }
+
+    /**
+     * 변경 없는 행은 동기화 시각만 갱신 (UPDATE 한 번)
+     */
+    private void touchAll(List<Long> ids, Timestamp now) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(now);
+        args.addAll(ids);
+        jdbcTemplate.update("UPDATE welfare_benefits SET last_synced_at = ? WHERE id IN (" + placeholders + ")",
+                args.toArray());
+    }
+
+    /**
+     * API 제공 필드(단건 동기화가 덮어쓰던 필드)의 SHA-256 해시
+     */
+    static String contentHash(WelfareBenefit benefit) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object field : new Object[]{
+                    benefit.getServiceName(), benefit.getLifeCycle(), benefit.getCategory(),
+                    benefit.getJurisdictionName(), benefit.getTargetDescription(), benefit.getServiceContent(),
+                    benefit.getApplicationMethod(), benefit.getInquiryUrl(), benefit.getSupportCycle(),
+                    benefit.getServiceProvisionType(), benefit.getOnlineApplicationPossible(),
+                    benefit.getServiceFirstRegistrationDate(), benefit.getSupportAmount(),
+                    benefit.getSupportAmountDescription()}) {
+                // 필드 경계와 null 을 구분하기 위해 길이를 앞에 붙임
+                byte[] bytes = field != null ? field.toString().getBytes(StandardCharsets.UTF_8) : null;
+                digest.update(Integer.toString(bytes != null ? bytes.length : -1).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) ':');
+                if (bytes != null) {
+                    digest.update(bytes);
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
+        }
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private record Update(Long id, WelfareBenefit benefit) {
+    }
+
+    /**
+     * 페이지 동기화 결과 (신규/변경/변경 없음/저장 실패로 건너뛴 건수)
+     */
+    public record SyncResult(int inserted, int updated, int unchanged, int skipped) {
+
+        public static final SyncResult EMPTY = new SyncResult(0, 0, 0, 0);
+    }
+}
@@ -1,126 +1,274 @@
 package com.hanaTI.HanaFuture.domain.welfare.service;
 
+import com.hanaTI.HanaFuture.domain.welfare.cache.HanaFutureWelfareSnapshot;
 import com.hanaTI.HanaFuture.domain.welfare.dto.WelfareBenefitResponse;
 import com.hanaTI.HanaFuture.domain.welfare.entity.HanaFutureWelfareBenefit;
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareType;
+import com.hanaTI.HanaFuture.domain.welfare.event.HanaFutureWelfareChangedEvent;
 import com.hanaTI.HanaFuture.domain.welfare.repository.HanaFutureWelfareBenefitRepository;
+import com.hanaTI.HanaFuture.domain.welfare.search.WelfareSearchHits;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 하나퓨처 복지 혜택 메모리 캐싱 서비스
- * 하나퓨처 맞춤 복지 혜택을 메모리에 캐싱
- * - DB 조회 없이 빠른 응답 제공 (부하 테스트용)
+ * - 활성 혜택 전체를 불변 스냅샷(HanaFutureWelfareSnapshot)으로 적재해 하나퓨처 복지 조회 API 를 DB 조회 없이 처리
+ * - 주기적으로 테이블 요약(건수/최대 ID/최근 수정 시각)을 확인해 바뀌었을 때만 다시 적재, 이관/AI 필터링 저장 이벤트는 바로 다시 적재
+ * - 새 스냅샷을 다 만든 뒤 참조만 교체하므로 적재 중에도 이전 스냅샷으로 응답
+ * - 적중/미적중 건수와 스냅샷 경과 시간은 Micrometer 지표로 노출 (hanafuture.welfare.snapshot.*)
+ *   조회 한 건당 한 번, 스냅샷만으로 응답했으면 적중 / DB 를 읽었으면(첫 적재 포함) 미적중 - 통계 조회는 집계하지 않음
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WelfareMemoryCacheService {
-    
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
     private final HanaFutureWelfareBenefitRepository hanaFutureRepository;
-    
-    // 메모리에 캐싱된 하나퓨처 복지 혜택 데이터
-    private List<HanaFutureWelfareBenefit> cachedBenefits;
-    
+    private final WelfareSearchIndexService welfareSearchIndexService;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<HanaFutureWelfareSnapshot> snapshot = new AtomicReference<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private long lastVersion;
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("hanafuture.welfare.snapshot.requests", hitCount, LongAdder::sum)
+                .tag("result", "hit")
+                .description("스냅샷으로 처리한 조회 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("hanafuture.welfare.snapshot.requests", missCount, LongAdder::sum)
+                .tag("result", "miss")
+                .description("DB 조회가 필요했던 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("hanafuture.welfare.snapshot.age", this, WelfareMemoryCacheService::getSnapshotAgeSeconds)
+                .baseUnit("seconds")
+                .description("현재 스냅샷 적재 후 경과 시간")
+                .register(meterRegistry);
+        Gauge.builder("hanafuture.welfare.snapshot.size", this, service -> service.getCachedCount())
+                .description("현재 스냅샷의 혜택 수")
+                .register(meterRegistry);
+    }
+
     /**
-     * 애플리케이션 시작 시 하나퓨처 복지 혜택 데이터를 메모리에 로드
+     * 기동 완료 후 적재 (초기 데이터 이관 이벤트로 이미 적재됐으면 변경 확인만)
      */
-    @PostConstruct
-    public void loadCache() {
-        log.info("하나퓨처 복지 혜택 데이터를 메모리에 로드 중...");
-        
-        // AI 관련도 점수 순으로 정렬된 전체 데이터 로드
-        this.cachedBenefits = hanaFutureRepository
-                .findByIsActiveTrueOrderByAiRelevanceScoreDescCreatedAtDesc(PageRequest.of(0, 200))
-                .getContent();
-        
-        log.info("하나퓨처 복지 혜택 {}개를 메모리에 로드했습니다.", cachedBenefits.size());
-    }
-    
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh(false);
+    }
+
+    /**
+     * 주기적 변경 확인
+     */
+    @Scheduled(fixedDelayString = "${hanafuture.welfare.snapshot.refresh-interval-ms:300000}",
+            initialDelayString = "${hanafuture.welfare.snapshot.refresh-interval-ms:300000}")
+    public void refreshIfChanged() {
+        refresh(false);
+    }
+
+    /**
+     * 하나퓨처 테이블 변경 시 다시 적재 (트랜잭션 안에서 발행되면 커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHanaFutureWelfareChanged(HanaFutureWelfareChangedEvent event) {
+        log.info("하나퓨처 복지 혜택 변경 ({}건 저장) - 스냅샷 다시 적재", event.savedCount());
+        refresh(true);
+    }
+
     /**
-     * 빠른 페이징 조회 (DB 조회 없음, 메모리에서만 처리)
-     * 
+     * 캐시 새로고침 (변경 여부와 관계없이 다시 적재)
+     */
+    public void refreshCache() {
+        refresh(true);
+    }
+
+    /**
+     * 빠른 페이징 조회 (AI 관련도 순)
+     *
      * @param page 페이지 번호 (0부터 시작)
      * @param size 페이지 크기
      * @return 페이징된 복지 혜택 목록
      */
     public Page<WelfareBenefitResponse> getFastPaging(int page, int size) {
         log.debug("빠른 페이징 조회 - page: {}, size: {}", page, size);
-        
-        // 페이징 계산
-        int start = page * size;
-        int end = Math.min(start + size, cachedBenefits.size());
-        
-        // 범위 체크
-        if (start >= cachedBenefits.size()) {
-            return Page.empty(PageRequest.of(page, size));
+        boolean ready = snapshot.get() != null;
+        Page<WelfareBenefitResponse> result = currentSnapshot().byRelevance(PageRequest.of(page, size));
+        record(ready);
+        return result;
+    }
+
+    /**
+     * 혜택 단건 조회 (스냅샷에 없는 비활성 혜택은 DB 조회)
+     */
+    public Optional<WelfareBenefitResponse> getBenefit(Long id) {
+        boolean ready = snapshot.get() != null;
+        Optional<WelfareBenefitResponse> cached = currentSnapshot().find(id);
+        if (cached.isPresent()) {
+            record(ready);
+            return cached;
         }
-        
-        // 메모리에서 서브리스트 추출
-        List<HanaFutureWelfareBenefit> pagedBenefits = cachedBenefits.subList(start, end);
-        
-        // DTO 변환
-        List<WelfareBenefitResponse> responses = pagedBenefits.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-        
-        // Page 객체 생성
-        PageRequest pageable = PageRequest.of(page, size);
-        return new PageImpl<>(responses, pageable, cachedBenefits.size());
-    }
-    
+        record(false);
+        return hanaFutureRepository.findById(id).map(HanaFutureWelfareSnapshot::toResponse);
+    }
+
+    /**
+     * 조건별 목록 조회 (서비스 타입 → AI 관련도 순, 조건은 모두 선택)
+     */
+    public Page<WelfareBenefitResponse> getBenefits(WelfareType serviceType, String sidoName, String sigunguName,
+                                                    String lifeCycle, Pageable pageable) {
+        boolean ready = snapshot.get() != null;
+        Page<WelfareBenefitResponse> result = currentSnapshot().filter(serviceType, blankToNull(sidoName),
+                blankToNull(sigunguName), blankToNull(lifeCycle), pageable);
+        record(ready);
+        return result;
+    }
+
     /**
-     * HanaFutureWelfareBenefit를 WelfareBenefitResponse로 변환
+     * 키워드 검색 - 검색 색인의 결과 ID 를 스냅샷 응답으로 변환
+     * - 색인이 준비되지 않았거나 스냅샷에 없는 ID 가 있으면 DB 조회
      */
-    private WelfareBenefitResponse convertToResponse(HanaFutureWelfareBenefit benefit) {
-        // serviceType 문자열을 WelfareType enum으로 변환
-        com.hanaTI.HanaFuture.domain.welfare.entity.WelfareType welfareType = null;
-        if (benefit.getServiceType() != null) {
-            try {
-                welfareType = com.hanaTI.HanaFuture.domain.welfare.entity.WelfareType.valueOf(benefit.getServiceType());
-            } catch (IllegalArgumentException e) {
-                log.warn("유효하지 않은 serviceType: {}", benefit.getServiceType());
+    public Page<WelfareBenefitResponse> search(String serviceType, String keyword, Pageable pageable) {
+        boolean ready = snapshot.get() != null;
+        HanaFutureWelfareSnapshot current = currentSnapshot();
+        WelfareSearchHits hits = welfareSearchIndexService.searchHanaFutureHits(serviceType, keyword, pageable);
+        if (hits != null) {
+            List<WelfareBenefitResponse> content = current.findAll(hits.ids());
+            if (content != null) {
+                record(ready);
+                return new PageImpl<>(content, pageable, hits.total());
             }
         }
-        
-        return WelfareBenefitResponse.builder()
-                .id(benefit.getId())
-                .serviceId(benefit.getServiceId())
-                .serviceName(benefit.getServiceName())
-                .serviceType(welfareType)
-                .serviceTypeDisplayName(welfareType != null ? welfareType.getDisplayName() : null)
-                .lifeCycle(benefit.getLifeCycle())
-                .category(benefit.getCategory())
-                .supportAmount(benefit.getSupportAmount())
-                .targetDescription(benefit.getTargetDescription())
-                .serviceContent(benefit.getServiceContent())
-                .applicationMethod(benefit.getApplicationMethod())
-                .sidoName(benefit.getSidoName())
-                .sigunguName(benefit.getSigunguName())
-                .inquiryUrl(benefit.getRelatedUrl())
-                .build();
-    }
-    
+        record(false);
+        return welfareSearchIndexService.searchHanaFutureBenefits(serviceType, keyword, pageable)
+                .map(HanaFutureWelfareSnapshot::toResponse);
+    }
+
+    /**
+     * 혜택 수 통계 + 스냅샷 상태
+     */
+    public Map<String, Object> getStats() {
+        HanaFutureWelfareSnapshot current = currentSnapshot();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalCount", current.size());
+        stats.put("centralCount", current.count(WelfareType.CENTRAL));
+        stats.put("localCount", current.count(WelfareType.LOCAL));
+        stats.put("snapshotVersion", current.version());
+        stats.put("snapshotLoadedAt", current.loadedAt().toString());
+        stats.put("snapshotAgeSeconds", getSnapshotAgeSeconds());
+        stats.put("cacheHits", hitCount.sum());
+        stats.put("cacheMisses", missCount.sum());
+        return stats;
+    }
+
     /**
      * 캐시된 데이터 수 조회
      */
     public int getCachedCount() {
-        return cachedBenefits != null ? cachedBenefits.size() : 0;
+        HanaFutureWelfareSnapshot current = snapshot.get();
+        return current != null ? current.size() : 0;
     }
-    
+
+    private double getSnapshotAgeSeconds() {
+        HanaFutureWelfareSnapshot current = snapshot.get();
+        return current != null ? Duration.between(current.loadedAt(), Instant.now()).toMillis() / 1000.0 : Double.NaN;
+    }
+
     /**
-     * 캐시 새로고침 (필요 시 수동 호출)
+     * 조회 한 건의 결과 집계
      */
-    public void refreshCache() {
-        log.info("캐시 새로고침 시작...");
-        loadCache();
+    private void record(boolean fromSnapshot) {
+        (fromSnapshot ? hitCount : missCount).increment();
+    }
+
+    /**
+     * 현재 스냅샷 (아직 없으면 이 요청에서 적재) - 집계는 호출한 조회에서 응답 경로에 따라 한 번만
+     */
+    private HanaFutureWelfareSnapshot currentSnapshot() {
+        HanaFutureWelfareSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot.get() == null) {
+                load(false);
+            }
+        }
+        return snapshot.get();
     }
-}
 
+    /**
+     * 백그라운드 적재 (실패하면 기존 스냅샷 유지)
+     */
+    private void refresh(boolean force) {
+        try {
+            load(force);
+        } catch (Exception e) {
+            log.error("하나퓨처 복지 혜택 스냅샷 적재 실패 - 기존 스냅샷 유지: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 테이블 요약이 현재 스냅샷과 다르거나 force 이면 전체를 다시 읽어 새 스냅샷으로 교체
+     * - 요약을 먼저 읽으므로 적재 도중 바뀐 내용은 다음 확인에서 다시 적재됨
+     */
+    private synchronized void load(boolean force) {
+        HanaFutureWelfareBenefitRepository.CatalogVersion catalogVersion = hanaFutureRepository.findActiveCatalogVersion();
+        String fingerprint = catalogVersion.getCount() + ":" + catalogVersion.getMaxId() + ":" + catalogVersion.getLastUpdatedAt();
+        HanaFutureWelfareSnapshot current = snapshot.get();
+        if (!force && current != null && current.fingerprint().equals(fingerprint)) {
+            log.debug("하나퓨처 복지 혜택 변경 없음 - 스냅샷 v{} 유지", current.version());
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        List<HanaFutureWelfareBenefit> benefits = new ArrayList<>();
+        Long lastId = 0L;
+        while (true) {
+            List<HanaFutureWelfareBenefit> batch = hanaFutureRepository
+                    .findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            benefits.addAll(batch);
+            if (batch.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        HanaFutureWelfareSnapshot fresh = HanaFutureWelfareSnapshot.of(++lastVersion, fingerprint, benefits);
+        snapshot.set(fresh);
+        log.info("하나퓨처 복지 혜택 스냅샷 v{} 적재: {}개 ({}ms)",
+                fresh.version(), fresh.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
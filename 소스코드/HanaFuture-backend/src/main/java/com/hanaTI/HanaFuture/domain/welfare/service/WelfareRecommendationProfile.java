@@ -0,0 +1,198 @@
+package com.hanaTI.HanaFuture.domain.welfare.service;
+
+import com.hanaTI.HanaFuture.domain.user.entity.IncomeLevel;
+import com.hanaTI.HanaFuture.domain.user.entity.User;
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareType;
+import com.hanaTI.HanaFuture.domain.welfare.search.WelfareAttribute;
+import com.hanaTI.HanaFuture.domain.welfare.search.WelfareSearchDocument;
+import com.hanaTI.HanaFuture.domain.welfare.search.WelfareTokenizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hanaTI.HanaFuture.domain.welfare.search.WelfareAttribute.*;
+
+/**
+ * 맞춤 추천용 사용자 특성 (요청마다 한 번 생성)
+ * - 임신/자녀/소득/특수 상황은 원하는 혜택 속성(WelfareAttribute) 비트마스크로, 관심 분야는 검색 토큰으로 변환
+ * - rank() 는 혜택 색인 문서 하나를 한 번만 평가해 추천 후보이면 순위 키, 아니면 null 을 돌려줌
+ *   후보: 원하는 속성 중 하나라도 있음 / 거주지 지자체 혜택 / 관심 분야 키워드 포함
+ *   순위: 거주지 지역 혜택 → 지원금액 있음 → 지원금액 높은 순 → 일치한 추천 조건 수 → 최근 동기화 순
+ */
+public final class WelfareRecommendationProfile {
+
+    private static final long PREGNANCY_MASK = mask(PREGNANCY, CHILDBIRTH, MATERNITY);
+    private static final long CHILD_MASK = mask(CHILD_LIFE_CYCLE, CHILD_CARE_SERVICE, CHILDCARE);
+    private static final long BASIC_LIVELIHOOD_MASK = mask(BASIC_LIVELIHOOD, LIVELIHOOD_BENEFIT, MEDICAL_BENEFIT);
+    private static final long LOW_INCOME_MASK = mask(NEAR_POVERTY, LOW_INCOME);
+    private static final long MIDDLE_INCOME_MASK = mask(CHILD_ALLOWANCE, PARENT_BENEFIT, PARENTAL_LEAVE, BIRTH_SUPPORT);
+    private static final long UNIVERSAL_MASK = mask(CHILD_ALLOWANCE, PARENT_BENEFIT);
+    private static final long SINGLE_PARENT_MASK = mask(SINGLE_PARENT, CHILD_REARING);
+
+    // 서비스명에 광역시 이름이 들어간 혜택 → 해당 시도
+    private static final Map<WelfareAttribute, String> NAMED_REGIONS = Map.of(
+            NAMED_BUSAN, "부산광역시",
+            NAMED_DAEGU, "대구광역시",
+            NAMED_INCHEON, "인천광역시",
+            NAMED_GWANGJU, "광주광역시",
+            NAMED_DAEJEON, "대전광역시",
+            NAMED_ULSAN, "울산광역시",
+            NAMED_SEJONG, "세종특별자치시");
+
+    private final long situationMask;
+    private final long incomeMask;
+    private final boolean excludeLowIncomeOnly;
+    private final String sidoName;
+    private final String sigunguName;
+    private final long otherRegionNameMask;
+    private final List<Set<String>> interestTerms;
+
+    private WelfareRecommendationProfile(long situationMask, long incomeMask, boolean excludeLowIncomeOnly,
+                                         String sidoName, String sigunguName, List<Set<String>> interestTerms) {
+        this.situationMask = situationMask;
+        this.incomeMask = incomeMask;
+        this.excludeLowIncomeOnly = excludeLowIncomeOnly;
+        this.sidoName = sidoName;
+        this.sigunguName = sigunguName;
+        this.interestTerms = interestTerms;
+
+        long otherRegions = 0;
+        for (Map.Entry<WelfareAttribute, String> region : NAMED_REGIONS.entrySet()) {
+            if (!region.getValue().equals(sidoName)) {
+                otherRegions |= region.getKey().bit();
+            }
+        }
+        this.otherRegionNameMask = otherRegions;
+    }
+
+    public static WelfareRecommendationProfile of(User user) {
+        long situation = 0;
+
+        // 임신·자녀
+        if (Boolean.TRUE.equals(user.getIsPregnant())) {
+            situation |= PREGNANCY_MASK;
+        }
+        if (user.hasAnyChildren()) {
+            Integer age = user.getAge();
+            if (age != null && age <= 35) {
+                situation |= INFANT_LIFE_CYCLE.bit();
+            }
+            situation |= CHILD_MASK;
+            if (user.getNumberOfChildren() != null && user.getNumberOfChildren() >= 3) {
+                situation |= MULTI_CHILD.bit();
+            }
+        }
+
+        // 특수 상황
+        if (Boolean.TRUE.equals(user.getIsSingleParent())) {
+            situation |= SINGLE_PARENT_MASK;
+        }
+        if (Boolean.TRUE.equals(user.getIsMulticultural())) {
+            situation |= MULTICULTURAL.bit();
+        }
+        if (Boolean.TRUE.equals(user.getHasDisability())) {
+            situation |= DISABILITY.bit();
+        }
+
+        // 소득 수준 (중간 소득층 이상은 보편적 혜택 위주, 저소득층 전용 혜택 제외)
+        long income = 0;
+        boolean excludeLowIncomeOnly = false;
+        IncomeLevel incomeLevel = user.getIncomeLevel();
+        if (incomeLevel != null) {
+            switch (incomeLevel) {
+                case BASIC_LIVELIHOOD -> income = BASIC_LIVELIHOOD_MASK;
+                case LOW_INCOME -> income = LOW_INCOME_MASK;
+                case MIDDLE_LOW, MIDDLE, HIGH -> {
+                    income = MIDDLE_INCOME_MASK;
+                    excludeLowIncomeOnly = true;
+                }
+                default -> income = UNIVERSAL_MASK;
+            }
+        }
+
+        // 관심 분야
+        List<Set<String>> interestTerms = new ArrayList<>();
+        if (user.getInterestCategories() != null) {
+            for (String interest : user.getInterestCategories().split(",")) {
+                Set<String> terms = WelfareTokenizer.queryTerms(interest.trim());
+                if (!terms.isEmpty()) {
+                    interestTerms.add(terms);
+                }
+            }
+        }
+
+        return new WelfareRecommendationProfile(situation, income, excludeLowIncomeOnly,
+                user.getResidenceSido(), user.getResidenceSigungu(), interestTerms);
+    }
+
+    /**
+     * 혜택 평가 - 추천 후보가 아니면 null
+     */
+    public Rank rank(WelfareSearchDocument document) {
+        long attributes = document.attributes();
+        int matched = Long.bitCount(attributes & situationMask);
+
+        if ((attributes & incomeMask) != 0 && !(excludeLowIncomeOnly && document.has(LOW_INCOME_ONLY))) {
+            matched += Long.bitCount(attributes & incomeMask);
+        }
+
+        for (Set<String> terms : interestTerms) {
+            if (document.termFrequencies().keySet().containsAll(terms)) {
+                matched++;
+            }
+        }
+
+        boolean regional = false;
+        if (sidoName != null && isMatchingRegion(document)) {
+            boolean local = WelfareType.LOCAL.name().equals(document.serviceType());
+            if ((local && sidoName.equals(document.sidoName()))
+                    || (sigunguName != null && document.sigunguName() != null && document.sigunguName().contains(sigunguName))) {
+                matched++;
+            }
+            regional = local;
+        }
+
+        if (matched == 0) {
+            return null;
+        }
+        return new Rank(regional, document.supportAmount(), matched, document.syncedAt());
+    }
+
+    /**
+     * 혜택이 사용자의 거주지와 맞는지 (다른 시도 혜택, 다른 시군구 혜택, 서비스명에 다른 광역시 이름이 있는 혜택 제외)
+     */
+    private boolean isMatchingRegion(WelfareSearchDocument document) {
+        if (document.sidoName() != null && !document.sidoName().equals(sidoName)) {
+            return false;
+        }
+        if (sigunguName != null && document.sigunguName() != null) {
+            return document.sigunguName().contains(sigunguName) || sigunguName.contains(document.sigunguName());
+        }
+        return (document.attributes() & otherRegionNameMask) == 0;
+    }
+
+    /**
+     * 추천 순위 키 (클수록 앞)
+     */
+    public record Rank(boolean regional, Long supportAmount, int matched, long syncedAt) implements Comparable<Rank> {
+
+        @Override
+        public int compareTo(Rank other) {
+            if (regional != other.regional) {
+                return regional ? 1 : -1;
+            }
+            if ((supportAmount != null) != (other.supportAmount != null)) {
+                return supportAmount != null ? 1 : -1;
+            }
+            if (supportAmount != null && !supportAmount.equals(other.supportAmount)) {
+                return supportAmount.compareTo(other.supportAmount);
+            }
+            if (matched != other.matched) {
+                return Integer.compare(matched, other.matched);
+            }
+            return Long.compare(syncedAt, other.syncedAt);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.hanaTI.HanaFuture.domain.welfare.service;
+
+import com.hanaTI.HanaFuture.domain.welfare.entity.HanaFutureWelfareBenefit;
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareBenefit;
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareType;
+import com.hanaTI.HanaFuture.domain.welfare.event.HanaFutureWelfareChangedEvent;
+import com.hanaTI.HanaFuture.domain.welfare.repository.HanaFutureWelfareBenefitRepository;
+import com.hanaTI.HanaFuture.domain.welfare.repository.WelfareBenefitRepository;
+import com.hanaTI.HanaFuture.domain.welfare.search.WelfareSearchDocument;
+import com.hanaTI.HanaFuture.domain.welfare.search.WelfareSearchFilter;
+import com.hanaTI.HanaFuture.domain.welfare.search.WelfareSearchHits;
+import com.hanaTI.HanaFuture.domain.welfare.search.WelfareSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 복지 혜택 전문 검색 서비스
+ * - welfare_benefits 와 하나퓨처 맞춤 복지 혜택을 각각 역색인(WelfareSearchIndex)에 올려
+ *   키워드 검색을 LOB 컬럼 LIKE 스캔 없이 처리 (결과는 BM25 관련도 순, 해당 페이지 행만 ID 로 조회)
+ * - 기동 완료 후 백그라운드로 전체 색인, 색인이 준비되기 전에는 기존 LIKE 쿼리로 처리
+ * - 복지 혜택 저장/수정은 커밋 후 해당 문서만 재색인, 하나퓨처 테이블은 변경 이벤트(이관/필터링 후)를 받아 전체 재색인
+ * - 맞춤 추천은 색인 문서를 한 번 순회하며 순위를 매김 (rankBenefits)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WelfareSearchIndexService {
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final WelfareBenefitRepository welfareBenefitRepository;
+    private final HanaFutureWelfareBenefitRepository hanaFutureRepository;
+
+    private final WelfareSearchIndex benefitIndex = new WelfareSearchIndex();
+    private final WelfareSearchIndex hanaFutureIndex = new WelfareSearchIndex();
+    private final Object benefitIndexInitLock = new Object();
+    private volatile boolean benefitIndexReady;
+    private volatile boolean hanaFutureIndexReady;
+
+    /**
+     * 기동 완료 후 전체 색인
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexes() {
+        ensureBenefitIndex();
+        rebuildHanaFutureIndex();
+    }
+
+    /**
+     * 복지 혜택 키워드 검색 (WelfareBenefitRepository.searchByKeyword 대체)
+     */
+    public Page<WelfareBenefit> searchBenefits(String keyword, Pageable pageable) {
+        return searchBenefits(null, null, null, null, null, keyword, pageable);
+    }
+
+    /**
+     * 복지 혜택 복합 조건 검색 (WelfareBenefitRepository.findByComplexConditions 대체)
+     * - 키워드가 없으면 LOB 컬럼을 읽지 않으므로 기존 쿼리(요청 정렬 유지)로 처리
+     */
+    public Page<WelfareBenefit> searchBenefits(WelfareType serviceType, String sidoName, String sigunguName,
+                                               String lifeCycle, String category, String keyword, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            return welfareBenefitRepository.findByComplexConditions(
+                    serviceType, sidoName, sigunguName, lifeCycle, category, null, pageable);
+        }
+        if (!benefitIndexReady) {
+            return welfareBenefitRepository.findByComplexConditions(
+                    serviceType, sidoName, sigunguName, lifeCycle, category, keyword, pageable);
+        }
+
+        WelfareSearchFilter filter = new WelfareSearchFilter(
+                serviceType != null ? serviceType.name() : null, sidoName, sigunguName, lifeCycle, category);
+        WelfareSearchHits hits = benefitIndex.search(keyword, filter, offset(pageable), pageable.getPageSize());
+        return toPage(hits, pageable, welfareBenefitRepository::findAllById, WelfareBenefit::getId);
+    }
+
+    /**
+     * 복지 혜택 전체를 한 번 순회해 순위 키가 큰 순으로 페이지 조회 (맞춤 추천용)
+     * - ranker 가 null 을 돌려준 혜택은 제외, 색인이 아직 없으면 만들어질 때까지 기다림
+     */
+    public <K extends Comparable<K>> Page<WelfareBenefit> rankBenefits(Function<WelfareSearchDocument, K> ranker, Pageable pageable) {
+        ensureBenefitIndex();
+        WelfareSearchHits hits = benefitIndex.rank(ranker, offset(pageable), pageable.getPageSize());
+        return toPage(hits, pageable, welfareBenefitRepository::findAllById, WelfareBenefit::getId);
+    }
+
+    /**
+     * 하나퓨처 맞춤 복지 혜택 키워드 검색 (서비스 타입은 선택)
+     */
+    public Page<HanaFutureWelfareBenefit> searchHanaFutureBenefits(String serviceType, String keyword, Pageable pageable) {
+        WelfareSearchHits hits = searchHanaFutureHits(serviceType, keyword, pageable);
+        if (hits == null) {
+            return serviceType != null
+                    ? hanaFutureRepository.findByServiceTypeAndKeywordAndIsActiveTrue(serviceType, keyword, pageable)
+                    : hanaFutureRepository.findByKeywordAndIsActiveTrue(keyword, pageable);
+        }
+        return toPage(hits, pageable, hanaFutureRepository::findAllById, HanaFutureWelfareBenefit::getId);
+    }
+
+    /**
+     * 하나퓨처 맞춤 복지 혜택 키워드 검색 결과 ID (색인이 준비되지 않았거나 키워드가 없으면 null)
+     */
+    public WelfareSearchHits searchHanaFutureHits(String serviceType, String keyword, Pageable pageable) {
+        if (!hanaFutureIndexReady || keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        return hanaFutureIndex.search(
+                keyword, WelfareSearchFilter.serviceType(serviceType), offset(pageable), pageable.getPageSize());
+    }
+
+    /**
+     * 저장/수정된 복지 혜택 재색인 (트랜잭션 안이면 커밋 후 반영, 비활성 혜택은 색인에서 제거)
+     */
+    public void indexBenefit(WelfareBenefit benefit) {
+        if (benefit.getId() == null) {
+            return;
+        }
+        if (Boolean.TRUE.equals(benefit.getIsActive())) {
+            WelfareSearchDocument document = WelfareSearchDocument.from(benefit);
+            afterCommit(() -> benefitIndex.upsert(document));
+        } else {
+            Long id = benefit.getId();
+            afterCommit(() -> benefitIndex.remove(id));
+        }
+    }
+
+    /**
+     * welfare_benefits 전체 재색인
+     */
+    public void rebuildBenefitIndex() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            int count = benefitIndex.rebuild(sink -> loadActive(
+                    welfareBenefitRepository::findByIsActiveTrueAndIdGreaterThanOrderByIdAsc,
+                    WelfareBenefit::getId, WelfareSearchDocument::from, sink));
+            benefitIndexReady = true;
+            log.info("복지 혜택 검색 색인 완료: {}건 ({}ms)", count, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("복지 혜택 검색 색인 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 최초 색인 (동시에 요청이 와도 한 번만 색인)
+     */
+    private void ensureBenefitIndex() {
+        if (benefitIndexReady) {
+            return;
+        }
+        synchronized (benefitIndexInitLock) {
+            if (!benefitIndexReady) {
+                rebuildBenefitIndex();
+            }
+        }
+    }
+
+    /**
+     * 하나퓨처 테이블 변경 시 재색인 (트랜잭션 안에서 발행되면 커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHanaFutureWelfareChanged(HanaFutureWelfareChangedEvent event) {
+        rebuildHanaFutureIndex();
+    }
+
+    /**
+     * 하나퓨처 맞춤 복지 혜택 전체 재색인
+     */
+    public void rebuildHanaFutureIndex() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            int count = hanaFutureIndex.rebuild(sink -> loadActive(
+                    hanaFutureRepository::findByIsActiveTrueAndIdGreaterThanOrderByIdAsc,
+                    HanaFutureWelfareBenefit::getId, WelfareSearchDocument::from, sink));
+            hanaFutureIndexReady = true;
+            log.info("하나퓨처 복지 혜택 검색 색인 완료: {}건 ({}ms)", count, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("하나퓨처 복지 혜택 검색 색인 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 활성 행을 ID 순으로 나눠 읽어 색인 문서로 변환 (엔티티는 배치마다 버려짐)
+     */
+    private <T> void loadActive(BiFunction<Long, Pageable, List<T>> batchLoader, Function<T, Long> idOf,
+                                Function<T, WelfareSearchDocument> toDocument, Consumer<WelfareSearchDocument> sink) {
+        Long lastId = 0L;
+        while (true) {
+            List<T> batch = batchLoader.apply(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            batch.forEach(row -> sink.accept(toDocument.apply(row)));
+            if (batch.size() < LOAD_BATCH_SIZE) {
+                return;
+            }
+            lastId = idOf.apply(batch.get(batch.size() - 1));
+        }
+    }
+
+    /**
+     * 검색 결과 페이지의 행만 조회해 점수 순서대로 Page 구성
+     */
+    private <T> Page<T> toPage(WelfareSearchHits hits, Pageable pageable,
+                               Function<List<Long>, List<T>> loader, Function<T, Long> idOf) {
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+        Map<Long, T> rows = loader.apply(hits.ids()).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        List<T> content = hits.ids().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+
+    private int offset(Pageable pageable) {
+        return (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,163 @@
+package com.hanaTI.HanaFuture.domain.welfare.crawler;
+
+import com.hanaTI.HanaFuture.domain.welfare.config.WelfareApiProperties;
+import com.hanaTI.HanaFuture.domain.welfare.config.WelfareCrawlerProperties;
+import com.hanaTI.HanaFuture.domain.welfare.dto.external.WelfareApiResponse;
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareSyncCheckpoint;
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareType;
+import com.hanaTI.HanaFuture.domain.welfare.repository.WelfareSyncCheckpointRepository;
+import com.hanaTI.HanaFuture.domain.welfare.service.WelfareApiService;
+import com.hanaTI.HanaFuture.domain.welfare.service.WelfareBulkSyncService;
+import com.hanaTI.HanaFuture.domain.welfare.service.WelfareDataEnrichmentService;
+import com.hanaTI.HanaFuture.domain.welfare.service.WelfareXmlParsingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("복지 API 수집기 테스트")
+class WelfareCrawlerTest {
+
+    @Mock
+    private WelfareApiService welfareApiService;
+
+    @Mock
+    private WelfareXmlParsingService xmlParsingService;
+
+    @Mock
+    private WelfareDataEnrichmentService dataEnrichmentService;
+
+    @Mock
+    private WelfareBulkSyncService welfareBulkSyncService;
+
+    @Mock
+    private WelfareSyncCheckpointRepository checkpointRepository;
+
+    private WelfareCrawler welfareCrawler;
+
+    @BeforeEach
+    void setUp() {
+        WelfareCrawlerProperties crawlerProperties = new WelfareCrawlerProperties();
+        crawlerProperties.setRequestsPerSecond(1000.0);
+        crawlerProperties.setBurst(100);
+        crawlerProperties.setNumOfRows(100);
+        crawlerProperties.setMaxRetryCount(0);
+        welfareCrawler = new WelfareCrawler(welfareApiService, xmlParsingService, dataEnrichmentService,
+                welfareBulkSyncService, checkpointRepository, new WelfareApiProperties(), crawlerProperties);
+    }
+
+    @Test
+    @DisplayName("페이지가 순서 없이 끝나도 체크포인트는 연속 완료 구간까지만 전진한다")
+    void progress_advancesOnlyOverContiguousPages() {
+        WelfareCrawler.CrawlProgress progress = new WelfareCrawler.CrawlProgress(
+                WelfareCrawlTarget.central(), WelfareSyncCheckpoint.start("CENTRAL"));
+
+        progress.complete(1, WelfareBulkSyncService.SyncResult.EMPTY);
+        progress.complete(3, WelfareBulkSyncService.SyncResult.EMPTY);
+        progress.complete(4, WelfareBulkSyncService.SyncResult.EMPTY);
+        assertThat(progress.completedPage()).isEqualTo(1);
+        assertThat(progress.isPending(2)).isTrue();
+        assertThat(progress.isPending(3)).isFalse();
+
+        progress.complete(2, WelfareBulkSyncService.SyncResult.EMPTY);
+        assertThat(progress.completedPage()).isEqualTo(4);
+        assertThat(progress.isPending(5)).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패한 페이지가 있으면 그 앞까지만 체크포인트에 남는다")
+    void progress_stopsAtFailedPage() {
+        WelfareCrawler.CrawlProgress progress = new WelfareCrawler.CrawlProgress(
+                WelfareCrawlTarget.central(), WelfareSyncCheckpoint.start("CENTRAL"));
+
+        progress.complete(1, WelfareBulkSyncService.SyncResult.EMPTY);
+        progress.fail(2);
+        progress.complete(3, WelfareBulkSyncService.SyncResult.EMPTY);
+
+        assertThat(progress.completedPage()).isEqualTo(1);
+        assertThat(progress.isPending(2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재개 가능한 체크포인트가 있으면 완료된 다음 페이지부터 수집한다")
+    void crawl_resumesFromCheckpoint() {
+        WelfareSyncCheckpoint checkpoint = WelfareSyncCheckpoint.builder()
+                .targetKey("CENTRAL")
+                .runStartedAt(LocalDateTime.now().minusHours(1))
+                .totalPages(4)
+                .completedPage(2)
+                .build();
+        given(checkpointRepository.findByTargetKey("CENTRAL")).willReturn(Optional.of(checkpoint));
+        givenPages(400);
+
+        List<WelfareCrawler.TargetResult> results = welfareCrawler.crawl(List.of(WelfareCrawlTarget.central()));
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.finished()).isTrue();
+            assertThat(result.pages()).isEqualTo(2);
+        });
+        assertThat(checkpoint.getCompletedPage()).isEqualTo(4);
+        assertThat(checkpoint.getFinishedAt()).isNotNull();
+        verify(welfareApiService).fetchCentralWelfareServices(eq(3), eq(100), isNull(), isNull(), isNull());
+        verify(welfareApiService).fetchCentralWelfareServices(eq(4), eq(100), isNull(), isNull(), isNull());
+        verify(welfareApiService, never()).fetchCentralWelfareServices(eq(1), anyInt(), any(), any(), any());
+        verify(welfareApiService, never()).fetchCentralWelfareServices(eq(2), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 끝난 수집이면 첫 페이지부터 다시 수집한다")
+    void crawl_restartsFinishedCheckpoint() {
+        WelfareSyncCheckpoint checkpoint = WelfareSyncCheckpoint.builder()
+                .targetKey("CENTRAL")
+                .runStartedAt(LocalDateTime.now().minusHours(1))
+                .totalPages(4)
+                .completedPage(4)
+                .finishedAt(LocalDateTime.now().minusMinutes(30))
+                .build();
+        given(checkpointRepository.findByTargetKey("CENTRAL")).willReturn(Optional.of(checkpoint));
+        givenPages(250);
+
+        List<WelfareCrawler.TargetResult> results = welfareCrawler.crawl(List.of(WelfareCrawlTarget.central()));
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.finished()).isTrue();
+            assertThat(result.pages()).isEqualTo(3);
+        });
+        assertThat(checkpoint.getTotalPages()).isEqualTo(3);
+        assertThat(checkpoint.getCompletedPage()).isEqualTo(3);
+        verify(welfareApiService).fetchCentralWelfareServices(eq(1), eq(100), isNull(), isNull(), isNull());
+        verify(welfareApiService).fetchCentralWelfareServices(eq(3), eq(100), isNull(), isNull(), isNull());
+    }
+
+    private void givenPages(int totalCount) {
+        WelfareApiResponse response = new WelfareApiResponse();
+        response.setTotalCount(totalCount);
+        given(checkpointRepository.save(any(WelfareSyncCheckpoint.class))).willAnswer(returnsFirstArg());
+        given(welfareApiService.fetchCentralWelfareServices(anyInt(), anyInt(), any(), any(), any()))
+                .willReturn(Mono.just("<wantedList/>"));
+        given(xmlParsingService.parseXmlResponse(anyString())).willReturn(response);
+        given(xmlParsingService.isSuccessResponse(response)).willReturn(true);
+        given(xmlParsingService.convertToEntities(response, WelfareType.CENTRAL)).willReturn(List.of());
+        given(welfareBulkSyncService.syncPage(anyList())).willReturn(WelfareBulkSyncService.SyncResult.EMPTY);
+    }
+}
@@ -0,0 +1,65 @@
+package com.hanaTI.HanaFuture.domain.welfare.crawler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("복지 API 호출 제한 테스트")
+class WelfareRateLimiterTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("버킷 크기만큼은 바로 사용하고 그 다음부터는 간격만큼 기다린다")
+    void reserve_burstThenInterval() {
+        WelfareRateLimiter limiter = new WelfareRateLimiter(10, 3, clock::get);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(INTERVAL);
+        assertThat(limiter.reserve()).isEqualTo(2 * INTERVAL);
+    }
+
+    @Test
+    @DisplayName("기다리는 동안 시간이 흐르면 대기 시간이 줄어든다")
+    void reserve_waitShrinksAsTimePasses() {
+        WelfareRateLimiter limiter = new WelfareRateLimiter(10, 1, clock::get);
+
+        assertThat(limiter.reserve()).isZero();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(40));
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(60));
+    }
+
+    @Test
+    @DisplayName("쉬는 동안 토큰이 다시 차지만 버킷 크기를 넘지는 않는다")
+    void reserve_refillsUpToBurst() {
+        WelfareRateLimiter limiter = new WelfareRateLimiter(10, 3, clock::get);
+        for (int i = 0; i < 5; i++) {
+            limiter.reserve();
+        }
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    @DisplayName("호출 수나 버킷 크기가 올바르지 않으면 생성할 수 없다")
+    void constructor_rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new WelfareRateLimiter(0, 1, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new WelfareRateLimiter(5, 0, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
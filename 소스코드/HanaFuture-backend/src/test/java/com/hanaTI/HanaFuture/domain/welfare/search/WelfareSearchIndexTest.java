@@ -0,0 +1,112 @@
+package com.hanaTI.HanaFuture.domain.welfare.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("복지 혜택 역색인 검색 테스트")
+class WelfareSearchIndexTest {
+
+    private final WelfareSearchIndex index = new WelfareSearchIndex();
+
+    @Test
+    @DisplayName("검색어 토큰을 모두 포함한 문서만 일치로 본다")
+    void search_requiresAllTerms() {
+        index.upsert(document(1L, "아동수당 지원", null));
+        index.upsert(document(2L, "아동 돌봄 서비스", null));
+        index.upsert(document(3L, "노인 돌봄", null));
+
+        assertThat(index.search("아동수당", WelfareSearchFilter.NONE, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("아동 돌봄", WelfareSearchFilter.NONE, 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("돌봄", WelfareSearchFilter.NONE, 0, 10).total()).isEqualTo(2);
+        assertThat(index.search("청소년", WelfareSearchFilter.NONE, 0, 10)).isSameAs(WelfareSearchHits.EMPTY);
+    }
+
+    @Test
+    @DisplayName("영문/숫자 검색어도 단어 일부로 찾는다")
+    void search_partialLatinAndDigits() {
+        index.upsert(document(1L, "청년IRP계좌 2025년 지원", null));
+        index.upsert(document(2L, "ISA 계좌", null));
+
+        assertThat(index.search("irp", WelfareSearchFilter.NONE, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("IR", WelfareSearchFilter.NONE, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("202", WelfareSearchFilter.NONE, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("계좌", WelfareSearchFilter.NONE, 0, 10).total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("BM25 점수는 빈도가 높을수록, 문서가 짧을수록 높다")
+    void search_bm25Ranking() {
+        index.upsert(document(1L, "수당 안내 자료 모음 책자 배포 일정 공지", null));
+        index.upsert(document(2L, "수당 안내", null));
+        index.upsert(document(3L, "수당 수당 안내 자료 모음 책자 배포 일정", null));
+
+        assertThat(index.search("수당", WelfareSearchFilter.NONE, 0, 10).ids()).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 ID 가 큰 문서가 앞에 오고, 페이지는 정렬 후 자른다")
+    void search_tieBreakAndPaging() {
+        index.upsert(document(1L, "양육 수당", null));
+        index.upsert(document(2L, "양육 수당", null));
+        index.upsert(document(3L, "양육 수당", null));
+
+        WelfareSearchHits page = index.search("수당", WelfareSearchFilter.NONE, 1, 1);
+
+        assertThat(page.ids()).containsExactly(2L);
+        assertThat(page.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("필터에 맞지 않는 문서는 결과와 전체 건수에서 빠진다")
+    void search_appliesFilter() {
+        index.upsert(document(1L, "아동수당", "CENTRAL"));
+        index.upsert(document(2L, "아동수당", "LOCAL"));
+
+        WelfareSearchHits hits = index.search("아동수당", WelfareSearchFilter.serviceType("LOCAL"), 0, 10);
+
+        assertThat(hits.ids()).containsExactly(2L);
+        assertThat(hits.total()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("문서를 교체하거나 제거하면 이전 용어로는 더 이상 찾을 수 없다")
+    void upsertAndRemove_updatePostings() {
+        index.upsert(document(1L, "아동수당", null));
+        index.upsert(document(1L, "부모급여", null));
+
+        assertThat(index.search("아동수당", WelfareSearchFilter.NONE, 0, 10).ids()).isEmpty();
+        assertThat(index.search("부모급여", WelfareSearchFilter.NONE, 0, 10).ids()).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(index.search("부모급여", WelfareSearchFilter.NONE, 0, 10).ids()).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("재색인은 로더가 준 문서로 색인을 통째로 바꾼다")
+    void rebuild_replacesIndex() {
+        index.upsert(document(1L, "아동수당", null));
+
+        int count = index.rebuild(sink -> List.of(document(2L, "부모급여", null), document(3L, "부모급여 안내", null))
+                .forEach(sink));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(index.search("아동수당", WelfareSearchFilter.NONE, 0, 10).ids()).isEmpty();
+        assertThat(index.search("부모급여", WelfareSearchFilter.NONE, 0, 10).ids()).containsExactly(2L, 3L);
+    }
+
+    private WelfareSearchDocument document(Long id, String text, String serviceType) {
+        Map<String, Float> termFrequencies = new HashMap<>();
+        List<String> terms = WelfareTokenizer.documentTerms(text);
+        terms.forEach(term -> termFrequencies.merge(term, 1.0f, Float::sum));
+        return new WelfareSearchDocument(id, termFrequencies, terms.size(), serviceType,
+                null, null, null, null, 0L, null, 0L);
+    }
+}
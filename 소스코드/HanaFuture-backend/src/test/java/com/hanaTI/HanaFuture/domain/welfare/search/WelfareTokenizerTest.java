@@ -0,0 +1,60 @@
+package com.hanaTI.HanaFuture.domain.welfare.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("복지 검색 토크나이저 테스트")
+class WelfareTokenizerTest {
+
+    @Test
+    @DisplayName("색인 토큰은 글자 구간의 1-gram 과 2-gram 을 중복 포함해 반환한다")
+    void documentTerms_unigramsAndBigrams() {
+        assertThat(WelfareTokenizer.documentTerms("아동수당"))
+                .containsExactly("아", "아동", "동", "동수", "수", "수당", "당");
+        assertThat(WelfareTokenizer.documentTerms("수당 수당"))
+                .containsExactly("수", "수당", "당", "수", "수당", "당");
+    }
+
+    @Test
+    @DisplayName("검색어는 2-gram 만 중복 없이 사용하고 한 글자 검색어는 그대로 사용한다")
+    void queryTerms_bigramsOnly() {
+        assertThat(WelfareTokenizer.queryTerms("아동수당을")).containsExactly("아동", "동수", "수당", "당을");
+        assertThat(WelfareTokenizer.queryTerms("수수수")).containsExactly("수수");
+        assertThat(WelfareTokenizer.queryTerms("수")).containsExactly("수");
+    }
+
+    @Test
+    @DisplayName("영문/숫자도 n-gram 으로 분해해 단어 일부로 찾을 수 있다")
+    void latinAndDigits_partialMatch() {
+        assertThat(WelfareTokenizer.documentTerms("청년IRP"))
+                .containsAll(WelfareTokenizer.queryTerms("irp"))
+                .containsAll(WelfareTokenizer.queryTerms("년i"));
+        assertThat(WelfareTokenizer.documentTerms("2025년"))
+                .containsAll(WelfareTokenizer.queryTerms("202"));
+        assertThat(WelfareTokenizer.queryTerms("IRP")).containsExactly("ir", "rp");
+    }
+
+    @Test
+    @DisplayName("전각 문자와 대문자는 정규화하고 기호와 공백에서 구간을 나눈다")
+    void normalizesAndSplits() {
+        assertThat(WelfareTokenizer.queryTerms("ＩＲＰ-１")).containsExactly("ir", "rp", "1");
+        assertThat(WelfareTokenizer.queryTerms("아동, 수당")).containsExactly("아동", "수당");
+    }
+
+    @Test
+    @DisplayName("보충 문자는 한 글자로 취급한다")
+    void supplementaryCharacters() {
+        assertThat(WelfareTokenizer.documentTerms("𠀀𠀁"))
+                .containsExactly("𠀀", "𠀀𠀁", "𠀁");
+    }
+
+    @Test
+    @DisplayName("비어 있거나 글자가 없는 입력은 토큰이 없다")
+    void blankInput() {
+        assertThat(WelfareTokenizer.queryTerms(null)).isEmpty();
+        assertThat(WelfareTokenizer.queryTerms("  ")).isEmpty();
+        assertThat(WelfareTokenizer.documentTerms("!?~")).isEmpty();
+    }
+}
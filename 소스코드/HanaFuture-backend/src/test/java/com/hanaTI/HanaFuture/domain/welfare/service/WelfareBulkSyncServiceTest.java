@@ -0,0 +1,124 @@
+package com.hanaTI.HanaFuture.domain.welfare.service;
+
+import com.hanaTI.HanaFuture.domain.welfare.entity.WelfareBenefit;
+import com.hanaTI.HanaFuture.domain.welfare.repository.WelfareBenefitRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("복지 혜택 일괄 동기화 테스트")
+class WelfareBulkSyncServiceTest {
+
+    @Mock
+    private WelfareBenefitRepository welfareBenefitRepository;
+
+    @Mock
+    private WelfareSearchIndexService welfareSearchIndexService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private WelfareBulkSyncService welfareBulkSyncService;
+
+    @BeforeEach
+    void setUp() {
+        welfareBulkSyncService = new WelfareBulkSyncService(welfareBenefitRepository, welfareSearchIndexService, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("신규 행은 INSERT 배치 한 번으로 저장한다")
+    void syncPage_batchInsert() {
+        given(welfareBenefitRepository.findSyncStatesByServiceIdIn(anyCollection())).willReturn(List.of());
+
+        WelfareBulkSyncService.SyncResult result = welfareBulkSyncService.syncPage(
+                List.of(benefit("WLF001"), benefit("WLF002"), benefit("WLF003")));
+
+        assertThat(result).isEqualTo(new WelfareBulkSyncService.SyncResult(3, 0, 0, 0));
+        verify(jdbcTemplate, times(0)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 건별로 다시 저장하고 실패한 행만 건너뛴다")
+    void syncPage_batchFailure_fallsBackToRowByRow() {
+        given(welfareBenefitRepository.findSyncStatesByServiceIdIn(anyCollection())).willReturn(List.of());
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new DataIntegrityViolationException("value too large for column"));
+        given(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .willReturn(1)
+                .willThrow(new DataIntegrityViolationException("value too large for column"))
+                .willReturn(1);
+
+        WelfareBulkSyncService.SyncResult result = welfareBulkSyncService.syncPage(
+                List.of(benefit("WLF001"), benefit("WLF002"), benefit("WLF003")));
+
+        assertThat(result).isEqualTo(new WelfareBulkSyncService.SyncResult(2, 0, 0, 1));
+        verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+        verify(welfareBenefitRepository).findByServiceIdIn(List.of("WLF001", "WLF003"));
+    }
+
+    @Test
+    @DisplayName("배치 중 이미 반영된 행은 건별 재실행에서 다시 쓰지 않는다")
+    void syncPage_batchFailure_skipsRowsAlreadyWritten() {
+        WelfareBenefit written = benefit("WLF001");
+        WelfareBenefitRepository.SyncState stored = syncState(1L, "WLF001", WelfareBulkSyncService.contentHash(written));
+        given(welfareBenefitRepository.findSyncStatesByServiceIdIn(anyCollection()))
+                .willReturn(List.of())
+                .willReturn(List.of(stored));
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new DataIntegrityViolationException("value too large for column"));
+        given(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .willThrow(new DataIntegrityViolationException("value too large for column"));
+
+        WelfareBulkSyncService.SyncResult result = welfareBulkSyncService.syncPage(
+                List.of(written, benefit("WLF002")));
+
+        assertThat(result).isEqualTo(new WelfareBulkSyncService.SyncResult(1, 0, 0, 1));
+        verify(jdbcTemplate, times(1)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    private WelfareBenefit benefit(String serviceId) {
+        return WelfareBenefit.builder()
+                .serviceId(serviceId)
+                .serviceName(serviceId + " 지원")
+                .build();
+    }
+
+    private WelfareBenefitRepository.SyncState syncState(Long id, String serviceId, String contentHash) {
+        return new WelfareBenefitRepository.SyncState() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getServiceId() {
+                return serviceId;
+            }
+
+            @Override
+            public String getContentHash() {
+                return contentHash;
+            }
+        };
+    }
+}
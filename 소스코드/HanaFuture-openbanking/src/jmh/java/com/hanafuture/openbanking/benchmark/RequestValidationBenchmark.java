@@ -0,0 +1,121 @@
+package com.hanafuture.openbanking.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanafuture.openbanking.domain.account.dto.request.AccountInfoRequest;
+import com.hanafuture.openbanking.domain.account.validation.AccountRequestValidator;
+import com.hanafuture.openbanking.global.validation.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌통합조회 요청 검증 비용 비교
+ * - legacyValidate: 변경 전 AccountService.validateAccountInfoRequest (String.matches, 예외 기반 흐름)
+ * - validate: AccountRequestValidator (미리 컴파일한 규칙, 오류 코드 반환)
+ * - requestType: valid(정상), invalidCount(조회 건수 숫자 아님), invalidEmail(마지막 필드 실패)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestValidationBenchmark {
+
+    @Param({"valid", "invalidCount", "invalidEmail"})
+    public String requestType;
+
+    private AccountInfoRequest request;
+    private AccountRequestValidator validator;
+
+    @Setup
+    public void setUp() throws IOException {
+        String recordCnt = "invalidCount".equals(requestType) ? "ten" : "10";
+        String email = "invalidEmail".equals(requestType) ? "hong@example" : "hong@example.com";
+        request = new ObjectMapper().readValue("""
+                {"userName":"홍길동","userNum":"901201-1234567","userEmail":"%s","ainfoAgreeYn":"Y",
+                 "inquiryBankType":"1","traceNo":"123456","inquiryRecordCnt":"%s"}
+                """.formatted(email, recordCnt), AccountInfoRequest.class);
+        validator = new AccountRequestValidator();
+    }
+
+    @Benchmark
+    public Object legacyValidate() {
+        try {
+            legacyValidateAccountInfoRequest(request);
+            return Boolean.TRUE;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Object validate() {
+        ValidationResult result = validator.validate(request);
+        return result.isValid() ? Boolean.TRUE : result.getMessage();
+    }
+
+    /**
+     * 변경 전 AccountService.validateAccountInfoRequest
+     */
+    private static void legacyValidateAccountInfoRequest(AccountInfoRequest request) {
+        if (request.getUserName() == null || request.getUserName().trim().isEmpty()) {
+            throw new IllegalArgumentException("사용자명(userName)은 필수입니다.");
+        }
+        if (request.getUserNum() == null || request.getUserNum().trim().isEmpty()) {
+            throw new IllegalArgumentException("사용자 주민등록번호(userNum)는 필수입니다.");
+        }
+        if (request.getUserEmail() == null || request.getUserEmail().trim().isEmpty()) {
+            throw new IllegalArgumentException("사용자 이메일(userEmail)은 필수입니다.");
+        }
+        if (request.getAinfoAgreeYn() == null || request.getAinfoAgreeYn().trim().isEmpty()) {
+            throw new IllegalArgumentException("어카운트인포 서비스 동의여부(ainfoAgreeYn)는 필수입니다.");
+        }
+        if (request.getInquiryBankType() == null || request.getInquiryBankType().trim().isEmpty()) {
+            throw new IllegalArgumentException("금융기관 업권 구분(inquiryBankType)은 필수입니다.");
+        }
+        if (request.getTraceNo() == null || request.getTraceNo().trim().isEmpty()) {
+            throw new IllegalArgumentException("추적번호(traceNo)는 필수입니다.");
+        }
+        if (request.getInquiryRecordCnt() == null || request.getInquiryRecordCnt().trim().isEmpty()) {
+            throw new IllegalArgumentException("조회 건수(inquiryRecordCnt)는 필수입니다.");
+        }
+        if (request.getUserName().length() > 20) {
+            throw new IllegalArgumentException("사용자명(userName)은 20자 이하여야 합니다.");
+        }
+        if (request.getUserNum().length() != 14) {
+            throw new IllegalArgumentException("사용자 주민등록번호(userNum)는 999999-9999999 형식(14자리)이어야 합니다.");
+        }
+        if (!request.getUserNum().matches("^\\d{6}-\\d{7}$")) {
+            throw new IllegalArgumentException("사용자 주민등록번호(userNum)는 999999-9999999 형식이어야 합니다.");
+        }
+        if (request.getUserEmail().length() > 100) {
+            throw new IllegalArgumentException("사용자 이메일(userEmail)은 100자 이하여야 합니다.");
+        }
+        if (request.getAinfoAgreeYn().length() != 1 || !"Y".equalsIgnoreCase(request.getAinfoAgreeYn())) {
+            throw new IllegalArgumentException("어카운트인포 서비스 동의여부(ainfoAgreeYn)는 'Y'여야 합니다.");
+        }
+        if (request.getInquiryBankType().length() != 1) {
+            throw new IllegalArgumentException("금융기관 업권 구분(inquiryBankType)은 1자리여야 합니다.");
+        }
+        if (request.getTraceNo().length() > 20) {
+            throw new IllegalArgumentException("추적번호(traceNo)는 20자 이하여야 합니다.");
+        }
+        try {
+            int recordCnt = Integer.parseInt(request.getInquiryRecordCnt());
+            if (recordCnt <= 0 || recordCnt > 100) {
+                throw new IllegalArgumentException("조회 건수(inquiryRecordCnt)는 1에서 100 사이여야 합니다.");
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("조회 건수(inquiryRecordCnt)는 숫자여야 합니다.");
+        }
+        if (!request.getUserEmail().matches("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$")) {
+            throw new IllegalArgumentException("유효하지 않은 이메일 형식입니다.");
+        }
+    }
+}
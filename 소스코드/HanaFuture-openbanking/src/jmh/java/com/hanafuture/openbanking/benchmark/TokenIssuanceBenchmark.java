@@ -0,0 +1,121 @@
+package com.hanafuture.openbanking.benchmark;
+
+import com.hanafuture.openbanking.domain.auth.dto.request.TokenRequest;
+import com.hanafuture.openbanking.domain.auth.dto.response.TokenResponse;
+import com.hanafuture.openbanking.domain.auth.service.AuthService;
+import com.hanafuture.openbanking.domain.auth.service.ClientCredentialVerifier;
+import com.hanafuture.openbanking.domain.client.entity.Client;
+import com.hanafuture.openbanking.domain.client.repository.ClientRepository;
+import com.hanafuture.openbanking.global.config.JwtConfig;
+import com.hanafuture.openbanking.global.util.HexUtils;
+import com.hanafuture.openbanking.global.util.JwtKeyManager;
+import com.hanafuture.openbanking.global.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.SecretKey;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 토큰 발급 처리량 비교
+ * - legacyIssueToken: 매 요청 DB 조회 + String.format 해시 + 발급 직후 토큰 재파싱(debugTokenClaims)
+ * - issueToken: 자격증명 캐시 + 상수 시간 해시 비교 (현재 AuthService)
+ * - dbLatencyMicros 로 client 조회 지연을 흉내냄
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class TokenIssuanceBenchmark {
+
+    private static final String CLIENT_ID = "hanafuture_client";
+    private static final String CLIENT_SECRET = "hanafuture_secret_2024";
+    private static final String SCOPE = "sa";
+
+    @Param({"0", "500"})
+    public long dbLatencyMicros;
+
+    private ClientRepository clientRepository;
+    private SecretKey secretKey;
+    private JwtUtil jwtUtil;
+    private AuthService authService;
+    private TokenRequest request;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException {
+        Client client = Client.builder()
+                .clientId(CLIENT_ID)
+                .clientSecret(legacySha256Hash(CLIENT_SECRET))
+                .grantType("client_credentials")
+                .clientUseCode("HANAFUTURE_MAIN_001")
+                .build();
+
+        clientRepository = (ClientRepository) Proxy.newProxyInstance(
+                ClientRepository.class.getClassLoader(),
+                new Class<?>[]{ClientRepository.class},
+                (proxy, method, args) -> {
+                    if ("findById".equals(method.getName())) {
+                        if (dbLatencyMicros > 0) {
+                            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbLatencyMicros));
+                        }
+                        return Optional.of(client);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        secretKey = Jwts.SIG.HS256.key().build();
+        jwtUtil = new JwtUtil(new JwtKeyManager(secretKey, JwtKeyManager.SigningMode.HMAC, 24, "", "", new String[0]), 10000);
+        authService = new AuthService(new ClientCredentialVerifier(clientRepository, 60, 1000), jwtUtil);
+        request = new TokenRequest(CLIENT_ID, CLIENT_SECRET, SCOPE, "client_credentials");
+
+        // 두 방식의 해시 결과가 같은지 확인
+        if (!HexUtils.toHex(MessageDigest.getInstance("SHA-256")
+                .digest(CLIENT_SECRET.getBytes(StandardCharsets.UTF_8))).equals(client.getClientSecret())) {
+            throw new IllegalStateException("해시 변환 결과가 일치하지 않습니다.");
+        }
+    }
+
+    @Benchmark
+    public Claims legacyIssueToken() throws NoSuchAlgorithmException {
+        Client client = clientRepository.findById(CLIENT_ID)
+                .orElseThrow(() -> new IllegalArgumentException("등록되지 않은 client_id입니다."));
+        if (!legacySha256Hash(CLIENT_SECRET).equals(client.getClientSecret())) {
+            throw new IllegalArgumentException("잘못된 client_secret입니다.");
+        }
+        String token = jwtUtil.generateAccessToken(CLIENT_ID, SCOPE, JwtConfig.ACCESS_TOKEN_EXPIRY);
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public TokenResponse issueToken() {
+        return authService.issueToken(request);
+    }
+
+    /**
+     * 변경 전 AuthService.sha256Hash
+     */
+    private static String legacySha256Hash(String input) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : hash) {
+            hexString.append(String.format("%02x", b));
+        }
+        return hexString.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.hanafuture.openbanking.domain.account.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계좌통합조회(scatter-gather) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openbanking.inquiry")
+public class AccountInquiryProperties {
+
+    // false 이면 기존 방식(기관 순차 호출)으로 동작
+    private boolean parallelEnabled = true;
+
+    // 기관별 응답 대기 한도 (ms)
+    private long perBankTimeoutMs = 3000;
+
+    // 전체 조회 대기 한도 (ms)
+    private long globalTimeoutMs = 5000;
+
+    // 기관 호출 스레드 풀
+    private int corePoolSize = 8;
+    private int maxPoolSize = 32;
+    private int queueCapacity = 200;
+}
@@ -0,0 +1,33 @@
+package com.hanafuture.openbanking.domain.account.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * IRP 실물이전 saga 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openbanking.irp-transfer")
+public class IrpTransferProperties {
+
+    // 입금 단계 최대 시도 횟수 (결과 불명 상태로 초과 시 MANUAL_REVIEW)
+    private int maxDepositAttempts = 3;
+
+    // 환입 최대 시도 횟수 (초과 시 MANUAL_REVIEW)
+    private int maxCompensationAttempts = 5;
+
+    // 이 시간 이상 진행이 없는 거래를 복구 대상으로 판단 (초)
+    private long staleSeconds = 60;
+
+    // 복구 스위퍼 실행 주기 (ms)
+    private long sweepIntervalMs = 30000;
+
+    // 입금/환입 처리 스레드 풀
+    private int corePoolSize = 4;
+    private int maxPoolSize = 16;
+    private int queueCapacity = 500;
+}
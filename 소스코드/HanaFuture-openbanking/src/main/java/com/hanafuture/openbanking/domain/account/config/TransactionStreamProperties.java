@@ -0,0 +1,25 @@
+package com.hanafuture.openbanking.domain.account.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래내역 스트리밍 조회 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openbanking.transaction-stream")
+public class TransactionStreamProperties {
+
+    // 기관에 요청하는 페이지당 건수 (요청에 pageRecordCnt 가 없을 때)
+    private int pageSize = 100;
+
+    // 한 번의 스트리밍 요청에서 조회할 최대 페이지 수 (초과 시 마지막 커서를 내려주고 종료)
+    private int maxPages = 1000;
+
+    // 클라이언트로 내보내기 전 모아두는 최대 건수
+    private int flushEvery = 50;
+}
@@ -14,8 +14,11 @@ import com.hanafuture.openbanking.domain.account.dto.response.TransactionListRes
 import com.hanafuture.openbanking.domain.account.dto.response.WithdrawResponse;
 import com.hanafuture.openbanking.domain.account.dto.response.DepositResponse;
 import com.hanafuture.openbanking.domain.account.dto.response.IrpTransferResponse;
+import com.hanafuture.openbanking.domain.transaction.entity.TransferSagaStatus;
 import com.hanafuture.openbanking.domain.account.service.AccountService;
+import com.hanafuture.openbanking.domain.account.service.TransactionStreamService;
 import com.hanafuture.openbanking.global.dto.ApiResponse;
+import com.hanafuture.openbanking.global.exception.InstitutionUnavailableException;
 import com.hanafuture.openbanking.global.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,6 +33,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/v2.0")
@@ -146,6 +150,8 @@ public class AccountController {
         } catch (IllegalStateException e) {
             log.error("Account detail info request failed - Configuration error: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error("서버 설정 오류가 발생했습니다."));
+        } catch (InstitutionUnavailableException e) {
+            throw e; // 아래 catch (Exception) 을 건너뛰고 GlobalExceptionHandler 에서 503 으로 응답
         } catch (Exception e) {
             log.error("Account detail info request failed - Unexpected error: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error("계좌 상세 정보 조회 중 오류가 발생했습니다."));
@@ -174,6 +180,8 @@ public class AccountController {
         } catch (org.springframework.web.client.HttpClientErrorException e) {
             log.error("외부 API 호출 오류: " + e.getResponseBodyAsString(), e);
             return ResponseEntity.status(e.getStatusCode()).body(ApiResponse.error("외부 기관 통신 오류: " + e.getResponseBodyAsString()));
+        } catch (InstitutionUnavailableException e) {
+            throw e; // 아래 catch (Exception) 을 건너뛰고 GlobalExceptionHandler 에서 503 으로 응답
         } catch (Exception e) {
             log.error("계좌 잔액 조회 실패 - 시스템 오류: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -258,6 +266,9 @@ public class AccountController {
             return ResponseEntity.status(e.getStatusCode())
                     .body(ApiResponse.error("외부 기관 통신 오류: " + e.getResponseBodyAsString()));
 
+        } catch (InstitutionUnavailableException e) {
+            throw e; // 아래 catch (Exception) 을 건너뛰고 GlobalExceptionHandler 에서 503 으로 응답
+
         } catch (Exception e) {
             log.error("거래내역조회 실패 - 시스템 오류: {}", e.getMessage(), e);
                          return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -265,6 +276,70 @@ public class AccountController {
          }
      }
 
+    /**
+     * 거래내역 스트리밍 조회 API (v2.0)
+     * - application/x-ndjson 으로 거래 한 건씩 전송, 페이지 경계마다 page 라인, 마지막에 end 라인
+     */
+    @RequestMapping(value = "/account/transaction_list/stream", method = RequestMethod.POST)
+    @Operation(
+            summary = "거래내역 스트리밍 조회",
+            description = "기관의 거래내역을 페이지 단위로 이어 조회하며 NDJSON 으로 스트리밍합니다. " +
+                    "pageRecordCnt 로 페이지 크기, beforInquiryTraceInfo 로 시작 커서를 지정할 수 있습니다.",
+            tags = {"계좌 관리"},
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "스트리밍 시작 (application/x-ndjson)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (사용자/은행 코드 없음 등)",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패 (유효하지 않은 토큰)",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    public ResponseEntity<?> streamTransactionList(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String authorization,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "거래내역조회 요청 정보",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = TransactionListRequest.class))
+            )
+            @RequestBody TransactionListRequest request) {
+
+        try {
+            String token = jwtUtil.extractTokenFromHeader(authorization);
+            if (!jwtUtil.validateToken(token)) {
+                log.warn("유효하지 않은 토큰");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ApiResponse.error("유효하지 않은 토큰입니다."));
+            }
+            log.info("거래내역 스트리밍 요청 - clientId: {}, accountNum: {}",
+                    jwtUtil.extractClientId(token), request.getAccountNum());
+
+            StreamingResponseBody body = accountService.streamTransactionList(request);
+            return ResponseEntity.ok()
+                    .contentType(TransactionStreamService.APPLICATION_NDJSON)
+                    .body(body);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("거래내역 스트리밍 실패 - 잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("거래내역 스트리밍 실패 - 시스템 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("거래내역조회 중 시스템 오류가 발생했습니다."));
+        }
+    }
+
     /**
      * 출금이체 API (v2.0)
      */
@@ -341,6 +416,9 @@ public class AccountController {
             return ResponseEntity.status(e.getStatusCode())
                     .body(ApiResponse.error("외부 기관 통신 오류: " + e.getResponseBodyAsString()));
 
+        } catch (InstitutionUnavailableException e) {
+            throw e; // 아래 catch (Exception) 을 건너뛰고 GlobalExceptionHandler 에서 503 으로 응답
+
         } catch (Exception e) {
             log.error("출금이체 실패 - 시스템 오류: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -424,6 +502,9 @@ public class AccountController {
             return ResponseEntity.status(e.getStatusCode())
                     .body(ApiResponse.error("외부 기관 통신 오류: " + e.getResponseBodyAsString()));
 
+        } catch (InstitutionUnavailableException e) {
+            throw e; // 아래 catch (Exception) 을 건너뛰고 GlobalExceptionHandler 에서 503 으로 응답
+
         } catch (Exception e) {
             log.error("입금이체 실패 - 시스템 오류: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -489,9 +570,23 @@ public class AccountController {
             String scope = jwtUtil.extractScope(token);
             log.info("토큰 인증 성공 - clientId: {}, scope: {}", clientId, scope);
 
-            // 3. IRP 실물이전 처리
+            // 3. IRP 실물이전 처리 (출금 확정 후 응답, 입금은 비동기 처리)
             IrpTransferResponse response = accountService.irpTransfer(request);
 
+            if (isTransferInProgress(response)) {
+                log.info("IRP 실물이전 접수 - bankTranId: {}, 상태: {}", response.getBankTranId(), response.getTransferStatus());
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                        ApiResponse.success("IRP 실물이전이 접수되었습니다. 처리 결과는 거래고유번호로 조회할 수 있습니다.", response)
+                );
+            }
+
+            if (response.getTransferStatus() != null
+                    && !TransferSagaStatus.COMPLETED.name().equals(response.getTransferStatus())) {
+                log.warn("IRP 실물이전 미완료 거래 - bankTranId: {}, 상태: {}", response.getBankTranId(), response.getTransferStatus());
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(ApiResponse.error("이미 처리된 거래고유번호입니다. 처리 상태: " + response.getTransferStatus()));
+            }
+
             log.info("IRP 실물이전 성공 - 입금금액: {}", response.getDepositAmt());
 
             return ResponseEntity.ok(
@@ -508,10 +603,55 @@ public class AccountController {
             return ResponseEntity.status(e.getStatusCode())
                     .body(ApiResponse.error("외부 기관 통신 오류: " + e.getResponseBodyAsString()));
 
+        } catch (InstitutionUnavailableException e) {
+            throw e; // 아래 catch (Exception) 을 건너뛰고 GlobalExceptionHandler 에서 503 으로 응답
+
         } catch (Exception e) {
             log.error("IRP 실물이전 실패 - 시스템 오류: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("IRP 실물이전 중 시스템 오류가 발생했습니다."));
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * IRP 실물이전 처리 상태 조회 API (v2.0)
+     */
+    @GetMapping("/retirement/transfer/{bankTranId}")
+    @Operation(
+            summary = "IRP 실물이전 상태 조회",
+            description = "거래고유번호로 IRP 실물이전 처리 상태(WITHDRAWN, COMPLETED, COMPENSATED 등)를 조회합니다.",
+            tags = {"계좌 관리"},
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ApiResponse<IrpTransferResponse>> getIrpTransfer(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "거래고유번호", example = "123456") @PathVariable String bankTranId) {
+
+        try {
+            String token = jwtUtil.extractTokenFromHeader(authorization);
+            if (!jwtUtil.validateToken(token)) {
+                log.warn("유효하지 않은 토큰");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ApiResponse.error("유효하지 않은 토큰입니다."));
+            }
+
+            IrpTransferResponse response = accountService.getIrpTransfer(bankTranId);
+            return ResponseEntity.ok(ApiResponse.success("IRP 실물이전 상태 조회가 완료되었습니다.", response));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("IRP 실물이전 상태 조회 실패 - 잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("IRP 실물이전 상태 조회 실패 - 시스템 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("IRP 실물이전 상태 조회 중 시스템 오류가 발생했습니다."));
+        }
+    }
+
+    private boolean isTransferInProgress(IrpTransferResponse response) {
+        return response.getTransferStatus() != null
+                && TransferSagaStatus.valueOf(response.getTransferStatus()).isInProgress();
+    }
+}
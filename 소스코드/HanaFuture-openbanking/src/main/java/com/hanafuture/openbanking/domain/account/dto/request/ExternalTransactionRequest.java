@@ -1,5 +1,6 @@
 package com.hanafuture.openbanking.domain.account.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,4 +22,11 @@ public class ExternalTransactionRequest {
     
     @Builder.Default
     private String sortOrder = "D"; // D: 내림차순, A: 오름차순 (날짜 기준)
-} 
\ No newline at end of file
+    
+    // 페이지 조회 (값이 없으면 전송하지 않음)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer pageRecordCnt;
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String beforInquiryTraceInfo;
+}
@@ -40,4 +40,10 @@ public class TransactionListRequest {
     
     @Schema(description = "요청일시", example = "20250704123045")
     private String tranDtime;
-} 
\ No newline at end of file
+    
+    @Schema(description = "페이지당 조회 건수 (미입력 시 기관 기본값, 스트리밍 조회는 설정값)", example = "100")
+    private Integer pageRecordCnt;
+    
+    @Schema(description = "이전 조회 추적 정보 (다음 페이지 조회 시 직전 응답의 값을 그대로 전달)", example = "TRACEINFO123456789012")
+    private String beforInquiryTraceInfo;
+}
@@ -14,6 +14,9 @@ public class AccountInfoResponse {
     @Schema(description = "계좌 목록")
     private List<AccountInfo> resList;
     
+    @Schema(description = "기관별 조회 결과")
+    private List<InstitutionStatus> institutionStatusList;
+    
     @Getter
     @Builder
     @Schema(description = "계좌 정보")
@@ -82,4 +85,29 @@ public class AccountInfoResponse {
         @Schema(description = "저축은행 코드", example = "")
         private String savingsBankCode; // AN(3)
     }
-} 
\ No newline at end of file
+    
+    @Getter
+    @Builder
+    @Schema(description = "기관별 조회 결과")
+    public static class InstitutionStatus {
+        
+        @Schema(description = "은행 표준 코드", example = "081")
+        private String bankCodeStd;
+        
+        @Schema(description = "은행명", example = "하나은행")
+        private String bankName;
+        
+        @Schema(description = "조회 상태", example = "SUCCESS",
+                allowableValues = {"SUCCESS", "FAILED", "TIMEOUT", "REJECTED", "CIRCUIT_OPEN", "BULKHEAD_FULL", "SKIPPED", "NOT_CONFIGURED"})
+        private String status;
+        
+        @Schema(description = "조회 건수", example = "3")
+        private int accountCnt;
+        
+        @Schema(description = "소요시간(ms)", example = "120")
+        private long elapsedMs;
+        
+        @Schema(description = "실패 사유", example = "Read timed out")
+        private String message;
+    }
+}
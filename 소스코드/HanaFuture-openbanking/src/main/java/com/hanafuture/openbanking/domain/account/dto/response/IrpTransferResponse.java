@@ -13,6 +13,13 @@ import lombok.NoArgsConstructor;
 @Schema(description = "IRP 실물이전 응답")
 public class IrpTransferResponse {
     
+    @Schema(description = "거래고유번호", example = "123456")
+    private String bankTranId;
+    
+    @Schema(description = "이전 처리 상태 (WITHDRAWN: 출금 완료/입금 처리 중, COMPLETED: 이전 완료, COMPENSATED: 입금 실패로 환입 완료 등)",
+            example = "COMPLETED")
+    private String transferStatus;
+    
     @Schema(description = "출금된 계좌번호", example = "110555888999")
     private String wdAccountNum;
     
@@ -0,0 +1,222 @@
+package com.hanafuture.openbanking.domain.account.service;
+
+import com.hanafuture.openbanking.domain.account.config.AccountInquiryProperties;
+import com.hanafuture.openbanking.domain.account.dto.response.AccountInfoResponse;
+import com.hanafuture.openbanking.domain.bank.dto.BankRoute;
+import com.hanafuture.openbanking.global.exception.InstitutionUnavailableException;
+import com.hanafuture.openbanking.global.http.BankCallDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 계좌통합조회 scatter-gather 엔진
+ * - 등록된 모든 기관을 동시에 호출하고 기관별/전체 대기 한도 내에서 결과를 수집
+ * - 요청 건수(inquiryRecordCnt)만큼 모이면 나머지 기관은 기다리지 않고 종료
+ * - 기관 호출에는 대기 한도를 마감 시각(BankCallDeadline)으로 넘겨 한도가 지나면 소켓 읽기도 끝나도록 함
+ * - 결과와 기관별 상태는 완료 순서가 아니라 요청한 기관 순서로 반환
+ */
+@Service
+@Slf4j
+public class AccountScatterGatherService {
+
+    public static final String STATUS_SUCCESS = "SUCCESS";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_TIMEOUT = "TIMEOUT";
+    public static final String STATUS_REJECTED = "REJECTED";
+    public static final String STATUS_CIRCUIT_OPEN = InstitutionUnavailableException.CIRCUIT_OPEN;
+    public static final String STATUS_BULKHEAD_FULL = InstitutionUnavailableException.BULKHEAD_FULL;
+    public static final String STATUS_SKIPPED = "SKIPPED";
+    public static final String STATUS_NOT_CONFIGURED = "NOT_CONFIGURED";
+
+    private final AccountInquiryProperties properties;
+    private final ThreadPoolTaskExecutor executor;
+
+    public AccountScatterGatherService(AccountInquiryProperties properties,
+                                       @Qualifier("bankInquiryExecutor") ThreadPoolTaskExecutor executor) {
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    /**
+     * 기관별 조회를 동시에 실행하고 결과를 모은다.
+     *
+     * @param bankRoutes 조회 대상 기관
+     * @param limit      수집할 최대 계좌 건수
+     * @param fetcher    기관 한 곳의 계좌 목록을 조회하는 함수 (실패 시 예외)
+     */
+    public GatherResult gather(List<BankRoute> bankRoutes, int limit,
+                               Function<BankRoute, List<AccountInfoResponse.AccountInfo>> fetcher) {
+
+        long startNanos = System.nanoTime();
+        long globalDeadline = startNanos + TimeUnit.MILLISECONDS.toNanos(properties.getGlobalTimeoutMs());
+
+        Map<String, AccountInfoResponse.InstitutionStatus> statuses = new HashMap<>();
+        Map<String, List<AccountInfoResponse.AccountInfo>> accountsByBank = new HashMap<>();
+        Map<String, CompletableFuture<List<AccountInfoResponse.AccountInfo>>> pending = new LinkedHashMap<>();
+        BlockingQueue<BankOutcome> completed = new LinkedBlockingQueue<>();
+
+        // 1. scatter
+        for (BankRoute bank : bankRoutes) {
+            String bankCodeStd = bank.bankCodeStd();
+            if (!bank.hasEndpoint()) {
+                log.warn("Bank endpoint is not configured for bank_code_std: {}", bankCodeStd);
+                statuses.put(bankCodeStd, status(bank, STATUS_NOT_CONFIGURED, 0, 0, null));
+                continue;
+            }
+
+            long submittedAt = System.nanoTime();
+            long bankDeadline = Math.min(globalDeadline,
+                    submittedAt + TimeUnit.MILLISECONDS.toNanos(properties.getPerBankTimeoutMs()));
+            CompletableFuture<List<AccountInfoResponse.AccountInfo>> future;
+            try {
+                future = CompletableFuture
+                        .supplyAsync(() -> BankCallDeadline.callWithin(bankDeadline, () -> fetcher.apply(bank)), executor)
+                        .orTimeout(properties.getPerBankTimeoutMs(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                log.warn("기관 조회 작업 거부됨 (스레드 풀 포화) - bankCodeStd: {}", bankCodeStd);
+                statuses.put(bankCodeStd, status(bank, STATUS_REJECTED, 0, 0, "조회 작업 대기열이 가득 찼습니다."));
+                continue;
+            }
+
+            pending.put(bankCodeStd, future);
+            future.whenComplete((accounts, error) ->
+                    completed.offer(new BankOutcome(bank, accounts, error, elapsedMillis(submittedAt))));
+        }
+
+        // 2. gather
+        int collectedCnt = 0;
+        boolean globalTimedOut = false;
+
+        while (!pending.isEmpty() && collectedCnt < limit) {
+            long remaining = globalDeadline - System.nanoTime();
+            if (remaining <= 0) {
+                globalTimedOut = true;
+                break;
+            }
+
+            BankOutcome outcome;
+            try {
+                outcome = completed.poll(remaining, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (outcome == null) {
+                globalTimedOut = true;
+                break;
+            }
+
+            String bankCodeStd = outcome.bank().bankCodeStd();
+            pending.remove(bankCodeStd);
+
+            if (outcome.error() == null) {
+                List<AccountInfoResponse.AccountInfo> accounts = outcome.accounts() != null ? outcome.accounts() : List.of();
+                accountsByBank.put(bankCodeStd, accounts);
+                collectedCnt += accounts.size();
+                statuses.put(bankCodeStd, status(outcome.bank(), STATUS_SUCCESS, accounts.size(), outcome.elapsedMs(), null));
+                log.info("외부 API 조회 성공 - bankCodeStd: {}, 조회 건수: {}, 소요시간: {}ms",
+                        bankCodeStd, accounts.size(), outcome.elapsedMs());
+            } else {
+                Throwable cause = unwrap(outcome.error());
+                String resultStatus = resolveFailureStatus(cause);
+                statuses.put(bankCodeStd, status(outcome.bank(), resultStatus, 0, outcome.elapsedMs(), cause.getMessage()));
+                log.warn("외부 API 조회 실패 - bankCodeStd: {}, 상태: {}, 오류: {}", bankCodeStd, resultStatus, cause.getMessage());
+            }
+        }
+
+        // 3. 남은 기관 정리 (전체 한도 초과 또는 요청 건수 충족)
+        //    진행 중인 호출은 마감 시각에 맞춘 소켓 타임아웃으로 끝남 (cancel 은 future 만 완료시킴)
+        String leftoverStatus = globalTimedOut ? STATUS_TIMEOUT : STATUS_SKIPPED;
+        for (Map.Entry<String, CompletableFuture<List<AccountInfoResponse.AccountInfo>>> entry : pending.entrySet()) {
+            entry.getValue().cancel(true);
+            BankRoute bank = findBank(bankRoutes, entry.getKey());
+            statuses.put(entry.getKey(), status(bank, leftoverStatus, 0, elapsedMillis(startNanos),
+                    globalTimedOut ? "전체 조회 대기 한도를 초과했습니다." : "요청 건수를 충족하여 조회를 생략했습니다."));
+        }
+
+        // 4. 요청한 기관 순서로 정렬
+        List<AccountInfoResponse.AccountInfo> collected = new ArrayList<>();
+        List<AccountInfoResponse.InstitutionStatus> orderedStatuses = new ArrayList<>(bankRoutes.size());
+        for (BankRoute bank : bankRoutes) {
+            List<AccountInfoResponse.AccountInfo> accounts = accountsByBank.get(bank.bankCodeStd());
+            if (accounts != null && collected.size() < limit) {
+                collected.addAll(accounts.subList(0, Math.min(accounts.size(), limit - collected.size())));
+            }
+            AccountInfoResponse.InstitutionStatus status = statuses.get(bank.bankCodeStd());
+            if (status != null) {
+                orderedStatuses.add(status);
+            }
+        }
+
+        log.info("계좌통합조회 scatter-gather 완료 - 기관 수: {}, 수집 건수: {}, 소요시간: {}ms",
+                bankRoutes.size(), collected.size(), elapsedMillis(startNanos));
+
+        return new GatherResult(collected, orderedStatuses);
+    }
+
+    private AccountInfoResponse.InstitutionStatus status(BankRoute bank, String status, int accountCnt,
+                                                        long elapsedMs, String message) {
+        return AccountInfoResponse.InstitutionStatus.builder()
+                .bankCodeStd(bank.bankCodeStd())
+                .bankName(bank.bankName())
+                .status(status)
+                .accountCnt(accountCnt)
+                .elapsedMs(elapsedMs)
+                .message(message)
+                .build();
+    }
+
+    private BankRoute findBank(List<BankRoute> bankRoutes, String bankCodeStd) {
+        for (BankRoute bank : bankRoutes) {
+            if (bank.bankCodeStd().equals(bankCodeStd)) {
+                return bank;
+            }
+        }
+        throw new IllegalStateException("Unknown bank_code_std: " + bankCodeStd);
+    }
+
+    private String resolveFailureStatus(Throwable cause) {
+        if (cause instanceof TimeoutException) {
+            return STATUS_TIMEOUT;
+        }
+        if (cause instanceof InstitutionUnavailableException unavailable) {
+            return unavailable.getReason();
+        }
+        return STATUS_FAILED;
+    }
+
+    private Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private long elapsedMillis(long fromNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fromNanos);
+    }
+
+    private record BankOutcome(BankRoute bank, List<AccountInfoResponse.AccountInfo> accounts,
+                               Throwable error, long elapsedMs) {
+    }
+
+    public record GatherResult(List<AccountInfoResponse.AccountInfo> accounts,
+                               List<AccountInfoResponse.InstitutionStatus> institutionStatuses) {
+    }
+}
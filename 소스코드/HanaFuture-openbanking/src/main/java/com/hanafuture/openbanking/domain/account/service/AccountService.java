@@ -1,6 +1,7 @@
 package com.hanafuture.openbanking.domain.account.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanafuture.openbanking.domain.account.config.AccountInquiryProperties;
 import com.hanafuture.openbanking.domain.account.dto.request.AccountDetailsRequest;
 import com.hanafuture.openbanking.domain.account.dto.request.AccountInfoRequest;
 import com.hanafuture.openbanking.domain.account.dto.request.BalanceRequest;
@@ -10,12 +11,9 @@ import com.hanafuture.openbanking.domain.account.dto.request.DepositRequest;
 import com.hanafuture.openbanking.domain.account.dto.request.ExternalAccountDetailRequest;
 import com.hanafuture.openbanking.domain.account.dto.request.ExternalAccountRequest;
 import com.hanafuture.openbanking.domain.account.dto.request.ExternalBalanceRequest;
-import com.hanafuture.openbanking.domain.account.dto.request.ExternalTransactionRequest;
 import com.hanafuture.openbanking.domain.account.dto.request.ExternalWithdrawRequest;
 import com.hanafuture.openbanking.domain.account.dto.request.ExternalDepositRequest;
 import com.hanafuture.openbanking.domain.account.dto.request.IrpTransferRequest;
-import com.hanafuture.openbanking.domain.account.dto.request.ExternalIrpWithdrawRequest;
-import com.hanafuture.openbanking.domain.account.dto.request.ExternalIrpDepositRequest;
 import com.hanafuture.openbanking.domain.account.dto.response.AccountDetailInfoResponse;
 import com.hanafuture.openbanking.domain.account.dto.response.AccountInfoResponse;
 import com.hanafuture.openbanking.domain.account.dto.response.BalanceResponse;
@@ -25,18 +23,17 @@ import com.hanafuture.openbanking.domain.account.dto.response.DepositResponse;
 import com.hanafuture.openbanking.domain.account.dto.response.ExternalAccountDetailResponse;
 import com.hanafuture.openbanking.domain.account.dto.response.ExternalAccountResponse;
 import com.hanafuture.openbanking.domain.account.dto.response.ExternalBalanceResponse;
-import com.hanafuture.openbanking.domain.account.dto.response.ExternalTransactionResponse;
 import com.hanafuture.openbanking.domain.account.dto.response.ExternalWithdrawResponse;
 import com.hanafuture.openbanking.domain.account.dto.response.ExternalDepositResponse;
 import com.hanafuture.openbanking.domain.account.dto.response.IrpTransferResponse;
-import com.hanafuture.openbanking.domain.account.dto.response.ExternalIrpWithdrawResponse;
-import com.hanafuture.openbanking.domain.account.dto.response.ExternalIrpDepositResponse;
 import com.hanafuture.openbanking.domain.account.entity.Account;
 import com.hanafuture.openbanking.domain.account.repository.AccountRepository;
-import com.hanafuture.openbanking.domain.bank.entity.BankCode;
-import com.hanafuture.openbanking.domain.bank.repository.BankCodeRepository;
-import com.hanafuture.openbanking.domain.user.entity.User;
-import com.hanafuture.openbanking.domain.user.repository.UserRepository;
+import com.hanafuture.openbanking.domain.account.validation.AccountRequestValidator;
+import com.hanafuture.openbanking.domain.bank.dto.BankRoute;
+import com.hanafuture.openbanking.domain.transaction.entity.TransactionLog;
+import com.hanafuture.openbanking.domain.transaction.service.AuditLogWriter;
+import com.hanafuture.openbanking.global.cache.RoutingCache;
+import com.hanafuture.openbanking.global.http.BankHttpClientRegistry;
 import com.hanafuture.openbanking.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,9 +43,11 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -58,24 +57,34 @@ import java.util.List;
 @Slf4j
 public class AccountService {
     
+    // 감사 로그 응답 코드 (기관 HTTP 오류는 상태 코드를 그대로 기록)
+    private static final String AUDIT_SUCCESS = "SUCCESS";
+    private static final String AUDIT_FAILED = "FAILED";
+    
     private final AccountRepository accountRepository;
-    private final BankCodeRepository bankCodeRepository;
-    private final UserRepository userRepository;
-    private final RestTemplate restTemplate;
+    private final RoutingCache routingCache;
+    private final BankHttpClientRegistry bankHttpClients;
     private final JwtUtil jwtUtil;
     private final ObjectMapper objectMapper;
     private final HanaBankService hanaBankService;
+    private final AccountScatterGatherService scatterGatherService;
+    private final AccountInquiryProperties inquiryProperties;
+    private final IrpTransferSagaService irpTransferSagaService;
+    private final AuditLogWriter auditLogWriter;
+    private final TransactionStreamService transactionStreamService;
+    private final AccountRequestValidator requestValidator;
 
     public BalanceResponse getAccountBalance(BalanceRequest request) {
+        requestValidator.validate(request).orThrow();
+
         // 1. userSeqNo로 User를 찾아 userCi 조회
-        User user = userRepository.findById(request.getUserSeqNo())
+        String userCi = routingCache.getUserCi(request.getUserSeqNo())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userSeqNo: " + request.getUserSeqNo()));
-        String userCi = user.getUserCi();
 
         // 2. bankCodeStd로 BankCode를 찾아 endpoint 조회
-        BankCode bankCode = bankCodeRepository.findById(request.getBankCodeStd())
+        BankRoute bankCode = routingCache.getBank(request.getBankCodeStd())
                 .orElseThrow(() -> new IllegalArgumentException("은행 코드를 찾을 수 없습니다. bankCodeStd: " + request.getBankCodeStd()));
-        String externalApiUrl = bankCode.getBankEndpoint() + "/api/v1/accounts/balance";
+        String externalApiUrl = bankCode.bankEndpoint() + "/api/v1/accounts/balance";
 
         // 3. 외부 기관 API 호출
         ExternalBalanceRequest externalRequest = new ExternalBalanceRequest(userCi, request.getAccountNum());
@@ -83,7 +92,7 @@ public class AccountService {
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<ExternalBalanceRequest> entity = new HttpEntity<>(externalRequest, headers);
 
-        ExternalBalanceResponse externalResponse = restTemplate.postForObject(externalApiUrl, entity, ExternalBalanceResponse.class);
+        ExternalBalanceResponse externalResponse = bankHttpClients.forBank(bankCode.bankCodeStd()).postForObject(externalApiUrl, entity, ExternalBalanceResponse.class);
 
         if (externalResponse == null || !externalResponse.isSuccess() || externalResponse.getData() == null) {
             throw new RuntimeException("외부 계좌 잔액 조회 API 호출에 실패했습니다.");
@@ -111,20 +120,39 @@ public class AccountService {
                 request.getUserName(), request.getInquiryBankType(), request.getInquiryRecordCnt());
         
         // 1. 요청 유효성 검사
-        validateAccountInfoRequest(request);
-        
+        requestValidator.validate(request).orThrow();
+
+        int requestedCount = Integer.parseInt(request.getInquiryRecordCnt());
+        List<BankRoute> bankRoutes = routingCache.getAllBanks();
+
         // 2. 외부 API들로부터 계좌 정보 조회
+        if (inquiryProperties.isParallelEnabled()) {
+            AccountScatterGatherService.GatherResult result = scatterGatherService.gather(
+                    bankRoutes,
+                    requestedCount,
+                    bank -> fetchAccountsFromExternalApi(
+                            bank.bankCodeStd(),
+                            bank.bankEndpoint() + "/api/v1/accounts/search-by-user-num",
+                            request.getUserNum(), request.getUserName()));
+
+            log.info("계좌통합조회 완료 - 총 조회 건수: {}", result.accounts().size());
+
+            return AccountInfoResponse.builder()
+                    .resList(result.accounts())
+                    .institutionStatusList(result.institutionStatuses())
+                    .build();
+        }
+
         List<AccountInfoResponse.AccountInfo> allAccounts = new ArrayList<>();
-        List<BankCode> bankCodes = bankCodeRepository.findAll();
 
-        for (BankCode bank : bankCodes) {
-            if (bank.getBankEndpoint() == null || bank.getBankEndpoint().isEmpty()) {
-                log.warn("Bank endpoint is not configured for bank_code_std: {}", bank.getBankCodeStd());
+        for (BankRoute bank : bankRoutes) {
+            if (!bank.hasEndpoint()) {
+                log.warn("Bank endpoint is not configured for bank_code_std: {}", bank.bankCodeStd());
                 continue;
             }
-            String apiUrl = bank.getBankEndpoint() + "/api/v1/accounts/search-by-user-num";
+            String apiUrl = bank.bankEndpoint() + "/api/v1/accounts/search-by-user-num";
             try {
-                List<AccountInfoResponse.AccountInfo> accounts = fetchAccountsFromExternalApi(apiUrl, request.getUserNum(), request.getUserName());
+                List<AccountInfoResponse.AccountInfo> accounts = fetchAccountsFromExternalApi(bank.bankCodeStd(), apiUrl, request.getUserNum(), request.getUserName());
                 allAccounts.addAll(accounts);
                 log.info("외부 API 조회 성공 - URL: {}, 조회 건수: {}", apiUrl, accounts.size());
             } catch (Exception e) {
@@ -134,7 +162,6 @@ public class AccountService {
         }
         
         // 3. 요청한 건수만큼 제한
-        int requestedCount = Integer.parseInt(request.getInquiryRecordCnt());
         if (allAccounts.size() > requestedCount) {
             allAccounts = allAccounts.subList(0, requestedCount);
         }
@@ -148,34 +175,36 @@ public class AccountService {
     }
     
     public AccountDetailInfoResponse getAccountDetailInfo(String token, AccountDetailsRequest request) {
+        requestValidator.validate(request).orThrow();
+
         // 1. 토큰 검증
         jwtUtil.validateToken(token);
         log.info("Access Token validation successful.");
 
         // 2. userSeqNo로 User 조회하여 userCi 획득
-        User user = userRepository.findById(request.getUserSeqNo())
+        String userCi = routingCache.getUserCi(request.getUserSeqNo())
                 .orElseThrow(() -> new IllegalArgumentException("User not found for userSeqNo: " + request.getUserSeqNo()));
         log.info("User found for userSeqNo: {}", request.getUserSeqNo());
 
         // 3. bankCodeStd로 BankCode 조회하여 bankEndpoint 획득
-        BankCode bankCode = bankCodeRepository.findById(request.getBankCodeStd())
+        BankRoute bankCode = routingCache.getBank(request.getBankCodeStd())
                 .orElseThrow(() -> new IllegalArgumentException("BankCode not found for bankCodeStd: " + request.getBankCodeStd()));
         log.info("BankCode found for bankCodeStd: {}", request.getBankCodeStd());
 
-        String bankEndpoint = bankCode.getBankEndpoint();
-        if (bankEndpoint == null || bankEndpoint.trim().isEmpty()) {
+        String bankEndpoint = bankCode.bankEndpoint();
+        if (!bankCode.hasEndpoint()) {
             throw new IllegalStateException("Bank endpoint is not configured for bank: " + request.getBankCodeStd());
         }
 
         // 4. 외부 기관 API 호출
         String externalApiUrl = bankEndpoint + "/api/v1/accounts/detail";
         ExternalAccountDetailRequest externalRequest = ExternalAccountDetailRequest.builder()
-                .userCi(user.getUserCi())
+                .userCi(userCi)
                 .accountNum(request.getAccountNum())
                 .build();
 
         log.info("Requesting account details from external API: {}", externalApiUrl);
-        ResponseEntity<ExternalAccountDetailResponse> responseEntity = restTemplate.exchange(
+        ResponseEntity<ExternalAccountDetailResponse> responseEntity = bankHttpClients.forBank(bankCode.bankCodeStd()).exchange(
                 externalApiUrl,
                 HttpMethod.POST,
                 new HttpEntity<>(externalRequest, createJsonHeaders()),
@@ -222,42 +251,39 @@ public class AccountService {
     
     /**
      * 외부 API로부터 계좌 정보 조회
+     * - 호출 실패나 실패 응답은 예외로 전달하여 기관별 상태에 반영
      */
-    private List<AccountInfoResponse.AccountInfo> fetchAccountsFromExternalApi(String apiUrl, String userNum, String userName) {
-        try {
-            // 요청 데이터 생성
-            ExternalAccountRequest externalRequest = ExternalAccountRequest.builder()
-                    .userNum(userNum)
-                    .build();
-            
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            // HTTP 요청 엔티티 생성
-            HttpEntity<ExternalAccountRequest> requestEntity = new HttpEntity<>(externalRequest, headers);
-            
-            // 외부 API 호출
-            ResponseEntity<ExternalAccountResponse> response = restTemplate.exchange(
-                    apiUrl,
-                    HttpMethod.POST,
-                    requestEntity,
-                    ExternalAccountResponse.class
-            );
-            
-            // 응답 처리
-            ExternalAccountResponse externalResponse = response.getBody();
-            if (externalResponse != null && externalResponse.isSuccess() && externalResponse.getData() != null) {
-                return convertToAccountInfoList(externalResponse.getData().getAccounts(), userName);
-            } else {
-                log.warn("외부 API 응답이 성공하지 않음 - URL: {}", apiUrl);
-                return new ArrayList<>();
-            }
-            
-        } catch (Exception e) {
-            log.error("외부 API 호출 오류 - URL: {}, 오류: {}", apiUrl, e.getMessage(), e);
+    private List<AccountInfoResponse.AccountInfo> fetchAccountsFromExternalApi(String bankCodeStd, String apiUrl, String userNum, String userName) {
+        // 요청 데이터 생성
+        ExternalAccountRequest externalRequest = ExternalAccountRequest.builder()
+                .userNum(userNum)
+                .build();
+        
+        // HTTP 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        
+        // HTTP 요청 엔티티 생성
+        HttpEntity<ExternalAccountRequest> requestEntity = new HttpEntity<>(externalRequest, headers);
+        
+        // 외부 API 호출
+        ResponseEntity<ExternalAccountResponse> response = bankHttpClients.forBank(bankCodeStd).exchange(
+                apiUrl,
+                HttpMethod.POST,
+                requestEntity,
+                ExternalAccountResponse.class
+        );
+        
+        // 응답 처리
+        ExternalAccountResponse externalResponse = response.getBody();
+        if (externalResponse == null || !externalResponse.isSuccess() || externalResponse.getData() == null) {
+            log.warn("외부 API 응답이 성공하지 않음 - URL: {}", apiUrl);
+            throw new IllegalStateException("외부 API 응답이 성공하지 않았습니다.");
+        }
+        if (externalResponse.getData().getAccounts() == null) {
             return new ArrayList<>();
         }
+        return convertToAccountInfoList(externalResponse.getData().getAccounts(), userName);
     }
     
     /**
@@ -298,186 +324,33 @@ public class AccountService {
         return accountInfoList;
     }
     
-    private void validateAccountInfoRequest(AccountInfoRequest request) {
-        
-        // 필수 필드 검증
-        if (request.getUserName() == null || request.getUserName().trim().isEmpty()) {
-            throw new IllegalArgumentException("사용자명(userName)은 필수입니다.");
-        }
-        
-        if (request.getUserNum() == null || request.getUserNum().trim().isEmpty()) {
-            throw new IllegalArgumentException("사용자 주민등록번호(userNum)는 필수입니다.");
-        }
-        
-        if (request.getUserEmail() == null || request.getUserEmail().trim().isEmpty()) {
-            throw new IllegalArgumentException("사용자 이메일(userEmail)은 필수입니다.");
-        }
-        
-        if (request.getAinfoAgreeYn() == null || request.getAinfoAgreeYn().trim().isEmpty()) {
-            throw new IllegalArgumentException("어카운트인포 서비스 동의여부(ainfoAgreeYn)는 필수입니다.");
-        }
-        
-        if (request.getInquiryBankType() == null || request.getInquiryBankType().trim().isEmpty()) {
-            throw new IllegalArgumentException("금융기관 업권 구분(inquiryBankType)은 필수입니다.");
-        }
-        
-        if (request.getTraceNo() == null || request.getTraceNo().trim().isEmpty()) {
-            throw new IllegalArgumentException("추적번호(traceNo)는 필수입니다.");
-        }
-        
-        if (request.getInquiryRecordCnt() == null || request.getInquiryRecordCnt().trim().isEmpty()) {
-            throw new IllegalArgumentException("조회 건수(inquiryRecordCnt)는 필수입니다.");
-        }
-        
-        // 형식 검증
-        if (request.getUserName().length() > 20) {
-            throw new IllegalArgumentException("사용자명(userName)은 20자 이하여야 합니다.");
-        }
-        
-        // 주민등록번호 형식 검증 (999999-9999999)
-        if (request.getUserNum().length() != 14) {
-            throw new IllegalArgumentException("사용자 주민등록번호(userNum)는 999999-9999999 형식(14자리)이어야 합니다.");
-        }
-        
-        // 주민등록번호 패턴 검증
-        if (!isValidUserNumFormat(request.getUserNum())) {
-            throw new IllegalArgumentException("사용자 주민등록번호(userNum)는 999999-9999999 형식이어야 합니다.");
-        }
-        
-        if (request.getUserEmail().length() > 100) {
-            throw new IllegalArgumentException("사용자 이메일(userEmail)은 100자 이하여야 합니다.");
-        }
-        
-        if (request.getAinfoAgreeYn().length() != 1 || !"Y".equalsIgnoreCase(request.getAinfoAgreeYn())) {
-            throw new IllegalArgumentException("어카운트인포 서비스 동의여부(ainfoAgreeYn)는 'Y'여야 합니다.");
-        }
-        
-        if (request.getInquiryBankType().length() != 1) {
-            throw new IllegalArgumentException("금융기관 업권 구분(inquiryBankType)은 1자리여야 합니다.");
-        }
-        
-        if (request.getTraceNo().length() > 20) {
-            throw new IllegalArgumentException("추적번호(traceNo)는 20자 이하여야 합니다.");
-        }
-        
-        try {
-            int recordCnt = Integer.parseInt(request.getInquiryRecordCnt());
-            if (recordCnt <= 0 || recordCnt > 100) {
-                throw new IllegalArgumentException("조회 건수(inquiryRecordCnt)는 1에서 100 사이여야 합니다.");
-            }
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("조회 건수(inquiryRecordCnt)는 숫자여야 합니다.");
-        }
-        
-        if (!isValidEmail(request.getUserEmail())) {
-            throw new IllegalArgumentException("유효하지 않은 이메일 형식입니다.");
-        }
-    }
-    
-    /**
-     * 이메일 형식 유효성 검증 (정규식 사용)
-     */
-    private boolean isValidEmail(String email) {
-        String emailRegex = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$";
-        return email != null && email.matches(emailRegex);
-    }
-    
-    /**
-     * 주민등록번호 형식 유효성 검증
-     */
-    private boolean isValidUserNumFormat(String userNum) {
-        // 999999-9999999 형식 검증
-        String userNumRegex = "^\\d{6}-\\d{7}$";
-        return userNum != null && userNum.matches(userNumRegex);
-    }
-    
     /**
      * 거래내역조회
+     * - 페이지 크기(pageRecordCnt)를 넘는 건은 변환하지 않고 다음 페이지가 있는 것으로 응답
      */
     public TransactionListResponse getTransactionList(TransactionListRequest request) {
         log.info("거래내역조회 요청 수신 - userSeqNo: {}, accountNum: {}, bankCodeStd: {}", 
                 request.getUserSeqNo(), request.getAccountNum(), request.getBankCodeStd());
-        
-        // 1. userSeqNo로 User를 찾아 userCi 조회
-        log.info("사용자 조회 시도 - userSeqNo: '{}', 타입: {}", request.getUserSeqNo(), request.getUserSeqNo().getClass().getSimpleName());
-        
-        // 디버깅: 전체 사용자 목록 확인
-        long totalUsers = userRepository.count();
-        log.info("전체 사용자 수: {}", totalUsers);
-        
-        // 디버깅: 해당 사용자 존재 여부 확인
-        boolean exists = userRepository.existsById(request.getUserSeqNo());
-        log.info("사용자 존재 여부 - userSeqNo: '{}', exists: {}", request.getUserSeqNo(), exists);
-        
-        User user = userRepository.findById(request.getUserSeqNo())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userSeqNo: " + request.getUserSeqNo()));
-        String userCi = user.getUserCi();
-        log.info("사용자 조회 성공 - userSeqNo: {}, userCi: {}", request.getUserSeqNo(), userCi);
-
-        // 2. bankCodeStd로 BankCode를 찾아 endpoint 조회
-        BankCode bankCode = bankCodeRepository.findById(request.getBankCodeStd())
-                .orElseThrow(() -> new IllegalArgumentException("은행 코드를 찾을 수 없습니다. bankCodeStd: " + request.getBankCodeStd()));
-        String externalApiUrl = bankCode.getBankEndpoint() + "/api/v1/transactions/history";
-        log.info("은행 엔드포인트 조회 성공 - bankCodeStd: {}, endpoint: {}", request.getBankCodeStd(), externalApiUrl);
-
-        // 3. 외부 기관 API 호출을 위한 요청 생성
-        ExternalTransactionRequest externalRequest = ExternalTransactionRequest.builder()
-                .userCi(userCi)
-                .accountNum(request.getAccountNum())
-                .inquiryType(request.getInquiryType() != null ? request.getInquiryType() : "A") // 기본값 A
-                .sortOrder(request.getSortOrder() != null ? request.getSortOrder() : "D") // 기본값 D
-                .build();
-
-        // 4. 외부 기관 API 호출
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<ExternalTransactionRequest> entity = new HttpEntity<>(externalRequest, headers);
-
-        log.info("외부 API 호출 시작 - URL: {}", externalApiUrl);
-        ExternalTransactionResponse externalResponse = restTemplate.postForObject(externalApiUrl, entity, ExternalTransactionResponse.class);
-
-        if (externalResponse == null || !externalResponse.isSuccess() || externalResponse.getData() == null) {
-            log.error("외부 거래내역조회 API 호출 실패 - URL: {}", externalApiUrl);
-            throw new RuntimeException("외부 거래내역조회 API 호출에 실패했습니다.");
-        }
-        log.info("외부 API 호출 성공 - 거래 건수: {}", 
-                externalResponse.getData().getResList() != null ? externalResponse.getData().getResList().size() : 0);
+        requestValidator.validate(request).orThrow();
 
-        // 5. 외부 응답을 우리 API 응답 형식으로 변환
-        ExternalTransactionResponse.ExternalTransactionData data = externalResponse.getData();
-        
-        // 거래내역 변환
-        List<TransactionListResponse.TransactionInfo> transactionList = new ArrayList<>();
-        if (data.getResList() != null) {
-            for (ExternalTransactionResponse.ExternalTransactionInfo externalTrans : data.getResList()) {
-                TransactionListResponse.TransactionInfo transactionInfo = TransactionListResponse.TransactionInfo.builder()
-                        .tranDate(externalTrans.getTranDate())
-                        .tranTime(externalTrans.getTranTime())
-                        .inoutType(externalTrans.getInoutType())
-                        .tranType(externalTrans.getTranType())
-                        .printedContent(externalTrans.getPrintedContent())
-                        .tranAmt(externalTrans.getTranAmt())
-                        .afterBalanceAmt(externalTrans.getAfterBalanceAmt())
-                        .branchName(externalTrans.getBranchName())
-                        .build();
-                transactionList.add(transactionInfo);
-            }
-        }
-
-        TransactionListResponse response = TransactionListResponse.builder()
-                .bankName(bankCode.getBankName()) // 데이터베이스에서 조회한 은행명 사용
-                .accountNum(request.getAccountNum()) // 클라이언트 요청에서 받은 계좌번호 사용
-                .balanceAmt(data.getBalanceAmt())
-                .pageRecordCnt(data.getPageRecordCnt())
-                .nextPageYn(data.getNextPageYn())
-                .beforInquiryTraceInfo(data.getBeforInquiryTraceInfo())
-                .resList(transactionList)
-                .build();
+        // 기관 응답을 스트리밍 조회와 같은 파서로 읽어 요청한 페이지 크기만큼만 변환
+        TransactionListResponse response = transactionStreamService.readPage(request);
 
-        log.info("거래내역조회 성공 - 총 거래 건수: {}", transactionList.size());
+        log.info("거래내역조회 성공 - 총 거래 건수: {}", response.getResList().size());
         return response;
     }
 
+    /**
+     * 거래내역 스트리밍 조회 (NDJSON)
+     * - 다음 페이지가 있으면 커서로 이어서 조회하며 거래 건을 도착 즉시 내려보냄
+     */
+    public StreamingResponseBody streamTransactionList(TransactionListRequest request) {
+        log.info("거래내역 스트리밍 요청 수신 - userSeqNo: {}, accountNum: {}, bankCodeStd: {}",
+                request.getUserSeqNo(), request.getAccountNum(), request.getBankCodeStd());
+        requestValidator.validate(request).orThrow();
+        return transactionStreamService.streamTransactions(request);
+    }
+
     /**
      * 출금이체
      */
@@ -511,17 +384,17 @@ public class AccountService {
             log.warn("JSON 변환 실패: {}", e.getMessage());
         }
         log.info("=== 출금이체 클라이언트 요청 데이터 로그 끝 ===");
+        requestValidator.validate(request).orThrow();
         
         // 1. userSeqNo로 User를 찾아 userCi 조회
-        User user = userRepository.findById(request.getUserSeqNo())
+        String userCi = routingCache.getUserCi(request.getUserSeqNo())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userSeqNo: " + request.getUserSeqNo()));
-        String userCi = user.getUserCi();
         log.info("사용자 조회 성공 - userSeqNo: {}, userCi: {}", request.getUserSeqNo(), userCi);
 
         // 2. wdBankCodeStd로 BankCode를 찾아 endpoint 조회
-        BankCode bankCode = bankCodeRepository.findById(request.getWdBankCodeStd())
+        BankRoute bankCode = routingCache.getBank(request.getWdBankCodeStd())
                 .orElseThrow(() -> new IllegalArgumentException("은행 코드를 찾을 수 없습니다. wdBankCodeStd: " + request.getWdBankCodeStd()));
-        String externalApiUrl = bankCode.getBankEndpoint() + "/api/v1/transactions/withdraw";
+        String externalApiUrl = bankCode.bankEndpoint() + "/api/v1/transactions/withdraw";
         log.info("은행 엔드포인트 조회 성공 - wdBankCodeStd: {}, endpoint: {}", request.getWdBankCodeStd(), externalApiUrl);
 
         // 3. 외부 기관 API 호출을 위한 요청 생성
@@ -565,11 +438,13 @@ public class AccountService {
         log.info("외부 API 호출 시작 - URL: {}", externalApiUrl);
         
         try {
-            ExternalWithdrawResponse externalResponse = restTemplate.postForObject(externalApiUrl, entity, ExternalWithdrawResponse.class);
+            ExternalWithdrawResponse externalResponse = bankHttpClients.forBank(bankCode.bankCodeStd()).postForObject(externalApiUrl, entity, ExternalWithdrawResponse.class);
 
             if (externalResponse == null || !externalResponse.isSuccess() || externalResponse.getData() == null) {
                 log.error("외부 출금이체 API 호출 실패 - URL: {}", externalApiUrl);
                 log.error("외부 API 응답: {}", externalResponse != null ? externalResponse.toString() : "null");
+                auditLogWriter.record(withdrawAudit(request, AUDIT_FAILED,
+                        externalResponse != null ? externalResponse.getMessage() : null));
                 throw new RuntimeException("외부 출금이체 API 호출에 실패했습니다.");
             }
             log.info("외부 API 호출 성공 - 거래금액: {}", externalResponse.getData().getTranAmt());
@@ -592,6 +467,7 @@ public class AccountService {
                     .wdLimitRemainAmt(data.getWdLimitRemainAmt())
                     .build();
 
+            auditLogWriter.record(withdrawAudit(request, AUDIT_SUCCESS, externalResponse.getMessage()));
             log.info("출금이체 성공 - 거래금액: {}", response.getTranAmt());
             return response;
             
@@ -601,6 +477,7 @@ public class AccountService {
             log.error("응답 본문: {}", e.getResponseBodyAsString());
             log.error("요청 URL: {}", externalApiUrl);
             log.error("=== 출금이체 외부 API 호출 실패 정보 끝 ===");
+            auditLogWriter.record(withdrawAudit(request, String.valueOf(e.getStatusCode().value()), e.getResponseBodyAsString()));
             throw e; // 원래 예외를 다시 던져서 Controller에서 처리하도록 함
         }
     }
@@ -635,11 +512,12 @@ public class AccountService {
             log.warn("JSON 변환 실패: {}", e.getMessage());
         }
         log.info("=== 클라이언트 요청 데이터 로그 끝 ===");
+        requestValidator.validate(request).orThrow();
         
         // 1. bankCodeStd로 BankCode를 찾아 endpoint 조회
-        BankCode bankCode = bankCodeRepository.findById(request.getBankCodeStd())
+        BankRoute bankCode = routingCache.getBank(request.getBankCodeStd())
                 .orElseThrow(() -> new IllegalArgumentException("은행 코드를 찾을 수 없습니다. bankCodeStd: " + request.getBankCodeStd()));
-        String externalApiUrl = bankCode.getBankEndpoint() + "/api/v1/transactions/deposit";
+        String externalApiUrl = bankCode.bankEndpoint() + "/api/v1/transactions/deposit";
         log.info("은행 엔드포인트 조회 성공 - bankCodeStd: {}, endpoint: {}", request.getBankCodeStd(), externalApiUrl);
 
         // 2. 외부 기관 API 호출을 위한 요청 생성
@@ -687,11 +565,13 @@ public class AccountService {
         log.info("외부 API 호출 시작 - URL: {}", externalApiUrl);
         
         try {
-            ExternalDepositResponse externalResponse = restTemplate.postForObject(externalApiUrl, entity, ExternalDepositResponse.class);
+            ExternalDepositResponse externalResponse = bankHttpClients.forBank(bankCode.bankCodeStd()).postForObject(externalApiUrl, entity, ExternalDepositResponse.class);
 
             if (externalResponse == null || !externalResponse.isSuccess() || externalResponse.getData() == null) {
                 log.error("외부 입금이체 API 호출 실패 - URL: {}", externalApiUrl);
                 log.error("외부 API 응답: {}", externalResponse != null ? externalResponse.toString() : "null");
+                auditLogWriter.record(depositAudit(request, AUDIT_FAILED,
+                        externalResponse != null ? externalResponse.getMessage() : null, null));
                 throw new RuntimeException("외부 입금이체 API 호출에 실패했습니다.");
             }
             log.info("외부 API 호출 성공 - 거래금액: {}", externalResponse.getData().getTranAmt());
@@ -715,6 +595,7 @@ public class AccountService {
                     .withdrawBankTranId(data.getWithdrawBankTranId())
                     .build();
 
+            auditLogWriter.record(depositAudit(request, AUDIT_SUCCESS, externalResponse.getMessage(), data));
             log.info("입금이체 성공 - 거래금액: {}", response.getTranAmt());
             return response;
             
@@ -724,222 +605,73 @@ public class AccountService {
             log.error("응답 본문: {}", e.getResponseBodyAsString());
             log.error("요청 URL: {}", externalApiUrl);
             log.error("=== 외부 API 호출 실패 정보 끝 ===");
+            auditLogWriter.record(depositAudit(request, String.valueOf(e.getStatusCode().value()), e.getResponseBodyAsString(), null));
             throw e; // 원래 예외를 다시 던져서 Controller에서 처리하도록 함
         }
     }
 
     /**
      * IRP 실물이전
+     * - saga 가 단계별로 커밋해야 하므로 클래스 단위 읽기 전용 트랜잭션에 참여하지 않음
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public IrpTransferResponse irpTransfer(IrpTransferRequest request) {
-        log.info("IRP 실물이전 요청 수신 - userSeqNo: {}, wdAccountNum: {}, rsvAccountNum: {}", 
-                request.getUserSeqNo(), request.getWdAccountNum(), request.getRsvAccountNum());
-        
-        // ===== 클라이언트에서 받은 전체 요청 데이터 로그 =====
-        log.info("=== IRP 실물이전 클라이언트 요청 데이터 상세 로그 ===");
-        log.info("userSeqNo: {}", request.getUserSeqNo());
-        log.info("bankTranId: {}", request.getBankTranId());
-        log.info("wdAccountNum: {}", request.getWdAccountNum());
-        log.info("rsvAccountNum: {}", request.getRsvAccountNum());
-        log.info("wdBankCodeStd: {}", request.getWdBankCodeStd());
-        log.info("rsvBankCodeStd: {}", request.getRsvBankCodeStd());
-        log.info("tranDtime: {}", request.getTranDtime());
-        log.info("reqClientName: {}", request.getReqClientName());
-        
-        // JSON 문자열로 변환하여 로그 출력
-        try {
-            String jsonRequestBody = objectMapper.writeValueAsString(request);
-            log.info("클라이언트 요청 JSON: {}", jsonRequestBody);
-        } catch (Exception e) {
-            log.warn("JSON 변환 실패: {}", e.getMessage());
-        }
-        log.info("=== IRP 실물이전 클라이언트 요청 데이터 로그 끝 ===");
-        
-        // 1. userSeqNo로 User를 찾아 userCi 조회
-        log.info("=== 사용자 조회 시작 ===");
-        log.info("조회할 userSeqNo: '{}', 타입: {}", request.getUserSeqNo(), request.getUserSeqNo().getClass().getSimpleName());
-        
-        // 전체 사용자 수 확인
-        long totalUsers = userRepository.count();
-        log.info("전체 사용자 수: {}", totalUsers);
-        
-        // 해당 사용자 존재 여부 확인
-        boolean exists = userRepository.existsById(request.getUserSeqNo());
-        log.info("사용자 존재 여부 - userSeqNo: '{}', exists: {}", request.getUserSeqNo(), exists);
-        
-        User user = userRepository.findById(request.getUserSeqNo())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userSeqNo: " + request.getUserSeqNo()));
-        String userCi = user.getUserCi();
-        log.info("사용자 조회 성공 - userSeqNo: {}, userCi: {}", request.getUserSeqNo(), userCi);
-        
-        // userCi 값 검증
-        log.info("=== userCi 값 검증 시작 ===");
-        if (userCi == null) {
-            log.error("CRITICAL: userCi가 null입니다 - userSeqNo: {}", request.getUserSeqNo());
-            throw new IllegalStateException("사용자 CI 정보가 null입니다.");
-        }
-        if (userCi.trim().isEmpty()) {
-            log.error("CRITICAL: userCi가 비어있습니다 - userSeqNo: {}", request.getUserSeqNo());
-            throw new IllegalStateException("사용자 CI 정보가 비어있습니다.");
-        }
-        log.info("userCi 검증 완료 - 길이: {}, 앞 10자: {}, 뒤 10자: {}", 
-                userCi.length(), 
-                userCi.substring(0, Math.min(10, userCi.length())),
-                userCi.length() > 10 ? userCi.substring(userCi.length() - 10) : "");
-        log.info("=== userCi 값 검증 완료 ===");
-
-        // 2. wdBankCodeStd로 BankCode를 찾아 출금 endpoint 조회
-        BankCode wdBankCode = bankCodeRepository.findById(request.getWdBankCodeStd())
-                .orElseThrow(() -> new IllegalArgumentException("출금은행 코드를 찾을 수 없습니다. wdBankCodeStd: " + request.getWdBankCodeStd()));
-        String withdrawApiUrl = wdBankCode.getBankEndpoint() + "/api/v1/retirement/withdraw";
-        log.info("출금은행 엔드포인트 조회 성공 - wdBankCodeStd: {}, endpoint: {}", request.getWdBankCodeStd(), withdrawApiUrl);
-
-        // 3. 외부 기관 IRP 출금 API 호출을 위한 요청 생성
-        log.info("=== 외부 API 요청 객체 생성 시작 ===");
-        log.info("Builder에 설정할 userCi: {}", userCi);
-        
-        ExternalIrpWithdrawRequest withdrawRequest = ExternalIrpWithdrawRequest.builder()
-                .userCi(userCi)
+        log.info("IRP 실물이전 요청 수신 - userSeqNo: {}, bankTranId: {}, wdAccountNum: {}, rsvAccountNum: {}",
+                request.getUserSeqNo(), request.getBankTranId(), request.getWdAccountNum(), request.getRsvAccountNum());
+        requestValidator.validate(request).orThrow();
+        return irpTransferSagaService.transfer(request);
+    }
+
+    /**
+     * IRP 실물이전 처리 상태 조회
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public IrpTransferResponse getIrpTransfer(String bankTranId) {
+        return irpTransferSagaService.getTransfer(bankTranId);
+    }
+
+    private TransactionLog withdrawAudit(WithdrawRequest request, String responseCode, String responseMessage) {
+        return TransactionLog.builder()
+                .apiType("WITHDRAW")
                 .bankTranId(request.getBankTranId())
+                .tranAmt(toAmount(request.getTranAmt()))
                 .wdBankCodeStd(request.getWdBankCodeStd())
-                .wdAccountNum(request.getWdAccountNum())
-                .rsvAccountNum(request.getRsvAccountNum())
-                .tranDtime(request.getTranDtime())
+                .wdPrintContent(request.getDpsPrintContent())
                 .reqClientName(request.getReqClientName())
+                .reqClientNum(request.getReqClientNum())
+                .transferPurpose(request.getTransferPurpose())
+                .responseCode(responseCode)
+                .responseMessage(truncate(responseMessage))
                 .build();
+    }
 
-        // ===== 제3기관 출금 요청 데이터 로그 =====
-        log.info("=== IRP 출금 제3기관 요청 데이터 상세 로그 ===");
-        log.info("외부 API URL: {}", withdrawApiUrl);
-        log.info("userCI: {}", withdrawRequest.getUserCi());
-        log.info("CRITICAL CHECK - userCI 값이 null인가? {}", withdrawRequest.getUserCi() == null);
-        log.info("CRITICAL CHECK - userCI 값이 비어있는가? {}", withdrawRequest.getUserCi() != null && withdrawRequest.getUserCi().trim().isEmpty());
-        log.info("bankTranId: {}", withdrawRequest.getBankTranId());
-        log.info("wdBankCodeStd: {}", withdrawRequest.getWdBankCodeStd());
-        log.info("wdAccountNum: {}", withdrawRequest.getWdAccountNum());
-        log.info("rsvAccountNum: {}", withdrawRequest.getRsvAccountNum());
-        log.info("tranDtime: {}", withdrawRequest.getTranDtime());
-        log.info("reqClientName: {}", withdrawRequest.getReqClientName());
-        
-        // JSON 문자열로 변환하여 로그 출력
-        try {
-            String jsonRequestBody = objectMapper.writeValueAsString(withdrawRequest);
-            log.info("제3기관 출금 요청 JSON: {}", jsonRequestBody);
-        } catch (Exception e) {
-            log.warn("JSON 변환 실패: {}", e.getMessage());
-        }
-        log.info("=== IRP 출금 제3기관 요청 데이터 로그 끝 ===");
-
-        // 4. 외부 기관 IRP 출금 API 호출
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<ExternalIrpWithdrawRequest> withdrawEntity = new HttpEntity<>(withdrawRequest, headers);
-
-        log.info("외부 IRP 출금 API 호출 시작 - URL: {}", withdrawApiUrl);
-        
-        ExternalIrpWithdrawResponse withdrawResponse;
-        try {
-            withdrawResponse = restTemplate.postForObject(withdrawApiUrl, withdrawEntity, ExternalIrpWithdrawResponse.class);
-
-            if (withdrawResponse == null || !withdrawResponse.isSuccess() || withdrawResponse.getData() == null) {
-                log.error("외부 IRP 출금 API 호출 실패 - URL: {}", withdrawApiUrl);
-                log.error("외부 API 응답: {}", withdrawResponse != null ? withdrawResponse.toString() : "null");
-                throw new RuntimeException("외부 IRP 출금 API 호출에 실패했습니다.");
-            }
-            log.info("외부 IRP 출금 API 호출 성공 - 출금금액: {}", withdrawResponse.getData().getWithdrawAmt());
-            
-        } catch (org.springframework.web.client.HttpClientErrorException e) {
-            log.error("=== IRP 출금 외부 API 호출 실패 상세 정보 ===");
-            log.error("HTTP 상태 코드: {}", e.getStatusCode());
-            log.error("응답 본문: {}", e.getResponseBodyAsString());
-            log.error("요청 URL: {}", withdrawApiUrl);
-            log.error("=== IRP 출금 외부 API 호출 실패 정보 끝 ===");
-            throw e;
-        }
-
-        // 5. rsvBankCodeStd로 BankCode를 찾아 입금 endpoint 조회
-        BankCode rsvBankCode = bankCodeRepository.findById(request.getRsvBankCodeStd())
-                .orElseThrow(() -> new IllegalArgumentException("입금은행 코드를 찾을 수 없습니다. rsvBankCodeStd: " + request.getRsvBankCodeStd()));
-        String depositApiUrl = rsvBankCode.getBankEndpoint() + "/api/v1/account/retirement/deposit";
-        log.info("입금은행 엔드포인트 조회 성공 - rsvBankCodeStd: {}, endpoint: {}", request.getRsvBankCodeStd(), depositApiUrl);
-
-        // 6. 외부 기관 IRP 입금 API 호출을 위한 요청 생성
-        ExternalIrpDepositRequest depositRequest = ExternalIrpDepositRequest.builder()
-                .userCI(userCi)
-                .tranDtime(request.getTranDtime())
+    private TransactionLog depositAudit(DepositRequest request, String responseCode, String responseMessage,
+                                        ExternalDepositResponse.ExternalDepositData data) {
+        return TransactionLog.builder()
+                .apiType("DEPOSIT")
                 .bankTranId(request.getBankTranId())
-                .rsvBankCodeStd(request.getRsvBankCodeStd())
-                .wdAccountNum(request.getWdAccountNum())
-                .rsvAccountNum(request.getRsvAccountNum())
-                .depositAmt(withdrawResponse.getData().getWithdrawAmt()) // 출금된 금액을 입금 금액으로 사용
-                .reqClientName(request.getReqClientName())
+                .tranAmt(toAmount(request.getTranAmt()))
+                .wdPrintContent(request.getPrintContent())
+                .reqClientNum(request.getReqClientNum())
+                .transferPurpose(request.getTransferPurpose())
+                .responseCode(responseCode)
+                .responseMessage(truncate(responseMessage))
+                .bankTranDate(data != null ? data.getBankTranDate() : null)
+                .bankCodeTran(data != null ? data.getBankCodeTran() : null)
+                .bankRspCode(data != null ? data.getBankRspCode() : null)
+                .bankRspMessage(data != null ? truncate(data.getBankRspMessage()) : null)
                 .build();
+    }
 
-        // ===== 제3기관 입금 요청 데이터 로그 =====
-        log.info("=== IRP 입금 제3기관 요청 데이터 상세 로그 ===");
-        log.info("외부 API URL: {}", depositApiUrl);
-        log.info("userCI: {}", depositRequest.getUserCI());
-        log.info("tranDtime: {}", depositRequest.getTranDtime());
-        log.info("bankTranId: {}", depositRequest.getBankTranId());
-        log.info("rsvBankCodeStd: {}", depositRequest.getRsvBankCodeStd());
-        log.info("wdAccountNum: {}", depositRequest.getWdAccountNum());
-        log.info("rsvAccountNum: {}", depositRequest.getRsvAccountNum());
-        log.info("depositAmt: {}", depositRequest.getDepositAmt());
-        log.info("reqClientName: {}", depositRequest.getReqClientName());
-        
-        // JSON 문자열로 변환하여 로그 출력
-        try {
-            String jsonRequestBody = objectMapper.writeValueAsString(depositRequest);
-            log.info("제3기관 입금 요청 JSON: {}", jsonRequestBody);
-        } catch (Exception e) {
-            log.warn("JSON 변환 실패: {}", e.getMessage());
-        }
-        log.info("=== IRP 입금 제3기관 요청 데이터 로그 끝 ===");
-
-        // 7. 외부 기관 IRP 입금 API 호출
-        HttpEntity<ExternalIrpDepositRequest> depositEntity = new HttpEntity<>(depositRequest, headers);
-
-        log.info("외부 IRP 입금 API 호출 시작 - URL: {}", depositApiUrl);
-        
-        ExternalIrpDepositResponse depositResponse;
+    private BigDecimal toAmount(String amount) {
         try {
-            depositResponse = restTemplate.postForObject(depositApiUrl, depositEntity, ExternalIrpDepositResponse.class);
-
-            if (depositResponse == null || !depositResponse.isSuccess() || depositResponse.getData() == null) {
-                log.error("외부 IRP 입금 API 호출 실패 - URL: {}", depositApiUrl);
-                log.error("외부 API 응답: {}", depositResponse != null ? depositResponse.toString() : "null");
-                throw new RuntimeException("외부 IRP 입금 API 호출에 실패했습니다.");
-            }
-            log.info("외부 IRP 입금 API 호출 성공 - 입금금액: {}", depositResponse.getData().getDepositAmt());
-            
-        } catch (org.springframework.web.client.HttpClientErrorException e) {
-            log.error("=== IRP 입금 외부 API 호출 실패 상세 정보 ===");
-            log.error("HTTP 상태 코드: {}", e.getStatusCode());
-            log.error("응답 본문: {}", e.getResponseBodyAsString());
-            log.error("요청 URL: {}", depositApiUrl);
-            log.error("=== IRP 입금 외부 API 호출 실패 정보 끝 ===");
-            throw e;
+            return amount != null ? new BigDecimal(amount) : null;
+        } catch (NumberFormatException e) {
+            return null;
         }
+    }
 
-        // 8. 외부 응답을 우리 API 응답 형식으로 변환
-        ExternalIrpDepositResponse.ExternalIrpDepositData data = depositResponse.getData();
-        
-        IrpTransferResponse response = IrpTransferResponse.builder()
-                .wdAccountNum(data.getWdAccountNum())
-                .rsvAccountNum(data.getRsvAccountNum())
-                .maskedAccountNum(data.getMaskedAccountNum())
-                .rsvBankCodeStd(data.getRsvBankCodeStd())
-                .accountType(data.getAccountType())
-                .irpType(data.getIrpType())
-                .irpProductName(data.getIrpProductName())
-                .maturityDate(data.getMaturityDate())
-                .depositAmt(data.getDepositAmt())
-                .balanceAmt(data.getBalanceAmt())
-                .paymentPrd(data.getPaymentPrd())
-                .updatedAt(data.getUpdatedAt())
-                .build();
-
-        log.info("IRP 실물이전 성공 - 입금금액: {}", response.getDepositAmt());
-        return response;
+    private String truncate(String message) {
+        return message != null && message.length() > 200 ? message.substring(0, 200) : message;
     }
-} 
\ No newline at end of file
+}
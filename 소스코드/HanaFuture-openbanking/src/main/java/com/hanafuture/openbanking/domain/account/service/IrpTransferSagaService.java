@@ -0,0 +1,518 @@
+package com.hanafuture.openbanking.domain.account.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanafuture.openbanking.domain.account.config.IrpTransferProperties;
+import com.hanafuture.openbanking.domain.account.dto.request.ExternalIrpDepositRequest;
+import com.hanafuture.openbanking.domain.account.dto.request.ExternalIrpWithdrawRequest;
+import com.hanafuture.openbanking.domain.account.dto.request.IrpTransferRequest;
+import com.hanafuture.openbanking.domain.account.dto.response.ExternalIrpDepositResponse;
+import com.hanafuture.openbanking.domain.account.dto.response.ExternalIrpWithdrawResponse;
+import com.hanafuture.openbanking.domain.account.dto.response.IrpTransferResponse;
+import com.hanafuture.openbanking.domain.bank.dto.BankRoute;
+import com.hanafuture.openbanking.domain.transaction.entity.TransactionLog;
+import com.hanafuture.openbanking.domain.transaction.entity.TransferSagaStatus;
+import com.hanafuture.openbanking.domain.transaction.repository.TransactionLogRepository;
+import com.hanafuture.openbanking.global.cache.RoutingCache;
+import com.hanafuture.openbanking.global.exception.InstitutionUnavailableException;
+import com.hanafuture.openbanking.global.http.BankHttpClientRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * IRP 실물이전 saga
+ * - 거래고유번호(bankTranId)를 멱등키로 auth_transaction_log 에 단계별 상태를 기록
+ * - 출금이 확정되면 바로 응답하고, 입금은 별도 스레드에서 처리
+ * - 첫 입금 시도가 거절되면 출금 계좌로 환입(보상), 입금 결과를 알 수 없으면 재시도 후 MANUAL_REVIEW
+ * - 기동 시/주기적으로 멈춘 거래를 찾아 이어서 처리
+ * - 입금/환입 재시도는 기관이 같은 거래고유번호를 중복 처리하지 않는다는 전제
+ * - 상태 저장은 낙관적 잠금(@Version) - 읽은 뒤 스위퍼/다른 인스턴스가 바꾼 상태를 덮어쓰지 않음
+ */
+@Service
+@Slf4j
+public class IrpTransferSagaService {
+
+    static final String API_TYPE = "IRP_TRANSFER";
+
+    // 환입 거래의 거래고유번호 접미사
+    private static final String COMPENSATION_SUFFIX = "-C";
+
+    private static final String WITHDRAW_PATH = "/api/v1/retirement/withdraw";
+    private static final String DEPOSIT_PATH = "/api/v1/account/retirement/deposit";
+
+    private final TransactionLogRepository transactionLogRepository;
+    private final RoutingCache routingCache;
+    private final BankHttpClientRegistry bankHttpClients;
+    private final ObjectMapper objectMapper;
+    private final IrpTransferProperties properties;
+    private final ThreadPoolTaskExecutor executor;
+
+    public IrpTransferSagaService(TransactionLogRepository transactionLogRepository,
+                                  RoutingCache routingCache,
+                                  BankHttpClientRegistry bankHttpClients,
+                                  ObjectMapper objectMapper,
+                                  IrpTransferProperties properties,
+                                  @Qualifier("irpTransferExecutor") ThreadPoolTaskExecutor executor) {
+        this.transactionLogRepository = transactionLogRepository;
+        this.routingCache = routingCache;
+        this.bankHttpClients = bankHttpClients;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    /**
+     * IRP 실물이전 시작
+     * - 같은 거래고유번호로 다시 요청하면 출금을 반복하지 않고 현재 상태를 반환
+     */
+    public IrpTransferResponse transfer(IrpTransferRequest request) {
+        if (request.getBankTranId() == null || request.getBankTranId().isBlank()) {
+            throw new IllegalArgumentException("거래고유번호(bankTranId)는 필수입니다.");
+        }
+
+        String idempotencyKey = idempotencyKey(request.getBankTranId());
+        TransactionLog existing = transactionLogRepository.findByIdempotencyKey(idempotencyKey).orElse(null);
+        if (existing != null) {
+            log.info("IRP 실물이전 중복 요청 - bankTranId: {}, 상태: {}", existing.getBankTranId(), existing.getSagaStatus());
+            return toResponse(existing);
+        }
+
+        String userCi = routingCache.getUserCi(request.getUserSeqNo())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userSeqNo: " + request.getUserSeqNo()));
+        if (userCi.isBlank()) {
+            throw new IllegalStateException("사용자 CI 정보가 비어있습니다.");
+        }
+        BankRoute wdBank = routingCache.getBank(request.getWdBankCodeStd())
+                .orElseThrow(() -> new IllegalArgumentException("출금은행 코드를 찾을 수 없습니다. wdBankCodeStd: " + request.getWdBankCodeStd()));
+        routingCache.getBank(request.getRsvBankCodeStd())
+                .orElseThrow(() -> new IllegalArgumentException("입금은행 코드를 찾을 수 없습니다. rsvBankCodeStd: " + request.getRsvBankCodeStd()));
+
+        // 1. 거래고유번호 선점 (동시 중복 요청은 유니크 제약으로 차단)
+        TransactionLog saga;
+        try {
+            saga = transactionLogRepository.saveAndFlush(TransactionLog.builder()
+                    .apiType(API_TYPE)
+                    .idempotencyKey(idempotencyKey)
+                    .bankTranId(request.getBankTranId())
+                    .sagaStatus(TransferSagaStatus.STARTED)
+                    .userSeqNo(request.getUserSeqNo())
+                    .wdBankCodeStd(request.getWdBankCodeStd())
+                    .wdAccountNum(request.getWdAccountNum())
+                    .rsvBankCodeStd(request.getRsvBankCodeStd())
+                    .rsvAccountNum(request.getRsvAccountNum())
+                    .tranDtime(request.getTranDtime())
+                    .reqClientName(request.getReqClientName())
+                    .retryCount(0)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            TransactionLog concurrent = transactionLogRepository.findByIdempotencyKey(idempotencyKey)
+                    .orElseThrow(() -> e);
+            log.info("IRP 실물이전 동시 중복 요청 - bankTranId: {}, 상태: {}", concurrent.getBankTranId(), concurrent.getSagaStatus());
+            return toResponse(concurrent);
+        }
+
+        // 2. 출금 (호출 스레드에서 처리)
+        ExternalIrpWithdrawResponse withdrawResponse;
+        try {
+            withdrawResponse = withdraw(saga, userCi, wdBank);
+        } catch (HttpClientErrorException | InstitutionUnavailableException e) {
+            // 기관이 거절했거나 호출 자체가 차단됨 → 자금 이동 없음
+            finish(saga, TransferSagaStatus.FAILED, e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            // 응답을 받지 못해 출금 여부를 알 수 없음
+            finish(saga, TransferSagaStatus.MANUAL_REVIEW, e.getMessage());
+            log.error("IRP 출금 결과 불명 - bankTranId: {}, 운영자 확인 필요", saga.getBankTranId());
+            throw e;
+        }
+
+        if (withdrawResponse == null || !withdrawResponse.isSuccess() || withdrawResponse.getData() == null) {
+            log.error("외부 IRP 출금 API 호출 실패 - 응답: {}", withdrawResponse);
+            finish(saga, TransferSagaStatus.FAILED, withdrawResponse != null ? withdrawResponse.getMessage() : null);
+            throw new RuntimeException("외부 IRP 출금 API 호출에 실패했습니다.");
+        }
+
+        // 3. 출금 확정 기록 후 입금 단계 위임
+        ExternalIrpWithdrawResponse.ExternalIrpWithdrawData data = withdrawResponse.getData();
+        IrpTransferResponse pending = IrpTransferResponse.builder()
+                .wdAccountNum(data.getWdAccountNum())
+                .rsvAccountNum(data.getRsvAccountNum())
+                .rsvBankCodeStd(request.getRsvBankCodeStd())
+                .accountType(data.getAccountType())
+                .irpType(data.getIrpType())
+                .irpProductName(data.getIrpProductName())
+                .maturityDate(data.getMaturityDate())
+                .depositAmt(data.getWithdrawAmt())
+                .paymentPrd(data.getPaymentPrd())
+                .updatedAt(data.getUpdatedAt())
+                .build();
+
+        saga.setTranAmt(parseAmount(data.getWithdrawAmt()));
+        saga.setWdAccountNumMasked(data.getMaskedAccountNum());
+        saga.setBankRspMessage(withdrawResponse.getMessage());
+        saga.setResultPayload(writePayload(pending));
+        saga.setSagaStatus(TransferSagaStatus.WITHDRAWN);
+        try {
+            saga = transactionLogRepository.save(saga);
+        } catch (OptimisticLockingFailureException e) {
+            // 출금 응답을 기다리는 동안 스위퍼가 결과 불명 거래로 전환함 - 입금은 진행하지 않음
+            TransactionLog current = transactionLogRepository.findById(saga.getApiTranId()).orElseThrow();
+            log.error("IRP 출금 확정 기록 실패 - bankTranId: {}, 현재 상태: {}, 출금금액: {}, 운영자 확인 필요",
+                    current.getBankTranId(), current.getSagaStatus(), data.getWithdrawAmt());
+            return toResponse(current);
+        }
+        log.info("IRP 출금 확정 - bankTranId: {}, 출금금액: {}", saga.getBankTranId(), data.getWithdrawAmt());
+
+        dispatch(saga.getApiTranId(), TransferSagaStatus.WITHDRAWN);
+        return toResponse(saga);
+    }
+
+    /**
+     * 거래고유번호로 이전 상태 조회
+     */
+    public IrpTransferResponse getTransfer(String bankTranId) {
+        TransactionLog saga = transactionLogRepository.findByIdempotencyKey(idempotencyKey(bankTranId))
+                .orElseThrow(() -> new IllegalArgumentException("IRP 실물이전 거래를 찾을 수 없습니다. bankTranId: " + bankTranId));
+        return toResponse(saga);
+    }
+
+    /**
+     * 기동 시 이전 인스턴스가 처리하지 못한 거래 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        log.info("IRP 실물이전 미완료 거래 복구 시작");
+        sweep();
+    }
+
+    /**
+     * 멈춘 거래 재처리
+     * - 처리 중(DEPOSITING/COMPENSATING) 상태로 오래 머문 거래는 대기 상태로 되돌림
+     * - 출금 결과를 모르는 STARTED 거래는 MANUAL_REVIEW 로 전환
+     */
+    @Scheduled(initialDelayString = "${openbanking.irp-transfer.sweep-interval-ms:30000}",
+            fixedDelayString = "${openbanking.irp-transfer.sweep-interval-ms:30000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusSeconds(properties.getStaleSeconds());
+
+        transactionLogRepository.releaseStale(API_TYPE, TransferSagaStatus.DEPOSITING,
+                TransferSagaStatus.WITHDRAWN, staleBefore, now);
+        transactionLogRepository.releaseStale(API_TYPE, TransferSagaStatus.COMPENSATING,
+                TransferSagaStatus.COMPENSATION_PENDING, staleBefore, now);
+
+        List<TransactionLog> stalled = transactionLogRepository.findByApiTypeAndSagaStatusInAndUpdatedAtBefore(
+                API_TYPE,
+                List.of(TransferSagaStatus.STARTED, TransferSagaStatus.WITHDRAWN, TransferSagaStatus.COMPENSATION_PENDING),
+                staleBefore);
+
+        for (TransactionLog saga : stalled) {
+            if (saga.getSagaStatus() == TransferSagaStatus.STARTED) {
+                log.error("IRP 출금 결과 불명 거래 발견 - bankTranId: {}, 운영자 확인 필요", saga.getBankTranId());
+                finish(saga, TransferSagaStatus.MANUAL_REVIEW, "출금 처리 중 중단되어 결과를 확인할 수 없습니다.");
+                continue;
+            }
+            dispatch(saga.getApiTranId(), saga.getSagaStatus());
+        }
+
+        if (!stalled.isEmpty()) {
+            log.info("IRP 실물이전 미완료 거래 재처리 - 건수: {}", stalled.size());
+        }
+    }
+
+    private void dispatch(Long apiTranId, TransferSagaStatus status) {
+        try {
+            if (status == TransferSagaStatus.WITHDRAWN) {
+                executor.execute(() -> runDeposit(apiTranId));
+            } else if (status == TransferSagaStatus.COMPENSATION_PENDING) {
+                executor.execute(() -> runCompensation(apiTranId));
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("IRP 실물이전 작업 대기열 포화 - apiTranId: {}, 복구 스위퍼에서 재처리", apiTranId);
+        }
+    }
+
+    /**
+     * 입금 단계
+     * - 첫 시도에서 기관이 확정적으로 거절한 경우에만 환입
+     * - 결과를 알 수 없는 실패(타임아웃, I/O 오류, 5xx)는 재시도하고, 한도를 넘으면 MANUAL_REVIEW
+     * - 재시도 중 거절(중복 거래고유번호, 409 등)은 이전 시도가 반영됐을 수 있으므로 MANUAL_REVIEW
+     */
+    void runDeposit(Long apiTranId) {
+        if (!claim(apiTranId, TransferSagaStatus.WITHDRAWN, TransferSagaStatus.DEPOSITING)) {
+            return;
+        }
+        TransactionLog saga = transactionLogRepository.findById(apiTranId).orElseThrow();
+        IrpTransferResponse pending = readPayload(saga);
+
+        // 호출 전에 시도 횟수를 기록 - 처리 중 중단되어 스위퍼가 되돌린 거래도 재시도로 구분
+        int attempt = nextAttempt(saga);
+        saga = store(saga);
+        if (saga == null) {
+            return;
+        }
+
+        String failure;
+        try {
+            ExternalIrpDepositResponse response = deposit(saga, saga.getRsvBankCodeStd(), saga.getRsvAccountNum(),
+                    saga.getWdAccountNum(), pending.getDepositAmt(), saga.getBankTranId());
+
+            if (response != null && response.isSuccess()) {
+                if (response.getData() != null) {
+                    saga.setResultPayload(writePayload(toTransferResponse(response.getData())));
+                }
+                saga.setBankRspMessage(response.getMessage());
+                saga.setSagaStatus(TransferSagaStatus.COMPLETED);
+                store(saga);
+                log.info("IRP 실물이전 완료 - bankTranId: {}, 입금금액: {}", saga.getBankTranId(), pending.getDepositAmt());
+                return;
+            }
+            if (response != null) {
+                log.warn("IRP 입금 거절 - bankTranId: {}, 시도: {}, 응답: {}", saga.getBankTranId(), attempt, response);
+                rejectDeposit(saga, attempt, response.getMessage());
+                return;
+            }
+            failure = "입금 기관 응답 없음";
+
+        } catch (HttpClientErrorException e) {
+            int statusCode = e.getStatusCode().value();
+            if (statusCode != 408 && statusCode != 429) {
+                log.warn("IRP 입금 거절 - bankTranId: {}, 시도: {}, HTTP 상태: {}", saga.getBankTranId(), attempt, statusCode);
+                rejectDeposit(saga, attempt, e.getResponseBodyAsString());
+                return;
+            }
+            failure = e.getMessage();
+
+        } catch (RuntimeException e) {
+            failure = e.getMessage();
+        }
+
+        saga.setResponseMessage(failure);
+        if (attempt >= properties.getMaxDepositAttempts()) {
+            // 입금 여부를 알 수 없으므로 환입하지 않음 (이중 지급 방지)
+            saga.setSagaStatus(TransferSagaStatus.MANUAL_REVIEW);
+            store(saga);
+            log.error("IRP 입금 재시도 한도 초과 - bankTranId: {}, 시도: {}, 운영자 확인 필요, 오류: {}",
+                    saga.getBankTranId(), attempt, failure);
+            return;
+        }
+        // 스위퍼가 다시 처리하도록 대기 상태로 되돌림
+        saga.setSagaStatus(TransferSagaStatus.WITHDRAWN);
+        store(saga);
+        log.warn("IRP 입금 일시 실패 - bankTranId: {}, 시도: {}, 오류: {}", saga.getBankTranId(), attempt, failure);
+    }
+
+    /**
+     * 입금 거절 처리 - 첫 시도의 거절만 확정으로 보고 환입
+     */
+    private void rejectDeposit(TransactionLog saga, int attempt, String reason) {
+        if (attempt == 1) {
+            requestCompensation(saga, reason);
+            return;
+        }
+        saga.setResponseMessage(reason);
+        saga.setSagaStatus(TransferSagaStatus.MANUAL_REVIEW);
+        store(saga);
+        log.error("IRP 입금 재시도 중 거절 - bankTranId: {}, 시도: {}, 이전 시도 반영 여부 확인 필요", saga.getBankTranId(), attempt);
+    }
+
+    /**
+     * 환입 단계 (출금 계좌로 같은 금액 입금)
+     */
+    void runCompensation(Long apiTranId) {
+        if (!claim(apiTranId, TransferSagaStatus.COMPENSATION_PENDING, TransferSagaStatus.COMPENSATING)) {
+            return;
+        }
+        TransactionLog saga = transactionLogRepository.findById(apiTranId).orElseThrow();
+        IrpTransferResponse pending = readPayload(saga);
+
+        String failure;
+        try {
+            ExternalIrpDepositResponse response = deposit(saga, saga.getWdBankCodeStd(), saga.getWdAccountNum(),
+                    saga.getRsvAccountNum(), pending.getDepositAmt(), saga.getBankTranId() + COMPENSATION_SUFFIX);
+
+            if (response != null && response.isSuccess()) {
+                saga.setBankRspMessage(response.getMessage());
+                saga.setSagaStatus(TransferSagaStatus.COMPENSATED);
+                store(saga);
+                log.info("IRP 환입 완료 - bankTranId: {}, 환입금액: {}", saga.getBankTranId(), pending.getDepositAmt());
+                return;
+            }
+            failure = response != null ? response.getMessage() : "환입 기관 응답 없음";
+        } catch (RuntimeException e) {
+            failure = e.getMessage();
+        }
+
+        int attempts = nextAttempt(saga);
+        saga.setResponseMessage(failure);
+        if (attempts >= properties.getMaxCompensationAttempts()) {
+            saga.setSagaStatus(TransferSagaStatus.MANUAL_REVIEW);
+            store(saga);
+            log.error("IRP 환입 재시도 한도 초과 - bankTranId: {}, 운영자 확인 필요, 오류: {}", saga.getBankTranId(), failure);
+            return;
+        }
+        saga.setSagaStatus(TransferSagaStatus.COMPENSATION_PENDING);
+        store(saga);
+        log.warn("IRP 환입 일시 실패 - bankTranId: {}, 시도: {}, 오류: {}", saga.getBankTranId(), attempts, failure);
+    }
+
+    private void requestCompensation(TransactionLog saga, String reason) {
+        saga.setResponseMessage(reason);
+        saga.setRetryCount(0);
+        saga.setSagaStatus(TransferSagaStatus.COMPENSATION_PENDING);
+        if (store(saga) != null) {
+            dispatch(saga.getApiTranId(), TransferSagaStatus.COMPENSATION_PENDING);
+        }
+    }
+
+    /**
+     * saga 상태 저장 - 읽은 뒤 다른 작업자(스위퍼/다른 인스턴스)가 먼저 바꿨으면 덮어쓰지 않음
+     * @return 저장된 엔티티 (다른 작업자가 먼저 변경했으면 null)
+     */
+    private TransactionLog store(TransactionLog saga) {
+        try {
+            return transactionLogRepository.save(saga);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("IRP 실물이전 상태 저장 생략 - bankTranId: {}, 저장하려던 상태: {}, 다른 작업자가 먼저 변경함",
+                    saga.getBankTranId(), saga.getSagaStatus());
+            return null;
+        }
+    }
+
+    private String idempotencyKey(String bankTranId) {
+        return API_TYPE + ":" + bankTranId;
+    }
+
+    private boolean claim(Long apiTranId, TransferSagaStatus from, TransferSagaStatus to) {
+        return transactionLogRepository.transition(apiTranId, from, to, LocalDateTime.now()) == 1;
+    }
+
+    private int nextAttempt(TransactionLog saga) {
+        int attempts = (saga.getRetryCount() != null ? saga.getRetryCount() : 0) + 1;
+        saga.setRetryCount(attempts);
+        return attempts;
+    }
+
+    private void finish(TransactionLog saga, TransferSagaStatus status, String message) {
+        saga.setSagaStatus(status);
+        saga.setResponseMessage(message);
+        store(saga);
+    }
+
+    private ExternalIrpWithdrawResponse withdraw(TransactionLog saga, String userCi, BankRoute wdBank) {
+        ExternalIrpWithdrawRequest withdrawRequest = ExternalIrpWithdrawRequest.builder()
+                .userCi(userCi)
+                .bankTranId(saga.getBankTranId())
+                .wdBankCodeStd(saga.getWdBankCodeStd())
+                .wdAccountNum(saga.getWdAccountNum())
+                .rsvAccountNum(saga.getRsvAccountNum())
+                .tranDtime(saga.getTranDtime())
+                .reqClientName(saga.getReqClientName())
+                .build();
+
+        String withdrawApiUrl = wdBank.bankEndpoint() + WITHDRAW_PATH;
+        log.info("외부 IRP 출금 API 호출 시작 - bankTranId: {}, URL: {}", saga.getBankTranId(), withdrawApiUrl);
+        return bankHttpClients.forBank(wdBank.bankCodeStd())
+                .postForObject(withdrawApiUrl, jsonEntity(withdrawRequest), ExternalIrpWithdrawResponse.class);
+    }
+
+    private ExternalIrpDepositResponse deposit(TransactionLog saga, String bankCodeStd, String rsvAccountNum,
+                                               String wdAccountNum, String amount, String bankTranId) {
+        String userCi = routingCache.getUserCi(saga.getUserSeqNo())
+                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다. userSeqNo: " + saga.getUserSeqNo()));
+        BankRoute bank = routingCache.getBank(bankCodeStd)
+                .orElseThrow(() -> new IllegalStateException("은행 코드를 찾을 수 없습니다. bankCodeStd: " + bankCodeStd));
+
+        ExternalIrpDepositRequest depositRequest = ExternalIrpDepositRequest.builder()
+                .userCI(userCi)
+                .tranDtime(saga.getTranDtime())
+                .bankTranId(bankTranId)
+                .rsvBankCodeStd(bankCodeStd)
+                .wdAccountNum(wdAccountNum)
+                .rsvAccountNum(rsvAccountNum)
+                .depositAmt(amount)
+                .reqClientName(saga.getReqClientName())
+                .build();
+
+        String depositApiUrl = bank.bankEndpoint() + DEPOSIT_PATH;
+        log.info("외부 IRP 입금 API 호출 시작 - bankTranId: {}, URL: {}", bankTranId, depositApiUrl);
+        return bankHttpClients.forBank(bank.bankCodeStd())
+                .postForObject(depositApiUrl, jsonEntity(depositRequest), ExternalIrpDepositResponse.class);
+    }
+
+    private <T> HttpEntity<T> jsonEntity(T body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(body, headers);
+    }
+
+    private IrpTransferResponse toResponse(TransactionLog saga) {
+        IrpTransferResponse response = saga.getResultPayload() != null
+                ? readPayload(saga)
+                : IrpTransferResponse.builder()
+                        .wdAccountNum(saga.getWdAccountNum())
+                        .rsvAccountNum(saga.getRsvAccountNum())
+                        .rsvBankCodeStd(saga.getRsvBankCodeStd())
+                        .build();
+        response.setBankTranId(saga.getBankTranId());
+        response.setTransferStatus(saga.getSagaStatus().name());
+        return response;
+    }
+
+    private IrpTransferResponse toTransferResponse(ExternalIrpDepositResponse.ExternalIrpDepositData data) {
+        return IrpTransferResponse.builder()
+                .wdAccountNum(data.getWdAccountNum())
+                .rsvAccountNum(data.getRsvAccountNum())
+                .maskedAccountNum(data.getMaskedAccountNum())
+                .rsvBankCodeStd(data.getRsvBankCodeStd())
+                .accountType(data.getAccountType())
+                .irpType(data.getIrpType())
+                .irpProductName(data.getIrpProductName())
+                .maturityDate(data.getMaturityDate())
+                .depositAmt(data.getDepositAmt())
+                .balanceAmt(data.getBalanceAmt())
+                .paymentPrd(data.getPaymentPrd())
+                .updatedAt(data.getUpdatedAt())
+                .build();
+    }
+
+    private String writePayload(IrpTransferResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("IRP 실물이전 상태 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private IrpTransferResponse readPayload(TransactionLog saga) {
+        try {
+            return objectMapper.readValue(saga.getResultPayload(), IrpTransferResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("IRP 실물이전 상태를 읽을 수 없습니다. bankTranId: " + saga.getBankTranId(), e);
+        }
+    }
+
+    private BigDecimal parseAmount(String amount) {
+        try {
+            return amount != null ? new BigDecimal(amount) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.hanafuture.openbanking.domain.account.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanafuture.openbanking.domain.account.config.TransactionStreamProperties;
+import com.hanafuture.openbanking.domain.account.dto.request.ExternalTransactionRequest;
+import com.hanafuture.openbanking.domain.account.dto.request.TransactionListRequest;
+import com.hanafuture.openbanking.domain.account.dto.response.ExternalTransactionResponse;
+import com.hanafuture.openbanking.domain.account.dto.response.TransactionListResponse;
+import com.hanafuture.openbanking.domain.bank.dto.BankRoute;
+import com.hanafuture.openbanking.global.cache.RoutingCache;
+import com.hanafuture.openbanking.global.http.BankHttpClientRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래내역 스트리밍 조회 (NDJSON)
+ * - 기관 응답을 스트리밍으로 파싱하여 거래 한 건씩 바로 클라이언트로 내보냄
+ * - 기관이 다음 페이지(nextPageYn=Y)를 알려주면 커서(beforInquiryTraceInfo)로 이어서 조회
+ * - 메모리에는 거래 한 건과 flushEvery 건 분량의 출력 버퍼만 유지되어 이력 길이와 무관
+ * - 일반 JSON 거래내역조회(readPage)도 같은 파서를 쓰되 pageRecordCnt 건까지만 변환
+ *
+ * 출력 형식 (한 줄에 JSON 하나)
+ * - {"type":"transaction","data":{...}}
+ * - {"type":"page","data":{"balanceAmt":...,"pageRecordCnt":...,"nextPageYn":...,"beforInquiryTraceInfo":...}}
+ * - {"type":"end","data":{"totalCnt":...,"pageCnt":...,"beforInquiryTraceInfo":...}} (이어서 조회할 커서가 있으면 포함)
+ * - {"type":"error","message":"..."} (스트리밍 도중 실패)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionStreamService {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final RoutingCache routingCache;
+    private final BankHttpClientRegistry bankHttpClients;
+    private final ObjectMapper objectMapper;
+    private final TransactionStreamProperties properties;
+
+    /**
+     * 스트리밍 응답 생성
+     * - 사용자/기관 확인은 응답 시작 전에 수행하여 잘못된 요청은 400 으로 응답 가능
+     */
+    public StreamingResponseBody streamTransactions(TransactionListRequest request) {
+        String userCi = findUserCi(request);
+        BankRoute bank = findBank(request);
+        int pageSize = pageSize(request);
+
+        return outputStream -> stream(outputStream, request, userCi, bank, pageSize);
+    }
+
+    /**
+     * 거래내역 한 페이지 조회 (JSON 응답용)
+     * - 기관 응답 전체를 객체로 받지 않고 pageRecordCnt 건까지만 변환
+     * - 한 건이 더 오면(페이지 크기를 지키지 않는 기관) 다음 페이지가 있는 것으로 보고 나머지 응답은 읽지 않음
+     */
+    public TransactionListResponse readPage(TransactionListRequest request) {
+        String userCi = findUserCi(request);
+        BankRoute bank = findBank(request);
+        int pageSize = pageSize(request);
+
+        List<TransactionListResponse.TransactionInfo> resList = new ArrayList<>(Math.min(pageSize, 64));
+        PageSummary page = fetchPage(bank, externalRequest(request, userCi, pageSize, request.getBeforInquiryTraceInfo()),
+                pageSize, (transaction, count) -> resList.add(toTransactionInfo(transaction)));
+        if (page.truncated) {
+            log.warn("기관 거래내역 응답이 페이지 크기를 넘어 잘라냄 - bankCodeStd: {}, pageRecordCnt: {}",
+                    bank.bankCodeStd(), pageSize);
+        }
+
+        return TransactionListResponse.builder()
+                .bankName(bank.bankName())
+                .accountNum(request.getAccountNum())
+                .balanceAmt(page.balanceAmt)
+                .pageRecordCnt(page.pageRecordCnt)
+                .nextPageYn(page.truncated ? "Y" : page.nextPageYn)
+                .beforInquiryTraceInfo(page.beforInquiryTraceInfo)
+                .resList(resList)
+                .build();
+    }
+
+    private String findUserCi(TransactionListRequest request) {
+        return routingCache.getUserCi(request.getUserSeqNo())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userSeqNo: " + request.getUserSeqNo()));
+    }
+
+    private BankRoute findBank(TransactionListRequest request) {
+        BankRoute bank = routingCache.getBank(request.getBankCodeStd())
+                .orElseThrow(() -> new IllegalArgumentException("은행 코드를 찾을 수 없습니다. bankCodeStd: " + request.getBankCodeStd()));
+        if (!bank.hasEndpoint()) {
+            throw new IllegalArgumentException("기관 엔드포인트가 설정되지 않았습니다. bankCodeStd: " + request.getBankCodeStd());
+        }
+        return bank;
+    }
+
+    private int pageSize(TransactionListRequest request) {
+        return request.getPageRecordCnt() != null && request.getPageRecordCnt() > 0
+                ? request.getPageRecordCnt() : properties.getPageSize();
+    }
+
+    private void stream(OutputStream outputStream, TransactionListRequest request, String userCi,
+                        BankRoute bank, int pageSize) throws IOException {
+        long startNanos = System.nanoTime();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        String cursor = request.getBeforInquiryTraceInfo();
+        int totalCnt = 0;
+        int pageCnt = 0;
+
+        try {
+            do {
+                PageSummary page = fetchPage(bank, externalRequest(request, userCi, pageSize, cursor), Integer.MAX_VALUE,
+                        (transaction, count) -> {
+                            writeTransaction(generator, transaction);
+                            if (count % properties.getFlushEvery() == 0) {
+                                generator.flush();
+                            }
+                        });
+                pageCnt++;
+                totalCnt += page.count;
+                writePage(generator, page);
+
+                boolean hasNext = "Y".equals(page.nextPageYn)
+                        && page.beforInquiryTraceInfo != null
+                        && !page.beforInquiryTraceInfo.equals(cursor);
+                cursor = hasNext ? page.beforInquiryTraceInfo : null;
+            } while (cursor != null && pageCnt < properties.getMaxPages());
+
+            writeEnd(generator, totalCnt, pageCnt, cursor);
+            log.info("거래내역 스트리밍 완료 - bankCodeStd: {}, 페이지: {}, 건수: {}, 소요시간: {}ms",
+                    bank.bankCodeStd(), pageCnt, totalCnt, (System.nanoTime() - startNanos) / 1_000_000);
+
+        } catch (RuntimeException e) {
+            log.warn("거래내역 스트리밍 실패 - bankCodeStd: {}, 전송 건수: {}, 오류: {}", bank.bankCodeStd(), totalCnt, e.getMessage());
+            generator.writeStartObject();
+            generator.writeStringField("type", "error");
+            generator.writeStringField("message", "거래내역 조회 중 오류가 발생했습니다: " + e.getMessage());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } finally {
+            generator.flush();
+        }
+    }
+
+    private ExternalTransactionRequest externalRequest(TransactionListRequest request, String userCi,
+                                                       int pageSize, String cursor) {
+        return ExternalTransactionRequest.builder()
+                .userCi(userCi)
+                .accountNum(request.getAccountNum())
+                .inquiryType(request.getInquiryType() != null ? request.getInquiryType() : "A")
+                .sortOrder(request.getSortOrder() != null ? request.getSortOrder() : "D")
+                .pageRecordCnt(pageSize)
+                .beforInquiryTraceInfo(cursor)
+                .build();
+    }
+
+    /**
+     * 기관 한 페이지를 호출하여 거래 건을 파싱되는 대로 sink 로 전달
+     *
+     * @param limit 전달할 최대 건수 - 넘는 건이 오면 truncated 로 표시하고 읽기 중단
+     */
+    private PageSummary fetchPage(BankRoute bank, ExternalTransactionRequest externalRequest, int limit,
+                                  TransactionSink sink) {
+        String url = bank.bankEndpoint() + "/api/v1/transactions/history";
+        return bankHttpClients.forBank(bank.bankCodeStd()).execute(url, HttpMethod.POST,
+                httpRequest -> {
+                    httpRequest.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    objectMapper.writeValue(httpRequest.getBody(), externalRequest);
+                },
+                httpResponse -> parsePage(httpResponse.getBody(), limit, sink));
+    }
+
+    private PageSummary parsePage(InputStream body, int limit, TransactionSink sink) throws IOException {
+        PageSummary page = new PageSummary();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("외부 거래내역조회 응답 형식이 올바르지 않습니다.");
+            }
+            while (!page.truncated && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "success" -> page.success = value == JsonToken.VALUE_TRUE;
+                    case "message" -> page.message = parser.getValueAsString();
+                    case "data" -> {
+                        if (value == JsonToken.START_OBJECT) {
+                            parseData(parser, page, limit, sink);
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        if (!page.success) {
+            throw new IllegalStateException(page.message != null ? page.message : "외부 거래내역조회 API 호출에 실패했습니다.");
+        }
+        return page;
+    }
+
+    private void parseData(JsonParser parser, PageSummary page, int limit, TransactionSink sink) throws IOException {
+        while (!page.truncated && parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "balanceAmt" -> page.balanceAmt = parser.getValueAsString();
+                case "pageRecordCnt" -> page.pageRecordCnt = value == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+                case "nextPageYn" -> page.nextPageYn = parser.getValueAsString();
+                case "beforInquiryTraceInfo" -> page.beforInquiryTraceInfo = parser.getValueAsString();
+                case "resList" -> {
+                    if (value == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            if (page.count == limit) {
+                                page.truncated = true;
+                                return;
+                            }
+                            ExternalTransactionResponse.ExternalTransactionInfo transaction =
+                                    objectMapper.readValue(parser, ExternalTransactionResponse.ExternalTransactionInfo.class);
+                            sink.accept(transaction, ++page.count);
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void writeTransaction(JsonGenerator generator, ExternalTransactionResponse.ExternalTransactionInfo transaction)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "transaction");
+        generator.writeObjectField("data", toTransactionInfo(transaction));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private TransactionListResponse.TransactionInfo toTransactionInfo(
+            ExternalTransactionResponse.ExternalTransactionInfo transaction) {
+        return TransactionListResponse.TransactionInfo.builder()
+                .tranDate(transaction.getTranDate())
+                .tranTime(transaction.getTranTime())
+                .inoutType(transaction.getInoutType())
+                .tranType(transaction.getTranType())
+                .printedContent(transaction.getPrintedContent())
+                .tranAmt(transaction.getTranAmt())
+                .afterBalanceAmt(transaction.getAfterBalanceAmt())
+                .branchName(transaction.getBranchName())
+                .build();
+    }
+
+    private void writePage(JsonGenerator generator, PageSummary page) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "page");
+        generator.writeObjectFieldStart("data");
+        generator.writeStringField("balanceAmt", page.balanceAmt);
+        generator.writeNumberField("pageRecordCnt", page.pageRecordCnt != null ? page.pageRecordCnt : page.count);
+        generator.writeStringField("nextPageYn", page.nextPageYn);
+        generator.writeStringField("beforInquiryTraceInfo", page.beforInquiryTraceInfo);
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    private void writeEnd(JsonGenerator generator, int totalCnt, int pageCnt, String cursor) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "end");
+        generator.writeObjectFieldStart("data");
+        generator.writeNumberField("totalCnt", totalCnt);
+        generator.writeNumberField("pageCnt", pageCnt);
+        generator.writeStringField("beforInquiryTraceInfo", cursor);
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @FunctionalInterface
+    private interface TransactionSink {
+        void accept(ExternalTransactionResponse.ExternalTransactionInfo transaction, int count) throws IOException;
+    }
+
+    private static final class PageSummary {
+        private boolean success;
+        private String message;
+        private String balanceAmt;
+        private Integer pageRecordCnt;
+        private String nextPageYn;
+        private String beforInquiryTraceInfo;
+        private int count;
+        private boolean truncated;
+    }
+}
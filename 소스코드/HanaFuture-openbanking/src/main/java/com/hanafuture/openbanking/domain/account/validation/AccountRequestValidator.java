@@ -0,0 +1,135 @@
+package com.hanafuture.openbanking.domain.account.validation;
+
+import com.hanafuture.openbanking.domain.account.dto.request.AccountDetailsRequest;
+import com.hanafuture.openbanking.domain.account.dto.request.AccountInfoRequest;
+import com.hanafuture.openbanking.domain.account.dto.request.BalanceRequest;
+import com.hanafuture.openbanking.domain.account.dto.request.DepositRequest;
+import com.hanafuture.openbanking.domain.account.dto.request.IrpTransferRequest;
+import com.hanafuture.openbanking.domain.account.dto.request.TransactionListRequest;
+import com.hanafuture.openbanking.domain.account.dto.request.WithdrawRequest;
+import com.hanafuture.openbanking.global.validation.RequestValidator;
+import com.hanafuture.openbanking.global.validation.TextRule;
+import com.hanafuture.openbanking.global.validation.ValidationResult;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * 계좌 API 요청 검증
+ * - DTO 별 규칙은 클래스 로딩 시 한 번 컴파일하여 모든 요청에서 재사용
+ * - 길이 제한은 기관 전문 규격과 거래 로그 컬럼 길이에 맞춤
+ */
+@Component
+public class AccountRequestValidator {
+
+    static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$");
+
+    private static final String BANK_CODE_MASK = "999";
+    private static final String DATE_MASK = "99999999";
+    private static final String DATE_TIME_MASK = "99999999999999";
+
+    private static final RequestValidator<AccountInfoRequest> ACCOUNT_INFO = RequestValidator.<AccountInfoRequest>builder()
+            .text("userName", "사용자명", AccountInfoRequest::getUserName, TextRule.required().maxLength(20))
+            .text("userNum", "사용자 주민등록번호", AccountInfoRequest::getUserNum, TextRule.required().mask("999999-9999999"))
+            .text("userEmail", "사용자 이메일", AccountInfoRequest::getUserEmail,
+                    TextRule.required().maxLength(100).pattern(EMAIL_PATTERN, "유효하지 않은 이메일 형식입니다."))
+            .text("ainfoAgreeYn", "어카운트인포 서비스 동의여부", AccountInfoRequest::getAinfoAgreeYn, TextRule.required().oneOfIgnoreCase("Y"))
+            .text("inquiryBankType", "금융기관 업권 구분", AccountInfoRequest::getInquiryBankType, TextRule.required().length(1))
+            .text("traceNo", "추적번호", AccountInfoRequest::getTraceNo, TextRule.required().maxLength(20))
+            .text("inquiryRecordCnt", "조회 건수", AccountInfoRequest::getInquiryRecordCnt, TextRule.required().range(1, 100))
+            .build();
+
+    private static final RequestValidator<BalanceRequest> BALANCE = RequestValidator.<BalanceRequest>builder()
+            .text("userSeqNo", "사용자일련번호", BalanceRequest::getUserSeqNo, TextRule.required().maxLength(50))
+            .text("bankCodeStd", "은행 표준코드", BalanceRequest::getBankCodeStd, TextRule.required().mask(BANK_CODE_MASK))
+            .text("accountNum", "계좌번호", BalanceRequest::getAccountNum, TextRule.required().maxLength(50))
+            .text("bankTranId", "거래고유번호", BalanceRequest::getBankTranId, TextRule.optional().maxLength(50))
+            .text("tranDtime", "요청일시", BalanceRequest::getTranDtime, TextRule.optional().mask(DATE_TIME_MASK))
+            .build();
+
+    private static final RequestValidator<AccountDetailsRequest> ACCOUNT_DETAILS = RequestValidator.<AccountDetailsRequest>builder()
+            .text("userSeqNo", "사용자일련번호", AccountDetailsRequest::getUserSeqNo, TextRule.required().maxLength(50))
+            .text("bankCodeStd", "은행 표준코드", AccountDetailsRequest::getBankCodeStd, TextRule.required().mask(BANK_CODE_MASK))
+            .text("accountNum", "계좌번호", AccountDetailsRequest::getAccountNum, TextRule.required().maxLength(50))
+            .text("bankTranId", "거래고유번호", AccountDetailsRequest::getBankTranId, TextRule.optional().maxLength(50))
+            .build();
+
+    private static final RequestValidator<TransactionListRequest> TRANSACTION_LIST = RequestValidator.<TransactionListRequest>builder()
+            .text("userSeqNo", "사용자일련번호", TransactionListRequest::getUserSeqNo, TextRule.required().maxLength(50))
+            .text("bankCodeStd", "은행 표준코드", TransactionListRequest::getBankCodeStd, TextRule.required().mask(BANK_CODE_MASK))
+            .text("accountNum", "계좌번호", TransactionListRequest::getAccountNum, TextRule.required().maxLength(50))
+            .text("bankTranId", "거래고유번호", TransactionListRequest::getBankTranId, TextRule.optional().maxLength(50))
+            .text("inquiryType", "조회구분코드", TransactionListRequest::getInquiryType, TextRule.optional().oneOf("A", "I", "O"))
+            .text("sortOrder", "정렬순서", TransactionListRequest::getSortOrder, TextRule.optional().oneOf("D", "A"))
+            .text("fromDate", "조회시작일자", TransactionListRequest::getFromDate, TextRule.optional().mask(DATE_MASK))
+            .text("toDate", "조회종료일자", TransactionListRequest::getToDate, TextRule.optional().mask(DATE_MASK))
+            .text("tranDtime", "요청일시", TransactionListRequest::getTranDtime, TextRule.optional().mask(DATE_TIME_MASK))
+            .number("pageRecordCnt", "페이지당 조회 건수", TransactionListRequest::getPageRecordCnt, false, 1, 500)
+            .text("beforInquiryTraceInfo", "이전 조회 추적 정보", TransactionListRequest::getBeforInquiryTraceInfo,
+                    TextRule.optional().maxLength(100))
+            .build();
+
+    private static final RequestValidator<WithdrawRequest> WITHDRAW = RequestValidator.<WithdrawRequest>builder()
+            .text("bankTranId", "거래고유번호", WithdrawRequest::getBankTranId, TextRule.required().maxLength(50))
+            .text("userSeqNo", "사용자일련번호", WithdrawRequest::getUserSeqNo, TextRule.required().maxLength(50))
+            .text("wdBankCodeStd", "출금은행 표준코드", WithdrawRequest::getWdBankCodeStd, TextRule.required().mask(BANK_CODE_MASK))
+            .text("wdAccountNum", "출금계좌번호", WithdrawRequest::getWdAccountNum, TextRule.required().maxLength(50))
+            .text("tranAmt", "거래금액", WithdrawRequest::getTranAmt, TextRule.required().amount(13))
+            .text("tranDtime", "요청일시", WithdrawRequest::getTranDtime, TextRule.optional().mask(DATE_TIME_MASK))
+            .text("dpsPrintContent", "입금통장메모", WithdrawRequest::getDpsPrintContent, TextRule.optional().maxLength(100))
+            .text("reqClientName", "요청고객명", WithdrawRequest::getReqClientName, TextRule.optional().maxLength(50))
+            .text("reqClientNum", "요청고객번호", WithdrawRequest::getReqClientNum, TextRule.optional().maxLength(50))
+            .text("transferPurpose", "이체목적", WithdrawRequest::getTransferPurpose, TextRule.optional().maxLength(2))
+            .text("recvClientBankCode", "받는분은행코드", WithdrawRequest::getRecvClientBankCode, TextRule.optional().mask(BANK_CODE_MASK))
+            .build();
+
+    private static final RequestValidator<DepositRequest> DEPOSIT = RequestValidator.<DepositRequest>builder()
+            .text("bankTranId", "거래고유번호", DepositRequest::getBankTranId, TextRule.required().maxLength(50))
+            .text("bankCodeStd", "은행 표준코드", DepositRequest::getBankCodeStd, TextRule.required().mask(BANK_CODE_MASK))
+            .text("accountNum", "계좌번호", DepositRequest::getAccountNum, TextRule.required().maxLength(50))
+            .text("tranAmt", "거래금액", DepositRequest::getTranAmt, TextRule.required().amount(13))
+            .text("tranDtime", "요청일시", DepositRequest::getTranDtime, TextRule.optional().mask(DATE_TIME_MASK))
+            .text("printContent", "입금통장메모", DepositRequest::getPrintContent, TextRule.optional().maxLength(100))
+            .text("reqClientNum", "요청고객번호", DepositRequest::getReqClientNum, TextRule.optional().maxLength(50))
+            .text("transferPurpose", "이체목적", DepositRequest::getTransferPurpose, TextRule.optional().maxLength(2))
+            .build();
+
+    private static final RequestValidator<IrpTransferRequest> IRP_TRANSFER = RequestValidator.<IrpTransferRequest>builder()
+            .text("bankTranId", "거래고유번호", IrpTransferRequest::getBankTranId, TextRule.required().maxLength(50))
+            .text("userSeqNo", "사용자일련번호", IrpTransferRequest::getUserSeqNo, TextRule.required().maxLength(50))
+            .text("wdBankCodeStd", "출금은행코드", IrpTransferRequest::getWdBankCodeStd, TextRule.required().mask(BANK_CODE_MASK))
+            .text("wdAccountNum", "출금계좌번호", IrpTransferRequest::getWdAccountNum, TextRule.required().maxLength(50))
+            .text("rsvBankCodeStd", "입금은행코드", IrpTransferRequest::getRsvBankCodeStd, TextRule.required().mask(BANK_CODE_MASK))
+            .text("rsvAccountNum", "입금계좌번호", IrpTransferRequest::getRsvAccountNum, TextRule.required().maxLength(50))
+            .text("tranDtime", "요청일시", IrpTransferRequest::getTranDtime, TextRule.optional().mask(DATE_TIME_MASK))
+            .text("reqClientName", "요청고객명", IrpTransferRequest::getReqClientName, TextRule.optional().maxLength(50))
+            .build();
+
+    public ValidationResult validate(AccountInfoRequest request) {
+        return ACCOUNT_INFO.validate(request);
+    }
+
+    public ValidationResult validate(BalanceRequest request) {
+        return BALANCE.validate(request);
+    }
+
+    public ValidationResult validate(AccountDetailsRequest request) {
+        return ACCOUNT_DETAILS.validate(request);
+    }
+
+    public ValidationResult validate(TransactionListRequest request) {
+        return TRANSACTION_LIST.validate(request);
+    }
+
+    public ValidationResult validate(WithdrawRequest request) {
+        return WITHDRAW.validate(request);
+    }
+
+    public ValidationResult validate(DepositRequest request) {
+        return DEPOSIT.validate(request);
+    }
+
+    public ValidationResult validate(IrpTransferRequest request) {
+        return IRP_TRANSFER.validate(request);
+    }
+}
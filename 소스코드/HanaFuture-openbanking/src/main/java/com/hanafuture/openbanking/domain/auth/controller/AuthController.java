@@ -4,6 +4,7 @@ import com.hanafuture.openbanking.domain.auth.dto.request.TokenRequest;
 import com.hanafuture.openbanking.domain.auth.dto.response.TokenResponse;
 import com.hanafuture.openbanking.domain.auth.service.AuthService;
 import com.hanafuture.openbanking.global.dto.ApiResponse;
+import com.hanafuture.openbanking.global.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,6 +16,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/oauth/2.0")
 @RequiredArgsConstructor
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
     
     private final AuthService authService;
+    private final JwtUtil jwtUtil;
     
     /**
      * OAuth 2.0 Client Credentials Grant 토큰 발급 API
@@ -89,4 +93,18 @@ public class AuthController {
                     .body(ApiResponse.error("토큰 발급 중 시스템 오류가 발생했습니다."));
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 토큰 검증용 공개키 목록 (JWKS)
+     */
+    @Operation(
+        summary = "토큰 검증 공개키 조회",
+        description = "RSA 서명 모드(jwt.signing-mode=RSA)에서 발급된 토큰을 검증할 수 있는 공개키 목록을 JWKS 형식으로 반환합니다. " +
+                     "HMAC 모드에서는 빈 목록을 반환합니다.",
+        tags = {"OAuth 2.0 인증"}
+    )
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok(jwtUtil.publicJwks());
+    }
+}
@@ -4,6 +4,8 @@ import com.hanafuture.openbanking.domain.account.dto.request.AccountInfoRequest;
 import com.hanafuture.openbanking.domain.account.dto.request.ExternalAccountRequest;
 import com.hanafuture.openbanking.domain.account.dto.response.AccountInfoResponse;
 import com.hanafuture.openbanking.domain.account.dto.response.ExternalAccountResponse;
+import com.hanafuture.openbanking.global.validation.RequestValidator;
+import com.hanafuture.openbanking.global.validation.TextRule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
@@ -18,6 +20,7 @@ import org.springframework.web.client.RestTemplate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +35,19 @@ public class AccountInfoService {
             "http://15.164.94.74:8080/api/v1/accounts/search-by-user-num",
             "http://3.34.183.197:8080/api/v1/accounts/search-by-user-num"
     );
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+
+    private static final RequestValidator<AccountInfoRequest> ACCOUNT_INFO_VALIDATOR = RequestValidator.<AccountInfoRequest>builder()
+            .text("userName", "사용자명", AccountInfoRequest::getUserName, TextRule.required().maxLength(20))
+            .text("userNum", "사용자 주민등록번호", AccountInfoRequest::getUserNum, TextRule.required().mask("999999-9999999"))
+            .text("userEmail", "사용자 이메일", AccountInfoRequest::getUserEmail,
+                    TextRule.required().maxLength(100).pattern(EMAIL_PATTERN, "올바른 이메일 형식이 아닙니다."))
+            .text("ainfoAgreeYn", "어카운트인포 서비스 동의여부", AccountInfoRequest::getAinfoAgreeYn, TextRule.required().oneOf("Y"))
+            .text("inquiryBankType", "금융기관 업권 구분", AccountInfoRequest::getInquiryBankType, TextRule.required().oneOf("1", "2", "4"))
+            .text("traceNo", "추적번호", AccountInfoRequest::getTraceNo, TextRule.required().length(6))
+            .text("inquiryRecordCnt", "조회 건수", AccountInfoRequest::getInquiryRecordCnt, TextRule.required().range(1, 30))
+            .build();
     
     @Transactional
     public AccountInfoResponse getAccountList(AccountInfoRequest request) {
@@ -40,7 +56,7 @@ public class AccountInfoService {
                 request.getUserName(), request.getInquiryBankType(), request.getInquiryRecordCnt());
         
         // 1. 요청 유효성 검사
-        validateAccountInfoRequest(request);
+        ACCOUNT_INFO_VALIDATOR.validate(request).orThrow();
         
         // 2. 외부 API들로부터 계좌 정보 조회
         List<AccountInfoResponse.AccountInfo> allAccounts = new ArrayList<>();
@@ -147,99 +163,4 @@ public class AccountInfoService {
         
         return accountInfoList;
     }
-    
-    private void validateAccountInfoRequest(AccountInfoRequest request) {
-        
-        // 필수 필드 검증
-        if (request.getUserName() == null || request.getUserName().trim().isEmpty()) {
-            throw new IllegalArgumentException("사용자명(userName)은 필수입니다.");
-        }
-        
-        if (request.getUserNum() == null || request.getUserNum().trim().isEmpty()) {
-            throw new IllegalArgumentException("사용자 주민등록번호(userNum)는 필수입니다.");
-        }
-        
-        if (request.getUserEmail() == null || request.getUserEmail().trim().isEmpty()) {
-            throw new IllegalArgumentException("사용자 이메일(userEmail)은 필수입니다.");
-        }
-        
-        if (request.getAinfoAgreeYn() == null || request.getAinfoAgreeYn().trim().isEmpty()) {
-            throw new IllegalArgumentException("어카운트인포 서비스 동의여부(ainfoAgreeYn)는 필수입니다.");
-        }
-        
-        if (request.getInquiryBankType() == null || request.getInquiryBankType().trim().isEmpty()) {
-            throw new IllegalArgumentException("금융기관 업권 구분(inquiryBankType)은 필수입니다.");
-        }
-        
-        if (request.getTraceNo() == null || request.getTraceNo().trim().isEmpty()) {
-            throw new IllegalArgumentException("추적번호(traceNo)는 필수입니다.");
-        }
-        
-        if (request.getInquiryRecordCnt() == null || request.getInquiryRecordCnt().trim().isEmpty()) {
-            throw new IllegalArgumentException("조회 건수(inquiryRecordCnt)는 필수입니다.");
-        }
-        
-        // 형식 검증
-        if (request.getUserName().length() > 20) {
-            throw new IllegalArgumentException("사용자명(userName)은 20자 이하여야 합니다.");
-        }
-        
-        // 주민등록번호 형식 검증 (999999-9999999)
-        if (request.getUserNum().length() != 14) {
-            throw new IllegalArgumentException("사용자 주민등록번호(userNum)는 999999-9999999 형식(14자리)이어야 합니다.");
-        }
-        
-        // 주민등록번호 패턴 검증
-        if (!isValidUserNumFormat(request.getUserNum())) {
-            throw new IllegalArgumentException("사용자 주민등록번호(userNum)는 999999-9999999 형식이어야 합니다.");
-        }
-        
-        if (request.getUserEmail().length() > 100) {
-            throw new IllegalArgumentException("사용자 이메일(userEmail)은 100자 이하여야 합니다.");
-        }
-        
-        if (!"Y".equals(request.getAinfoAgreeYn())) {
-            throw new IllegalArgumentException("어카운트인포 서비스 동의여부(ainfoAgreeYn)는 'Y'여야 합니다.");
-        }
-        
-        if (!"1".equals(request.getInquiryBankType()) && 
-            !"2".equals(request.getInquiryBankType()) && 
-            !"4".equals(request.getInquiryBankType())) {
-            throw new IllegalArgumentException("금융기관 업권 구분(inquiryBankType)은 '1', '2', '4' 중 하나여야 합니다.");
-        }
-        
-        if (request.getTraceNo().length() != 6) {
-            throw new IllegalArgumentException("추적번호(traceNo)는 6자리여야 합니다.");
-        }
-        
-        try {
-            int recordCnt = Integer.parseInt(request.getInquiryRecordCnt());
-            if (recordCnt < 1 || recordCnt > 30) {
-                throw new IllegalArgumentException("조회 건수(inquiryRecordCnt)는 1~30 사이여야 합니다.");
-            }
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("조회 건수(inquiryRecordCnt)는 숫자여야 합니다.");
-        }
-        
-        // 이메일 형식 검증
-        if (!isValidEmail(request.getUserEmail())) {
-            throw new IllegalArgumentException("올바른 이메일 형식이 아닙니다.");
-        }
-    }
-    
-    /**
-     * 이메일 형식 유효성 검증
-     */
-    private boolean isValidEmail(String email) {
-        String emailRegex = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
-        return email.matches(emailRegex);
-    }
-    
-    /**
-     * 주민등록번호 형식 유효성 검증 (999999-9999999)
-     */
-    private boolean isValidUserNumFormat(String userNum) {
-        String userNumRegex = "^[0-9]{6}-[0-9]{7}$";
-        return userNum.matches(userNumRegex);
-    }
-} 
\ No newline at end of file
+}
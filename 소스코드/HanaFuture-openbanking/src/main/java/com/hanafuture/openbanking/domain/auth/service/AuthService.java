@@ -3,28 +3,28 @@ package com.hanafuture.openbanking.domain.auth.service;
 import com.hanafuture.openbanking.domain.auth.dto.request.TokenRequest;
 import com.hanafuture.openbanking.domain.auth.dto.response.TokenResponse;
 import com.hanafuture.openbanking.domain.client.entity.Client;
-import com.hanafuture.openbanking.domain.client.repository.ClientRepository;
 import com.hanafuture.openbanking.global.config.JwtConfig;
 import com.hanafuture.openbanking.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class AuthService {
     
-    private final ClientRepository clientRepository;
+    private final ClientCredentialVerifier clientCredentialVerifier;
     private final JwtUtil jwtUtil;
     
-    @Transactional
+    /**
+     * 토큰 발급
+     * - 자격증명은 캐시에서 검증하므로 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse issueToken(TokenRequest request) {
         
         // 1. 요청 유효성 검사
@@ -40,8 +40,10 @@ public class AuthService {
                 JwtConfig.ACCESS_TOKEN_EXPIRY
         );
         
-        // 4. 생성된 토큰의 페이로드 디버깅 (scope 포함 확인)
-        jwtUtil.debugTokenClaims(accessToken);
+        // 4. 생성된 토큰의 페이로드 디버깅 (scope 포함 확인, DEBUG 레벨에서만)
+        if (log.isDebugEnabled()) {
+            jwtUtil.debugTokenClaims(accessToken);
+        }
         
         log.info("Token issued successfully for client: {}, scope: {}, expiry: {}초", 
                 request.getClientId(), request.getScope(), JwtConfig.ACCESS_TOKEN_EXPIRY_SECONDS);
@@ -86,40 +88,10 @@ public class AuthService {
     
     private Client authenticateClient(String clientId, String clientSecret) {
         
-        // 클라이언트 조회
-        Client client = clientRepository.findById(clientId)
-                .orElseThrow(() -> new IllegalArgumentException("등록되지 않은 client_id입니다."));
-        
-        // 요청받은 client_secret을 SHA256으로 해시
-        String hashedClientSecret = sha256Hash(clientSecret);
-        
-        // 클라이언트 시크릿 검증 (해시값 비교)
-        if (!hashedClientSecret.equals(client.getClientSecret())) {
-            throw new IllegalArgumentException("잘못된 client_secret입니다.");
-        }
+        // 클라이언트 조회 및 시크릿 해시 비교 (등록 정보는 캐시)
+        Client client = clientCredentialVerifier.verify(clientId, clientSecret);
         
         log.info("Client authentication successful for client_id: {}", clientId);
         return client;
     }
-    
-    /**
-     * SHA256 해시 생성
-     */
-    private String sha256Hash(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            
-            // 바이트 배열을 16진수 문자열로 변환 (소문자)
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = String.format("%02x", b);  // 소문자 16진수, 2자리 패딩
-                hexString.append(hex);
-            }
-            return hexString.toString();
-            
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
-        }
-    }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.hanafuture.openbanking.domain.auth.service;
+
+import com.hanafuture.openbanking.domain.client.entity.Client;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client 변경 시 자격증명 캐시 무효화
+ * - Hibernate 가 Spring 빈으로 생성하므로 검증기는 지연 조회 (EntityManagerFactory 순환 참조 방지)
+ */
+@Component
+public class ClientCredentialInvalidationListener {
+
+    private final ObjectProvider<ClientCredentialVerifier> verifier;
+
+    public ClientCredentialInvalidationListener(ObjectProvider<ClientCredentialVerifier> verifier) {
+        this.verifier = verifier;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Client client) {
+        ClientCredentialVerifier credentialVerifier = verifier.getIfAvailable();
+        if (credentialVerifier != null) {
+            credentialVerifier.invalidate(client.getClientId());
+        }
+    }
+}
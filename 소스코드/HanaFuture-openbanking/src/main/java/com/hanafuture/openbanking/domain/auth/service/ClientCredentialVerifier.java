@@ -0,0 +1,125 @@
+package com.hanafuture.openbanking.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanafuture.openbanking.domain.client.entity.Client;
+import com.hanafuture.openbanking.domain.client.repository.ClientRepository;
+import com.hanafuture.openbanking.global.util.HexUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+
+/**
+ * 클라이언트 자격증명 검증
+ * - client_id 별 등록 정보와 시크릿 해시(16진수를 미리 바이트로 변환)를 짧은 TTL 로 캐시하여 재접속 폭주 시 DB 조회를 줄임
+ * - 요청 시크릿은 스레드별 버퍼에 UTF-8 로 인코딩해 SHA-256 을 계산하고, 캐시된 해시와 MessageDigest.isEqual 로 비교
+ * - 평문 시크릿은 캐시에 두지 않음
+ * - Client 변경 시 ClientCredentialInvalidationListener 가 캐시를 무효화
+ */
+@Component
+@Slf4j
+public class ClientCredentialVerifier {
+
+    private static final int SHA_256_LENGTH = 32;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
+        }
+    });
+    private static final ThreadLocal<byte[]> DIGEST_BUFFER = ThreadLocal.withInitial(() -> new byte[SHA_256_LENGTH]);
+    private static final ThreadLocal<CharsetEncoder> UTF_8_ENCODER = ThreadLocal.withInitial(() ->
+            StandardCharsets.UTF_8.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE));
+    private static final ThreadLocal<ByteBuffer> ENCODE_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocate(128));
+
+    private final ClientRepository clientRepository;
+    private final Cache<String, CachedClient> clients;
+
+    public ClientCredentialVerifier(ClientRepository clientRepository,
+                                    @Value("${openbanking.client-cache.ttl-seconds:60}") long ttlSeconds,
+                                    @Value("${openbanking.client-cache.max-size:1000}") long maxSize) {
+        this.clientRepository = clientRepository;
+        this.clients = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * client_id/client_secret 검증 후 등록 정보 반환
+     */
+    public Client verify(String clientId, String clientSecret) {
+        CachedClient cached = clients.get(clientId,
+                id -> clientRepository.findById(id).map(CachedClient::new).orElse(null));
+        if (cached == null) {
+            throw new IllegalArgumentException("등록되지 않은 client_id입니다.");
+        }
+        if (clientSecret == null || cached.secretHash == null
+                || !MessageDigest.isEqual(sha256(clientSecret), cached.secretHash)) {
+            throw new IllegalArgumentException("잘못된 client_secret입니다.");
+        }
+        return cached.client;
+    }
+
+    public void invalidate(String clientId) {
+        clients.invalidate(clientId);
+    }
+
+    public void invalidateAll() {
+        clients.invalidateAll();
+    }
+
+    /**
+     * 시크릿의 SHA-256 - 결과는 스레드별 버퍼이므로 바로 비교에만 사용
+     */
+    private static byte[] sha256(String secret) {
+        CharsetEncoder encoder = UTF_8_ENCODER.get().reset();
+        ByteBuffer encoded = ENCODE_BUFFER.get();
+        int maxBytes = (int) Math.ceil(secret.length() * (double) encoder.maxBytesPerChar());
+        if (encoded.capacity() < maxBytes) {
+            encoded = ByteBuffer.allocate(maxBytes);
+            ENCODE_BUFFER.set(encoded);
+        }
+        encoded.clear();
+        encoder.encode(CharBuffer.wrap(secret), encoded, true);
+        encoder.flush(encoded);
+
+        MessageDigest digest = SHA_256.get();
+        byte[] buffer = DIGEST_BUFFER.get();
+        digest.update(encoded.array(), 0, encoded.position());
+        try {
+            digest.digest(buffer, 0, SHA_256_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalStateException("SHA-256 해시 생성에 실패했습니다.", e);
+        }
+        return buffer;
+    }
+
+    /**
+     * 캐시 항목 - 등록 정보와 바이트로 변환한 시크릿 해시 (형식이 잘못된 해시는 null → 항상 불일치)
+     */
+    private static final class CachedClient {
+        private final Client client;
+        private final byte[] secretHash;
+
+        private CachedClient(Client client) {
+            this.client = client;
+            byte[] hash = HexUtils.fromHex(client.getClientSecret());
+            this.secretHash = hash != null && hash.length == SHA_256_LENGTH ? hash : null;
+        }
+    }
+}
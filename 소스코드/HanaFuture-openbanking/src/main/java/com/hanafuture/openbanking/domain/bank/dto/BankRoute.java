@@ -0,0 +1,22 @@
+package com.hanafuture.openbanking.domain.bank.dto;
+
+import com.hanafuture.openbanking.domain.bank.entity.BankCode;
+
+/**
+ * 기관 라우팅 정보 (캐시 보관용 불변 객체)
+ */
+public record BankRoute(String bankCodeStd, String bankName, String bankType, String bankEndpoint) {
+
+    public static BankRoute of(BankCode bankCode) {
+        return new BankRoute(
+                bankCode.getBankCodeStd(),
+                bankCode.getBankName(),
+                bankCode.getBankType(),
+                bankCode.getBankEndpoint()
+        );
+    }
+
+    public boolean hasEndpoint() {
+        return bankEndpoint != null && !bankEndpoint.trim().isEmpty();
+    }
+}
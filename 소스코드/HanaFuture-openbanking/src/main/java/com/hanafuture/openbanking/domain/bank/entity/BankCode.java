@@ -1,5 +1,6 @@
 package com.hanafuture.openbanking.domain.bank.entity;
 
+import com.hanafuture.openbanking.global.cache.RoutingCacheInvalidationListener;
 import com.hanafuture.openbanking.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "auth_bank_code")
+@EntityListeners(RoutingCacheInvalidationListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -3,6 +3,7 @@ package com.hanafuture.openbanking.domain.client.controller;
 import com.hanafuture.openbanking.domain.client.entity.Client;
 import com.hanafuture.openbanking.domain.client.repository.ClientRepository;
 import com.hanafuture.openbanking.global.dto.ApiResponse;
+import com.hanafuture.openbanking.global.util.HexUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -72,12 +73,7 @@ public class ClientController {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
             
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = String.format("%02x", b);
-                hexString.append(hex);
-            }
-            return hexString.toString();
+            return HexUtils.toHex(hash);
             
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException("SHA-256 알고리즘을 찾을 수 없습니다.", e);
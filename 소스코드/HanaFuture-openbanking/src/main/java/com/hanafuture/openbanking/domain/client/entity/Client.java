@@ -1,5 +1,6 @@
 package com.hanafuture.openbanking.domain.client.entity;
 
+import com.hanafuture.openbanking.domain.auth.service.ClientCredentialInvalidationListener;
 import com.hanafuture.openbanking.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -10,6 +11,7 @@ import lombok.experimental.SuperBuilder;
 
 @Entity
 @Table(name = "auth_client")
+@EntityListeners(ClientCredentialInvalidationListener.class)
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -0,0 +1,37 @@
+package com.hanafuture.openbanking.domain.transaction.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래 감사 로그(auth_transaction_log) 비동기 기록 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openbanking.audit")
+public class AuditLogProperties {
+
+    // 메모리 버퍼 크기 (가득 차면 디스크로 기록) - 프로세스 비정상 종료 시 유실될 수 있는 최대 건수
+    private int bufferCapacity = 10000;
+
+    // JDBC 배치 insert 건수
+    private int batchSize = 200;
+
+    // 배치 모으는 시간 (ms) - 첫 로그가 들어온 뒤 이 시간이 지나거나 batch-size 건이 차면 기록
+    // DB 가 정상일 때 로그가 메모리에 머무는 최대 시간(= 비정상 종료 시 유실 구간)은 이 값 + 배치 기록 시간
+    private long flushIntervalMs = 200;
+
+    // DB 장애 시 기록할 디스크 경로
+    private String spillDirectory = "./audit-spill";
+
+    // 디스크에 쌓인 로그를 DB 로 재적재하는 주기 (ms)
+    private long replayIntervalMs = 10000;
+
+    // PK 생성 식 (insert 문에 그대로 사용되어 시퀀스 조회 왕복이 없음)
+    // 비워 두면 DB 종류별 기본값 (Oracle: TRANSACTION_SEQ.NEXTVAL, PostgreSQL: nextval('transaction_seq'),
+    // H2: NEXT VALUE FOR TRANSACTION_SEQ), 시퀀스가 없는 MySQL 은 직접 지정
+    private String idExpression;
+}
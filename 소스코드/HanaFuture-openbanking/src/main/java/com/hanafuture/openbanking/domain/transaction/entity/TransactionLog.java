@@ -5,12 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "auth_transaction_log")
+@Table(name = "auth_transaction_log",
+        uniqueConstraints = @UniqueConstraint(name = "uk_auth_tran_log_idempotency_key", columnNames = "idempotency_key"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -86,11 +88,58 @@ public class TransactionLog {
     @Column(name = "req_cnt", length = 10)
     private String reqCnt;
     
+    // ===== IRP 실물이전 saga 진행 상태 =====
+
+    // saga 행은 api_type:bank_tran_id, 감사 로그 행은 AUDIT:uuid (같은 거래고유번호가 여러 번 기록될 수 있고, 재적재 시 중복 방지)
+    @Column(name = "idempotency_key", length = 80)
+    private String idempotencyKey;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "saga_status", length = 20)
+    private TransferSagaStatus sagaStatus;
+    
+    @Column(name = "user_seq_no", length = 50)
+    private String userSeqNo;
+    
+    @Column(name = "wd_account_num", length = 50)
+    private String wdAccountNum;
+    
+    @Column(name = "rsv_bank_code_std", length = 3)
+    private String rsvBankCodeStd;
+    
+    @Column(name = "rsv_account_num", length = 50)
+    private String rsvAccountNum;
+    
+    @Column(name = "tran_dtime", length = 14)
+    private String tranDtime;
+    
+    @Column(name = "retry_count")
+    private Integer retryCount;
+    
+    // 단계별 응답(IrpTransferResponse) JSON
+    @Column(name = "result_payload", length = 4000)
+    private String resultPayload;
+    
+    // 낙관적 잠금 - 읽은 뒤 스위퍼/다른 인스턴스가 바꾼 saga 행을 덮어쓰지 않음 (JDBC 로 적재하는 감사 로그 행은 기본값 0)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.hanafuture.openbanking.domain.transaction.entity;
+
+/**
+ * IRP 실물이전 saga 단계
+ * - STARTED: 거래고유번호 선점, 출금 호출 전
+ * - WITHDRAWN → DEPOSITING → COMPLETED: 출금 확정 후 입금 처리
+ * - COMPENSATION_PENDING → COMPENSATING → COMPENSATED: 첫 입금 시도가 거절된 경우 출금 계좌로 환입
+ * - FAILED: 출금 실패 (자금 이동 없음)
+ * - MANUAL_REVIEW: 결과를 확정할 수 없어 운영자 확인 필요
+ */
+public enum TransferSagaStatus {
+    STARTED,
+    WITHDRAWN,
+    DEPOSITING,
+    COMPLETED,
+    COMPENSATION_PENDING,
+    COMPENSATING,
+    COMPENSATED,
+    FAILED,
+    MANUAL_REVIEW;
+
+    /**
+     * 입금 또는 환입이 아직 끝나지 않은 상태인지 여부
+     */
+    public boolean isInProgress() {
+        return this == STARTED || this == WITHDRAWN || this == DEPOSITING
+                || this == COMPENSATION_PENDING || this == COMPENSATING;
+    }
+}
@@ -1,9 +1,51 @@
 package com.hanafuture.openbanking.domain.transaction.repository;
 
 import com.hanafuture.openbanking.domain.transaction.entity.TransactionLog;
+import com.hanafuture.openbanking.domain.transaction.entity.TransferSagaStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TransactionLogRepository extends JpaRepository<TransactionLog, Long> {
-} 
\ No newline at end of file
+
+    Optional<TransactionLog> findByIdempotencyKey(String idempotencyKey);
+
+    List<TransactionLog> findByApiTypeAndSagaStatusInAndUpdatedAtBefore(String apiType,
+                                                                       Collection<TransferSagaStatus> statuses,
+                                                                       LocalDateTime before);
+
+    /**
+     * 단계 선점 (현재 상태가 from 인 경우에만 to 로 변경, 변경 건수 반환)
+     * - 버전을 올려 이전에 읽은 엔티티의 저장이 낙관적 잠금으로 거절되게 함
+     */
+    @Modifying
+    @Transactional
+    @Query("update TransactionLog t set t.sagaStatus = :to, t.updatedAt = :now, t.version = t.version + 1 " +
+            "where t.apiTranId = :apiTranId and t.sagaStatus = :from")
+    int transition(@Param("apiTranId") Long apiTranId,
+                   @Param("from") TransferSagaStatus from,
+                   @Param("to") TransferSagaStatus to,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 중 멈춘 단계를 대기 상태로 되돌림 (처리하던 인스턴스가 종료된 경우)
+     */
+    @Modifying
+    @Transactional
+    @Query("update TransactionLog t set t.sagaStatus = :to, t.updatedAt = :now, t.version = t.version + 1 " +
+            "where t.apiType = :apiType and t.sagaStatus = :from and t.updatedAt < :before")
+    int releaseStale(@Param("apiType") String apiType,
+                     @Param("from") TransferSagaStatus from,
+                     @Param("to") TransferSagaStatus to,
+                     @Param("before") LocalDateTime before,
+                     @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,443 @@
+package com.hanafuture.openbanking.domain.transaction.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanafuture.openbanking.domain.transaction.config.AuditLogProperties;
+import com.hanafuture.openbanking.domain.transaction.entity.TransactionLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 감사 로그 비동기 기록기
+ * - 업무 스레드는 메모리 버퍼에 넣기만 하고, 전용 스레드가 JDBC 배치 insert 로 기록
+ * - 첫 로그가 들어온 뒤 flush-interval-ms 동안(또는 batch-size 건이 찰 때까지) 모아서 한 번에 기록
+ * - 버퍼가 가득 차거나 DB 기록이 실패하면 디스크(JSON Lines)에 기록 후 주기적으로 재적재
+ * - 로그마다 idempotency_key(AUDIT:uuid)를 붙이고 중복 키는 무시하고 insert 하므로,
+ *   일부 행이 이미 커밋된 배치를 통째로 재적재해도 중복 행이 생기지 않음
+ * - 종료 시 버퍼에 남은 로그를 모두 기록
+ * - 프로세스가 비정상 종료되면 메모리에 있던 로그(버퍼 최대 buffer-capacity 건 + 기록 중인 배치)는 유실됨.
+ *   DB 가 정상이면 버퍼는 flush-interval-ms 안에 비워지므로 유실 구간은 그 시간 동안 들어온 로그로 한정됨
+ */
+@Component
+@Slf4j
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final String SPILL_FILE = "audit-spill.jsonl";
+    private static final String REPLAY_FILE_PREFIX = "audit-replay-";
+    private static final String IDEMPOTENCY_KEY_PREFIX = "AUDIT:";
+    private static final String TABLE = "auth_transaction_log";
+
+    private static final String INSERT_COLUMNS = "api_tran_id, fintech_use_num, tran_amt, wd_bank_code_std, " +
+            "wd_account_num_masked, wd_print_content, req_client_name, req_client_fintech_use_num, req_client_num, " +
+            "transfer_purpose, api_type, response_code, response_message, bank_tran_id, bank_tran_date, " +
+            "bank_code_tran, bank_rsp_code, bank_rsp_message, created_at, updated_at, idempotency_key";
+    private static final String VALUE_PLACEHOLDERS = ", ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditLogProperties properties;
+    private final BlockingQueue<TransactionLog> buffer;
+    private final Path spillDirectory;
+    private final Object spillLock = new Object();
+
+    private final Counter writtenCounter;
+    private final Counter spilledCounter;
+    private final Counter droppedCounter;
+
+    // DB 종류를 보고 처음 기록할 때 결정 (기동 시 DB 가 내려가 있어도 기록기는 시작)
+    private volatile InsertStatement insertStatement;
+    private volatile boolean running;
+    private Thread writerThread;
+    private long lastReplayAt;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          ObjectMapper objectMapper,
+                          AuditLogProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+        this.spillDirectory = Paths.get(properties.getSpillDirectory());
+
+        Gauge.builder("openbanking.audit.buffer.size", buffer, BlockingQueue::size)
+                .description("DB 기록 대기 중인 감사 로그 건수")
+                .register(meterRegistry);
+        this.writtenCounter = auditCounter(meterRegistry, "written");
+        this.spilledCounter = auditCounter(meterRegistry, "spilled");
+        this.droppedCounter = auditCounter(meterRegistry, "dropped");
+    }
+
+    /**
+     * 감사 로그 기록 요청 (호출 스레드를 막지 않음)
+     */
+    public void record(TransactionLog entry) {
+        LocalDateTime now = LocalDateTime.now();
+        if (entry.getCreatedAt() == null) {
+            entry.setCreatedAt(now);
+        }
+        entry.setUpdatedAt(now);
+        if (entry.getIdempotencyKey() == null) {
+            entry.setIdempotencyKey(IDEMPOTENCY_KEY_PREFIX + UUID.randomUUID());
+        }
+
+        if (!running || !buffer.offer(entry)) {
+            spill(List.of(entry));
+        }
+    }
+
+    @Override
+    public void start() {
+        try {
+            Files.createDirectories(spillDirectory);
+        } catch (IOException e) {
+            log.error("감사 로그 디스크 경로 생성 실패 - path: {}, 오류: {}", spillDirectory, e.getMessage());
+        }
+        try {
+            insertStatement();
+        } catch (DataAccessException | IllegalStateException e) {
+            // DB 기록이 안 되는 동안 로그는 디스크에 쌓이고, 첫 기록 시 다시 확인
+            log.error("감사 로그 insert 문 결정 실패 - 오류: {}", e.getMessage());
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "Audit-Log-Writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("감사 로그 기록기 시작 - 버퍼: {}, 배치: {}, 최대 대기: {}ms",
+                properties.getBufferCapacity(), properties.getBatchSize(), properties.getFlushIntervalMs());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // 남은 로그 기록 (DB 실패 시 디스크로)
+        List<TransactionLog> remaining = new ArrayList<>(buffer.size());
+        buffer.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += properties.getBatchSize()) {
+            flush(remaining.subList(from, Math.min(from + properties.getBatchSize(), remaining.size())));
+        }
+        log.info("감사 로그 기록기 종료 - 종료 시 기록 건수: {}", remaining.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버가 요청 처리를 끝낸 뒤에 종료되도록 낮은 phase 사용
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void runWriter() {
+        List<TransactionLog> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            try {
+                TransactionLog first = buffer.poll(properties.getReplayIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    collect(batch);
+                    try {
+                        flush(batch);
+                    } finally {
+                        batch.clear();
+                    }
+                }
+                if (System.currentTimeMillis() - lastReplayAt >= properties.getReplayIntervalMs()) {
+                    lastReplayAt = System.currentTimeMillis();
+                    replaySpilled();
+                }
+            } catch (InterruptedException e) {
+                // 종료 중 - 모으던 배치는 여기서 기록하고 버퍼에 남은 로그는 stop() 에서 기록
+                // (인터럽트 상태는 예외와 함께 해제되어 DB/디스크 기록이 중단되지 않음)
+                try {
+                    flush(batch);
+                } finally {
+                    batch.clear();
+                }
+                break;
+            } catch (RuntimeException e) {
+                log.error("감사 로그 기록 스레드 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 첫 로그 이후 flush-interval-ms 가 지나거나 batch-size 건이 찰 때까지 모음
+     */
+    private void collect(List<TransactionLog> batch) throws InterruptedException {
+        int batchSize = properties.getBatchSize();
+        long flushAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = flushAt - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            TransactionLog next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<TransactionLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            insert(batch);
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException | IllegalStateException e) {
+            log.warn("감사 로그 DB 기록 실패, 디스크로 기록 - 건수: {}, 오류: {}", batch.size(), e.getMessage());
+            spill(batch);
+        }
+    }
+
+    private void insert(List<TransactionLog> batch) {
+        InsertStatement statement = insertStatement();
+        jdbcTemplate.batchUpdate(statement.sql(), batch, batch.size(), (ps, entry) -> bind(ps, entry, statement));
+    }
+
+    private InsertStatement insertStatement() {
+        InsertStatement statement = insertStatement;
+        if (statement == null) {
+            String productName;
+            try {
+                productName = JdbcUtils.extractDatabaseMetaData(
+                        Objects.requireNonNull(jdbcTemplate.getDataSource()), DatabaseMetaData::getDatabaseProductName);
+            } catch (MetaDataAccessException e) {
+                throw new DataAccessResourceFailureException("감사 로그 DB 종류 확인 실패", e);
+            }
+            statement = insertStatement(productName, properties.getIdExpression());
+            insertStatement = statement;
+            log.info("감사 로그 insert 문 결정 - DB: {}, SQL: {}", productName, statement.sql());
+        }
+        return statement;
+    }
+
+    /**
+     * DB 종류별 insert 문 (PK 는 시퀀스 식으로 insert 문 안에서 생성, idempotency_key 가 이미 있으면 무시)
+     *
+     * @param databaseProductName JDBC 메타데이터의 DB 제품명
+     * @param idExpression        PK 생성 식 (비어 있으면 DB 종류별 기본값)
+     */
+    static InsertStatement insertStatement(String databaseProductName, String idExpression) {
+        String product = databaseProductName.toLowerCase(Locale.ROOT);
+        String columns = " (api_tran_id, " + INSERT_COLUMNS + ")";
+        boolean hasIdExpression = idExpression != null && !idExpression.isBlank();
+
+        if (product.contains("oracle")) {
+            String id = hasIdExpression ? idExpression : "TRANSACTION_SEQ.NEXTVAL";
+            return new InsertStatement("INSERT /*+ IGNORE_ROW_ON_DUPKEY_INDEX(" + TABLE
+                    + ", uk_auth_tran_log_idempotency_key) */ INTO " + TABLE + columns
+                    + " VALUES (" + id + VALUE_PLACEHOLDERS + ")", false);
+        }
+        if (product.contains("postgresql")) {
+            String id = hasIdExpression ? idExpression : "nextval('transaction_seq')";
+            return new InsertStatement("INSERT INTO " + TABLE + columns + " VALUES (" + id + VALUE_PLACEHOLDERS
+                    + ") ON CONFLICT (idempotency_key) DO NOTHING", false);
+        }
+        if (product.contains("h2")) {
+            String id = hasIdExpression ? idExpression : "NEXT VALUE FOR TRANSACTION_SEQ";
+            return new InsertStatement("INSERT INTO " + TABLE + columns + " SELECT " + id + VALUE_PLACEHOLDERS
+                    + " WHERE NOT EXISTS (SELECT 1 FROM " + TABLE + " WHERE idempotency_key = ?)", true);
+        }
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            // 시퀀스가 없어 PK 생성 식을 직접 지정해야 함 (예: AUTO_INCREMENT 컬럼이면 NULL)
+            if (!hasIdExpression) {
+                throw new IllegalStateException(
+                        "MySQL 에서는 openbanking.audit.id-expression 으로 감사 로그 PK 생성 식을 지정해야 합니다.");
+            }
+            return new InsertStatement("INSERT INTO " + TABLE + columns + " VALUES (" + idExpression
+                    + VALUE_PLACEHOLDERS + ") ON DUPLICATE KEY UPDATE idempotency_key = idempotency_key", false);
+        }
+        throw new IllegalStateException("감사 로그 기록을 지원하지 않는 DB 입니다: " + databaseProductName);
+    }
+
+    private void bind(PreparedStatement ps, TransactionLog entry, InsertStatement statement) throws SQLException {
+        ps.setString(1, entry.getFintechUseNum());
+        ps.setBigDecimal(2, entry.getTranAmt());
+        ps.setString(3, entry.getWdBankCodeStd());
+        ps.setString(4, entry.getWdAccountNumMasked());
+        ps.setString(5, entry.getWdPrintContent());
+        ps.setString(6, entry.getReqClientName());
+        ps.setString(7, entry.getReqClientFintechUseNum());
+        ps.setString(8, entry.getReqClientNum());
+        ps.setString(9, entry.getTransferPurpose());
+        ps.setString(10, entry.getApiType());
+        ps.setString(11, entry.getResponseCode());
+        ps.setString(12, entry.getResponseMessage());
+        ps.setString(13, entry.getBankTranId());
+        ps.setString(14, entry.getBankTranDate());
+        ps.setString(15, entry.getBankCodeTran());
+        ps.setString(16, entry.getBankRspCode());
+        ps.setString(17, entry.getBankRspMessage());
+        ps.setTimestamp(18, Timestamp.valueOf(entry.getCreatedAt()));
+        ps.setTimestamp(19, Timestamp.valueOf(entry.getUpdatedAt()));
+        ps.setString(20, entry.getIdempotencyKey());
+        if (statement.keyCheckParameter()) {
+            ps.setString(21, entry.getIdempotencyKey());
+        }
+    }
+
+    private void spill(List<TransactionLog> entries) {
+        synchronized (spillLock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(spillDirectory.resolve(SPILL_FILE), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (TransactionLog entry : entries) {
+                    writer.write(objectMapper.writeValueAsString(entry));
+                    writer.newLine();
+                }
+                spilledCounter.increment(entries.size());
+            } catch (IOException e) {
+                droppedCounter.increment(entries.size());
+                log.error("감사 로그 디스크 기록 실패, 로그 유실 - 건수: {}, 오류: {}", entries.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 디스크에 쌓인 로그를 DB 로 재적재
+     * - 기록 중인 파일을 재적재용 파일로 넘긴 뒤 배치 단위로 insert, 실패하면 남은 줄만 파일에 유지
+     */
+    private void replaySpilled() {
+        Path spillFile = spillDirectory.resolve(SPILL_FILE);
+        synchronized (spillLock) {
+            if (Files.exists(spillFile)) {
+                try {
+                    Files.move(spillFile, spillDirectory.resolve(REPLAY_FILE_PREFIX + System.currentTimeMillis() + ".jsonl"),
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    log.warn("감사 로그 재적재 파일 준비 실패: {}", e.getMessage());
+                    return;
+                }
+            }
+        }
+
+        List<Path> replayFiles = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spillDirectory, REPLAY_FILE_PREFIX + "*.jsonl")) {
+            files.forEach(replayFiles::add);
+        } catch (IOException e) {
+            log.warn("감사 로그 재적재 파일 조회 실패: {}", e.getMessage());
+            return;
+        }
+        replayFiles.sort(null);
+
+        for (Path file : replayFiles) {
+            if (!replay(file)) {
+                return;
+            }
+        }
+    }
+
+    private boolean replay(Path file) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("감사 로그 재적재 파일 읽기 실패 - file: {}, 오류: {}", file, e.getMessage());
+            return false;
+        }
+
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < lines.size(); from += batchSize) {
+            List<String> chunk = lines.subList(from, Math.min(from + batchSize, lines.size()));
+            List<TransactionLog> entries = new ArrayList<>(chunk.size());
+            for (String line : chunk) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    entries.add(objectMapper.readValue(line, TransactionLog.class));
+                } catch (IOException e) {
+                    droppedCounter.increment();
+                    log.error("감사 로그 재적재 파싱 실패, 해당 줄 제외 - file: {}, 오류: {}", file, e.getMessage());
+                }
+            }
+
+            try {
+                if (!entries.isEmpty()) {
+                    insert(entries);
+                    writtenCounter.increment(entries.size());
+                }
+            } catch (DataAccessException | IllegalStateException e) {
+                // 이미 적재한 줄은 제외하고 남은 줄만 보관 (남은 줄 중 이미 커밋된 행은 재적재 때 중복 키로 무시됨)
+                try {
+                    Files.write(file, lines.subList(from, lines.size()), StandardCharsets.UTF_8,
+                            StandardOpenOption.TRUNCATE_EXISTING);
+                } catch (IOException ioe) {
+                    log.error("감사 로그 재적재 파일 갱신 실패 - file: {}, 오류: {}", file, ioe.getMessage());
+                }
+                log.warn("감사 로그 재적재 실패, 다음 주기에 재시도 - file: {}, 오류: {}", file, e.getMessage());
+                return false;
+            }
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("감사 로그 재적재 파일 삭제 실패 - file: {}, 오류: {}", file, e.getMessage());
+        }
+        log.info("감사 로그 재적재 완료 - file: {}, 건수: {}", file.getFileName(), lines.size());
+        return true;
+    }
+
+    /**
+     * @param sql               배치 insert 문
+     * @param keyCheckParameter 중복 확인용 idempotency_key 파라미터(21번)가 더 있는지
+     */
+    record InsertStatement(String sql, boolean keyCheckParameter) {
+    }
+
+    private static Counter auditCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("openbanking.audit.records")
+                .description("감사 로그 처리 건수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
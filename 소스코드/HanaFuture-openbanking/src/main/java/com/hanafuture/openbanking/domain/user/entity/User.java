@@ -1,5 +1,6 @@
 package com.hanafuture.openbanking.domain.user.entity;
 
+import com.hanafuture.openbanking.global.cache.RoutingCacheInvalidationListener;
 import com.hanafuture.openbanking.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -10,6 +11,7 @@ import lombok.experimental.SuperBuilder;
 
 @Entity
 @Table(name = "auth_user")
+@EntityListeners(RoutingCacheInvalidationListener.class)
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -0,0 +1,117 @@
+package com.hanafuture.openbanking.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanafuture.openbanking.domain.bank.dto.BankRoute;
+import com.hanafuture.openbanking.domain.bank.repository.BankCodeRepository;
+import com.hanafuture.openbanking.domain.user.entity.User;
+import com.hanafuture.openbanking.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 중계 API 라우팅 캐시 (read-through)
+ * - bankCodeStd → 기관 endpoint, userSeqNo → userCi
+ * - 조회 실패(존재하지 않는 키)는 캐시하지 않음
+ * - User/BankCode 변경 시 RoutingCacheInvalidationListener 가 해당 항목을 무효화
+ */
+@Component
+@Slf4j
+public class RoutingCache {
+
+    private static final String ALL_BANKS_KEY = "ALL";
+
+    private final BankCodeRepository bankCodeRepository;
+    private final UserRepository userRepository;
+
+    private final Cache<String, BankRoute> banks;
+    private final Cache<String, List<BankRoute>> bankLists;
+    private final Cache<String, String> userCis;
+
+    public RoutingCache(BankCodeRepository bankCodeRepository,
+                        UserRepository userRepository,
+                        RoutingCacheProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.bankCodeRepository = bankCodeRepository;
+        this.userRepository = userRepository;
+
+        this.banks = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(properties.getBankTtlSeconds()))
+                .maximumSize(properties.getBankMaxSize())
+                .recordStats()
+                .build();
+        this.bankLists = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(properties.getBankTtlSeconds()))
+                .maximumSize(1)
+                .recordStats()
+                .build();
+        this.userCis = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(properties.getUserTtlSeconds()))
+                .maximumSize(properties.getUserMaxSize())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, banks, "routing.bank");
+        CaffeineCacheMetrics.monitor(meterRegistry, bankLists, "routing.bank.list");
+        CaffeineCacheMetrics.monitor(meterRegistry, userCis, "routing.user");
+    }
+
+    /**
+     * 기관 라우팅 정보 조회
+     */
+    public Optional<BankRoute> getBank(String bankCodeStd) {
+        if (bankCodeStd == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(banks.get(bankCodeStd,
+                key -> bankCodeRepository.findById(key).map(BankRoute::of).orElse(null)));
+    }
+
+    /**
+     * 등록된 전체 기관 라우팅 정보 조회
+     */
+    public List<BankRoute> getAllBanks() {
+        return bankLists.get(ALL_BANKS_KEY, key -> bankCodeRepository.findAll().stream()
+                .map(BankRoute::of)
+                .toList());
+    }
+
+    /**
+     * userSeqNo 로 userCi 조회
+     */
+    public Optional<String> getUserCi(String userSeqNo) {
+        if (userSeqNo == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(userCis.get(userSeqNo,
+                key -> userRepository.findById(key).map(User::getUserCi).orElse(null)));
+    }
+
+    public void invalidateBank(String bankCodeStd) {
+        if (bankCodeStd != null) {
+            banks.invalidate(bankCodeStd);
+        }
+        bankLists.invalidateAll();
+        log.debug("라우팅 캐시 무효화 - bankCodeStd: {}", bankCodeStd);
+    }
+
+    public void invalidateUser(String userSeqNo) {
+        if (userSeqNo != null) {
+            userCis.invalidate(userSeqNo);
+        }
+        log.debug("라우팅 캐시 무효화 - userSeqNo: {}", userSeqNo);
+    }
+
+    public void invalidateAll() {
+        banks.invalidateAll();
+        bankLists.invalidateAll();
+        userCis.invalidateAll();
+        log.info("라우팅 캐시 전체 무효화");
+    }
+}
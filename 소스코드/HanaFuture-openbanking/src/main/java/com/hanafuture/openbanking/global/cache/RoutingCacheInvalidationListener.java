@@ -0,0 +1,38 @@
+package com.hanafuture.openbanking.global.cache;
+
+import com.hanafuture.openbanking.domain.bank.entity.BankCode;
+import com.hanafuture.openbanking.domain.user.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * User/BankCode 변경 시 라우팅 캐시 무효화
+ * - Hibernate 가 Spring 빈으로 생성하므로 RoutingCache 는 지연 조회 (EntityManagerFactory 순환 참조 방지)
+ */
+@Component
+public class RoutingCacheInvalidationListener {
+
+    private final ObjectProvider<RoutingCache> routingCache;
+
+    public RoutingCacheInvalidationListener(ObjectProvider<RoutingCache> routingCache) {
+        this.routingCache = routingCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        RoutingCache cache = routingCache.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+        if (entity instanceof User user) {
+            cache.invalidateUser(user.getUserSeqNo());
+        } else if (entity instanceof BankCode bankCode) {
+            cache.invalidateBank(bankCode.getBankCodeStd());
+        }
+    }
+}
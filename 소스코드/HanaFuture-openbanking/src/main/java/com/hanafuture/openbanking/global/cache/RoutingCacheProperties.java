@@ -0,0 +1,23 @@
+package com.hanafuture.openbanking.global.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 라우팅 캐시 설정 (기관 endpoint, userSeqNo → userCi)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openbanking.routing-cache")
+public class RoutingCacheProperties {
+
+    // 기관 정보는 거의 바뀌지 않으므로 길게 유지
+    private long bankTtlSeconds = 600;
+    private long bankMaxSize = 1_000;
+
+    private long userTtlSeconds = 300;
+    private long userMaxSize = 100_000;
+}
@@ -0,0 +1,51 @@
+package com.hanafuture.openbanking.global.config;
+
+import com.hanafuture.openbanking.domain.account.config.AccountInquiryProperties;
+import com.hanafuture.openbanking.domain.account.config.IrpTransferProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 처리 설정
+ * - 계좌통합조회 기관별 동시 호출용
+ * - IRP 실물이전 입금/환입 단계 처리용
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig {
+
+    private final AccountInquiryProperties inquiryProperties;
+    private final IrpTransferProperties irpTransferProperties;
+
+    @Bean(name = "bankInquiryExecutor")
+    public ThreadPoolTaskExecutor bankInquiryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(inquiryProperties.getCorePoolSize());
+        executor.setMaxPoolSize(inquiryProperties.getMaxPoolSize());
+        executor.setQueueCapacity(inquiryProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("Bank-Inquiry-");
+        // 큐가 가득 차면 요청 스레드에서 대기하지 않고 해당 기관을 실패 처리
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "irpTransferExecutor")
+    public ThreadPoolTaskExecutor irpTransferExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(irpTransferProperties.getCorePoolSize());
+        executor.setMaxPoolSize(irpTransferProperties.getMaxPoolSize());
+        executor.setQueueCapacity(irpTransferProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("Irp-Transfer-");
+        // 거부된 단계는 saga 테이블에 남아 있으므로 복구 스위퍼가 다시 처리
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,91 @@
+package com.hanafuture.openbanking.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 기관 호출용 HTTP 클라이언트 설정
+ * - 기본값은 모든 기관에 적용되며, banks.{bankCodeStd} 로 기관별 재정의 가능
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openbanking.http-client")
+public class HttpClientProperties {
+
+    private Pool defaults = new Pool();
+
+    // 기관 코드별 재정의 (지정한 항목만 덮어씀)
+    private Map<String, Pool> banks = new HashMap<>();
+
+    public Pool resolve(String bankCodeStd) {
+        Pool override = banks.get(bankCodeStd);
+        return override == null ? defaults : defaults.merge(override);
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private Integer maxConnections;
+        private Integer connectTimeoutMs;
+        private Integer readTimeoutMs;
+        private Integer connectionRequestTimeoutMs;
+        private Integer idleTimeoutMs;
+        private Integer keepAliveMs;
+
+        public Pool() {
+        }
+
+        private Pool(Integer maxConnections, Integer connectTimeoutMs, Integer readTimeoutMs,
+                     Integer connectionRequestTimeoutMs, Integer idleTimeoutMs, Integer keepAliveMs) {
+            this.maxConnections = maxConnections;
+            this.connectTimeoutMs = connectTimeoutMs;
+            this.readTimeoutMs = readTimeoutMs;
+            this.connectionRequestTimeoutMs = connectionRequestTimeoutMs;
+            this.idleTimeoutMs = idleTimeoutMs;
+            this.keepAliveMs = keepAliveMs;
+        }
+
+        public int maxConnectionsOrDefault() {
+            return maxConnections != null ? maxConnections : 50;
+        }
+
+        public int connectTimeoutMsOrDefault() {
+            return connectTimeoutMs != null ? connectTimeoutMs : 2000;
+        }
+
+        public int readTimeoutMsOrDefault() {
+            return readTimeoutMs != null ? readTimeoutMs : 5000;
+        }
+
+        // 풀에서 커넥션을 얻기까지 대기 한도 (풀 포화 시 빠르게 실패)
+        public int connectionRequestTimeoutMsOrDefault() {
+            return connectionRequestTimeoutMs != null ? connectionRequestTimeoutMs : 1000;
+        }
+
+        public int idleTimeoutMsOrDefault() {
+            return idleTimeoutMs != null ? idleTimeoutMs : 30000;
+        }
+
+        // 서버가 Keep-Alive 헤더를 주지 않을 때 커넥션 재사용 기간
+        public int keepAliveMsOrDefault() {
+            return keepAliveMs != null ? keepAliveMs : 30000;
+        }
+
+        Pool merge(Pool override) {
+            return new Pool(
+                    override.maxConnections != null ? override.maxConnections : maxConnections,
+                    override.connectTimeoutMs != null ? override.connectTimeoutMs : connectTimeoutMs,
+                    override.readTimeoutMs != null ? override.readTimeoutMs : readTimeoutMs,
+                    override.connectionRequestTimeoutMs != null ? override.connectionRequestTimeoutMs : connectionRequestTimeoutMs,
+                    override.idleTimeoutMs != null ? override.idleTimeoutMs : idleTimeoutMs,
+                    override.keepAliveMs != null ? override.keepAliveMs : keepAliveMs
+            );
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.hanafuture.openbanking.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기관별 서킷브레이커/벌크헤드 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openbanking.resilience")
+public class ResilienceProperties {
+
+    // 서킷브레이커
+    private float failureRateThreshold = 50;
+    private float slowCallRateThreshold = 80;
+    private long slowCallDurationMs = 3000;
+    private int slidingWindowSize = 20;
+    private int minimumNumberOfCalls = 10;
+    private long waitDurationInOpenStateMs = 10000;
+    private int permittedCallsInHalfOpenState = 3;
+
+    // 벌크헤드 (기관별 동시 호출 한도, 대기 없이 즉시 실패)
+    private int maxConcurrentCalls = 20;
+    private long maxWaitMs = 0;
+}
@@ -1,5 +1,6 @@
 package com.hanafuture.openbanking.global.config;
 
+import com.hanafuture.openbanking.global.http.BankHttpClientRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -7,8 +8,9 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class RestTemplateConfig {
     
+    // 기관 구분이 없는 호출용 공용 풀 (기관 호출은 BankHttpClientRegistry.forBank 사용)
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(BankHttpClientRegistry bankHttpClientRegistry) {
+        return bankHttpClientRegistry.shared();
     }
-} 
\ No newline at end of file
+}
@@ -1,16 +1,33 @@
 package com.hanafuture.openbanking.global.exception;
 
+import com.hanafuture.openbanking.global.config.ResilienceProperties;
+import com.hanafuture.openbanking.global.dto.ApiResponse;
 import com.hanafuture.openbanking.global.dto.ErrorResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
+
+    private final ResilienceProperties resilienceProperties;
     
+    @ExceptionHandler(RequestValidationException.class)
+    public ResponseEntity<ErrorResponse> handleRequestValidationException(RequestValidationException e) {
+        log.warn("RequestValidationException occurred: [{}] {}", e.getErrorCode().getCode(), e.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code(e.getErrorCode().getCode())
+                .message(e.getMessage())
+                .build();
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
         log.error("IllegalArgumentException occurred: {}", e.getMessage());
@@ -21,6 +38,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
     
+    /**
+     * 기관 호출 차단 - 컨트롤러와 같은 ApiResponse 형식으로 503 응답
+     * - Retry-After: 서킷 차단이면 open 상태 유지 시간, 동시 호출 한도 초과면 1초
+     */
+    @ExceptionHandler(InstitutionUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInstitutionUnavailableException(InstitutionUnavailableException e) {
+        log.warn("InstitutionUnavailableException occurred: [{}] {}", e.getReason(), e.getMessage());
+        long retryAfterSeconds = InstitutionUnavailableException.CIRCUIT_OPEN.equals(e.getReason())
+                ? Math.max(1, (resilienceProperties.getWaitDurationInOpenStateMs() + 999) / 1000)
+                : 1;
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.error(e.getMessage()));
+    }
+    
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e) {
         log.error("RuntimeException occurred: {}", e.getMessage(), e);
@@ -0,0 +1,23 @@
+package com.hanafuture.openbanking.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 외부 기관 호출 차단 예외
+ * - 서킷브레이커가 열려 있거나 기관별 동시 호출 한도를 넘은 경우 호출 없이 즉시 실패
+ */
+@Getter
+public class InstitutionUnavailableException extends RuntimeException {
+
+    public static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+    public static final String BULKHEAD_FULL = "BULKHEAD_FULL";
+
+    private final String institution;
+    private final String reason;
+
+    public InstitutionUnavailableException(String institution, String reason, String message) {
+        super(message);
+        this.institution = institution;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,21 @@
+package com.hanafuture.openbanking.global.exception;
+
+import com.hanafuture.openbanking.global.validation.ValidationErrorCode;
+import lombok.Getter;
+
+/**
+ * 요청 검증 실패 예외
+ * - IllegalArgumentException 을 상속하여 기존 컨트롤러의 400 응답 처리를 그대로 사용
+ */
+@Getter
+public class RequestValidationException extends IllegalArgumentException {
+
+    private final ValidationErrorCode errorCode;
+    private final String field;
+
+    public RequestValidationException(ValidationErrorCode errorCode, String field, String message) {
+        super(message);
+        this.errorCode = errorCode;
+        this.field = field;
+    }
+}
@@ -0,0 +1,47 @@
+package com.hanafuture.openbanking.global.http;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 실행하는 외부 기관 호출의 마감 시각
+ * - CompletableFuture 타임아웃은 블로킹 중인 RestTemplate 호출을 멈추지 못하므로,
+ *   마감 시각이 있으면 BankHttpClientRegistry 가 응답/커넥션 대기 타임아웃을 남은 시간으로 줄임
+ * - 마감이 지나면 소켓 읽기도 끝나 호출 스레드가 풀로 돌아감
+ */
+public final class BankCallDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private BankCallDeadline() {
+    }
+
+    /**
+     * 마감 시각(System.nanoTime 기준)을 걸고 호출 실행
+     */
+    public static <T> T callWithin(long deadlineNanos, Supplier<T> call) {
+        Long previous = DEADLINE_NANOS.get();
+        DEADLINE_NANOS.set(deadlineNanos);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                DEADLINE_NANOS.set(previous);
+            } else {
+                DEADLINE_NANOS.remove();
+            }
+        }
+    }
+
+    /**
+     * 마감까지 남은 시간 (ms, 이미 지났으면 1) - 마감 시각이 없으면 빈 값
+     */
+    public static OptionalLong remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+    }
+}
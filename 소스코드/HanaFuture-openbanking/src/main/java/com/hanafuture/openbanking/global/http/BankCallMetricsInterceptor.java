@@ -0,0 +1,111 @@
+package com.hanafuture.openbanking.global.http;
+
+import com.hanafuture.openbanking.global.exception.InstitutionUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 기관 호출 지연시간 측정
+ * - openbanking.bank.client.requests{bank, endpoint, method, status} 히스토그램으로 기록
+ */
+public class BankCallMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String METRIC_NAME = "openbanking.bank.client.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final String bank;
+
+    public BankCallMetricsInterceptor(MeterRegistry meterRegistry, String bank) {
+        this.meterRegistry = meterRegistry;
+        this.bank = bank;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } catch (InstitutionUnavailableException e) {
+            status = e.getReason();
+            throw e;
+        } finally {
+            Timer.builder(METRIC_NAME)
+                    .description("외부 기관 API 호출 지연시간")
+                    .tag("bank", bank)
+                    .tag("endpoint", normalizePath(request.getURI().getPath()))
+                    .tag("method", request.getMethod().name())
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 경로에 포함된 계좌번호 등 식별자 구간을 치환하여 태그 카디널리티를 제한
+     * - 숫자(와 '-')로만 된 구간과 UUID 만 치환하고 /api/v1 같은 고정 구간은 유지
+     */
+    static String normalizePath(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        StringBuilder normalized = new StringBuilder(path.length());
+        int segmentStart = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/') {
+                if (i > segmentStart) {
+                    normalized.append(isIdentifier(path, segmentStart, i) ? "{var}" : path.substring(segmentStart, i));
+                }
+                if (i < path.length()) {
+                    normalized.append('/');
+                }
+                segmentStart = i + 1;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isIdentifier(String path, int from, int to) {
+        return isNumeric(path, from, to) || isUuid(path, from, to);
+    }
+
+    // 계좌번호/거래번호 (예: 110555888999, 110-555-888999)
+    private static boolean isNumeric(String path, int from, int to) {
+        boolean digit = false;
+        for (int i = from; i < to; i++) {
+            char c = path.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c != '-') {
+                return false;
+            }
+        }
+        return digit;
+    }
+
+    // 8-4-4-4-12 형식의 16진수
+    private static boolean isUuid(String path, int from, int to) {
+        if (to - from != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = path.charAt(from + i);
+            boolean hyphen = i == 8 || i == 13 || i == 18 || i == 23;
+            if (hyphen ? c != '-' : Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
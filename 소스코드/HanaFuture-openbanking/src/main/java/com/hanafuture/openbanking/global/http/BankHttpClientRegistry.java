@@ -0,0 +1,199 @@
+package com.hanafuture.openbanking.global.http;
+
+import com.hanafuture.openbanking.global.config.HttpClientProperties;
+import com.hanafuture.openbanking.global.config.ResilienceProperties;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기관별 HTTP 클라이언트 레지스트리
+ * - 기관(bankCodeStd)마다 독립된 커넥션 풀을 두어 느린 기관이 다른 기관의 커넥션을 점유하지 않도록 함
+ * - 풀 상태는 httpcomponents.httpclient.pool.* 메트릭으로 actuator 에 노출
+ * - 기관별 서킷브레이커/벌크헤드 상태는 actuator circuitbreakers, bulkheads 엔드포인트로 노출
+ * - 공용 풀은 기관별 풀 목록과 따로 보관하고 기본 설정(defaults)만 사용 - 기관 코드로 공용 풀을 가져오거나 덮어쓸 수 없음
+ */
+@Component
+@Slf4j
+public class BankHttpClientRegistry implements DisposableBean {
+
+    // 기관 이외 호출(하나은행 목업 서버 등)에 사용하는 공용 풀 이름
+    public static final String SHARED_POOL = "shared";
+
+    private final HttpClientProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final CircuitBreakerConfig circuitBreakerConfig;
+    private final BulkheadConfig bulkheadConfig;
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+    private volatile PooledClient sharedClient;
+
+    public BankHttpClientRegistry(HttpClientProperties properties,
+                                  ResilienceProperties resilienceProperties,
+                                  MeterRegistry meterRegistry,
+                                  CircuitBreakerRegistry circuitBreakerRegistry,
+                                  BulkheadRegistry bulkheadRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .failureRateThreshold(resilienceProperties.getFailureRateThreshold())
+                .slowCallRateThreshold(resilienceProperties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(Duration.ofMillis(resilienceProperties.getSlowCallDurationMs()))
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(resilienceProperties.getSlidingWindowSize())
+                .minimumNumberOfCalls(resilienceProperties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(Duration.ofMillis(resilienceProperties.getWaitDurationInOpenStateMs()))
+                .permittedNumberOfCallsInHalfOpenState(resilienceProperties.getPermittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build();
+        this.bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(resilienceProperties.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ofMillis(resilienceProperties.getMaxWaitMs()))
+                .build();
+    }
+
+    /**
+     * 기관 전용 RestTemplate 조회 (최초 요청 시 풀 생성)
+     */
+    public RestTemplate forBank(String bankCodeStd) {
+        if (SHARED_POOL.equals(bankCodeStd)) {
+            throw new IllegalArgumentException("공용 풀 이름은 기관 코드로 사용할 수 없습니다: " + bankCodeStd);
+        }
+        return clients.computeIfAbsent(bankCodeStd, code -> createClient(code, properties.resolve(code))).restTemplate();
+    }
+
+    /**
+     * 공용 RestTemplate 조회 (최초 요청 시 풀 생성)
+     */
+    public RestTemplate shared() {
+        PooledClient client = sharedClient;
+        if (client == null) {
+            synchronized (this) {
+                client = sharedClient;
+                if (client == null) {
+                    client = createClient(SHARED_POOL, properties.getDefaults());
+                    sharedClient = client;
+                }
+            }
+        }
+        return client.restTemplate();
+    }
+
+    private PooledClient createClient(String poolName, HttpClientProperties.Pool pool) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.maxConnectionsOrDefault())
+                .setMaxConnPerRoute(pool.maxConnectionsOrDefault())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(pool.connectTimeoutMsOrDefault()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(pool.readTimeoutMsOrDefault()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        TimeValue defaultKeepAlive = TimeValue.ofMilliseconds(pool.keepAliveMsOrDefault());
+        RequestConfig defaultRequestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(pool.connectionRequestTimeoutMsOrDefault()))
+                .setResponseTimeout(Timeout.ofMilliseconds(pool.readTimeoutMsOrDefault()))
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(defaultRequestConfig)
+                // 서버가 Keep-Alive 헤더를 주면 그 값을, 없으면 설정값을 사용
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue fromHeader = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(fromHeader) && fromHeader.compareTo(defaultKeepAlive) < 0
+                            ? fromHeader : defaultKeepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pool.idleTimeoutMsOrDefault()))
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, poolName)
+                .bindTo(meterRegistry);
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> deadlineContext(pool));
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        // 차단된 호출도 지연시간 메트릭에 남도록 metrics → resilience 순으로 적용
+        restTemplate.getInterceptors().add(new BankCallMetricsInterceptor(meterRegistry, poolName));
+        restTemplate.getInterceptors().add(new BankResilienceInterceptor(
+                poolName,
+                circuitBreakerRegistry.circuitBreaker(poolName, circuitBreakerConfig),
+                bulkheadRegistry.bulkhead(poolName, bulkheadConfig)));
+
+        log.info("외부 기관 HTTP 커넥션 풀 생성 - pool: {}, maxConnections: {}, connectTimeout: {}ms, readTimeout: {}ms",
+                poolName, pool.maxConnectionsOrDefault(), pool.connectTimeoutMsOrDefault(), pool.readTimeoutMsOrDefault());
+
+        return new PooledClient(httpClient, restTemplate);
+    }
+
+    /**
+     * 호출 스레드에 마감 시각(BankCallDeadline)이 있으면 응답/커넥션 대기 타임아웃을 남은 시간 이하로 줄인 컨텍스트
+     * (없으면 null - 기본 RequestConfig 사용)
+     */
+    private HttpContext deadlineContext(HttpClientProperties.Pool pool) {
+        OptionalLong remaining = BankCallDeadline.remainingMillis();
+        if (remaining.isEmpty()) {
+            return null;
+        }
+        long remainingMs = remaining.getAsLong();
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(
+                        Math.min(pool.connectionRequestTimeoutMsOrDefault(), remainingMs)))
+                .setResponseTimeout(Timeout.ofMilliseconds(Math.min(pool.readTimeoutMsOrDefault(), remainingMs)))
+                .build());
+        return context;
+    }
+
+    @Override
+    public void destroy() {
+        clients.forEach(this::close);
+        clients.clear();
+        PooledClient shared = sharedClient;
+        if (shared != null) {
+            close(SHARED_POOL, shared);
+            sharedClient = null;
+        }
+    }
+
+    private void close(String poolName, PooledClient client) {
+        try {
+            client.httpClient().close();
+        } catch (IOException e) {
+            log.warn("HTTP 커넥션 풀 종료 실패 - pool: {}, 오류: {}", poolName, e.getMessage());
+        }
+    }
+
+    private record PooledClient(CloseableHttpClient httpClient, RestTemplate restTemplate) {
+    }
+}
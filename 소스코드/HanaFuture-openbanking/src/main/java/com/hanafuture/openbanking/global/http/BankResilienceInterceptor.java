@@ -0,0 +1,182 @@
+package com.hanafuture.openbanking.global.http;
+
+import com.hanafuture.openbanking.global.exception.InstitutionUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기관별 서킷브레이커 + 벌크헤드
+ * - 벌크헤드: 기관별 동시 호출 수 제한 (초과 시 대기 없이 실패)
+ * - 서킷브레이커: 실패율/지연 호출 비율이 임계치를 넘으면 일정 시간 호출 차단 후 half-open 으로 재시도
+ * - 5xx 응답과 I/O 오류(본문 읽기 포함)를 실패로 집계
+ * - 벌크헤드 반환과 결과 집계는 응답 본문을 다 읽고 응답을 닫을 때 수행 (느린 본문 읽기도 동시 호출 수/지연에 포함)
+ */
+public class BankResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String institution;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public BankResilienceInterceptor(String institution, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.institution = institution;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+
+        if (!bulkhead.tryAcquirePermission()) {
+            throw new InstitutionUnavailableException(institution, InstitutionUnavailableException.BULKHEAD_FULL,
+                    "외부 기관 동시 호출 한도를 초과했습니다. 기관: " + institution);
+        }
+
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (CallNotPermittedException e) {
+            bulkhead.onComplete();
+            throw new InstitutionUnavailableException(institution, InstitutionUnavailableException.CIRCUIT_OPEN,
+                    "외부 기관 장애로 호출이 일시 차단되었습니다. 기관: " + institution);
+        }
+
+        long start = circuitBreaker.getCurrentTimestamp();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+            bulkhead.onComplete();
+            throw e;
+        }
+
+        GuardedResponse guarded = new GuardedResponse(response, start);
+        try {
+            if (response.getStatusCode().is5xxServerError()) {
+                guarded.failure = new IOException("외부 기관 서버 오류 응답: " + response.getStatusCode().value());
+            }
+        } catch (IOException | RuntimeException e) {
+            guarded.failure = e;
+            guarded.close();
+            throw e;
+        }
+        return guarded;
+    }
+
+    /**
+     * 응답을 닫을 때 한 번만 결과를 집계하고 벌크헤드를 반환하는 응답 래퍼
+     */
+    private final class GuardedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final long start;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile Throwable failure;
+        private InputStream body;
+
+        private GuardedResponse(ClientHttpResponse delegate, long start) {
+            this.delegate = delegate;
+            this.start = start;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                try {
+                    body = new FailureRecordingInputStream(delegate.getBody());
+                } catch (IOException | RuntimeException e) {
+                    failure = e;
+                    throw e;
+                }
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (completed.compareAndSet(false, true)) {
+                    long duration = circuitBreaker.getCurrentTimestamp() - start;
+                    try {
+                        if (failure != null) {
+                            circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), failure);
+                        } else {
+                            circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+                        }
+                    } finally {
+                        bulkhead.onComplete();
+                    }
+                }
+            }
+        }
+
+        /**
+         * 본문 읽기 중 I/O 오류를 실패로 기록
+         */
+        private final class FailureRecordingInputStream extends FilterInputStream {
+
+            private FailureRecordingInputStream(InputStream in) {
+                super(in);
+            }
+
+            @Override
+            public int read() throws IOException {
+                try {
+                    return super.read();
+                } catch (IOException e) {
+                    failure = e;
+                    throw e;
+                }
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                try {
+                    return super.read(b, off, len);
+                } catch (IOException e) {
+                    failure = e;
+                    throw e;
+                }
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                try {
+                    return super.skip(n);
+                } catch (IOException e) {
+                    failure = e;
+                    throw e;
+                }
+            }
+        }
+    }
+}
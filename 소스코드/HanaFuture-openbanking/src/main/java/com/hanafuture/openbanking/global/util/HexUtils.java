@@ -0,0 +1,44 @@
+package com.hanafuture.openbanking.global.util;
+
+/**
+ * 16진수 변환 유틸
+ * - 바이트마다 String.format 을 호출하지 않고 문자 테이블로 변환
+ */
+public final class HexUtils {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private HexUtils() {
+    }
+
+    /**
+     * 바이트 배열을 소문자 16진수 문자열로 변환
+     */
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 16진수 문자열(대소문자 무시)을 바이트 배열로 변환 - 형식이 잘못되면 null
+     */
+    public static byte[] fromHex(String hex) {
+        if (hex == null || (hex.length() & 1) != 0) {
+            return null;
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(i * 2), 16);
+            int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) {
+                return null;
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+}
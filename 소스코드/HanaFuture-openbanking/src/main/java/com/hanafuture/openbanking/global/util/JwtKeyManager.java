@@ -0,0 +1,204 @@
+package com.hanafuture.openbanking.global.util;
+
+import com.hanafuture.openbanking.global.config.JwtConfig;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 서명 키 관리
+ * - HMAC: 공유 시크릿(jwt.secret-key)으로 서명/검증 (기본값)
+ * - RSA: RSA 키쌍으로 서명하고 kid 헤더로 검증 키를 식별
+ *   공개키는 JWKS 로 제공되어 다른 서비스가 시크릿 공유 없이 검증 가능
+ * - RSA 키 출처
+ *   keystore 설정(jwt.rsa.keystore): 모든 인스턴스가 같은 키를 읽음 - 여러 인스턴스/재시작에도 토큰이 유효
+ *     key-aliases 의 첫 별칭으로 서명하고 나머지는 검증용 (교체는 새 별칭을 앞에 추가해 순차 재시작)
+ *   설정 없음: 인스턴스마다 키를 생성해 메모리에서 주기적으로 교체 - 단일 인스턴스 전용
+ *     (다른 인스턴스가 발급한 토큰은 kid 를 몰라 거절되고, 재시작하면 기존 토큰은 재발급 필요)
+ */
+@Component
+@Slf4j
+public class JwtKeyManager {
+
+    public enum SigningMode {
+        HMAC, RSA
+    }
+
+    private final SecretKey hmacKey;
+    private final RotatingKey hmacSigningKey;
+    private final SigningMode signingMode;
+    private final Duration rotationInterval;
+    // keystore 에서 읽은 키는 교체하지 않음
+    private final boolean externalKeys;
+
+    // kid → 서명 키 (교체된 키도 발급 토큰이 만료될 때까지 검증용으로 유지)
+    private final Map<String, RotatingKey> keys = new ConcurrentHashMap<>();
+    private volatile RotatingKey current;
+
+    public JwtKeyManager(SecretKey jwtSecretKey,
+                         @Value("${jwt.signing-mode:HMAC}") SigningMode signingMode,
+                         @Value("${jwt.key-rotation-hours:24}") long rotationHours,
+                         @Value("${jwt.rsa.keystore:}") String keystoreLocation,
+                         @Value("${jwt.rsa.keystore-password:}") String keystorePassword,
+                         @Value("${jwt.rsa.key-aliases:}") String[] keyAliases) {
+        this.hmacKey = jwtSecretKey;
+        this.hmacSigningKey = new RotatingKey(null, null, jwtSecretKey, Instant.now());
+        this.signingMode = signingMode;
+        this.rotationInterval = Duration.ofHours(rotationHours);
+        this.externalKeys = signingMode == SigningMode.RSA && !keystoreLocation.isBlank();
+        if (externalKeys) {
+            loadKeystore(keystoreLocation, keystorePassword, keyAliases);
+            log.info("JWT 서명 방식: {} (keystore, 서명 kid: {}, 검증 키 수: {})", signingMode, current.kid(), keys.size());
+        } else if (signingMode == SigningMode.RSA) {
+            log.warn("JWT 서명 방식: RSA (인스턴스별 생성 키) - 단일 인스턴스에서만 사용하세요. " +
+                    "여러 인스턴스로 운영하려면 jwt.rsa.keystore 를 설정해야 합니다.");
+        } else {
+            log.info("JWT 서명 방식: {}", signingMode);
+        }
+    }
+
+    public boolean isAsymmetric() {
+        return signingMode == SigningMode.RSA;
+    }
+
+    /**
+     * 현재 서명 키 조회 (RSA 모드에서는 교체 주기가 지나면 새 키 생성)
+     */
+    public RotatingKey currentKey() {
+        if (!isAsymmetric()) {
+            return hmacSigningKey;
+        }
+        RotatingKey key = current;
+        if (!externalKeys && (key == null || key.createdAt().plus(rotationInterval).isBefore(Instant.now()))) {
+            key = rotate();
+        }
+        return key;
+    }
+
+    /**
+     * 검증 키 조회
+     * - kid 가 없으면 HMAC 토큰으로 간주 (RSA 전환 전 발급 토큰 호환)
+     */
+    public Key verificationKey(String kid) {
+        if (kid == null) {
+            return hmacKey;
+        }
+        RotatingKey key = keys.get(kid);
+        if (key == null) {
+            throw new IllegalArgumentException("알 수 없는 서명 키입니다. kid: " + kid);
+        }
+        return key.keyPair().getPublic();
+    }
+
+    /**
+     * 검증 가능한 공개키 목록 (JWKS)
+     */
+    public Map<String, Object> publicJwks() {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (RotatingKey key : keys.values()) {
+            RSAPublicKey publicKey = (RSAPublicKey) key.keyPair().getPublic();
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("kid", key.kid());
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("n", base64Url(publicKey.getModulus()));
+            jwk.put("e", base64Url(publicKey.getPublicExponent()));
+            jwks.add(jwk);
+        }
+        return Map.of("keys", jwks);
+    }
+
+    private synchronized RotatingKey rotate() {
+        Instant now = Instant.now();
+        RotatingKey key = current;
+        if (key != null && !key.createdAt().plus(rotationInterval).isBefore(now)) {
+            return key;
+        }
+
+        KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+        RotatingKey rotated = new RotatingKey(UUID.randomUUID().toString(), keyPair, keyPair.getPrivate(), now);
+        keys.put(rotated.kid(), rotated);
+        current = rotated;
+
+        // 교체된 키로 발급된 토큰이 모두 만료되면 검증 키에서도 제거
+        Instant retainAfter = now.minus(rotationInterval).minus(JwtConfig.ACCESS_TOKEN_EXPIRY);
+        keys.values().removeIf(old -> old.createdAt().isBefore(retainAfter));
+
+        log.info("JWT RSA 서명 키 교체 - kid: {}, 검증 키 수: {}", rotated.kid(), keys.size());
+        return rotated;
+    }
+
+    /**
+     * keystore 의 별칭별 RSA 키쌍 등록 - 첫 별칭이 서명 키, kid 는 별칭
+     */
+    private void loadKeystore(String location, String password, String[] aliases) {
+        if (aliases.length == 0) {
+            throw new IllegalStateException("jwt.rsa.key-aliases 에 서명 키 별칭을 지정해야 합니다.");
+        }
+        Resource resource = new DefaultResourceLoader().getResource(location);
+        char[] secret = password.toCharArray();
+        try (InputStream in = resource.getInputStream()) {
+            KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            keyStore.load(in, secret);
+            Instant now = Instant.now();
+            for (String alias : aliases) {
+                String kid = alias.trim();
+                Key privateKey = keyStore.getKey(kid, secret);
+                Certificate certificate = keyStore.getCertificate(kid);
+                if (!(privateKey instanceof PrivateKey) || certificate == null
+                        || !(certificate.getPublicKey() instanceof RSAPublicKey)) {
+                    throw new IllegalStateException("keystore 에 RSA 키쌍이 없습니다. alias: " + kid);
+                }
+                RotatingKey key = new RotatingKey(kid,
+                        new KeyPair(certificate.getPublicKey(), (PrivateKey) privateKey), privateKey, now);
+                keys.put(kid, key);
+                if (current == null) {
+                    current = key;
+                }
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 keystore 를 읽을 수 없습니다: " + location, e);
+        }
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        // 부호 비트용 선행 0 바이트 제거 (JWK 는 부호 없는 big-endian)
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 서명 키 (HMAC 모드에서는 kid 와 keyPair 가 없음)
+     */
+    public record RotatingKey(String kid, KeyPair keyPair, Key signingKey, Instant createdAt) {
+    }
+}
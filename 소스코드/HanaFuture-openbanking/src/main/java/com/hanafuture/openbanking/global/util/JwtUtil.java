@@ -1,28 +1,66 @@
 package com.hanafuture.openbanking.global.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
 public class JwtUtil {
     
-    private final SecretKey secretKey;
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final JwtKeyManager keyManager;
+    private final JwtParser parser;
+
+    // 토큰 해시 → 검증된 Claims (토큰 exp 시점에 만료)
+    private final Cache<String, Claims> verifiedClaims;
     
     @Autowired
-    public JwtUtil(SecretKey secretKey) {
-        this.secretKey = secretKey;
+    public JwtUtil(JwtKeyManager keyManager,
+                   @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize) {
+        this.keyManager = keyManager;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keyManager.verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new ClaimsExpiry())
+                .build();
     }
     
     /**
@@ -51,7 +89,13 @@ public class JwtUtil {
         log.info("JWT Access Token 생성 중 - clientId: {}, scope: {}, expiry: {}초", 
                 clientId, scope, expiry.toSeconds());
         
-        String token = Jwts.builder()
+        JwtKeyManager.RotatingKey signingKey = keyManager.currentKey();
+        JwtBuilder builder = Jwts.builder();
+        if (signingKey.kid() != null) {
+            builder.header().keyId(signingKey.kid()).and();
+        }
+
+        String token = builder
                 .claims(claims)
                 .subject(clientId) // Client Credentials에서는 clientId를 subject로 사용
                 .issuer("https://www.openbanking.or.kr")
@@ -59,7 +103,7 @@ public class JwtUtil {
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
                 .id(UUID.randomUUID().toString())
-                .signWith(secretKey)
+                .signWith(signingKey.signingKey())
                 .compact();
         
         log.info("JWT Access Token 생성 완료 - 페이로드에 scope '{}' 포함됨", scope);
@@ -68,13 +112,27 @@ public class JwtUtil {
     
     /**
      * JWT 토큰에서 Claims 추출
+     * - 한 번 검증된 토큰은 만료 시까지 캐시된 Claims 를 재사용
      */
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        String tokenHash = hash(token);
+        Claims cached = verifiedClaims.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() != null) {
+            verifiedClaims.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * 검증 가능한 공개키 목록 (RSA 서명 모드에서만 키가 존재)
+     */
+    public Map<String, Object> publicJwks() {
+        return keyManager.publicJwks();
     }
     
     /**
@@ -119,18 +177,45 @@ public class JwtUtil {
     public void debugTokenClaims(String token) {
         try {
             Claims claims = extractClaims(token);
-            log.info("=== JWT 토큰 페이로드 디버깅 ===");
-            log.info("Subject: {}", claims.getSubject());
-            log.info("Issuer: {}", claims.getIssuer());
-            log.info("ClientId: {}", claims.get("clientId"));
-            log.info("Scope: {}", claims.get("scope"));
-            log.info("Type: {}", claims.get("type"));
-            log.info("IssuedAt: {}", claims.getIssuedAt());
-            log.info("Expiration: {}", claims.getExpiration());
-            log.info("JTI: {}", claims.getId());
-            log.info("================================");
+            log.debug("=== JWT 토큰 페이로드 디버깅 ===");
+            log.debug("Subject: {}", claims.getSubject());
+            log.debug("Issuer: {}", claims.getIssuer());
+            log.debug("ClientId: {}", claims.get("clientId"));
+            log.debug("Scope: {}", claims.get("scope"));
+            log.debug("Type: {}", claims.get("type"));
+            log.debug("IssuedAt: {}", claims.getIssuedAt());
+            log.debug("Expiration: {}", claims.getExpiration());
+            log.debug("JTI: {}", claims.getId());
+            log.debug("================================");
         } catch (Exception e) {
             log.error("JWT 토큰 디버깅 실패: {}", e.getMessage());
         }
     }
-} 
\ No newline at end of file
+
+    private static String hash(String token) {
+        byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    /**
+     * 캐시 항목 만료 시점을 토큰의 exp 로 설정
+     */
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.hanafuture.openbanking.global.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 DTO 검증기
+ * - 필드별 규칙을 생성 시점에 검사기로 변환하고 실패 결과(메시지 포함)도 미리 만들어 둠
+ * - 검증 시에는 필드마다 한 번만 값을 읽고, 문자열은 한 번의 순회로 형식/숫자/범위를 확인
+ * - 예외를 던지지 않고 첫 번째 실패 결과(오류 코드)를 반환, 정상 요청은 객체 생성 없이 VALID 반환
+ */
+public final class RequestValidator<T> {
+
+    private static final ValidationResult NULL_REQUEST =
+            ValidationResult.invalid(ValidationErrorCode.REQUIRED, "body", "요청 본문은 필수입니다.");
+
+    private final FieldCheck<T>[] checks;
+
+    private RequestValidator(FieldCheck<T>[] checks) {
+        this.checks = checks;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public ValidationResult validate(T target) {
+        if (target == null) {
+            return NULL_REQUEST;
+        }
+        for (FieldCheck<T> check : checks) {
+            ValidationResult result = check.check(target);
+            if (result != ValidationResult.VALID) {
+                return result;
+            }
+        }
+        return ValidationResult.VALID;
+    }
+
+    public static final class Builder<T> {
+
+        private final List<FieldCheck<T>> checks = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 문자열 필드 규칙 추가
+         */
+        public Builder<T> text(String field, String label, Function<T, String> getter, TextRule rule) {
+            checks.add(new TextCheck<>(field, label, getter, rule));
+            return this;
+        }
+
+        /**
+         * 정수 필드 규칙 추가
+         */
+        public Builder<T> number(String field, String label, Function<T, Integer> getter,
+                                 boolean required, int min, int max) {
+            checks.add(new NumberCheck<>(field, label, getter, required, min, max));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public RequestValidator<T> build() {
+            return new RequestValidator<>(checks.toArray(new FieldCheck[0]));
+        }
+    }
+
+    private interface FieldCheck<T> {
+        ValidationResult check(T target);
+    }
+
+    private static final class TextCheck<T> implements FieldCheck<T> {
+
+        private final Function<T, String> getter;
+        private final boolean required;
+        private final int maxLength;
+        private final int length;
+        private final char[] mask;
+        private final boolean numeric;
+        private final long min;
+        private final long max;
+        private final int amountDigits;
+        private final String[] allowed;
+        private final boolean ignoreCase;
+        private final Pattern pattern;
+
+        private final ValidationResult requiredFailure;
+        private final ValidationResult maxLengthFailure;
+        private final ValidationResult lengthFailure;
+        private final ValidationResult maskFailure;
+        private final ValidationResult notNumberFailure;
+        private final ValidationResult rangeFailure;
+        private final ValidationResult amountFailure;
+        private final ValidationResult allowedFailure;
+        private final ValidationResult patternFailure;
+
+        private TextCheck(String field, String label, Function<T, String> getter, TextRule rule) {
+            this.getter = getter;
+            this.required = rule.required;
+            this.maxLength = rule.maxLength;
+            this.length = rule.length;
+            this.mask = rule.mask != null ? rule.mask.toCharArray() : null;
+            this.numeric = rule.numeric;
+            this.min = rule.min;
+            this.max = rule.max;
+            this.amountDigits = rule.amountDigits;
+            this.allowed = rule.allowed;
+            this.ignoreCase = rule.ignoreCase;
+            this.pattern = rule.pattern;
+
+            String subject = subject(label, field);
+            this.requiredFailure = failure(ValidationErrorCode.REQUIRED, field, subject + " 필수입니다.");
+            this.maxLengthFailure = failure(ValidationErrorCode.MAX_LENGTH, field, subject + " " + maxLength + "자 이하여야 합니다.");
+            this.lengthFailure = failure(ValidationErrorCode.LENGTH, field, subject + " " + length + "자리여야 합니다.");
+            this.maskFailure = failure(ValidationErrorCode.FORMAT, field, subject + " " + rule.mask + " 형식이어야 합니다.");
+            this.notNumberFailure = failure(ValidationErrorCode.NOT_NUMBER, field, subject + " 숫자여야 합니다.");
+            this.rangeFailure = failure(ValidationErrorCode.OUT_OF_RANGE, field, subject + " " + min + "에서 " + max + " 사이여야 합니다.");
+            this.amountFailure = failure(ValidationErrorCode.OUT_OF_RANGE, field,
+                    subject + " 0보다 크고 정수부 " + amountDigits + "자리 이하(소수점 이하 2자리)인 금액이어야 합니다.");
+            this.allowedFailure = failure(ValidationErrorCode.NOT_ALLOWED, field, subject + " " + allowedText(allowed));
+            this.patternFailure = failure(ValidationErrorCode.FORMAT, field, rule.patternMessage);
+        }
+
+        @Override
+        public ValidationResult check(T target) {
+            String value = getter.apply(target);
+            if (value == null || value.isBlank()) {
+                return required ? requiredFailure : ValidationResult.VALID;
+            }
+
+            int len = value.length();
+            if (length >= 0 && len != length) {
+                return lengthFailure;
+            }
+            if (maxLength >= 0 && len > maxLength) {
+                return maxLengthFailure;
+            }
+            if (mask != null && !matchesMask(value, len)) {
+                return maskFailure;
+            }
+            if (numeric) {
+                ValidationResult result = checkRange(value, len);
+                if (result != ValidationResult.VALID) {
+                    return result;
+                }
+            }
+            if (amountDigits >= 0) {
+                ValidationResult result = checkAmount(value, len);
+                if (result != ValidationResult.VALID) {
+                    return result;
+                }
+            }
+            if (allowed != null && !isAllowed(value)) {
+                return allowedFailure;
+            }
+            if (pattern != null && !pattern.matcher(value).matches()) {
+                return patternFailure;
+            }
+            return ValidationResult.VALID;
+        }
+
+        private boolean matchesMask(String value, int len) {
+            if (len != mask.length) {
+                return false;
+            }
+            for (int i = 0; i < len; i++) {
+                char c = value.charAt(i);
+                if (mask[i] == '9' ? (c < '0' || c > '9') : c != mask[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private ValidationResult checkRange(String value, int len) {
+            long parsed = 0;
+            boolean overflow = false;
+            for (int i = 0; i < len; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return notNumberFailure;
+                }
+                if (!overflow) {
+                    parsed = parsed * 10 + (c - '0');
+                    overflow = parsed > max;
+                }
+            }
+            return overflow || parsed < min ? rangeFailure : ValidationResult.VALID;
+        }
+
+        private ValidationResult checkAmount(String value, int len) {
+            int integerDigits = 0;
+            int fractionDigits = -1;
+            boolean nonZero = false;
+            for (int i = 0; i < len; i++) {
+                char c = value.charAt(i);
+                if (c == '.' && fractionDigits < 0 && integerDigits > 0) {
+                    fractionDigits = 0;
+                    continue;
+                }
+                if (c < '0' || c > '9') {
+                    return notNumberFailure;
+                }
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                } else {
+                    integerDigits++;
+                }
+                nonZero |= c != '0';
+            }
+            if (integerDigits == 0 || fractionDigits == 0) {
+                return notNumberFailure;
+            }
+            return !nonZero || integerDigits > amountDigits || fractionDigits > 2 ? amountFailure : ValidationResult.VALID;
+        }
+
+        private boolean isAllowed(String value) {
+            for (String candidate : allowed) {
+                if (ignoreCase ? candidate.equalsIgnoreCase(value) : candidate.equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class NumberCheck<T> implements FieldCheck<T> {
+
+        private final Function<T, Integer> getter;
+        private final boolean required;
+        private final int min;
+        private final int max;
+        private final ValidationResult requiredFailure;
+        private final ValidationResult rangeFailure;
+
+        private NumberCheck(String field, String label, Function<T, Integer> getter, boolean required, int min, int max) {
+            this.getter = getter;
+            this.required = required;
+            this.min = min;
+            this.max = max;
+
+            String subject = subject(label, field);
+            this.requiredFailure = failure(ValidationErrorCode.REQUIRED, field, subject + " 필수입니다.");
+            this.rangeFailure = failure(ValidationErrorCode.OUT_OF_RANGE, field, subject + " " + min + "에서 " + max + " 사이여야 합니다.");
+        }
+
+        @Override
+        public ValidationResult check(T target) {
+            Integer value = getter.apply(target);
+            if (value == null) {
+                return required ? requiredFailure : ValidationResult.VALID;
+            }
+            return value < min || value > max ? rangeFailure : ValidationResult.VALID;
+        }
+    }
+
+    private static ValidationResult failure(ValidationErrorCode errorCode, String field, String message) {
+        return ValidationResult.invalid(errorCode, field, message);
+    }
+
+    /**
+     * "사용자명(userName)은", "조회 건수(inquiryRecordCnt)는" 처럼 받침에 맞는 조사를 붙임
+     */
+    private static String subject(String label, String field) {
+        char last = label.charAt(label.length() - 1);
+        boolean hasFinalConsonant = last >= 0xAC00 && last <= 0xD7A3 && (last - 0xAC00) % 28 != 0;
+        return label + "(" + field + ")" + (hasFinalConsonant ? "은" : "는");
+    }
+
+    private static String allowedText(String[] allowed) {
+        if (allowed == null) {
+            return null;
+        }
+        if (allowed.length == 1) {
+            return "'" + allowed[0] + "'여야 합니다.";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < allowed.length; i++) {
+            sb.append(i > 0 ? ", " : "").append('\'').append(allowed[i]).append('\'');
+        }
+        return sb.append(" 중 하나여야 합니다.").toString();
+    }
+}
@@ -0,0 +1,90 @@
+package com.hanafuture.openbanking.global.validation;
+
+import java.util.regex.Pattern;
+
+/**
+ * 문자열 필드 검증 규칙 정의
+ * - 애플리케이션 시작 시 한 번 정의하고 RequestValidator 가 검사기로 변환하여 재사용
+ * - 정규식은 반드시 미리 컴파일된 Pattern 으로 전달
+ */
+public final class TextRule {
+
+    boolean required;
+    int maxLength = -1;
+    int length = -1;
+    String mask;
+    boolean numeric;
+    long min;
+    long max;
+    int amountDigits = -1;
+    String[] allowed;
+    boolean ignoreCase;
+    Pattern pattern;
+    String patternMessage;
+
+    private TextRule(boolean required) {
+        this.required = required;
+    }
+
+    public static TextRule required() {
+        return new TextRule(true);
+    }
+
+    public static TextRule optional() {
+        return new TextRule(false);
+    }
+
+    public TextRule maxLength(int maxLength) {
+        this.maxLength = maxLength;
+        return this;
+    }
+
+    public TextRule length(int length) {
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * 자리 형식 검증 (9: 숫자, 그 외 문자는 그대로 일치) - 예: 999999-9999999
+     */
+    public TextRule mask(String mask) {
+        this.mask = mask;
+        return this;
+    }
+
+    /**
+     * 숫자 문자열 범위 검증 (정수 변환 없이 한 번의 순회로 검사)
+     */
+    public TextRule range(long min, long max) {
+        this.numeric = true;
+        this.min = min;
+        this.max = max;
+        return this;
+    }
+
+    /**
+     * 금액 검증 - 0보다 큰 숫자, 정수부 maxIntegerDigits 자리 이하, 소수점 이하 2자리까지
+     */
+    public TextRule amount(int maxIntegerDigits) {
+        this.amountDigits = maxIntegerDigits;
+        return this;
+    }
+
+    public TextRule oneOf(String... values) {
+        this.allowed = values;
+        this.ignoreCase = false;
+        return this;
+    }
+
+    public TextRule oneOfIgnoreCase(String... values) {
+        this.allowed = values;
+        this.ignoreCase = true;
+        return this;
+    }
+
+    public TextRule pattern(Pattern pattern, String message) {
+        this.pattern = pattern;
+        this.patternMessage = message;
+        return this;
+    }
+}
@@ -0,0 +1,22 @@
+package com.hanafuture.openbanking.global.validation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 검증 오류 코드
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ValidationErrorCode {
+
+    REQUIRED("V001"),       // 필수값 누락
+    MAX_LENGTH("V002"),     // 최대 길이 초과
+    LENGTH("V003"),         // 고정 길이 불일치
+    FORMAT("V004"),         // 형식 불일치 (자리 형식, 정규식)
+    NOT_ALLOWED("V005"),    // 허용되지 않은 값
+    NOT_NUMBER("V006"),     // 숫자가 아님
+    OUT_OF_RANGE("V007");   // 허용 범위 밖
+
+    private final String code;
+}
@@ -0,0 +1,42 @@
+package com.hanafuture.openbanking.global.validation;
+
+import com.hanafuture.openbanking.global.exception.RequestValidationException;
+import lombok.Getter;
+
+/**
+ * 요청 검증 결과
+ * - 성공은 공유 인스턴스(VALID)를 반환하여 정상 요청에서는 객체를 만들지 않음
+ * - 실패 메시지는 규칙 생성 시점에 미리 만들어 둔 문자열을 그대로 사용
+ */
+@Getter
+public final class ValidationResult {
+
+    public static final ValidationResult VALID = new ValidationResult(null, null, null);
+
+    private final ValidationErrorCode errorCode;
+    private final String field;
+    private final String message;
+
+    private ValidationResult(ValidationErrorCode errorCode, String field, String message) {
+        this.errorCode = errorCode;
+        this.field = field;
+        this.message = message;
+    }
+
+    public static ValidationResult invalid(ValidationErrorCode errorCode, String field, String message) {
+        return new ValidationResult(errorCode, field, message);
+    }
+
+    public boolean isValid() {
+        return errorCode == null;
+    }
+
+    /**
+     * 검증 실패 시 서비스 경계에서 한 번만 예외로 변환
+     */
+    public void orThrow() {
+        if (errorCode != null) {
+            throw new RequestValidationException(errorCode, field, message);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.hanafuture.openbanking.domain.account.service;
+
+import com.hanafuture.openbanking.domain.account.config.AccountInquiryProperties;
+import com.hanafuture.openbanking.domain.account.dto.response.AccountInfoResponse;
+import com.hanafuture.openbanking.domain.bank.dto.BankRoute;
+import com.hanafuture.openbanking.global.exception.InstitutionUnavailableException;
+import com.hanafuture.openbanking.global.http.BankCallDeadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("계좌통합조회 scatter-gather 테스트")
+class AccountScatterGatherServiceTest {
+
+    private static final BankRoute HANA = new BankRoute("081", "하나은행", "1", "http://hana");
+    private static final BankRoute KB = new BankRoute("004", "KB국민은행", "1", "http://kb");
+    private static final BankRoute SHINHAN = new BankRoute("088", "신한은행", "1", "http://shinhan");
+
+    private ThreadPoolTaskExecutor executor;
+    private AccountScatterGatherService scatterGatherService;
+
+    @BeforeEach
+    void setUp() {
+        AccountInquiryProperties properties = new AccountInquiryProperties();
+        properties.setPerBankTimeoutMs(300);
+        properties.setGlobalTimeoutMs(1000);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+
+        scatterGatherService = new AccountScatterGatherService(properties, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("완료 순서와 관계없이 요청한 기관 순서로 결과를 반환한다")
+    void gather_keepsRequestedBankOrder() {
+        Function<BankRoute, List<AccountInfoResponse.AccountInfo>> fetcher = bank -> {
+            // 앞 순서 기관일수록 늦게 응답
+            sleep(bank == HANA ? 150 : bank == KB ? 75 : 0);
+            return List.of(account(bank, "1"), account(bank, "2"));
+        };
+
+        AccountScatterGatherService.GatherResult result =
+                scatterGatherService.gather(List.of(HANA, KB, SHINHAN), 10, fetcher);
+
+        assertThat(result.accounts()).extracting(AccountInfoResponse.AccountInfo::getBankCodeStd)
+                .containsExactly("081", "081", "004", "004", "088", "088");
+        assertThat(result.institutionStatuses()).extracting(AccountInfoResponse.InstitutionStatus::getBankCodeStd)
+                .containsExactly("081", "004", "088");
+    }
+
+    @Test
+    @DisplayName("일부 기관이 실패해도 나머지 기관의 결과를 반환하고 실패 사유를 기록한다")
+    void gather_partialFailure() {
+        Function<BankRoute, List<AccountInfoResponse.AccountInfo>> fetcher = bank -> {
+            if (bank == KB) {
+                throw new IllegalStateException("KB 서버 오류");
+            }
+            if (bank == SHINHAN) {
+                throw new InstitutionUnavailableException("088", InstitutionUnavailableException.CIRCUIT_OPEN, "차단");
+            }
+            return List.of(account(bank, "1"));
+        };
+
+        AccountScatterGatherService.GatherResult result =
+                scatterGatherService.gather(List.of(HANA, KB, SHINHAN), 10, fetcher);
+
+        assertThat(result.accounts()).extracting(AccountInfoResponse.AccountInfo::getBankCodeStd)
+                .containsExactly("081");
+        assertThat(result.institutionStatuses()).extracting(AccountInfoResponse.InstitutionStatus::getStatus)
+                .containsExactly(AccountScatterGatherService.STATUS_SUCCESS,
+                        AccountScatterGatherService.STATUS_FAILED,
+                        AccountScatterGatherService.STATUS_CIRCUIT_OPEN);
+        assertThat(result.institutionStatuses().get(1).getMessage()).isEqualTo("KB 서버 오류");
+    }
+
+    @Test
+    @DisplayName("기관별 대기 한도를 넘긴 기관은 TIMEOUT 으로 기록하고 기다리지 않는다")
+    void gather_perBankTimeout() {
+        Function<BankRoute, List<AccountInfoResponse.AccountInfo>> fetcher = bank -> {
+            if (bank == KB) {
+                sleep(800);
+            }
+            return List.of(account(bank, "1"));
+        };
+
+        long startedAt = System.currentTimeMillis();
+        AccountScatterGatherService.GatherResult result =
+                scatterGatherService.gather(List.of(HANA, KB, SHINHAN), 10, fetcher);
+
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(700);
+        assertThat(result.accounts()).extracting(AccountInfoResponse.AccountInfo::getBankCodeStd)
+                .containsExactly("081", "088");
+        assertThat(result.institutionStatuses()).extracting(AccountInfoResponse.InstitutionStatus::getStatus)
+                .containsExactly(AccountScatterGatherService.STATUS_SUCCESS,
+                        AccountScatterGatherService.STATUS_TIMEOUT,
+                        AccountScatterGatherService.STATUS_SUCCESS);
+    }
+
+    @Test
+    @DisplayName("기관 호출 스레드에 기관별 대기 한도가 마감 시각으로 전달된다")
+    void gather_propagatesDeadlineToBankCall() {
+        Map<String, OptionalLong> remaining = new ConcurrentHashMap<>();
+        Function<BankRoute, List<AccountInfoResponse.AccountInfo>> fetcher = bank -> {
+            remaining.put(bank.bankCodeStd(), BankCallDeadline.remainingMillis());
+            return List.of();
+        };
+
+        scatterGatherService.gather(List.of(HANA, KB), 10, fetcher);
+
+        assertThat(remaining).hasSize(2);
+        assertThat(remaining.values()).allSatisfy(value -> {
+            assertThat(value).isPresent();
+            assertThat(value.getAsLong()).isBetween(1L, 300L);
+        });
+        assertThat(BankCallDeadline.remainingMillis()).isEmpty();
+    }
+
+    private static AccountInfoResponse.AccountInfo account(BankRoute bank, String seq) {
+        return AccountInfoResponse.AccountInfo.builder()
+                .bankCodeStd(bank.bankCodeStd())
+                .accountNum(bank.bankCodeStd() + "-" + seq)
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
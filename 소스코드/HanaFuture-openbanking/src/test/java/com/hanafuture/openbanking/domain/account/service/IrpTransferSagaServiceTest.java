@@ -0,0 +1,322 @@
+package com.hanafuture.openbanking.domain.account.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanafuture.openbanking.domain.account.config.IrpTransferProperties;
+import com.hanafuture.openbanking.domain.account.dto.request.IrpTransferRequest;
+import com.hanafuture.openbanking.domain.account.dto.response.ExternalIrpDepositResponse;
+import com.hanafuture.openbanking.domain.account.dto.response.ExternalIrpWithdrawResponse;
+import com.hanafuture.openbanking.domain.account.dto.response.IrpTransferResponse;
+import com.hanafuture.openbanking.domain.bank.dto.BankRoute;
+import com.hanafuture.openbanking.domain.transaction.entity.TransactionLog;
+import com.hanafuture.openbanking.domain.transaction.entity.TransferSagaStatus;
+import com.hanafuture.openbanking.domain.transaction.repository.TransactionLogRepository;
+import com.hanafuture.openbanking.global.cache.RoutingCache;
+import com.hanafuture.openbanking.global.http.BankHttpClientRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * saga 는 트랜잭션 없이 단계마다 저장하므로 테스트도 트랜잭션 밖에서 실행 (실제 분리 엔티티 저장/낙관적 잠금 확인)
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("IRP 실물이전 saga 테스트")
+class IrpTransferSagaServiceTest {
+
+    private static final BankRoute WD_BANK = new BankRoute("088", "신한은행", "1", "http://shinhan");
+    private static final BankRoute RSV_BANK = new BankRoute("081", "하나은행", "1", "http://hana");
+
+    private static final String WITHDRAW_URL = "http://shinhan/api/v1/retirement/withdraw";
+    private static final String DEPOSIT_URL = "http://hana/api/v1/account/retirement/deposit";
+    private static final String COMPENSATION_URL = "http://shinhan/api/v1/account/retirement/deposit";
+
+    @Autowired
+    private TransactionLogRepository jpaRepository;
+
+    private TransactionLogRepository transactionLogRepository;
+    private RestTemplate restTemplate;
+    private IrpTransferProperties properties;
+    private IrpTransferSagaService sagaService;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository.deleteAll();
+        transactionLogRepository = mock(TransactionLogRepository.class, AdditionalAnswers.delegatesTo(jpaRepository));
+
+        RoutingCache routingCache = mock(RoutingCache.class);
+        given(routingCache.getUserCi(anyString())).willReturn(Optional.of("USER-CI"));
+        given(routingCache.getBank(WD_BANK.bankCodeStd())).willReturn(Optional.of(WD_BANK));
+        given(routingCache.getBank(RSV_BANK.bankCodeStd())).willReturn(Optional.of(RSV_BANK));
+
+        restTemplate = mock(RestTemplate.class);
+        BankHttpClientRegistry bankHttpClients = mock(BankHttpClientRegistry.class);
+        given(bankHttpClients.forBank(anyString())).willReturn(restTemplate);
+
+        // 입금/환입 단계를 호출 스레드에서 바로 실행
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+        willAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).given(executor).execute(any(Runnable.class));
+
+        properties = new IrpTransferProperties();
+        sagaService = new IrpTransferSagaService(transactionLogRepository, routingCache, bankHttpClients,
+                new ObjectMapper(), properties, executor);
+    }
+
+    @Test
+    @DisplayName("출금이 확정되면 입금까지 처리해 COMPLETED 로 기록한다")
+    void transfer_withdrawThenDeposit() {
+        givenWithdraw(withdrawSuccess());
+        givenDeposit(DEPOSIT_URL, depositSuccess());
+
+        IrpTransferResponse response = sagaService.transfer(request("T-001"));
+
+        assertThat(response.getTransferStatus()).isEqualTo("WITHDRAWN");
+        assertThat(status("T-001")).isEqualTo(TransferSagaStatus.COMPLETED);
+        assertThat(sagaService.getTransfer("T-001").getTransferStatus()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("같은 거래고유번호로 다시 요청하면 출금을 반복하지 않는다")
+    void transfer_idempotent() {
+        givenWithdraw(withdrawSuccess());
+        givenDeposit(DEPOSIT_URL, depositSuccess());
+        sagaService.transfer(request("T-002"));
+
+        IrpTransferResponse again = sagaService.transfer(request("T-002"));
+
+        assertThat(again.getTransferStatus()).isEqualTo("COMPLETED");
+        verify(restTemplate, times(1)).postForObject(eq(WITHDRAW_URL), any(), eq(ExternalIrpWithdrawResponse.class));
+    }
+
+    @Test
+    @DisplayName("입금이 거절되면 출금 계좌로 환입하고 COMPENSATED 로 기록한다")
+    void transfer_depositRejected_compensates() {
+        givenWithdraw(withdrawSuccess());
+        givenDeposit(DEPOSIT_URL, depositFailure());
+        givenDeposit(COMPENSATION_URL, depositSuccess());
+
+        sagaService.transfer(request("T-003"));
+
+        assertThat(status("T-003")).isEqualTo(TransferSagaStatus.COMPENSATED);
+    }
+
+    @Test
+    @DisplayName("첫 입금 시도가 4xx 로 거절되면 환입한다")
+    void transfer_depositClientError_compensates() {
+        givenWithdraw(withdrawSuccess());
+        given(restTemplate.postForObject(eq(DEPOSIT_URL), any(), eq(ExternalIrpDepositResponse.class)))
+                .willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+        givenDeposit(COMPENSATION_URL, depositSuccess());
+
+        sagaService.transfer(request("T-008"));
+
+        assertThat(status("T-008")).isEqualTo(TransferSagaStatus.COMPENSATED);
+    }
+
+    @Test
+    @DisplayName("입금 결과를 모른 채 재시도 한도를 넘으면 환입하지 않고 MANUAL_REVIEW 로 기록한다")
+    void runDeposit_unknownOutcomeExhausted_manualReview() {
+        properties.setMaxDepositAttempts(2);
+        givenWithdraw(withdrawSuccess());
+        given(restTemplate.postForObject(eq(DEPOSIT_URL), any(), eq(ExternalIrpDepositResponse.class)))
+                .willThrow(new ResourceAccessException("Read timed out"));
+
+        sagaService.transfer(request("T-009"));
+        assertThat(status("T-009")).isEqualTo(TransferSagaStatus.WITHDRAWN);
+
+        sagaService.runDeposit(apiTranId("T-009"));
+
+        assertThat(status("T-009")).isEqualTo(TransferSagaStatus.MANUAL_REVIEW);
+        verify(restTemplate, never()).postForObject(eq(COMPENSATION_URL), any(), eq(ExternalIrpDepositResponse.class));
+    }
+
+    @Test
+    @DisplayName("재시도 중 중복/충돌로 거절되면 이전 시도가 반영됐을 수 있으므로 환입하지 않는다")
+    void runDeposit_conflictOnRetry_manualReview() {
+        givenWithdraw(withdrawSuccess());
+        given(restTemplate.postForObject(eq(DEPOSIT_URL), any(), eq(ExternalIrpDepositResponse.class)))
+                .willThrow(new ResourceAccessException("Read timed out"))
+                .willThrow(new HttpClientErrorException(HttpStatus.CONFLICT));
+
+        sagaService.transfer(request("T-010"));
+        sagaService.runDeposit(apiTranId("T-010"));
+
+        assertThat(status("T-010")).isEqualTo(TransferSagaStatus.MANUAL_REVIEW);
+        verify(restTemplate, never()).postForObject(eq(COMPENSATION_URL), any(), eq(ExternalIrpDepositResponse.class));
+    }
+
+    @Test
+    @DisplayName("출금 응답을 받지 못하면 MANUAL_REVIEW 로 기록한다")
+    void transfer_withdrawUnknown_manualReview() {
+        given(restTemplate.postForObject(eq(WITHDRAW_URL), any(), eq(ExternalIrpWithdrawResponse.class)))
+                .willThrow(new ResourceAccessException("Read timed out"));
+
+        assertThatThrownBy(() -> sagaService.transfer(request("T-004")))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(status("T-004")).isEqualTo(TransferSagaStatus.MANUAL_REVIEW);
+    }
+
+    @Test
+    @DisplayName("스위퍼는 처리 중 멈춘 입금 단계를 다시 실행해 완료한다")
+    void sweep_resumesStalledDeposit() throws Exception {
+        properties.setStaleSeconds(0);
+        givenDeposit(DEPOSIT_URL, depositSuccess());
+        saveSaga("T-005", TransferSagaStatus.DEPOSITING);
+        Thread.sleep(10);
+
+        // 첫 주기에 대기 상태로 되돌리고, 다음 주기에 입금 재실행
+        sagaService.sweep();
+        assertThat(status("T-005")).isEqualTo(TransferSagaStatus.WITHDRAWN);
+        Thread.sleep(10);
+        sagaService.sweep();
+
+        assertThat(status("T-005")).isEqualTo(TransferSagaStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("스위퍼는 출금 결과를 모르는 STARTED 거래를 MANUAL_REVIEW 로 전환한다")
+    void sweep_marksStartedAsManualReview() throws Exception {
+        properties.setStaleSeconds(0);
+        saveSaga("T-006", TransferSagaStatus.STARTED);
+        Thread.sleep(10);
+
+        sagaService.sweep();
+
+        assertThat(status("T-006")).isEqualTo(TransferSagaStatus.MANUAL_REVIEW);
+    }
+
+    @Test
+    @DisplayName("스위퍼가 읽은 뒤 다른 작업자가 상태를 바꾸면 덮어쓰지 않는다")
+    void sweep_doesNotOverwriteConcurrentTransition() throws Exception {
+        properties.setStaleSeconds(0);
+        TransactionLog saga = saveSaga("T-007", TransferSagaStatus.STARTED);
+        Thread.sleep(10);
+
+        // 스위퍼가 목록을 읽은 직후 출금 확정이 먼저 기록됨
+        willAnswer(invocation -> {
+            List<TransactionLog> stalled = jpaRepository.findByApiTypeAndSagaStatusInAndUpdatedAtBefore(
+                    invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            jpaRepository.transition(saga.getApiTranId(), TransferSagaStatus.STARTED,
+                    TransferSagaStatus.WITHDRAWN, LocalDateTime.now());
+            return stalled;
+        }).given(transactionLogRepository)
+                .findByApiTypeAndSagaStatusInAndUpdatedAtBefore(anyString(), anyCollection(), any(LocalDateTime.class));
+
+        sagaService.sweep();
+
+        assertThat(status("T-007")).isEqualTo(TransferSagaStatus.WITHDRAWN);
+    }
+
+    private void givenWithdraw(ExternalIrpWithdrawResponse response) {
+        given(restTemplate.postForObject(eq(WITHDRAW_URL), any(), eq(ExternalIrpWithdrawResponse.class)))
+                .willReturn(response);
+    }
+
+    private void givenDeposit(String url, ExternalIrpDepositResponse response) {
+        given(restTemplate.postForObject(eq(url), any(), eq(ExternalIrpDepositResponse.class)))
+                .willReturn(response);
+    }
+
+    private Long apiTranId(String bankTranId) {
+        return jpaRepository.findByIdempotencyKey(IrpTransferSagaService.API_TYPE + ":" + bankTranId)
+                .orElseThrow()
+                .getApiTranId();
+    }
+
+    private TransferSagaStatus status(String bankTranId) {
+        return jpaRepository.findByIdempotencyKey(IrpTransferSagaService.API_TYPE + ":" + bankTranId)
+                .orElseThrow()
+                .getSagaStatus();
+    }
+
+    private TransactionLog saveSaga(String bankTranId, TransferSagaStatus status) {
+        return jpaRepository.save(TransactionLog.builder()
+                .apiType(IrpTransferSagaService.API_TYPE)
+                .idempotencyKey(IrpTransferSagaService.API_TYPE + ":" + bankTranId)
+                .bankTranId(bankTranId)
+                .sagaStatus(status)
+                .userSeqNo("U001")
+                .wdBankCodeStd(WD_BANK.bankCodeStd())
+                .wdAccountNum("110555888999")
+                .rsvBankCodeStd(RSV_BANK.bankCodeStd())
+                .rsvAccountNum("2345678901234567")
+                .tranDtime("20250704123045")
+                .reqClientName("정민준")
+                .retryCount(0)
+                .resultPayload("{\"depositAmt\":\"1000000\"}")
+                .build());
+    }
+
+    private IrpTransferRequest request(String bankTranId) {
+        IrpTransferRequest request = new IrpTransferRequest();
+        request.setUserSeqNo("U001");
+        request.setBankTranId(bankTranId);
+        request.setWdBankCodeStd(WD_BANK.bankCodeStd());
+        request.setWdAccountNum("110555888999");
+        request.setRsvBankCodeStd(RSV_BANK.bankCodeStd());
+        request.setRsvAccountNum("2345678901234567");
+        request.setTranDtime("20250704123045");
+        request.setReqClientName("정민준");
+        return request;
+    }
+
+    private ExternalIrpWithdrawResponse withdrawSuccess() {
+        ExternalIrpWithdrawResponse.ExternalIrpWithdrawData data = new ExternalIrpWithdrawResponse.ExternalIrpWithdrawData();
+        data.setWdAccountNum("110555888999");
+        data.setRsvAccountNum("2345678901234567");
+        data.setWithdrawAmt("1000000");
+        ExternalIrpWithdrawResponse response = new ExternalIrpWithdrawResponse();
+        response.setSuccess(true);
+        response.setMessage("출금 완료");
+        response.setData(data);
+        return response;
+    }
+
+    private ExternalIrpDepositResponse depositSuccess() {
+        ExternalIrpDepositResponse.ExternalIrpDepositData data = new ExternalIrpDepositResponse.ExternalIrpDepositData();
+        data.setRsvAccountNum("2345678901234567");
+        data.setDepositAmt("1000000");
+        ExternalIrpDepositResponse response = new ExternalIrpDepositResponse();
+        response.setSuccess(true);
+        response.setMessage("입금 완료");
+        response.setData(data);
+        return response;
+    }
+
+    private ExternalIrpDepositResponse depositFailure() {
+        ExternalIrpDepositResponse response = new ExternalIrpDepositResponse();
+        response.setSuccess(false);
+        response.setMessage("입금 계좌 해지");
+        return response;
+    }
+}
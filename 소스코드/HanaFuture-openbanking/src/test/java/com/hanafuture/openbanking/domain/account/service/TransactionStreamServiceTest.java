@@ -0,0 +1,125 @@
+package com.hanafuture.openbanking.domain.account.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanafuture.openbanking.domain.account.config.TransactionStreamProperties;
+import com.hanafuture.openbanking.domain.account.dto.request.TransactionListRequest;
+import com.hanafuture.openbanking.domain.account.dto.response.TransactionListResponse;
+import com.hanafuture.openbanking.domain.bank.dto.BankRoute;
+import com.hanafuture.openbanking.global.cache.RoutingCache;
+import com.hanafuture.openbanking.global.http.BankHttpClientRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("거래내역 조회 파서 테스트")
+class TransactionStreamServiceTest {
+
+    private static final BankRoute HANA = new BankRoute("081", "하나은행", "1", "http://hana");
+    private static final String HISTORY_URL = "http://hana/api/v1/transactions/history";
+
+    private MockRestServiceServer server;
+    private TransactionStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        RoutingCache routingCache = mock(RoutingCache.class);
+        given(routingCache.getUserCi(anyString())).willReturn(Optional.of("USER-CI"));
+        given(routingCache.getBank(HANA.bankCodeStd())).willReturn(Optional.of(HANA));
+
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        BankHttpClientRegistry bankHttpClients = mock(BankHttpClientRegistry.class);
+        given(bankHttpClients.forBank(anyString())).willReturn(restTemplate);
+
+        TransactionStreamProperties properties = new TransactionStreamProperties();
+        properties.setFlushEvery(2);
+        streamService = new TransactionStreamService(routingCache, bankHttpClients, new ObjectMapper(), properties);
+    }
+
+    @Test
+    @DisplayName("페이지 크기 이내의 응답은 기관의 다음 페이지 정보를 그대로 전달한다")
+    void readPage_withinPageSize() {
+        givenHistory(3, "Y", "CURSOR-1");
+
+        TransactionListResponse response = streamService.readPage(request(3));
+
+        server.verify();
+        assertThat(response.getResList()).extracting(TransactionListResponse.TransactionInfo::getTranAmt)
+                .containsExactly("1000", "2000", "3000");
+        assertThat(response.getBankName()).isEqualTo("하나은행");
+        assertThat(response.getAccountNum()).isEqualTo("11012345678901");
+        assertThat(response.getBalanceAmt()).isEqualTo("500000");
+        assertThat(response.getNextPageYn()).isEqualTo("Y");
+        assertThat(response.getBeforInquiryTraceInfo()).isEqualTo("CURSOR-1");
+    }
+
+    @Test
+    @DisplayName("기관이 페이지 크기보다 많이 보내면 요청한 건수까지만 변환하고 다음 페이지가 있다고 응답한다")
+    void readPage_truncatesOversizedPage() {
+        givenHistory(5, "N", "CURSOR-1");
+
+        TransactionListResponse response = streamService.readPage(request(2));
+
+        assertThat(response.getResList()).extracting(TransactionListResponse.TransactionInfo::getTranAmt)
+                .containsExactly("1000", "2000");
+        assertThat(response.getNextPageYn()).isEqualTo("Y");
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회는 거래 건마다 한 줄씩 쓰고 페이지/종료 요약을 붙인다")
+    void streamTransactions_writesNdjson() throws Exception {
+        givenHistory(3, "N", null);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        streamService.streamTransactions(request(3)).writeTo(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(5);
+        assertThat(lines[0]).contains("\"type\":\"transaction\"").contains("\"tranAmt\":\"1000\"");
+        assertThat(lines[3]).contains("\"type\":\"page\"");
+        assertThat(lines[4]).contains("\"type\":\"end\"").contains("\"totalCnt\":3");
+    }
+
+    private void givenHistory(int records, String nextPageYn, String cursor) {
+        StringJoiner resList = new StringJoiner(",", "[", "]");
+        for (int i = 1; i <= records; i++) {
+            resList.add("{\"tranDate\":\"20250101\",\"tranTime\":\"100000\",\"inoutType\":\"입금\","
+                    + "\"tranAmt\":\"" + i * 1000 + "\",\"afterBalanceAmt\":\"500000\"}");
+        }
+        String body = "{\"success\":true,\"message\":\"OK\",\"data\":{\"balanceAmt\":\"500000\","
+                + "\"pageRecordCnt\":" + records + ",\"nextPageYn\":\"" + nextPageYn + "\","
+                + "\"beforInquiryTraceInfo\":" + (cursor != null ? "\"" + cursor + "\"" : "null") + ","
+                + "\"resList\":" + resList + "}}";
+        server.expect(requestTo(HISTORY_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.userCi").value("USER-CI"))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+    }
+
+    private TransactionListRequest request(int pageRecordCnt) {
+        TransactionListRequest request = new TransactionListRequest();
+        request.setUserSeqNo("1101234567");
+        request.setBankCodeStd(HANA.bankCodeStd());
+        request.setAccountNum("11012345678901");
+        request.setPageRecordCnt(pageRecordCnt);
+        return request;
+    }
+}
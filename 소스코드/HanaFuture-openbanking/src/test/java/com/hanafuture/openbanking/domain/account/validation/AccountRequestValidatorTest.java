@@ -0,0 +1,227 @@
+package com.hanafuture.openbanking.domain.account.validation;
+
+import com.hanafuture.openbanking.domain.account.dto.request.AccountInfoRequest;
+import com.hanafuture.openbanking.domain.account.dto.request.TransactionListRequest;
+import com.hanafuture.openbanking.domain.account.dto.request.WithdrawRequest;
+import com.hanafuture.openbanking.global.exception.RequestValidationException;
+import com.hanafuture.openbanking.global.validation.ValidationErrorCode;
+import com.hanafuture.openbanking.global.validation.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("계좌 API 요청 검증 테스트")
+class AccountRequestValidatorTest {
+
+    private final AccountRequestValidator validator = new AccountRequestValidator();
+
+    @Test
+    @DisplayName("정상 요청은 공유 VALID 결과를 반환한다")
+    void validate_validRequests() {
+        assertThat(validator.validate(accountInfoRequest())).isSameAs(ValidationResult.VALID);
+        assertThat(validator.validate(withdrawRequest())).isSameAs(ValidationResult.VALID);
+        assertThat(validator.validate(transactionListRequest())).isSameAs(ValidationResult.VALID);
+    }
+
+    @Test
+    @DisplayName("요청 본문이 없으면 필수 오류를 반환한다")
+    void validate_nullRequest() {
+        assertFailure(validator.validate((AccountInfoRequest) null),
+                ValidationErrorCode.REQUIRED, "body", "요청 본문은 필수입니다.");
+    }
+
+    @Test
+    @DisplayName("필수값 누락 메시지는 기존 검증 메시지와 같다")
+    void validate_accountInfo_required() {
+        AccountInfoRequest request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "userName", " ");
+        assertFailure(validator.validate(request), ValidationErrorCode.REQUIRED, "userName", "사용자명(userName)은 필수입니다.");
+
+        request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "userNum", null);
+        assertFailure(validator.validate(request), ValidationErrorCode.REQUIRED, "userNum", "사용자 주민등록번호(userNum)는 필수입니다.");
+
+        request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "inquiryRecordCnt", "");
+        assertFailure(validator.validate(request), ValidationErrorCode.REQUIRED, "inquiryRecordCnt", "조회 건수(inquiryRecordCnt)는 필수입니다.");
+    }
+
+    @Test
+    @DisplayName("최대 길이는 경계값까지 허용하고 초과하면 기존 메시지로 실패한다")
+    void validate_accountInfo_maxLength() {
+        AccountInfoRequest request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "userName", "가".repeat(20));
+        assertThat(validator.validate(request).isValid()).isTrue();
+
+        ReflectionTestUtils.setField(request, "userName", "가".repeat(21));
+        assertFailure(validator.validate(request), ValidationErrorCode.MAX_LENGTH, "userName", "사용자명(userName)은 20자 이하여야 합니다.");
+
+        request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "traceNo", "1".repeat(21));
+        assertFailure(validator.validate(request), ValidationErrorCode.MAX_LENGTH, "traceNo", "추적번호(traceNo)는 20자 이하여야 합니다.");
+
+        request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "inquiryBankType", "12");
+        assertFailure(validator.validate(request), ValidationErrorCode.LENGTH, "inquiryBankType", "금융기관 업권 구분(inquiryBankType)은 1자리여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("허용 문자와 형식이 맞지 않으면 기존 메시지로 실패한다")
+    void validate_accountInfo_format() {
+        AccountInfoRequest request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "userNum", "901201+1234567");
+        assertFailure(validator.validate(request), ValidationErrorCode.FORMAT, "userNum", "사용자 주민등록번호(userNum)는 999999-9999999 형식이어야 합니다.");
+
+        ReflectionTestUtils.setField(request, "userNum", "90120A-1234567");
+        assertFailure(validator.validate(request), ValidationErrorCode.FORMAT, "userNum", "사용자 주민등록번호(userNum)는 999999-9999999 형식이어야 합니다.");
+
+        request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "userEmail", "hong@example");
+        assertFailure(validator.validate(request), ValidationErrorCode.FORMAT, "userEmail", "유효하지 않은 이메일 형식입니다.");
+
+        request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "ainfoAgreeYn", "y");
+        assertThat(validator.validate(request).isValid()).isTrue();
+
+        ReflectionTestUtils.setField(request, "ainfoAgreeYn", "N");
+        assertFailure(validator.validate(request), ValidationErrorCode.NOT_ALLOWED, "ainfoAgreeYn", "어카운트인포 서비스 동의여부(ainfoAgreeYn)는 'Y'여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("조회 건수는 숫자와 범위를 구분해 기존 메시지로 실패한다")
+    void validate_accountInfo_recordCount() {
+        AccountInfoRequest request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "inquiryRecordCnt", "1O");
+        assertFailure(validator.validate(request), ValidationErrorCode.NOT_NUMBER, "inquiryRecordCnt", "조회 건수(inquiryRecordCnt)는 숫자여야 합니다.");
+
+        for (String outOfRange : new String[]{"0", "101", "99999999999999999999"}) {
+            ReflectionTestUtils.setField(request, "inquiryRecordCnt", outOfRange);
+            assertFailure(validator.validate(request), ValidationErrorCode.OUT_OF_RANGE, "inquiryRecordCnt", "조회 건수(inquiryRecordCnt)는 1에서 100 사이여야 합니다.");
+        }
+
+        ReflectionTestUtils.setField(request, "inquiryRecordCnt", "100");
+        assertThat(validator.validate(request).isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 필드가 틀리면 규칙 선언 순서상 첫 번째 실패를 반환한다")
+    void validate_returnsFirstFailure() {
+        AccountInfoRequest request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "userEmail", "invalid");
+        ReflectionTestUtils.setField(request, "userName", null);
+
+        assertThat(validator.validate(request).getField()).isEqualTo("userName");
+    }
+
+    @Test
+    @DisplayName("거래금액은 0보다 크고 정수부 13자리, 소수점 이하 2자리까지 허용한다")
+    void validate_withdraw_amount() {
+        WithdrawRequest request = withdrawRequest();
+        for (String valid : new String[]{"1", "10000.5", "9999999999999.99"}) {
+            request.setTranAmt(valid);
+            assertThat(validator.validate(request).isValid()).as(valid).isTrue();
+        }
+
+        String amountMessage = "거래금액(tranAmt)은 0보다 크고 정수부 13자리 이하(소수점 이하 2자리)인 금액이어야 합니다.";
+        for (String outOfRange : new String[]{"0", "0.00", "10000000000000", "1.234"}) {
+            request.setTranAmt(outOfRange);
+            assertFailure(validator.validate(request), ValidationErrorCode.OUT_OF_RANGE, "tranAmt", amountMessage);
+        }
+        for (String notNumber : new String[]{"-1", "1,000", ".5", "1.", "1.2.3"}) {
+            request.setTranAmt(notNumber);
+            assertFailure(validator.validate(request), ValidationErrorCode.NOT_NUMBER, "tranAmt", "거래금액(tranAmt)은 숫자여야 합니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("은행 표준코드와 요청일시는 자리 형식을 확인한다")
+    void validate_withdraw_masks() {
+        WithdrawRequest request = withdrawRequest();
+        request.setWdBankCodeStd("08");
+        assertFailure(validator.validate(request), ValidationErrorCode.FORMAT, "wdBankCodeStd", "출금은행 표준코드(wdBankCodeStd)는 999 형식이어야 합니다.");
+
+        request = withdrawRequest();
+        request.setTranDtime("2025-01-01 10:00");
+        assertFailure(validator.validate(request), ValidationErrorCode.FORMAT, "tranDtime", "요청일시(tranDtime)는 99999999999999 형식이어야 합니다.");
+
+        request.setTranDtime(null);
+        assertThat(validator.validate(request).isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("거래내역 조회의 허용값과 페이지 크기 범위를 확인한다")
+    void validate_transactionList() {
+        TransactionListRequest request = transactionListRequest();
+        request.setInquiryType("X");
+        assertFailure(validator.validate(request), ValidationErrorCode.NOT_ALLOWED, "inquiryType", "조회구분코드(inquiryType)는 'A', 'I', 'O' 중 하나여야 합니다.");
+
+        request = transactionListRequest();
+        request.setSortOrder("d");
+        assertFailure(validator.validate(request), ValidationErrorCode.NOT_ALLOWED, "sortOrder", "정렬순서(sortOrder)는 'D', 'A' 중 하나여야 합니다.");
+
+        request = transactionListRequest();
+        request.setPageRecordCnt(501);
+        assertFailure(validator.validate(request), ValidationErrorCode.OUT_OF_RANGE, "pageRecordCnt", "페이지당 조회 건수(pageRecordCnt)는 1에서 500 사이여야 합니다.");
+
+        request.setPageRecordCnt(null);
+        assertThat(validator.validate(request).isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패 결과는 IllegalArgumentException 계열 예외로 변환된다")
+    void orThrow_convertsToRequestValidationException() {
+        AccountInfoRequest request = accountInfoRequest();
+        ReflectionTestUtils.setField(request, "userName", null);
+
+        assertThatThrownBy(() -> validator.validate(request).orThrow())
+                .isInstanceOf(RequestValidationException.class)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용자명(userName)은 필수입니다.");
+    }
+
+    private void assertFailure(ValidationResult result, ValidationErrorCode errorCode, String field, String message) {
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrorCode()).isEqualTo(errorCode);
+        assertThat(result.getField()).isEqualTo(field);
+        assertThat(result.getMessage()).isEqualTo(message);
+    }
+
+    private AccountInfoRequest accountInfoRequest() {
+        AccountInfoRequest request = new AccountInfoRequest();
+        ReflectionTestUtils.setField(request, "userName", "홍길동");
+        ReflectionTestUtils.setField(request, "userNum", "901201-1234567");
+        ReflectionTestUtils.setField(request, "userEmail", "hong@example.com");
+        ReflectionTestUtils.setField(request, "ainfoAgreeYn", "Y");
+        ReflectionTestUtils.setField(request, "inquiryBankType", "1");
+        ReflectionTestUtils.setField(request, "traceNo", "123456");
+        ReflectionTestUtils.setField(request, "inquiryRecordCnt", "30");
+        return request;
+    }
+
+    private WithdrawRequest withdrawRequest() {
+        WithdrawRequest request = new WithdrawRequest();
+        request.setBankTranId("F123456789U4BC34239Z");
+        request.setUserSeqNo("1101234567");
+        request.setWdBankCodeStd("081");
+        request.setWdAccountNum("11012345678901");
+        request.setTranAmt("10000");
+        request.setTranDtime("20250101100000");
+        return request;
+    }
+
+    private TransactionListRequest transactionListRequest() {
+        TransactionListRequest request = new TransactionListRequest();
+        request.setUserSeqNo("1101234567");
+        request.setBankCodeStd("081");
+        request.setAccountNum("11012345678901");
+        request.setInquiryType("A");
+        request.setSortOrder("D");
+        request.setFromDate("20250101");
+        request.setToDate("20250131");
+        request.setPageRecordCnt(100);
+        return request;
+    }
+}
@@ -0,0 +1,104 @@
+package com.hanafuture.openbanking.domain.auth.service;
+
+import com.hanafuture.openbanking.domain.client.entity.Client;
+import com.hanafuture.openbanking.domain.client.repository.ClientRepository;
+import com.hanafuture.openbanking.global.util.HexUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("클라이언트 자격증명 검증 테스트")
+class ClientCredentialVerifierTest {
+
+    private static final String CLIENT_ID = "hanafuture-client";
+    private static final String CLIENT_SECRET = "s3cret-한글-🔑";
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    private ClientCredentialVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new ClientCredentialVerifier(clientRepository, 60, 1000);
+    }
+
+    @Test
+    @DisplayName("저장된 해시와 일치하는 시크릿은 통과하고 등록 정보는 캐시에서 재사용한다")
+    void verify_matchingSecret() throws Exception {
+        Client client = client(sha256Hex(CLIENT_SECRET));
+        given(clientRepository.findById(CLIENT_ID)).willReturn(Optional.of(client));
+
+        assertThat(verifier.verify(CLIENT_ID, CLIENT_SECRET)).isSameAs(client);
+        assertThat(verifier.verify(CLIENT_ID, CLIENT_SECRET)).isSameAs(client);
+
+        verify(clientRepository, times(1)).findById(CLIENT_ID);
+    }
+
+    @Test
+    @DisplayName("대문자 16진수로 저장된 해시도 비교한다")
+    void verify_upperCaseHash() throws Exception {
+        given(clientRepository.findById(CLIENT_ID)).willReturn(Optional.of(client(sha256Hex(CLIENT_SECRET).toUpperCase())));
+
+        assertThat(verifier.verify(CLIENT_ID, CLIENT_SECRET).getClientId()).isEqualTo(CLIENT_ID);
+    }
+
+    @Test
+    @DisplayName("검증에 성공한 뒤에도 다른 시크릿은 거부한다")
+    void verify_wrongSecretAfterSuccess() throws Exception {
+        given(clientRepository.findById(CLIENT_ID)).willReturn(Optional.of(client(sha256Hex(CLIENT_SECRET))));
+        verifier.verify(CLIENT_ID, CLIENT_SECRET);
+
+        assertThatThrownBy(() -> verifier.verify(CLIENT_ID, CLIENT_SECRET + "x"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 client_secret입니다.");
+        assertThatThrownBy(() -> verifier.verify(CLIENT_ID, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 저장 해시는 어떤 시크릿과도 일치하지 않는다")
+    void verify_malformedStoredHash() {
+        given(clientRepository.findById(CLIENT_ID)).willReturn(Optional.of(client("not-a-hash")));
+
+        assertThatThrownBy(() -> verifier.verify(CLIENT_ID, CLIENT_SECRET))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 client_secret입니다.");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 client_id 는 거부한다")
+    void verify_unknownClient() {
+        given(clientRepository.findById(CLIENT_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> verifier.verify(CLIENT_ID, CLIENT_SECRET))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("등록되지 않은 client_id입니다.");
+    }
+
+    private Client client(String secretHash) {
+        return Client.builder()
+                .clientId(CLIENT_ID)
+                .clientSecret(secretHash)
+                .clientUseCode("USE001")
+                .build();
+    }
+
+    private String sha256Hex(String secret) throws Exception {
+        return HexUtils.toHex(MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,134 @@
+package com.hanafuture.openbanking.domain.transaction.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanafuture.openbanking.domain.transaction.config.AuditLogProperties;
+import com.hanafuture.openbanking.domain.transaction.entity.TransactionLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("감사 로그 비동기 기록기 테스트")
+class AuditLogWriterTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private AuditLogWriter auditLogWriter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE SEQUENCE TRANSACTION_SEQ");
+        jdbcTemplate.execute("""
+                CREATE TABLE auth_transaction_log (
+                    api_tran_id BIGINT PRIMARY KEY,
+                    fintech_use_num VARCHAR(50), tran_amt DECIMAL(15, 2), wd_bank_code_std VARCHAR(3),
+                    wd_account_num_masked VARCHAR(50), wd_print_content VARCHAR(100), req_client_name VARCHAR(50),
+                    req_client_fintech_use_num VARCHAR(50), req_client_num VARCHAR(50), transfer_purpose VARCHAR(2),
+                    api_type VARCHAR(20), response_code VARCHAR(10), response_message VARCHAR(200),
+                    bank_tran_id VARCHAR(50), bank_tran_date VARCHAR(8), bank_code_tran VARCHAR(3),
+                    bank_rsp_code VARCHAR(4), bank_rsp_message VARCHAR(200),
+                    created_at TIMESTAMP, updated_at TIMESTAMP,
+                    idempotency_key VARCHAR(80),
+                    CONSTRAINT uk_auth_tran_log_idempotency_key UNIQUE (idempotency_key)
+                )
+                """);
+
+        AuditLogProperties properties = new AuditLogProperties();
+        properties.setSpillDirectory(spillDirectory.toString());
+        properties.setFlushIntervalMs(50);
+        auditLogWriter = new AuditLogWriter(jdbcTemplate, new ObjectMapper().findAndRegisterModules(),
+                properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (auditLogWriter.isRunning()) {
+            auditLogWriter.stop();
+        }
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("종료 시 버퍼에 남은 로그를 모두 기록하고 로그마다 중복 방지 키를 붙인다")
+    void stop_flushesBufferedEntries() {
+        auditLogWriter.start();
+        for (int i = 0; i < 5; i++) {
+            auditLogWriter.record(entry("T" + i));
+        }
+        auditLogWriter.stop();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auth_transaction_log", Integer.class))
+                .isEqualTo(5);
+        assertThat(jdbcTemplate.queryForList("SELECT idempotency_key FROM auth_transaction_log", String.class))
+                .allSatisfy(key -> assertThat(key).startsWith("AUDIT:"))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("이미 기록된 로그를 다시 기록해도 중복 행이 생기지 않는다")
+    void record_isIdempotentOnReplay() {
+        TransactionLog entry = entry("T1");
+
+        auditLogWriter.start();
+        auditLogWriter.record(entry);
+        auditLogWriter.record(entry);
+        auditLogWriter.record(entry("T2"));
+        auditLogWriter.stop();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM auth_transaction_log WHERE bank_tran_id = 'T1'", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auth_transaction_log", Integer.class))
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DB 종류별로 PK 식과 중복 무시 insert 문을 만든다")
+    void insertStatement_isDialectAware() {
+        assertThat(AuditLogWriter.insertStatement("Oracle", null).sql())
+                .contains("IGNORE_ROW_ON_DUPKEY_INDEX", "TRANSACTION_SEQ.NEXTVAL");
+        assertThat(AuditLogWriter.insertStatement("PostgreSQL", null).sql())
+                .contains("nextval('transaction_seq')", "ON CONFLICT (idempotency_key) DO NOTHING");
+        assertThat(AuditLogWriter.insertStatement("H2", null).keyCheckParameter()).isTrue();
+        assertThat(AuditLogWriter.insertStatement("MySQL", "NULL").sql())
+                .contains("ON DUPLICATE KEY UPDATE");
+        assertThat(AuditLogWriter.insertStatement("Oracle", "AUDIT_SEQ.NEXTVAL").sql())
+                .contains("AUDIT_SEQ.NEXTVAL");
+    }
+
+    @Test
+    @DisplayName("시퀀스가 없는 DB 에서 PK 식을 지정하지 않으면 insert 문을 만들지 않는다")
+    void insertStatement_requiresIdExpressionWithoutSequences() {
+        assertThatThrownBy(() -> AuditLogWriter.insertStatement("MySQL", null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static TransactionLog entry(String bankTranId) {
+        return TransactionLog.builder()
+                .fintechUseNum("120220000000000000000001")
+                .tranAmt(new BigDecimal("10000"))
+                .apiType("WITHDRAW")
+                .responseCode("A0000")
+                .bankTranId(bankTranId)
+                .build();
+    }
+}
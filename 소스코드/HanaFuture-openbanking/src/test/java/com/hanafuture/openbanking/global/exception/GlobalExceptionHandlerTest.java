@@ -0,0 +1,42 @@
+package com.hanafuture.openbanking.global.exception;
+
+import com.hanafuture.openbanking.global.config.ResilienceProperties;
+import com.hanafuture.openbanking.global.dto.ApiResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("전역 예외 처리 테스트")
+class GlobalExceptionHandlerTest {
+
+    private final ResilienceProperties properties = new ResilienceProperties();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(properties);
+
+    @Test
+    @DisplayName("서킷 차단은 ApiResponse 형식의 503 과 open 유지 시간만큼의 Retry-After 로 응답한다")
+    void institutionUnavailable_circuitOpen() {
+        properties.setWaitDurationInOpenStateMs(2500);
+
+        ResponseEntity<ApiResponse<Void>> response = handler.handleInstitutionUnavailableException(
+                new InstitutionUnavailableException("088", InstitutionUnavailableException.CIRCUIT_OPEN, "차단"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getBody().isSuccess()).isFalse();
+        assertThat(response.getBody().getMessage()).isEqualTo("차단");
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도 초과는 1초 뒤 재시도를 안내한다")
+    void institutionUnavailable_bulkheadFull() {
+        ResponseEntity<ApiResponse<Void>> response = handler.handleInstitutionUnavailableException(
+                new InstitutionUnavailableException("088", InstitutionUnavailableException.BULKHEAD_FULL, "한도 초과"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+}
@@ -0,0 +1,37 @@
+package com.hanafuture.openbanking.global.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("외부 기관 호출 메트릭 경로 정규화 테스트")
+class BankCallMetricsInterceptorTest {
+
+    @Test
+    @DisplayName("버전 등 숫자가 섞인 고정 구간은 유지한다")
+    void normalizePath_keepsVersionSegments() {
+        assertThat(BankCallMetricsInterceptor.normalizePath("/api/v1/retirement/withdraw"))
+                .isEqualTo("/api/v1/retirement/withdraw");
+        assertThat(BankCallMetricsInterceptor.normalizePath("/v2/oauth2/token"))
+                .isEqualTo("/v2/oauth2/token");
+    }
+
+    @Test
+    @DisplayName("숫자로만 된 구간과 UUID 는 치환한다")
+    void normalizePath_replacesIdentifiers() {
+        assertThat(BankCallMetricsInterceptor.normalizePath("/api/v1/accounts/110555888999/balance"))
+                .isEqualTo("/api/v1/accounts/{var}/balance");
+        assertThat(BankCallMetricsInterceptor.normalizePath("/api/v1/accounts/110-555-888999"))
+                .isEqualTo("/api/v1/accounts/{var}");
+        assertThat(BankCallMetricsInterceptor.normalizePath("/api/v1/transfers/3f2b8c1e-9a4d-4e7b-b1c2-0d5e6f7a8b9c"))
+                .isEqualTo("/api/v1/transfers/{var}");
+    }
+
+    @Test
+    @DisplayName("빈 경로는 / 로 기록한다")
+    void normalizePath_empty() {
+        assertThat(BankCallMetricsInterceptor.normalizePath("")).isEqualTo("/");
+        assertThat(BankCallMetricsInterceptor.normalizePath(null)).isEqualTo("/");
+    }
+}
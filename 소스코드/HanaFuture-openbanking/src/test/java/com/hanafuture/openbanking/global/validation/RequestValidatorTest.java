@@ -0,0 +1,97 @@
+package com.hanafuture.openbanking.global.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("미리 컴파일된 요청 검증 규칙 테스트")
+class RequestValidatorTest {
+
+    private record Sample(String code, String name) {
+    }
+
+    @Test
+    @DisplayName("선택 필드는 비어 있으면 다른 규칙을 검사하지 않는다")
+    void optional_skipsBlankValues() {
+        RequestValidator<Sample> validator = RequestValidator.<Sample>builder()
+                .text("code", "코드", Sample::code, TextRule.optional().length(3).mask("999"))
+                .build();
+
+        assertThat(validator.validate(new Sample(null, null))).isSameAs(ValidationResult.VALID);
+        assertThat(validator.validate(new Sample("  ", null))).isSameAs(ValidationResult.VALID);
+        assertThat(validator.validate(new Sample("12", null)).getErrorCode()).isEqualTo(ValidationErrorCode.LENGTH);
+    }
+
+    @Test
+    @DisplayName("빌드 이후 규칙 객체를 바꿔도 검증기에는 영향이 없다")
+    void build_copiesRule() {
+        TextRule rule = TextRule.required().maxLength(3);
+        RequestValidator<Sample> validator = RequestValidator.<Sample>builder()
+                .text("code", "코드", Sample::code, rule)
+                .build();
+
+        rule.maxLength(10);
+
+        ValidationResult result = validator.validate(new Sample("12345", null));
+        assertThat(result.getErrorCode()).isEqualTo(ValidationErrorCode.MAX_LENGTH);
+        assertThat(result.getMessage()).isEqualTo("코드(code)는 3자 이하여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("같은 오류는 매번 미리 만들어 둔 결과 인스턴스를 반환한다")
+    void validate_reusesPrebuiltFailure() {
+        RequestValidator<Sample> validator = RequestValidator.<Sample>builder()
+                .text("code", "코드", Sample::code, TextRule.required())
+                .build();
+
+        assertThat(validator.validate(new Sample(null, null)))
+                .isSameAs(validator.validate(new Sample("", null)));
+    }
+
+    @Test
+    @DisplayName("정규식 규칙은 지정한 메시지를 그대로 사용한다")
+    void pattern_usesGivenMessage() {
+        RequestValidator<Sample> validator = RequestValidator.<Sample>builder()
+                .text("name", "이름", Sample::name,
+                        TextRule.required().pattern(Pattern.compile("^[가-힣]+$"), "이름은 한글만 입력할 수 있습니다."))
+                .build();
+
+        assertThat(validator.validate(new Sample(null, "홍길동")).isValid()).isTrue();
+
+        ValidationResult result = validator.validate(new Sample(null, "Hong"));
+        assertThat(result.getErrorCode()).isEqualTo(ValidationErrorCode.FORMAT);
+        assertThat(result.getField()).isEqualTo("name");
+        assertThat(result.getMessage()).isEqualTo("이름은 한글만 입력할 수 있습니다.");
+    }
+
+    @Test
+    @DisplayName("숫자 범위는 허용 문자를 먼저 확인하고 자리 넘침도 범위 초과로 처리한다")
+    void range_checksDigitsThenBounds() {
+        RequestValidator<Sample> validator = RequestValidator.<Sample>builder()
+                .text("code", "코드", Sample::code, TextRule.required().range(10, 20))
+                .build();
+
+        assertThat(validator.validate(new Sample("10", null)).isValid()).isTrue();
+        assertThat(validator.validate(new Sample("20", null)).isValid()).isTrue();
+        assertThat(validator.validate(new Sample("9", null)).getErrorCode()).isEqualTo(ValidationErrorCode.OUT_OF_RANGE);
+        assertThat(validator.validate(new Sample("21", null)).getErrorCode()).isEqualTo(ValidationErrorCode.OUT_OF_RANGE);
+        assertThat(validator.validate(new Sample("1".repeat(30), null)).getErrorCode()).isEqualTo(ValidationErrorCode.OUT_OF_RANGE);
+        assertThat(validator.validate(new Sample("1 5", null)).getErrorCode()).isEqualTo(ValidationErrorCode.NOT_NUMBER);
+        assertThat(validator.validate(new Sample("15", null)).getMessage()).isNull();
+    }
+
+    @Test
+    @DisplayName("라벨의 받침에 맞춰 조사를 붙인다")
+    void message_usesMatchingParticle() {
+        RequestValidator<Sample> validator = RequestValidator.<Sample>builder()
+                .text("code", "계좌번호", Sample::code, TextRule.required())
+                .text("name", "사용자명", Sample::name, TextRule.required())
+                .build();
+
+        assertThat(validator.validate(new Sample(null, "홍길동")).getMessage()).isEqualTo("계좌번호(code)는 필수입니다.");
+        assertThat(validator.validate(new Sample("1", null)).getMessage()).isEqualTo("사용자명(name)은 필수입니다.");
+    }
+}